@@ -32,6 +32,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import com.weedrice.whiteboard.domain.auth.entity.PasswordResetToken;
 import com.weedrice.whiteboard.domain.auth.repository.PasswordResetTokenRepository;
 import com.weedrice.whiteboard.global.email.EmailService;
+import com.weedrice.whiteboard.global.email.EmailTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -43,6 +44,7 @@ import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID; // Import UUID
 
@@ -316,11 +318,7 @@ public class AuthService {
         });
 
         String resetLink = passwordResetFrontendUrl + rawToken;
-        String subject = "[noviIs] 비밀번호 재설정 링크";
-        String body = "<h1>비밀번호 재설정</h1><p>아래 링크를 클릭하여 비밀번호를 재설정해주세요.</p><p><a href=\"" + resetLink + "\">" + resetLink
-                + "</a></p>";
-
-        emailService.sendEmail(email, subject, body);
+        emailService.sendTemplated(EmailTemplate.PASSWORD_RESET, email, Map.of("resetLink", resetLink));
     }
 
     @Transactional
@@ -3,6 +3,7 @@ package com.weedrice.whiteboard.domain.auth.service;
 import com.weedrice.whiteboard.domain.auth.entity.VerificationCode;
 import com.weedrice.whiteboard.domain.auth.repository.VerificationCodeRepository;
 import com.weedrice.whiteboard.global.email.EmailService;
+import com.weedrice.whiteboard.global.email.EmailTemplate;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Random;
 
 @Service
@@ -37,10 +39,7 @@ public class VerificationCodeService {
             verificationCodeRepository.save(verificationCode);
         });
 
-        String subject = "[noviIs] 이메일 인증 코드";
-        String body = "<h1>이메일 인증 코드</h1><p>아래 코드를 입력하여 인증을 완료해주세요.</p><h3>" + code + "</h3>";
-
-        emailService.sendEmail(email, subject, body);
+        emailService.sendTemplated(EmailTemplate.VERIFICATION_CODE, email, Map.of("code", code));
     }
 
     @Transactional
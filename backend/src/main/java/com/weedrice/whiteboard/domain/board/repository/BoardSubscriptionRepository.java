@@ -28,4 +28,22 @@ public interface BoardSubscriptionRepository extends JpaRepository<BoardSubscrip
     Integer findMaxSortOrder(@org.springframework.data.repository.query.Param("user") User user);
 
     List<BoardSubscription> findByUserAndBoardIn(User user, List<Board> boards);
+
+    long countByBoard_BoardId(Long boardId);
+
+    /**
+     * 피드 fan-out용 구독자 ID를 사용자 ID 순 keyset 방식으로 조회합니다(차단된 구독자 제외).
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT bs.user.userId FROM BoardSubscription bs "
+            + "WHERE bs.board.boardId = :boardId AND bs.user.userId > :lastUserId AND bs.role <> 'BANNED' "
+            + "ORDER BY bs.user.userId")
+    List<Long> findSubscriberIdsAfter(@org.springframework.data.repository.query.Param("boardId") Long boardId,
+            @org.springframework.data.repository.query.Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    /**
+     * 피드 조회 시 fan-out-on-read 게시판을 고르기 위한 사용자의 구독 게시판 ID 목록(차단된 구독 제외).
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT bs.board.boardId FROM BoardSubscription bs "
+            + "WHERE bs.user.userId = :userId AND bs.role <> 'BANNED'")
+    List<Long> findBoardIdsByUserId(@org.springframework.data.repository.query.Param("userId") Long userId);
 }
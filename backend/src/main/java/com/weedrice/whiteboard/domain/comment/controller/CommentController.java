@@ -3,10 +3,12 @@ package com.weedrice.whiteboard.domain.comment.controller;
 import com.weedrice.whiteboard.domain.comment.dto.CommentCreateRequest;
 import com.weedrice.whiteboard.domain.comment.dto.CommentListResponse;
 import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.dto.CommentThreadResponse;
 import com.weedrice.whiteboard.domain.comment.dto.CommentUpdateRequest;
 import com.weedrice.whiteboard.domain.comment.entity.Comment;
 import com.weedrice.whiteboard.domain.comment.service.CommentService;
 import com.weedrice.whiteboard.global.common.ApiResponse;
+import com.weedrice.whiteboard.global.common.dto.CursorResponse;
 import com.weedrice.whiteboard.global.security.CustomUserDetails;
 import com.weedrice.whiteboard.global.security.CustomUserDetails;
 import jakarta.validation.Valid;
@@ -34,6 +36,27 @@ public class CommentController {
         return ApiResponse.success(comments);
     }
 
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ApiResponse<CursorResponse<CommentThreadResponse>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = (userDetails != null) ? userDetails.getUserId() : null;
+        return ApiResponse.success(commentService.getCommentsByCursor(postId, cursor, size, replySize, userId));
+    }
+
+    @GetMapping("/comments/{commentId}/replies/cursor")
+    public ApiResponse<CursorResponse<CommentThreadResponse>> getRepliesByCursor(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = (userDetails != null) ? userDetails.getUserId() : null;
+        return ApiResponse.success(commentService.getRepliesByCursor(commentId, cursor, size, userId));
+    }
+
     @GetMapping("/comments/{commentId}/replies")
     public ApiResponse<CommentListResponse> getReplies(
             @PathVariable Long commentId,
@@ -0,0 +1,58 @@
+package com.weedrice.whiteboard.domain.comment.dto;
+
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
+import com.weedrice.whiteboard.global.outbox.DurableEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 작성/수정/삭제/좋아요 후 발행되는 이벤트.
+ * 커밋 이후 댓글 트리 캐시를 패치할 수 있도록 엔티티 대신 필요한 값을 복사해 담습니다.
+ * outbox에도 기록되어 댓글 검색 색인은 {@code COMMENT_CHANGED} 소비자가 요청 경로 밖에서 갱신합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentChangedEvent implements DurableEvent {
+
+    public static final String EVENT_TYPE = "COMMENT_CHANGED";
+
+    private String changeType; // CREATE, MODIFY, DELETE, LIKE
+    private Long postId;
+    private Long boardId;
+    private Long commentId;
+    private Long parentId;
+    private Integer depth;
+    private String content;
+    private Boolean deleted;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private Long authorId;
+    private String authorDisplayName;
+    private String authorProfileImageUrl;
+
+    public static CommentChangedEvent of(String changeType, Comment comment) {
+        return new CommentChangedEvent(
+                changeType,
+                comment.getPost().getPostId(),
+                comment.getPost().getBoard() != null ? comment.getPost().getBoard().getBoardId() : null,
+                comment.getCommentId(),
+                comment.getParent() != null ? comment.getParent().getCommentId() : null,
+                comment.getDepth(),
+                comment.getContent(),
+                comment.getIsDeleted(),
+                comment.getLikeCount(),
+                comment.getCreatedAt(),
+                comment.getUser().getUserId(),
+                comment.getUser().getDisplayName(),
+                comment.getUser().getProfileImageUrl());
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+}
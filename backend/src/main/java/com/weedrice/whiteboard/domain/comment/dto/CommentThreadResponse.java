@@ -0,0 +1,20 @@
+package com.weedrice.whiteboard.domain.comment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서 방식 댓글 조회 응답 항목.
+ * 댓글과 노출 대상 직계 답글 수, 미리 불러온 앞쪽 답글 일부를 담으며 나머지 답글은 답글 커서 API로 조회합니다.
+ */
+@Getter
+@Builder
+public class CommentThreadResponse {
+    private CommentResponse comment;
+    private long replyCount;
+    @Builder.Default
+    private List<CommentThreadResponse> replies = new ArrayList<>();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentClosureRepository extends JpaRepository<CommentClosure, CommentClosureId> {
@@ -24,4 +25,26 @@ public interface CommentClosureRepository extends JpaRepository<CommentClosure,
     @Query(value = "INSERT INTO comment_closures (ancestor_id, descendant_id, depth, created_at, modified_at) " +
             "VALUES (:commentId, :commentId, 0, NOW(), NOW())", nativeQuery = true)
     void createSelfClosure(@Param("commentId") Long commentId);
+
+    /**
+     * 각 부모 댓글의 노출 대상 직계 답글 중 앞에서부터 limit개의 ID를 조회합니다.
+     * (삭제되지 않았거나, 삭제됐어도 삭제되지 않은 직계 자식이 있는 답글)
+     */
+    @Query(value = "SELECT ranked.comment_id FROM (" +
+            "SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY cc.ancestor_id ORDER BY c.comment_id) AS rn " +
+            "FROM comment_closures cc JOIN comments c ON c.comment_id = cc.descendant_id " +
+            "WHERE cc.ancestor_id IN (:parentIds) AND cc.depth = 1 " +
+            "AND (c.is_deleted = 'N' OR EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.comment_id AND r.is_deleted = 'N'))" +
+            ") ranked WHERE ranked.rn <= :limit", nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    /**
+     * 부모 댓글별 노출 대상 직계 답글 수를 [ancestor_id, count] 형태로 조회합니다.
+     */
+    @Query(value = "SELECT cc.ancestor_id, COUNT(*) " +
+            "FROM comment_closures cc JOIN comments c ON c.comment_id = cc.descendant_id " +
+            "WHERE cc.ancestor_id IN (:parentIds) AND cc.depth = 1 " +
+            "AND (c.is_deleted = 'N' OR EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.comment_id AND r.is_deleted = 'N')) " +
+            "GROUP BY cc.ancestor_id", nativeQuery = true)
+    List<Object[]> countVisibleReplies(@Param("parentIds") Collection<Long> parentIds);
 }
@@ -26,6 +26,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
 
         long countByPost_PostIdAndIsDeleted(Long postId, Boolean isDeleted);
 
+        long countByPost_PostId(Long postId);
+
         long countByUser(User user);
 
         Page<Comment> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
@@ -36,4 +38,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
         @org.springframework.data.jpa.repository.Query("SELECT DISTINCT c FROM Comment c JOIN FETCH c.user JOIN FETCH c.post p JOIN FETCH p.board JOIN CommentClosure cc ON c.commentId = cc.id.descendantId WHERE cc.id.ancestorId IN :ancestorIds AND cc.depth > 0 AND (c.isDeleted = false OR (c.isDeleted = true AND EXISTS (SELECT r FROM Comment r WHERE r.parent = c AND r.isDeleted = false))) ORDER BY c.createdAt ASC")
         List<Comment> findAllDescendants(
                         @org.springframework.data.repository.query.Param("ancestorIds") List<Long> ancestorIds);
+
+        @org.springframework.data.jpa.repository.Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.postId = :postId ORDER BY c.createdAt ASC, c.commentId ASC")
+        List<Comment> findAllByPostIdWithUser(@org.springframework.data.repository.query.Param("postId") Long postId);
+
+        @org.springframework.data.jpa.repository.Query("SELECT c FROM Comment c JOIN FETCH c.post p WHERE c.commentId > :lastCommentId AND c.isDeleted = false ORDER BY c.commentId ASC")
+        List<Comment> findIndexableComments(
+                        @org.springframework.data.repository.query.Param("lastCommentId") Long lastCommentId,
+                        Pageable pageable);
 }
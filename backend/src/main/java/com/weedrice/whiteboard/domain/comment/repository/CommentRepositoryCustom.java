@@ -7,6 +7,28 @@ import org.springframework.data.domain.Pageable;
 public interface CommentRepositoryCustom {
     Page<Comment> searchCommentsByKeyword(String keyword, Pageable pageable);
 
+    /**
+     * 게시글/게시판/작성자 범위를 지정한 LIKE 검색입니다. null인 범위 조건은 적용하지 않습니다.
+     * 역색인을 사용할 수 없는 1글자 검색어에 한해 사용합니다.
+     */
+    Page<Comment> searchCommentsByKeyword(String keyword, Long postId, Long boardId, Long authorId,
+            java.util.List<Long> blockedUserIds, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 Comment를 User, Post, Board와 함께 조회합니다. 반환 순서는 보장하지 않습니다.
+     */
+    java.util.List<Comment> findAllByIdsWithRelations(java.util.Collection<Long> commentIds);
+
+    /**
+     * 게시글의 노출 대상 최상위 댓글을 commentId 오름차순 keyset 방식으로 조회합니다. cursor가 null이면 처음부터 조회합니다.
+     */
+    java.util.List<Comment> findVisibleRootsAfter(Long postId, Long cursor, int limit);
+
+    /**
+     * 부모 댓글의 노출 대상 직계 답글을 commentId 오름차순 keyset 방식으로 조회합니다. cursor가 null이면 처음부터 조회합니다.
+     */
+    java.util.List<Comment> findVisibleRepliesAfter(Long parentId, Long cursor, int limit);
+
     /**
      * Comment를 ID로 조회하면서 연관된 User, Post, Board를 함께 fetch join합니다.
      * N+1 쿼리 문제를 방지하기 위해 사용합니다.
@@ -1,8 +1,10 @@
 package com.weedrice.whiteboard.domain.comment.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.weedrice.whiteboard.domain.comment.entity.Comment;
+import com.weedrice.whiteboard.domain.comment.entity.QComment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -10,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.weedrice.whiteboard.domain.comment.entity.QComment.comment;
@@ -48,6 +51,129 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
+    @Override
+    public Page<Comment> searchCommentsByKeyword(String keyword, Long postId, Long boardId, Long authorId,
+            List<Long> blockedUserIds, Pageable pageable) {
+        BooleanExpression keywordExpression = StringUtils.hasText(keyword) ?
+                comment.content.containsIgnoreCase(keyword) : null;
+
+        List<Comment> content = queryFactory
+                .selectFrom(comment)
+                .join(comment.user).fetchJoin()
+                .join(comment.post).fetchJoin()
+                .join(comment.post.board).fetchJoin()
+                .where(
+                        keywordExpression,
+                        comment.isDeleted.eq(false),
+                        postIdEq(postId),
+                        boardIdEq(boardId),
+                        authorIdEq(authorId),
+                        notBlockedCondition(blockedUserIds)
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(comment.commentId.desc())
+                .fetch();
+
+        Long total = queryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(
+                        keywordExpression,
+                        comment.isDeleted.eq(false),
+                        postIdEq(postId),
+                        boardIdEq(boardId),
+                        authorIdEq(authorId),
+                        notBlockedCondition(blockedUserIds)
+                )
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    @Override
+    public List<Comment> findAllByIdsWithRelations(Collection<Long> commentIds) {
+        if (commentIds == null || commentIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(comment)
+                .join(comment.user).fetchJoin()
+                .join(comment.post).fetchJoin()
+                .join(comment.post.board).fetchJoin()
+                .where(comment.commentId.in(commentIds))
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findVisibleRootsAfter(Long postId, Long cursor, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .join(comment.user).fetchJoin()
+                .join(comment.post).fetchJoin()
+                .join(comment.post.board).fetchJoin()
+                .where(
+                        comment.post.postId.eq(postId),
+                        comment.parent.isNull(),
+                        visibleCondition(),
+                        commentIdGt(cursor)
+                )
+                .orderBy(comment.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findVisibleRepliesAfter(Long parentId, Long cursor, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .join(comment.user).fetchJoin()
+                .join(comment.post).fetchJoin()
+                .join(comment.post.board).fetchJoin()
+                .where(
+                        comment.parent.commentId.eq(parentId),
+                        visibleCondition(),
+                        commentIdGt(cursor)
+                )
+                .orderBy(comment.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 트리 조회와 같은 노출 기준: 삭제되지 않았거나, 삭제됐어도 삭제되지 않은 직계 자식이 있는 댓글
+     */
+    private BooleanExpression visibleCondition() {
+        QComment child = new QComment("child");
+        return comment.isDeleted.eq(false)
+                .or(JPAExpressions.selectOne()
+                        .from(child)
+                        .where(child.parent.eq(comment), child.isDeleted.eq(false))
+                        .exists());
+    }
+
+    private BooleanExpression commentIdGt(Long cursor) {
+        return cursor != null ? comment.commentId.gt(cursor) : null;
+    }
+
+    private BooleanExpression postIdEq(Long postId) {
+        return postId != null ? comment.post.postId.eq(postId) : null;
+    }
+
+    private BooleanExpression boardIdEq(Long boardId) {
+        return boardId != null ? comment.post.board.boardId.eq(boardId) : null;
+    }
+
+    private BooleanExpression authorIdEq(Long authorId) {
+        return authorId != null ? comment.user.userId.eq(authorId) : null;
+    }
+
+    private BooleanExpression notBlockedCondition(List<Long> blockedUserIds) {
+        return (blockedUserIds != null && !blockedUserIds.isEmpty())
+                ? comment.user.userId.notIn(blockedUserIds)
+                : null;
+    }
+
     @Override
     public java.util.Optional<Comment> findByIdWithRelations(@org.springframework.lang.NonNull Long commentId) {
         Comment result = queryFactory
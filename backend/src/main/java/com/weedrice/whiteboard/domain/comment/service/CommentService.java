@@ -1,7 +1,9 @@
 package com.weedrice.whiteboard.domain.comment.service;
 
+import com.weedrice.whiteboard.domain.comment.dto.CommentChangedEvent;
 import com.weedrice.whiteboard.domain.comment.dto.CommentListResponse;
 import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.dto.CommentThreadResponse;
 import com.weedrice.whiteboard.domain.comment.dto.MyCommentResponse;
 import com.weedrice.whiteboard.domain.comment.entity.Comment;
 import com.weedrice.whiteboard.domain.comment.entity.CommentLike;
@@ -18,6 +20,7 @@ import com.weedrice.whiteboard.domain.post.repository.PostRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.domain.user.service.UserBlockService; // Import UserBlockService
+import com.weedrice.whiteboard.global.common.dto.CursorResponse;
 import com.weedrice.whiteboard.global.common.service.GlobalConfigService;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
@@ -40,6 +43,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int MAX_PREVIEW_REPLIES = 10;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
@@ -50,6 +56,7 @@ public class CommentService {
     private final PointService pointService;
     private final UserBlockService userBlockService;
     private final GlobalConfigService globalConfigService;
+    private final CommentTreeCache commentTreeCache;
 
     public Page<CommentResponse> getComments(Long postId, Long currentUserId, Pageable pageable) {
         Objects.requireNonNull(pageable, "Pageable must not be null");
@@ -61,6 +68,15 @@ public class CommentService {
 
         final List<Long> finalBlockedUserIds = blockedUserIds; // For use in lambda
 
+        // 기본 정렬(작성순) 조회는 캐시된 트리에서 응답을 복사하고, 차단 마스킹은 복사 시점에 적용
+        if (pageable.getSort().isUnsorted()) {
+            java.util.Optional<CommentTree> cachedTree = commentTreeCache.get(postId);
+            if (cachedTree.isPresent()) {
+                return cachedTree.get().render(pageable,
+                        response -> maskCommentContent(response, finalBlockedUserIds));
+            }
+        }
+
         Page<Comment> parentComments = commentRepository
                 .findParentsWithChildrenOrNotDeleted(postId, pageable);
         List<Long> parentIds = parentComments.getContent().stream()
@@ -103,6 +119,75 @@ public class CommentService {
         return new PageImpl<>(responseContent, pageable, parentComments.getTotalElements());
     }
 
+    /**
+     * 최상위 댓글을 commentId 커서로 조회합니다. 각 댓글에는 직계 답글 수와 앞쪽 답글 replySize개만 담기므로
+     * 스레드 크기와 무관하게 한 요청의 조회 행 수가 size * (1 + replySize)로 제한됩니다.
+     */
+    public CursorResponse<CommentThreadResponse> getCommentsByCursor(Long postId, Long cursor, int size,
+            int replySize, Long currentUserId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+        int previewSize = Math.max(0, Math.min(replySize, MAX_PREVIEW_REPLIES));
+        List<Long> blockedUserIds = currentUserId != null ? userBlockService.getBlockedUserIds(currentUserId) : null;
+
+        List<Comment> roots = commentRepository.findVisibleRootsAfter(postId, cursor, pageSize + 1);
+        boolean hasNext = roots.size() > pageSize;
+        if (hasNext) {
+            roots = roots.subList(0, pageSize);
+        }
+        if (roots.isEmpty()) {
+            return new CursorResponse<>(List.of(), null, false);
+        }
+
+        List<Long> rootIds = roots.stream().map(Comment::getCommentId).collect(Collectors.toList());
+        List<Comment> previewReplies = previewSize == 0 ? List.of()
+                : commentRepository.findAllByIdsWithRelations(
+                        commentClosureRepository.findFirstReplyIds(rootIds, previewSize));
+
+        List<Long> countTargetIds = new java.util.ArrayList<>(rootIds);
+        previewReplies.forEach(reply -> countTargetIds.add(reply.getCommentId()));
+        Map<Long, Long> replyCounts = countVisibleReplies(countTargetIds);
+
+        Map<Long, List<CommentThreadResponse>> repliesByParent = previewReplies.stream()
+                .sorted(java.util.Comparator.comparing(Comment::getCommentId))
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getCommentId(),
+                        Collectors.mapping(reply -> toThreadResponse(reply, replyCounts, blockedUserIds),
+                                Collectors.toList())));
+
+        List<CommentThreadResponse> content = roots.stream()
+                .map(root -> {
+                    CommentThreadResponse thread = toThreadResponse(root, replyCounts, blockedUserIds);
+                    thread.getReplies().addAll(repliesByParent.getOrDefault(root.getCommentId(), List.of()));
+                    return thread;
+                })
+                .collect(Collectors.toList());
+        return new CursorResponse<>(content, hasNext ? rootIds.get(rootIds.size() - 1) : null, hasNext);
+    }
+
+    /**
+     * 부모 댓글의 직계 답글을 commentId 커서로 조회합니다. 각 답글에는 다시 펼칠 수 있도록 직계 답글 수가 담깁니다.
+     */
+    public CursorResponse<CommentThreadResponse> getRepliesByCursor(Long parentId, Long cursor, int size,
+            Long currentUserId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+        List<Long> blockedUserIds = currentUserId != null ? userBlockService.getBlockedUserIds(currentUserId) : null;
+
+        List<Comment> replies = commentRepository.findVisibleRepliesAfter(parentId, cursor, pageSize + 1);
+        boolean hasNext = replies.size() > pageSize;
+        if (hasNext) {
+            replies = replies.subList(0, pageSize);
+        }
+        if (replies.isEmpty()) {
+            return new CursorResponse<>(List.of(), null, false);
+        }
+
+        List<Long> replyIds = replies.stream().map(Comment::getCommentId).collect(Collectors.toList());
+        Map<Long, Long> replyCounts = countVisibleReplies(replyIds);
+        List<CommentThreadResponse> content = replies.stream()
+                .map(reply -> toThreadResponse(reply, replyCounts, blockedUserIds))
+                .collect(Collectors.toList());
+        return new CursorResponse<>(content, hasNext ? replyIds.get(replyIds.size() - 1) : null, hasNext);
+    }
+
     public CommentListResponse getReplies(Long parentId, Pageable pageable) {
         Page<Comment> replies = commentRepository.findByParent_CommentIdAndIsDeletedOrderByCreatedAtAsc(parentId, false,
                 pageable);
@@ -170,6 +255,8 @@ public class CommentService {
             commentClosureRepository.createSelfClosure(savedComment.getCommentId());
         }
 
+        eventPublisher.publishEvent(CommentChangedEvent.of("CREATE", savedComment));
+
         String commentCreateRewardStr = globalConfigService.getConfig("POINT_COMMENT_CREATE_REWARD");
         int commentCreateReward = commentCreateRewardStr != null ? Integer.parseInt(commentCreateRewardStr) : 10;
         pointService.addPoint(userId, commentCreateReward, "댓글 작성", savedComment.getCommentId(), "COMMENT");
@@ -211,6 +298,7 @@ public class CommentService {
         saveCommentVersion(comment, userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)),
                 "MODIFY", originalContent);
+        eventPublisher.publishEvent(CommentChangedEvent.of("MODIFY", comment));
         return comment;
     }
 
@@ -230,6 +318,7 @@ public class CommentService {
         String originalContent = comment.getContent(); // Get content before delete
         comment.deleteComment();
         comment.getPost().decrementCommentCount();
+        eventPublisher.publishEvent(CommentChangedEvent.of("DELETE", comment));
 
         // Save CommentVersion for DELETE
         saveCommentVersion(comment, userRepository.findById(userId)
@@ -263,6 +352,7 @@ public class CommentService {
                 .build();
         commentLikeRepository.save(commentLike);
         comment.incrementLikeCount();
+        eventPublisher.publishEvent(CommentChangedEvent.of("LIKE", comment));
 
         String content = user.getDisplayName() + "님이 회원님의 댓글을 좋아합니다.";
         NotificationEvent event = new NotificationEvent(comment.getUser(), user, "LIKE", "COMMENT", commentId, content);
@@ -281,6 +371,7 @@ public class CommentService {
 
         commentLikeRepository.deleteById(commentLikeId);
         comment.decrementLikeCount();
+        eventPublisher.publishEvent(CommentChangedEvent.of("LIKE", comment));
     }
 
     private void saveCommentVersion(Comment comment, User modifier, String versionType, String originalContent) {
@@ -293,6 +384,20 @@ public class CommentService {
         commentVersionRepository.save(commentVersion);
     }
 
+    private Map<Long, Long> countVisibleReplies(List<Long> parentIds) {
+        return commentClosureRepository.countVisibleReplies(parentIds).stream()
+                .collect(Collectors.toMap(row -> ((Number) row[0]).longValue(),
+                        row -> ((Number) row[1]).longValue()));
+    }
+
+    private CommentThreadResponse toThreadResponse(Comment comment, Map<Long, Long> replyCounts,
+            List<Long> blockedUserIds) {
+        return CommentThreadResponse.builder()
+                .comment(maskCommentContent(CommentResponse.from(comment), blockedUserIds))
+                .replyCount(replyCounts.getOrDefault(comment.getCommentId(), 0L))
+                .build();
+    }
+
     private CommentResponse maskCommentContent(CommentResponse response, List<Long> blockedUserIds) {
         if (blockedUserIds != null && response.getAuthor() != null
                 && blockedUserIds.contains(response.getAuthor().getUserId())) {
@@ -0,0 +1,187 @@
+package com.weedrice.whiteboard.domain.comment.service;
+
+import com.weedrice.whiteboard.domain.comment.dto.CommentChangedEvent;
+import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 하나의 전체 댓글 트리. 삭제된 댓글도 포함한 마스킹 전 원본을 보관하며,
+ * 노출 여부(삭제됐지만 살아있는 자식이 있는 댓글만 노출)는 응답을 만들 때 판단합니다.
+ * 패치는 쓰기 잠금, 응답 생성은 읽기 잠금으로 보호되고 응답은 요청마다 새 CommentResponse로 복사되므로
+ * 여러 조회자가 같은 트리를 공유해도 안전합니다.
+ */
+public class CommentTree {
+
+    private final Long postId;
+    private final String boardUrl;
+    private final String postTitle;
+    private final List<Node> roots = new ArrayList<>();
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    CommentTree(Long postId, String boardUrl, String postTitle) {
+        this.postId = postId;
+        this.boardUrl = boardUrl;
+        this.postTitle = postTitle;
+    }
+
+    /**
+     * 작성 순(createdAt, commentId 오름차순)으로 정렬된 게시글의 모든 댓글로 트리를 구성합니다.
+     */
+    static CommentTree build(Long postId, String boardUrl, String postTitle, List<Comment> comments) {
+        CommentTree tree = new CommentTree(postId, boardUrl, postTitle);
+        comments.forEach(comment -> tree.attach(new Node(
+                comment.getCommentId(),
+                comment.getParent() != null ? comment.getParent().getCommentId() : null,
+                comment.getDepth(),
+                comment.getCreatedAt(),
+                comment.getUser().getUserId(),
+                comment.getUser().getDisplayName(),
+                comment.getUser().getProfileImageUrl(),
+                comment.getContent(),
+                comment.getIsDeleted(),
+                comment.getLikeCount())));
+        return tree;
+    }
+
+    /**
+     * 커밋된 댓글 변경을 트리에 반영합니다. 같은 이벤트를 여러 번 적용해도 결과가 같으며,
+     * 트리에 없는 댓글을 대상으로 하는 등 반영할 수 없으면 false를 반환합니다(호출자는 트리를 폐기).
+     */
+    boolean apply(CommentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.get(event.getCommentId());
+            if ("CREATE".equals(event.getChangeType())) {
+                if (node != null) {
+                    return true;
+                }
+                return attach(new Node(event.getCommentId(), event.getParentId(), event.getDepth(),
+                        event.getCreatedAt(), event.getAuthorId(), event.getAuthorDisplayName(),
+                        event.getAuthorProfileImageUrl(), event.getContent(), event.getDeleted(),
+                        event.getLikeCount()));
+            }
+            if (node == null) {
+                return false;
+            }
+            switch (event.getChangeType()) {
+                case "MODIFY" -> node.content = event.getContent();
+                case "DELETE" -> node.deleted = true;
+                case "LIKE" -> node.likeCount = event.getLikeCount();
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 노출 대상 루트 댓글을 페이지 단위로 잘라 응답으로 복사합니다. mask는 조회자별 차단 마스킹에 사용됩니다.
+     */
+    public Page<CommentResponse> render(Pageable pageable, UnaryOperator<CommentResponse> mask) {
+        lock.readLock().lock();
+        try {
+            List<Node> visibleRoots = roots.stream().filter(Node::isVisible).collect(Collectors.toList());
+            int from = (int) Math.min(pageable.getOffset(), visibleRoots.size());
+            int to = Math.min(from + pageable.getPageSize(), visibleRoots.size());
+            List<CommentResponse> content = visibleRoots.subList(from, to).stream()
+                    .map(root -> toResponse(root, mask))
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, visibleRoots.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean attach(Node node) {
+        if (node.parentId == null) {
+            roots.add(node);
+        } else {
+            Node parent = nodes.get(node.parentId);
+            if (parent == null) {
+                return false;
+            }
+            parent.children.add(node);
+        }
+        nodes.put(node.commentId, node);
+        return true;
+    }
+
+    private CommentResponse toResponse(Node node, UnaryOperator<CommentResponse> mask) {
+        CommentResponse.AuthorInfo authorInfo = null;
+        if (!node.deleted) {
+            authorInfo = CommentResponse.AuthorInfo.builder()
+                    .userId(node.authorId)
+                    .displayName(node.authorDisplayName)
+                    .profileImageUrl(node.authorProfileImageUrl)
+                    .build();
+        }
+        CommentResponse response = mask.apply(CommentResponse.builder()
+                .commentId(node.commentId)
+                .parentId(node.parentId)
+                .content(node.deleted ? "삭제된 댓글입니다." : node.content)
+                .author(authorInfo)
+                .depth(node.depth)
+                .likeCount(node.likeCount)
+                .isDeleted(node.deleted)
+                .createdAt(node.createdAt)
+                .postId(postId)
+                .boardUrl(boardUrl)
+                .postTitle(postTitle)
+                .build());
+        node.children.stream()
+                .filter(Node::isVisible)
+                .forEach(child -> response.getChildren().add(toResponse(child, mask)));
+        return response;
+    }
+
+    private static final class Node {
+        private final Long commentId;
+        private final Long parentId;
+        private final int depth;
+        private final LocalDateTime createdAt;
+        private final Long authorId;
+        private final String authorDisplayName;
+        private final String authorProfileImageUrl;
+        private final List<Node> children = new ArrayList<>();
+        private String content;
+        private boolean deleted;
+        private int likeCount;
+
+        private Node(Long commentId, Long parentId, Integer depth, LocalDateTime createdAt, Long authorId,
+                String authorDisplayName, String authorProfileImageUrl, String content, Boolean deleted,
+                Integer likeCount) {
+            this.commentId = commentId;
+            this.parentId = parentId;
+            this.depth = depth != null ? depth : 0;
+            this.createdAt = createdAt;
+            this.authorId = authorId;
+            this.authorDisplayName = authorDisplayName;
+            this.authorProfileImageUrl = authorProfileImageUrl;
+            this.content = content;
+            this.deleted = Boolean.TRUE.equals(deleted);
+            this.likeCount = likeCount != null ? likeCount : 0;
+        }
+
+        /** 기존 조회 쿼리와 같은 기준: 삭제되지 않았거나, 삭제됐어도 삭제되지 않은 직계 자식이 있으면 노출 */
+        private boolean isVisible() {
+            return !deleted || children.stream().anyMatch(child -> !child.deleted);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.weedrice.whiteboard.domain.comment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weedrice.whiteboard.domain.comment.dto.CommentChangedEvent;
+import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 게시글별 댓글 트리 캐시.
+ * 트리는 첫 조회 시 게시글의 전체 댓글로 한 번 구성하고, 이후 댓글 변경은 커밋 이후 해당 노드만 패치합니다.
+ * 댓글 수가 {@code comment.tree-cache.max-comments}를 넘는 게시글은 캐시하지 않고 기존 페이지 조회를 사용하며,
+ * 이 판정도 트리와 같은 만료 시간 동안 기억해 요청마다 댓글 수를 세지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTreeCache {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+
+    @Value("${comment.tree-cache.maximum-size:1000}")
+    private long maximumSize = 1000;
+
+    @Value("${comment.tree-cache.expire-after-minutes:30}")
+    private long expireAfterMinutes = 30;
+
+    @Value("${comment.tree-cache.max-comments:2000}")
+    private long maxComments = 2000;
+
+    private Cache<Long, CommentTree> cache;
+
+    // 캐시 대상에서 제외된 게시글 (댓글은 소프트 삭제되므로 한 번 넘은 게시글은 다시 줄어들지 않음)
+    private Cache<Long, Boolean> oversizedPosts;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // 작성자 닉네임/프로필 변경은 패치 대상이 아니므로 만료 시간 안에서 반영
+                .expireAfterWrite(Duration.ofMinutes(expireAfterMinutes))
+                .recordStats()
+                .build();
+        oversizedPosts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterMinutes))
+                .build();
+    }
+
+    /**
+     * 게시글의 댓글 트리를 반환합니다. 캐시에 없으면 적재하며, 캐시 대상이 아닌 게시글이면 빈 값을 반환합니다.
+     */
+    public Optional<CommentTree> get(Long postId) {
+        CommentTree tree = cache.getIfPresent(postId);
+        if (tree != null) {
+            return Optional.of(tree);
+        }
+        if (oversizedPosts.getIfPresent(postId) != null) {
+            return Optional.empty();
+        }
+        if (commentRepository.countByPost_PostId(postId) > maxComments) {
+            oversizedPosts.put(postId, Boolean.TRUE);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(postId, this::load));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        // 같은 게시글을 적재 중이면 적재가 끝난 뒤 패치되며, 반영할 수 없는 변경이면 트리를 폐기
+        cache.asMap().computeIfPresent(event.getPostId(), (postId, tree) -> tree.apply(event) ? tree : null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        // 응답에 게시글 제목이 포함되므로 수정/삭제 시 트리를 폐기
+        if (!"CREATE".equals(event.getChangeType())) {
+            cache.invalidate(event.getPostId());
+        }
+        if ("DELETE".equals(event.getChangeType())) {
+            oversizedPosts.invalidate(event.getPostId());
+        }
+    }
+
+    private CommentTree load(Long postId) {
+        return postRepository.findByIdWithRelations(postId)
+                .map(post -> CommentTree.build(post.getPostId(), post.getBoard().getBoardUrl(), post.getTitle(),
+                        commentRepository.findAllByPostIdWithUser(postId)))
+                .orElse(null);
+    }
+}
@@ -1,5 +1,6 @@
 package com.weedrice.whiteboard.domain.feed.controller;
 
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursorResponse;
 import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
 import com.weedrice.whiteboard.domain.feed.service.FeedService;
 import com.weedrice.whiteboard.global.common.ApiResponse;
@@ -9,6 +10,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,4 +25,12 @@ public class FeedController {
         Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
         return ApiResponse.success(feedService.getUserFeeds(userId, pageable));
     }
+
+    @GetMapping("/cursor")
+    public ApiResponse<FeedCursorResponse> getMyFeedsByCursor(Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+        return ApiResponse.success(feedService.getUserFeedsByCursor(userId, cursor, size));
+    }
 }
@@ -0,0 +1,58 @@
+package com.weedrice.whiteboard.domain.feed.dto;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 피드 keyset 커서. 피드 항목은 (createdAt, contentId) 내림차순으로 정렬되며, 커서는 마지막으로 받은 항목의 위치입니다.
+ * 적재된 피드 행과 조회 시점에 합치는 게시판 글이 같은 순서로 비교되도록 feedId 대신 콘텐츠(게시글) ID를 보조 키로 씁니다.
+ */
+public record FeedCursor(LocalDateTime createdAt, Long contentId) {
+
+    /** 피드 노출 순서: 최신 글 먼저, 같은 시각이면 콘텐츠 ID 내림차순 */
+    public static final Comparator<FeedResponse.FeedSummary> TIMELINE_ORDER = Comparator
+            .comparing(FeedResponse.FeedSummary::getCreatedAt)
+            .thenComparing(FeedResponse.FeedSummary::getContentId)
+            .reversed();
+
+    public static FeedCursor of(FeedResponse.FeedSummary feed) {
+        return new FeedCursor(feed.getCreatedAt(), feed.getContentId());
+    }
+
+    /**
+     * 클라이언트가 넘긴 불투명 커서 문자열을 해석합니다. 비어 있으면 첫 페이지로 보고 null을 반환합니다.
+     */
+    public static FeedCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('_');
+            return new FeedCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "_" + contentId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 주어진 항목이 이 커서보다 뒤(더 오래된 쪽)에 있는지 확인합니다.
+     */
+    public boolean precedes(FeedResponse.FeedSummary feed) {
+        int byTime = feed.getCreatedAt().compareTo(createdAt);
+        return byTime < 0 || (byTime == 0 && feed.getContentId() < contentId);
+    }
+}
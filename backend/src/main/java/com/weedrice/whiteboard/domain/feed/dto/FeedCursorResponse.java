@@ -0,0 +1,21 @@
+package com.weedrice.whiteboard.domain.feed.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 피드 커서 목록 응답. 커서가 (작성 시각, 콘텐츠 ID) 조합이라 공용 CursorResponse의 Long 커서 대신 불투명 문자열을 씁니다.
+ */
+@Getter
+public class FeedCursorResponse {
+    private final List<FeedResponse.FeedSummary> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public FeedCursorResponse(List<FeedResponse.FeedSummary> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
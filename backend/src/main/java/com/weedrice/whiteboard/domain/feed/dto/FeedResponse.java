@@ -1,5 +1,6 @@
 package com.weedrice.whiteboard.domain.feed.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.weedrice.whiteboard.domain.feed.entity.UserFeed;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,19 +30,40 @@ public class FeedResponse {
         private Long contentId;
         private boolean isRead;
         private LocalDateTime createdAt;
+        // fan-out-on-read 게시판 글의 작성자. 조회자 본인 글을 거르는 데만 쓰고 응답에는 싣지 않음
+        @JsonIgnore
+        private Long authorId;
         // TODO: contentId를 이용해 실제 컨텐츠 정보를 조합해야 함
+
+        public static FeedSummary from(UserFeed feed) {
+            return FeedSummary.builder()
+                    .feedId(feed.getFeedId())
+                    .feedType(feed.getFeedType())
+                    .contentType(feed.getContentType())
+                    .contentId(feed.getContentId())
+                    .isRead(feed.getIsRead())
+                    .createdAt(feed.getCreatedAt())
+                    .build();
+        }
+
+        /**
+         * 피드에 적재하지 않은(fan-out-on-read) 게시판 글을 피드 항목으로 만듭니다. 적재된 행이 없으므로 feedId는 null입니다.
+         */
+        public static FeedSummary ofPost(Long postId, Long authorId, LocalDateTime createdAt) {
+            return FeedSummary.builder()
+                    .feedType("NEW_POST")
+                    .contentType("POST")
+                    .contentId(postId)
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .authorId(authorId)
+                    .build();
+        }
     }
 
     public static FeedResponse from(Page<UserFeed> feedPage) {
         List<FeedSummary> content = feedPage.getContent().stream()
-                .map(feed -> FeedSummary.builder()
-                        .feedId(feed.getFeedId())
-                        .feedType(feed.getFeedType())
-                        .contentType(feed.getContentType())
-                        .contentId(feed.getContentId())
-                        .isRead(feed.getIsRead())
-                        .createdAt(feed.getCreatedAt())
-                        .build())
+                .map(FeedSummary::from)
                 .collect(Collectors.toList());
 
         return FeedResponse.builder()
@@ -14,7 +14,10 @@ import jakarta.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "user_feeds", indexes = {
-        @Index(name = "idx_user_feeds_user", columnList = "target_user_id, is_read, created_at DESC")
+        @Index(name = "idx_user_feeds_user", columnList = "target_user_id, is_read, created_at DESC"),
+        // ddl-auto: update는 같은 이름의 기존 인덱스를 다시 만들지 않으므로 컬럼 구성이 바뀌면 이름을 바꿈
+        @Index(name = "idx_user_feeds_timeline_v2", columnList = "target_user_id, created_at DESC, content_id DESC"),
+        @Index(name = "idx_user_feeds_content", columnList = "content_type, content_id")
 })
 public class UserFeed extends BaseTimeEntity {
 
@@ -5,7 +5,26 @@ import com.weedrice.whiteboard.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface UserFeedRepository extends JpaRepository<UserFeed, Long> {
     Page<UserFeed> findByTargetUserOrderByCreatedAtDesc(User targetUser, Pageable pageable);
+
+    /**
+     * 사용자 피드의 첫 구간을 (createdAt, contentId) 내림차순으로 조회합니다.
+     */
+    List<UserFeed> findByTargetUser_UserIdOrderByCreatedAtDescContentIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * 커서 위치 이후의 사용자 피드를 keyset 방식으로 조회합니다.
+     */
+    @Query("SELECT f FROM UserFeed f WHERE f.targetUser.userId = :userId "
+            + "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.contentId < :contentId)) "
+            + "ORDER BY f.createdAt DESC, f.contentId DESC")
+    List<UserFeed> findTimelineBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("contentId") Long contentId, Pageable pageable);
 }
@@ -0,0 +1,49 @@
+package com.weedrice.whiteboard.domain.feed.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.global.outbox.OutboxConsumer;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 변경 outbox 이벤트를 {@link FeedFanoutService}에 순서대로 넘깁니다.
+ * 적재는 구독자 묶음마다 따로 커밋되므로, 재전달된 작성 이벤트는 적재된 항목을 지운 뒤 다시 적재합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedFanoutConsumer implements OutboxConsumer {
+
+    private final FeedFanoutService feedFanoutService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "feed-fanout";
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(PostChangedEvent.EVENT_TYPE);
+    }
+
+    @Override
+    public void consume(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            feedFanoutService.onPostChanged(read(message), message.redelivered());
+        }
+    }
+
+    private PostChangedEvent read(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.payload(), PostChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("게시글 변경 이벤트를 읽을 수 없음: outboxId=" + message.outboxId(), e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.weedrice.whiteboard.domain.feed.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.weedrice.whiteboard.domain.board.repository.BoardSubscriptionRepository;
+import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.domain.post.entity.Post;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 피드 생성(fan-out-on-write) 파이프라인.
+ * <p>
+ * 게시글 작성이 커밋되면 outbox 릴레이 스레드에서 게시판 구독자를 사용자 ID 순으로 나눠 읽고, 묶음마다 JDBC 배치 INSERT로
+ * {@code user_feeds}에 적재한 뒤 사용자별 최대 피드 길이를 넘는 오래된 항목을 정리합니다.
+ * 구독자가 {@code feed.fanout.large-board-threshold}를 넘는 게시판은 적재하지 않고 조회 시점에 게시판 글을 합칩니다
+ * (fan-out-on-read). 게시글이 삭제되면 적재된 피드 항목도 함께 지웁니다.
+ * 커밋된 항목은 {@link FeedTimelineCache}의 메모리 링에도 바로 반영해 최근 활동한 사용자의 첫 화면이 DB를 거치지 않게 합니다.
+ * <p>
+ * 현재 피드 원천은 게시판 구독뿐이며(태그/사용자 팔로우 기능 없음), 다른 원천은 source_criteria/criteria_id로 구분해 추가합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedFanoutService {
+
+    public static final String FEED_TYPE_NEW_POST = "NEW_POST";
+    public static final String CONTENT_TYPE_POST = "POST";
+    public static final String SOURCE_BOARD = "BOARD";
+
+    private static final String INSERT_SQL = "INSERT INTO user_feeds "
+            + "(target_user_id, feed_type, content_type, content_id, source_criteria, criteria_id, is_read, "
+            + "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, 'N', ?, ?)";
+
+    private final BoardSubscriptionRepository boardSubscriptionRepository;
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final FeedTimelineCache feedTimelineCache;
+
+    @Value("${feed.fanout.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${feed.fanout.large-board-threshold:10000}")
+    private long largeBoardThreshold = 10000;
+
+    @Value("${feed.max-entries-per-user:500}")
+    private int maxEntriesPerUser = 500;
+
+    private LoadingCache<Long, Long> subscriberCounts;
+
+    @PostConstruct
+    void init() {
+        subscriberCounts = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build(boardSubscriptionRepository::countByBoard_BoardId);
+    }
+
+    /**
+     * 게시글 변경을 피드에 반영합니다. {@link FeedFanoutConsumer}가 outbox에서 꺼낸 순서대로 호출합니다.
+     *
+     * @param redelivered 이전 전달이 실패해 다시 전달된 이벤트이면 true. 일부 적재된 항목을 지우고 다시 적재합니다.
+     */
+    public void onPostChanged(PostChangedEvent event, boolean redelivered) {
+        switch (event.getChangeType()) {
+            case "CREATE" -> {
+                if (redelivered) {
+                    removePost(event.getPostId());
+                }
+                fanOutPost(event.getPostId());
+            }
+            case "DELETE" -> removePost(event.getPostId());
+            default -> {
+            }
+        }
+    }
+
+    private void removePost(Long postId) {
+        jdbcTemplate.update("DELETE FROM user_feeds WHERE content_type = ? AND content_id = ?", CONTENT_TYPE_POST,
+                postId);
+        feedTimelineCache.removeContent(CONTENT_TYPE_POST, postId);
+    }
+
+    /**
+     * 구독자가 많아 피드를 적재하지 않는 게시판인지 확인합니다. 조회 쪽에서 게시판 글을 직접 합칠지 판단하는 데 사용합니다.
+     */
+    public boolean isFanoutOnRead(Long boardId) {
+        return subscriberCounts.get(boardId) > largeBoardThreshold;
+    }
+
+    /**
+     * 게시글을 게시판 구독자들의 피드에 적재합니다.
+     *
+     * @return 적재한 피드 항목 수
+     */
+    public int fanOutPost(Long postId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        // 릴레이 스레드에는 영속성 컨텍스트가 없으므로 필요한 값만 읽기 전용 트랜잭션에서 꺼냄
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        FanoutSource source = readOnlyTx.execute(status -> postRepository.findById(postId)
+                .filter(post -> !Boolean.TRUE.equals(post.getIsDeleted()))
+                .map(FanoutSource::from)
+                .orElse(null));
+        if (source == null) {
+            return 0;
+        }
+        Long boardId = source.boardId();
+        if (isFanoutOnRead(boardId)) {
+            // 적재하지 않는 게시판은 조회 시점 병합용 게시판 링에만 추가
+            feedTimelineCache.pushBoardPost(boardId, FeedResponse.FeedSummary.ofPost(postId, source.authorId(),
+                    source.createdAt()));
+            return 0;
+        }
+        Long authorId = source.authorId();
+        Timestamp createdAt = Timestamp.valueOf(source.createdAt());
+
+        int inserted = 0;
+        long lastUserId = 0L;
+        long startedAt = System.nanoTime();
+        while (true) {
+            List<Long> subscriberIds = boardSubscriptionRepository.findSubscriberIdsAfter(boardId, lastUserId,
+                    PageRequest.of(0, batchSize));
+            if (subscriberIds.isEmpty()) {
+                break;
+            }
+            lastUserId = subscriberIds.get(subscriberIds.size() - 1);
+            List<Long> targets = subscriberIds.stream().filter(id -> !id.equals(authorId)).toList();
+            if (!targets.isEmpty()) {
+                // 묶음마다 짧은 트랜잭션으로 적재와 길이 정리를 함께 커밋
+                List<Long> feedIds = tx.execute(status -> {
+                    List<Long> ids = insert(targets, postId, boardId, createdAt);
+                    trim(targets);
+                    return ids;
+                });
+                if (feedIds != null && feedIds.size() == targets.size()) {
+                    for (int i = 0; i < targets.size(); i++) {
+                        feedTimelineCache.push(targets.get(i), FeedResponse.FeedSummary.builder()
+                                .feedId(feedIds.get(i))
+                                .feedType(FEED_TYPE_NEW_POST)
+                                .contentType(CONTENT_TYPE_POST)
+                                .contentId(postId)
+                                .isRead(false)
+                                .createdAt(source.createdAt())
+                                .build());
+                    }
+                }
+                inserted += targets.size();
+            }
+            if (subscriberIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.debug("피드 fan-out 완료: postId={}, boardId={}, rows={}, elapsedMs={}", postId, boardId, inserted,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return inserted;
+    }
+
+    private List<Long> insert(List<Long> targets, Long postId, Long boardId, Timestamp createdAt) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] { "feed_id" })) {
+                for (Long userId : targets) {
+                    ps.setLong(1, userId);
+                    ps.setString(2, FEED_TYPE_NEW_POST);
+                    ps.setString(3, CONTENT_TYPE_POST);
+                    ps.setLong(4, postId);
+                    ps.setString(5, SOURCE_BOARD);
+                    ps.setLong(6, boardId);
+                    ps.setTimestamp(7, createdAt);
+                    ps.setTimestamp(8, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> ids = new ArrayList<>(targets.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 사용자별로 최신 maxEntriesPerUser개를 넘는 오래된 피드 항목을 지웁니다.
+     */
+    private void trim(List<Long> userIds) {
+        if (maxEntriesPerUser <= 0) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Object> args = new ArrayList<>(userIds);
+        args.add(maxEntriesPerUser);
+        jdbcTemplate.update("DELETE FROM user_feeds WHERE feed_id IN (SELECT feed_id FROM ("
+                + "SELECT feed_id, ROW_NUMBER() OVER (PARTITION BY target_user_id ORDER BY created_at DESC, content_id DESC) AS rn "
+                + "FROM user_feeds WHERE target_user_id IN (" + placeholders + ")) ranked WHERE rn > ?)",
+                args.toArray());
+    }
+
+    private record FanoutSource(Long boardId, Long authorId, LocalDateTime createdAt) {
+
+        static FanoutSource from(Post post) {
+            return new FanoutSource(post.getBoard().getBoardId(), post.getUser().getUserId(), post.getCreatedAt());
+        }
+    }
+}
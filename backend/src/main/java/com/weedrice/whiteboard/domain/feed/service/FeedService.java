@@ -1,25 +1,41 @@
 package com.weedrice.whiteboard.domain.feed.service;
 
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursor;
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursorResponse;
 import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
 import com.weedrice.whiteboard.domain.feed.entity.UserFeed;
 import com.weedrice.whiteboard.domain.feed.repository.UserFeedRepository;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FeedService {
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     private final UserFeedRepository userFeedRepository;
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final FeedFanoutService feedFanoutService;
+    private final FeedTimelineCache feedTimelineCache;
 
     public FeedResponse getUserFeeds(Long userId, Pageable pageable) {
         User user = userRepository.findById(userId)
@@ -28,12 +44,80 @@ public class FeedService {
         return FeedResponse.from(feedPage);
     }
 
-    @Transactional
-    public void generateFeeds() {
-        // TODO: 피드 생성 로직 구현
-        // 1. 구독한 게시판의 새 글
-        // 2. 관심 태그의 새 글
-        // 3. 팔로우하는 사용자의 활동 (글 작성, 댓글 등)
-        // 4. 이 로직은 비동기 배치 작업으로 처리하는 것이 적합
+    /**
+     * 피드를 (createdAt, contentId) 커서로 조회합니다. 적재된 피드와 구독 중인 fan-out-on-read 게시판 글을 k-way 병합합니다.
+     * 각 원천은 메모리 링으로 응답할 수 있으면 링을, 링 밖의 구간이 필요하면 keyset 쿼리를 사용하므로
+     * 최근 활동한 사용자의 첫 화면은 DB를 거치지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FeedCursorResponse getUserFeedsByCursor(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = pageSize + 1;
+
+        FeedTimelineCache.UserTimeline timeline = feedTimelineCache.user(userId);
+        List<List<FeedResponse.FeedSummary>> sources = new ArrayList<>();
+        List<FeedResponse.FeedSummary> materialized = timeline.feeds().after(after, limit);
+        sources.add(materialized != null ? materialized : loadMaterialized(userId, after, limit));
+        for (Long boardId : timeline.subscribedBoardIds()) {
+            if (feedFanoutService.isFanoutOnRead(boardId)) {
+                // 적재 경로(FeedFanoutService)처럼 조회자 본인이 쓴 글은 피드에 넣지 않음
+                List<FeedResponse.FeedSummary> boardPosts = feedTimelineCache.board(boardId).after(after, limit, userId);
+                sources.add(boardPosts != null ? boardPosts : loadBoardPosts(boardId, userId, after, limit));
+            }
+        }
+
+        List<FeedResponse.FeedSummary> merged = merge(sources, limit);
+        boolean hasNext = merged.size() > pageSize;
+        if (hasNext) {
+            merged = merged.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? FeedCursor.of(merged.get(merged.size() - 1)).encode() : null;
+        return new FeedCursorResponse(merged, nextCursor, hasNext);
+    }
+
+    private List<FeedResponse.FeedSummary> loadMaterialized(Long userId, FeedCursor after, int limit) {
+        List<UserFeed> feeds = after == null
+                ? userFeedRepository.findByTargetUser_UserIdOrderByCreatedAtDescContentIdDesc(userId,
+                        PageRequest.of(0, limit))
+                : userFeedRepository.findTimelineBefore(userId, after.createdAt(), after.contentId(),
+                        PageRequest.of(0, limit));
+        return feeds.stream().map(FeedResponse.FeedSummary::from).toList();
+    }
+
+    private List<FeedResponse.FeedSummary> loadBoardPosts(Long boardId, Long userId, FeedCursor after, int limit) {
+        return postRepository.findBoardTimelineBefore(boardId, userId, after != null ? after.createdAt() : null,
+                after != null ? after.contentId() : null, limit).stream()
+                .map(post -> FeedResponse.FeedSummary.ofPost(post.getPostId(), post.getUser().getUserId(),
+                        post.getCreatedAt()))
+                .toList();
+    }
+
+    /**
+     * 각각 정렬된 원천을 우선순위 큐로 병합해 최대 limit개를 반환합니다.
+     * 게시판이 fan-out-on-read로 바뀌기 전에 적재된 글은 두 원천에 모두 있을 수 있어 같은 콘텐츠는 한 번만 담습니다.
+     */
+    static List<FeedResponse.FeedSummary> merge(List<List<FeedResponse.FeedSummary>> sources, int limit) {
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+                (a, b) -> FeedCursor.TIMELINE_ORDER.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1])));
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                heads.add(new int[] { i, 0 });
+            }
+        }
+        List<FeedResponse.FeedSummary> merged = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        while (!heads.isEmpty() && merged.size() < limit) {
+            int[] head = heads.poll();
+            List<FeedResponse.FeedSummary> source = sources.get(head[0]);
+            FeedResponse.FeedSummary feed = source.get(head[1]);
+            if (seen.add(feed.getContentType() + ":" + feed.getContentId())) {
+                merged.add(feed);
+            }
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[] { head[0], head[1] + 1 });
+            }
+        }
+        return merged;
     }
 }
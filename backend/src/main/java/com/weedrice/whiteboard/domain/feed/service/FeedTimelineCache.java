@@ -0,0 +1,130 @@
+package com.weedrice.whiteboard.domain.feed.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.weedrice.whiteboard.domain.board.repository.BoardSubscriptionRepository;
+import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
+import com.weedrice.whiteboard.domain.feed.repository.UserFeedRepository;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 최근 활동한 사용자의 피드와 fan-out-on-read 게시판의 최신 글을 메모리 링({@link HotTimeline})으로 유지합니다.
+ * <p>
+ * 조회한 적 있는 사용자/게시판만 담고, 같은 노드의 fan-out이 커밋되면 링에 바로 추가합니다.
+ * 다른 노드에서 적재된 항목이나 구독 변경은 refresh 주기마다 DB에서 다시 읽어 맞춥니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineCache {
+
+    private final UserFeedRepository userFeedRepository;
+    private final PostRepository postRepository;
+    private final BoardSubscriptionRepository boardSubscriptionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${feed.hot.capacity:100}")
+    private int capacity = 100;
+
+    @Value("${feed.hot.maximum-users:50000}")
+    private long maximumUsers = 50000;
+
+    @Value("${feed.hot.maximum-boards:1000}")
+    private long maximumBoards = 1000;
+
+    @Value("${feed.hot.refresh-seconds:60}")
+    private long refreshSeconds = 60;
+
+    @Value("${feed.hot.expire-after-access-minutes:30}")
+    private long expireAfterAccessMinutes = 30;
+
+    private LoadingCache<Long, UserTimeline> users;
+    private LoadingCache<Long, HotTimeline> boards;
+
+    @PostConstruct
+    void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build(this::loadUser);
+        boards = Caffeine.newBuilder()
+                .maximumSize(maximumBoards)
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build(this::loadBoard);
+    }
+
+    /**
+     * 사용자의 피드 링과 구독 게시판 목록. 처음 조회하면 DB에서 적재합니다.
+     */
+    UserTimeline user(Long userId) {
+        return users.get(userId);
+    }
+
+    /**
+     * fan-out-on-read 게시판의 최신 글 링. 처음 조회하면 DB에서 적재합니다.
+     */
+    HotTimeline board(Long boardId) {
+        return boards.get(boardId);
+    }
+
+    /**
+     * 적재된 피드 항목을 링에 추가합니다. 링이 없는(최근 조회하지 않은) 사용자는 다음 조회 때 DB에서 읽습니다.
+     */
+    public void push(Long userId, FeedResponse.FeedSummary entry) {
+        UserTimeline timeline = users.getIfPresent(userId);
+        if (timeline != null) {
+            timeline.feeds().push(entry);
+        }
+    }
+
+    public void pushBoardPost(Long boardId, FeedResponse.FeedSummary entry) {
+        HotTimeline timeline = boards.getIfPresent(boardId);
+        if (timeline != null) {
+            timeline.push(entry);
+        }
+    }
+
+    public void removeContent(String contentType, Long contentId) {
+        users.asMap().values().forEach(timeline -> timeline.feeds().remove(contentType, contentId));
+        boards.asMap().values().forEach(timeline -> timeline.remove(contentType, contentId));
+    }
+
+    private UserTimeline loadUser(Long userId) {
+        return readOnly().execute(status -> new UserTimeline(
+                new HotTimeline(capacity, userFeedRepository
+                        .findByTargetUser_UserIdOrderByCreatedAtDescContentIdDesc(userId, PageRequest.of(0, capacity))
+                        .stream().map(FeedResponse.FeedSummary::from).toList()),
+                boardSubscriptionRepository.findBoardIdsByUserId(userId)));
+    }
+
+    private HotTimeline loadBoard(Long boardId) {
+        return readOnly().execute(status -> new HotTimeline(capacity,
+                postRepository.findBoardTimelineBefore(boardId, null, null, null, capacity).stream()
+                        .map(post -> FeedResponse.FeedSummary.ofPost(post.getPostId(), post.getUser().getUserId(),
+                                post.getCreatedAt()))
+                        .toList()));
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        return readOnlyTx;
+    }
+
+    /**
+     * 사용자의 적재된 피드 링과, 조회 시 fan-out-on-read 여부를 확인할 구독 게시판 ID 목록.
+     */
+    record UserTimeline(HotTimeline feeds, List<Long> subscribedBoardIds) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.weedrice.whiteboard.domain.feed.service;
+
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursor;
+import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 최근 피드 항목을 최신순으로 담는 크기 제한 링. 넘치면 가장 오래된 항목부터 버립니다.
+ * <p>
+ * complete는 링이 원본(DB)의 전체 항목을 담고 있는지를 뜻합니다. 적재 시 원본이 용량보다 적었고 이후 버린 항목이 없으면
+ * 링 끝 너머에 항목이 없으므로, 링만으로 마지막 페이지까지 응답할 수 있습니다.
+ */
+class HotTimeline {
+
+    private final int capacity;
+    private final List<FeedResponse.FeedSummary> entries;
+    private boolean complete;
+
+    HotTimeline(int capacity, List<FeedResponse.FeedSummary> loaded) {
+        this.capacity = capacity;
+        this.entries = new ArrayList<>(loaded.subList(0, Math.min(loaded.size(), capacity)));
+        this.entries.sort(FeedCursor.TIMELINE_ORDER);
+        this.complete = loaded.size() < capacity;
+    }
+
+    synchronized void push(FeedResponse.FeedSummary entry) {
+        for (FeedResponse.FeedSummary existing : entries) {
+            if (sameContent(existing, entry)) {
+                return;
+            }
+        }
+        int index = Collections.binarySearch(entries, entry, FeedCursor.TIMELINE_ORDER);
+        entries.add(index < 0 ? -index - 1 : index, entry);
+        if (entries.size() > capacity) {
+            entries.remove(entries.size() - 1);
+            complete = false;
+        }
+    }
+
+    synchronized void remove(String contentType, Long contentId) {
+        entries.removeIf(entry -> entry.getContentId().equals(contentId) && entry.getContentType().equals(contentType));
+    }
+
+    /**
+     * 커서 이후 항목을 최대 limit개 반환합니다. 링 밖(더 오래된 쪽)의 항목이 있어야 채워지는 요청이면 null을 반환합니다.
+     */
+    List<FeedResponse.FeedSummary> after(FeedCursor cursor, int limit) {
+        return after(cursor, limit, null);
+    }
+
+    /**
+     * excludedAuthorId가 쓴 항목은 건너뛰고 커서 이후 항목을 최대 limit개 반환합니다.
+     */
+    synchronized List<FeedResponse.FeedSummary> after(FeedCursor cursor, int limit, Long excludedAuthorId) {
+        List<FeedResponse.FeedSummary> result = new ArrayList<>(limit);
+        for (FeedResponse.FeedSummary entry : entries) {
+            if (excludedAuthorId != null && excludedAuthorId.equals(entry.getAuthorId())) {
+                continue;
+            }
+            if (cursor == null || cursor.precedes(entry)) {
+                result.add(entry);
+                if (result.size() == limit) {
+                    return result;
+                }
+            }
+        }
+        return complete ? result : null;
+    }
+
+    private static boolean sameContent(FeedResponse.FeedSummary a, FeedResponse.FeedSummary b) {
+        return a.getContentId().equals(b.getContentId()) && a.getContentType().equals(b.getContentType());
+    }
+}
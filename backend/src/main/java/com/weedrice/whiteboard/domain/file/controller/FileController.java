@@ -1,24 +1,29 @@
 package com.weedrice.whiteboard.domain.file.controller;
 
+import com.weedrice.whiteboard.domain.file.dto.DirectUploadRequest;
+import com.weedrice.whiteboard.domain.file.dto.DirectUploadResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileSimpleResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileUploadResponse;
 import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariant;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
 import com.weedrice.whiteboard.domain.file.service.FileService;
 import com.weedrice.whiteboard.global.common.ApiResponse;
-import com.weedrice.whiteboard.global.common.util.FileStorageService;
 import com.weedrice.whiteboard.global.security.CustomUserDetails;
+import com.weedrice.whiteboard.global.storage.BlobDownload;
+import com.weedrice.whiteboard.global.storage.BlobDownloadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
 
 @RestController
 @RequestMapping("/api/v1/files")
@@ -26,7 +31,7 @@ import java.io.InputStream;
 public class FileController {
 
     private final FileService fileService;
-    private final FileStorageService fileStorageService;
+    private final BlobDownloadService blobDownloadService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -46,22 +51,81 @@ public class FileController {
         return ApiResponse.success(fileService.uploadSimpleFile(userId, multipartFile));
     }
 
+    /**
+     * 요청 본문(파일 내용 그대로, multipart 아님)을 서버에 모으지 않고 저장소로 흘려보내는 업로드.
+     * 형식은 내용의 시그니처로 확인하며, Content-Length가 한도를 넘으면 본문을 읽지 않고 거절합니다.
+     */
+    @PostMapping("/stream")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<FileUploadResponse> uploadStream(
+            @RequestParam("filename") String filename,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+        return ApiResponse.success(fileService.uploadStream(userId, filename, request.getContentLengthLong(),
+                request.getInputStream()));
+    }
+
+    /**
+     * 직접 업로드 1단계. 앱 서버를 거치지 않고 저장소에 올릴 서명된 URL을 발급합니다.
+     * 클라이언트는 받은 URL로 파일을 올린 뒤 완료 요청을 보내야 파일로 등록됩니다.
+     */
+    @PostMapping("/direct")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<DirectUploadResponse> createDirectUpload(
+            @Valid @RequestBody DirectUploadRequest request,
+            Authentication authentication) {
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+        return ApiResponse.success(fileService.createDirectUpload(userId, request.getFilename(), request.getSize()));
+    }
+
+    /**
+     * 직접 업로드 2단계. 올라간 객체의 크기와 형식을 확인하고 파일로 등록합니다.
+     */
+    @PostMapping("/direct/{uploadKey}/complete")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<FileUploadResponse> completeDirectUpload(
+            @PathVariable String uploadKey,
+            Authentication authentication) {
+        Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+        return ApiResponse.success(fileService.completeDirectUpload(userId, uploadKey));
+    }
+
+    /**
+     * 파일을 내려받습니다. 이미지는 size(original, medium, thumbnail)로 파생본을 고를 수 있으며,
+     * 파생본이 없으면 원본을 보냅니다.
+     */
     @GetMapping("/{fileId}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId) {
+    public void downloadFile(@PathVariable Long fileId,
+            @RequestParam(value = "size", required = false) String size,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImageVariant variant = ImageVariant.from(size);
         File file = fileService.getFile(fileId);
 
-        // S3로부터 InputStream을 받아옴
-        InputStream inputStream = fileStorageService.loadFile(file.getFilePath());
-        Resource resource = new InputStreamResource(inputStream);
-
         String contentType = file.getMimeType();
         if (contentType == null) {
             contentType = "application/octet-stream";
         }
+        Instant lastModified = file.getCreatedAt() != null
+                ? file.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                : null;
+
+        String variantPath = file.getVariantPath(variant);
+        if (variantPath != null) {
+            blobDownloadService.serve(new BlobDownload(variantPath, file.getVariantSize(variant), lastModified,
+                    file.getVariantMimeType(), variantFileName(file.getOriginalName(), variantPath), true),
+                    request, response);
+            return;
+        }
+        // 파생본 생성 대기 중이면 나중에 같은 URL이 파생본을 가리키므로 장기 캐시하지 않음
+        boolean immutable = variant == ImageVariant.ORIGINAL || file.getVariantStatus() != ImageVariantStatus.PENDING;
+        blobDownloadService.serve(new BlobDownload(file.getFilePath(), file.getFileSize(), lastModified,
+                contentType, file.getOriginalName(), immutable), request, response);
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getOriginalName() + "\"")
-                .body(resource);
+    private static String variantFileName(String originalName, String variantPath) {
+        String extension = variantPath.substring(variantPath.lastIndexOf('.'));
+        int dot = originalName != null ? originalName.lastIndexOf('.') : -1;
+        return (dot > 0 ? originalName.substring(0, dot) : originalName) + extension;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.weedrice.whiteboard.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class DirectUploadRequest {
+    @NotBlank
+    private String filename;
+    @NotNull
+    @Positive
+    private Long size; // 올릴 파일 크기(바이트), 서명에 포함되어 정확히 이 크기로만 올릴 수 있음
+}
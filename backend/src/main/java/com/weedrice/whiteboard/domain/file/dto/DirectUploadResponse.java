@@ -0,0 +1,28 @@
+package com.weedrice.whiteboard.domain.file.dto;
+
+import com.weedrice.whiteboard.global.storage.PresignedUpload;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+public class DirectUploadResponse {
+    private String uploadKey; // 완료 요청(POST /api/v1/files/direct/{uploadKey}/complete)에 사용
+    private String uploadUrl; // 저장소 presigned URL 또는 로컬 저장소의 토큰 경로
+    private String method;
+    private Map<String, String> headers; // 업로드 요청에 그대로 실어야 하는 헤더
+    private Instant expiresAt;
+
+    public static DirectUploadResponse from(String uploadKey, PresignedUpload upload) {
+        return DirectUploadResponse.builder()
+                .uploadKey(uploadKey)
+                .uploadUrl(upload.url())
+                .method(upload.method())
+                .headers(upload.headers())
+                .expiresAt(upload.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.weedrice.whiteboard.domain.file.dto;
+
+import com.weedrice.whiteboard.global.outbox.DurableEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 업로드가 커밋되면 outbox에 기록되는 이벤트. {@code FILE_UPLOADED} 소비자가 썸네일/중간 크기 파생본을 만듭니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileUploadedEvent implements DurableEvent {
+
+    public static final String EVENT_TYPE = "FILE_UPLOADED";
+
+    private Long fileId;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+}
@@ -14,7 +14,8 @@ import jakarta.persistence.*;
 @Entity
 @Table(name = "files", indexes = {
         @Index(name = "idx_files_uploader", columnList = "uploader_id"),
-        @Index(name = "idx_files_related", columnList = "related_type, related_id")
+        @Index(name = "idx_files_related", columnList = "related_type, related_id"),
+        @Index(name = "idx_files_content_hash", columnList = "content_hash")
 })
 public class File extends BaseTimeEntity {
 
@@ -45,8 +46,33 @@ public class File extends BaseTimeEntity {
     @Column(name = "related_type", length = 50)
     private String relatedType; // POST, COMMENT 등
 
+    // 내용 SHA-256, 같은 해시의 파일은 저장소 객체(StoredBlob)를 공유. 중복 제거 전 행은 null
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 이미지 파생본(ImageDerivativeService가 비동기로 생성), 기존 행을 위해 nullable
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", length = 20)
+    private ImageVariantStatus variantStatus;
+
+    @Column(name = "variant_mime_type", length = 100)
+    private String variantMimeType;
+
+    @Column(name = "thumbnail_path", length = 255)
+    private String thumbnailPath;
+
+    @Column(name = "thumbnail_size")
+    private Long thumbnailSize;
+
+    @Column(name = "medium_path", length = 255)
+    private String mediumPath;
+
+    @Column(name = "medium_size")
+    private Long mediumSize;
+
     @Builder
-    public File(String filePath, String originalName, Long fileSize, String mimeType, User uploader, Long relatedId, String relatedType) {
+    public File(String filePath, String originalName, Long fileSize, String mimeType, User uploader, Long relatedId, String relatedType,
+            ImageVariantStatus variantStatus, String contentHash) {
         this.filePath = filePath;
         this.originalName = originalName;
         this.fileSize = fileSize;
@@ -54,10 +80,34 @@ public class File extends BaseTimeEntity {
         this.uploader = uploader;
         this.relatedId = relatedId;
         this.relatedType = relatedType;
+        this.variantStatus = variantStatus;
+        this.contentHash = contentHash;
     }
 
     public void updateRelatedInfo(Long relatedId, String relatedType) {
         this.relatedId = relatedId;
         this.relatedType = relatedType;
     }
+
+    /**
+     * 요청한 크기의 파생본 저장 키. 아직 만들지 않았거나 원본을 그대로 쓰는 크기면 null입니다.
+     */
+    public String getVariantPath(ImageVariant variant) {
+        if (variantStatus != ImageVariantStatus.READY) {
+            return null;
+        }
+        return switch (variant) {
+            case THUMBNAIL -> thumbnailPath;
+            case MEDIUM -> mediumPath;
+            case ORIGINAL -> null;
+        };
+    }
+
+    public Long getVariantSize(ImageVariant variant) {
+        return switch (variant) {
+            case THUMBNAIL -> thumbnailSize;
+            case MEDIUM -> mediumSize;
+            case ORIGINAL -> fileSize;
+        };
+    }
 }
@@ -0,0 +1,42 @@
+package com.weedrice.whiteboard.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미연결 파일 정리 작업의 진행 위치. cutoff가 있으면 진행 중인 회차로, 다음 실행은 last_file_id 다음부터 같은 cutoff로 이어서 정리합니다.
+ * locked_by/locked_until은 작업을 클러스터에서 한 노드만 실행하도록 하는 임대(lease)입니다.
+ * 기록과 조회는 {@link com.weedrice.whiteboard.domain.file.service.OrphanFileCleanupJob}이 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "file_cleanup_checkpoints")
+public class FileCleanupCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "last_file_id", nullable = false)
+    private Long lastFileId;
+
+    @Column(name = "cutoff")
+    private LocalDateTime cutoff;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+}
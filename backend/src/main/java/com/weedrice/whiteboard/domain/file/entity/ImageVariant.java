@@ -0,0 +1,30 @@
+package com.weedrice.whiteboard.domain.file.entity;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 다운로드 시 고를 수 있는 이미지 크기({@code ?size=}).
+ */
+public enum ImageVariant {
+    ORIGINAL,
+    MEDIUM,
+    THUMBNAIL;
+
+    public static ImageVariant from(String value) {
+        if (value == null || value.isBlank()) {
+            return ORIGINAL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 이미지 크기: " + value);
+        }
+    }
+
+    public String queryValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.weedrice.whiteboard.domain.file.entity;
+
+/**
+ * 이미지 파생본(썸네일/중간 크기) 생성 상태.
+ */
+public enum ImageVariantStatus {
+    /** 업로드 후 생성 대기 중 */
+    PENDING,
+    /** 생성 완료. 원본보다 작아지지 않는 크기는 파생본 없이 원본을 사용 */
+    READY,
+    /** 원본을 읽을 수 없어 생성 실패 */
+    FAILED,
+    /** 벡터(SVG)나 디코더가 없는 형식처럼 파생본을 만들지 않는 파일 */
+    SKIPPED
+}
@@ -0,0 +1,48 @@
+package com.weedrice.whiteboard.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명된 URL을 발급했지만 아직 완료하지 않은 직접 업로드. 완료하면 행을 지우고 {@link File}을 만들며,
+ * 만료 후 보존 기간이 지나도록 완료하지 않은 업로드는 올라간 객체와 함께 미연결 파일 정리 작업이 지웁니다.
+ * 기록과 조회는 {@link com.weedrice.whiteboard.domain.file.service.FileService}와
+ * {@link com.weedrice.whiteboard.domain.file.service.OrphanFileCleanupJob}이 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "pending_uploads", indexes = {
+        @Index(name = "idx_pending_uploads_expires_at", columnList = "expires_at")
+})
+public class PendingUpload {
+
+    /** 클라이언트가 올릴 저장소 키, 완료 시 서버가 정한 키로 복사해 File.filePath로 쓰고 이 키의 객체는 지움 */
+    @Id
+    @Column(name = "upload_key", length = 255)
+    private String uploadKey;
+
+    @Column(name = "uploader_id", nullable = false)
+    private Long uploaderId;
+
+    @Column(name = "original_name", nullable = false, length = 255)
+    private String originalName;
+
+    /** 서명에 포함한 콘텐츠 타입, 확장자로 정하며 완료 시 내용의 시그니처와 맞아야 함 */
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    /** 서명에 포함한 크기(바이트) */
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,47 @@
+package com.weedrice.whiteboard.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256)로 식별하는 저장소 객체와 그 객체를 가리키는 {@link File} 수(ref_count).
+ * <p>
+ * 같은 내용을 다시 올리면 새 객체를 저장하지 않고 blob_key를 함께 쓰며, 마지막 참조가 정리될 때 객체를 삭제합니다.
+ * stored는 객체 저장이 끝났는지를 뜻하고, 저장 전에 참조를 얻은 업로드는 직접 저장합니다(같은 키에 같은 내용).
+ * 기록과 조회는 {@link com.weedrice.whiteboard.domain.file.service.BlobReferenceService}가 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "stored_blobs")
+public class StoredBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "blob_key", length = 255, nullable = false)
+    private String blobKey;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "stored", nullable = false)
+    private Boolean stored;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+}
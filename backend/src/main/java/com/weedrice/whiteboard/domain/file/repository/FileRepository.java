@@ -1,7 +1,11 @@
 package com.weedrice.whiteboard.domain.file.repository;
 
 import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,10 +18,16 @@ public interface FileRepository extends JpaRepository<File, Long> {
 
     List<File> findByRelatedIdInAndRelatedType(List<Long> relatedIds, String relatedType);
 
-    @org.springframework.data.jpa.repository.Query("SELECT DISTINCT f.relatedId FROM File f WHERE f.relatedId IN :relatedIds AND f.relatedType = :relatedType AND f.mimeType LIKE 'image/%'")
-    List<Long> findRelatedIdsWithImages(
-            @org.springframework.data.repository.query.Param("relatedIds") List<Long> relatedIds,
-            @org.springframework.data.repository.query.Param("relatedType") String relatedType);
+    Optional<File> findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWithOrderByFileIdAsc(Long relatedId, String relatedType, String mimeTypePrefix);
 
-    Optional<File> findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWith(Long relatedId, String relatedType, String mimeTypePrefix);
+    Optional<File> findFirstByContentHashAndVariantStatusAndFileIdNot(String contentHash, ImageVariantStatus variantStatus, Long fileId);
+
+    @Modifying
+    @Query("UPDATE File f SET f.variantStatus = :status, f.variantMimeType = :mimeType, " +
+            "f.thumbnailPath = :thumbnailPath, f.thumbnailSize = :thumbnailSize, " +
+            "f.mediumPath = :mediumPath, f.mediumSize = :mediumSize WHERE f.fileId = :fileId")
+    int updateVariants(@Param("fileId") Long fileId, @Param("status") ImageVariantStatus status,
+            @Param("mimeType") String mimeType,
+            @Param("thumbnailPath") String thumbnailPath, @Param("thumbnailSize") Long thumbnailSize,
+            @Param("mediumPath") String mediumPath, @Param("mediumSize") Long mediumSize);
 }
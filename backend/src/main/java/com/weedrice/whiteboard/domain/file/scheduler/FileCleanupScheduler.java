@@ -1,6 +1,6 @@
 package com.weedrice.whiteboard.domain.file.scheduler;
 
-import com.weedrice.whiteboard.domain.file.service.FileService;
+import com.weedrice.whiteboard.domain.file.service.OrphanFileCleanupJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,13 +11,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FileCleanupScheduler {
 
-    private final FileService fileService;
+    private final OrphanFileCleanupJob orphanFileCleanupJob;
 
-    // 매일 새벽 2시에 실행
-    @Scheduled(cron = "0 0 2 * * ?")
+    // 기본 매일 새벽 2시에 실행, 여러 노드 중 임대를 얻은 한 노드만 정리
+    @Scheduled(cron = "${file.cleanup.cron:0 0 2 * * ?}")
     public void cleanupTemporaryFiles() {
         log.info("임시 파일 정리 스케줄러 시작");
-        fileService.cleanUpTemporaryFiles();
-        log.info("임시 파일 정리 스케줄러 완료");
+        long deleted = orphanFileCleanupJob.run();
+        log.info("임시 파일 정리 스케줄러 완료: files={}", deleted);
     }
 }
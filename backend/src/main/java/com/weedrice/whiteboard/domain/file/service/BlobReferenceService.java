@@ -0,0 +1,178 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.domain.file.entity.StoredBlob;
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 내용 해시로 업로드 객체를 공유하고 참조 수({@link StoredBlob})로 수명을 관리합니다.
+ * <p>
+ * 참조는 파일 행을 기록하는 트랜잭션 안에서 얻으므로, 파일 기록이 실패하면 참조 수 증가도 함께 롤백됩니다.
+ * 저장을 건너뛸지는 {@link #find}로 미리 보고 판단하되, 그 사이 객체가 지워졌을 수 있으므로 참조를 얻은 결과(stored)로 다시 확인합니다.
+ * 마지막 참조를 놓을 때는 행을 지운 뒤 같은 트랜잭션 안에서 객체를 삭제합니다. 참조를 얻는 UPDATE/INSERT는 삭제 중인 행의 잠금을
+ * 기다리므로, 삭제가 끝난 뒤에는 새 행(stored=false)으로 시작해 객체를 다시 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlobReferenceService {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE stored_blobs SET ref_count = ref_count + 1, modified_at = ? WHERE content_hash = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO stored_blobs "
+            + "(content_hash, blob_key, size, content_type, ref_count, stored, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, 1, false, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String FIND_SQL = "SELECT blob_key, stored FROM stored_blobs WHERE content_hash = ?";
+
+    private static final String MARK_STORED_SQL =
+            "UPDATE stored_blobs SET stored = true, modified_at = ? WHERE content_hash = ?";
+
+    private static final String RELEASE_SQL = "UPDATE stored_blobs SET ref_count = ref_count - 1, modified_at = ? "
+            + "WHERE content_hash = ? RETURNING ref_count";
+
+    private static final String DELETE_SQL = "DELETE FROM stored_blobs WHERE content_hash = ? AND ref_count <= 0";
+
+    private static final String RELEASE_ALL_SQL = "UPDATE stored_blobs b SET ref_count = b.ref_count - r.n, "
+            + "modified_at = ? FROM unnest(?::varchar[], ?::int[]) AS r(content_hash, n) "
+            + "WHERE b.content_hash = r.content_hash RETURNING b.content_hash, b.ref_count";
+
+    private static final String DELETE_ALL_SQL =
+            "DELETE FROM stored_blobs WHERE content_hash = ANY(?::varchar[]) AND ref_count <= 0";
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM stored_blobs WHERE content_hash = ?";
+
+    private static final RowMapper<BlobReference> REFERENCE_MAPPER =
+            (rs, rowNum) -> new BlobReference(rs.getString("blob_key"), rs.getBoolean("stored"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileStorageService fileStorageService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param key    업로드가 사용할 저장소 키. 이미 같은 내용의 객체가 있으면 그 키를 씁니다.
+     * @param stored 객체가 이미 저장돼 있어 업로드를 건너뛸 수 있는지 여부
+     */
+    public record BlobReference(String key, boolean stored) {
+    }
+
+    /**
+     * 내용 해시로 저장된 객체를 참조를 얻지 않고 조회합니다. 업로드 전에 저장을 건너뛸 수 있는지 판단하는 용도입니다.
+     */
+    public Optional<BlobReference> find(String contentHash) {
+        return jdbcTemplate.query(FIND_SQL, REFERENCE_MAPPER, contentHash).stream().findFirst();
+    }
+
+    /**
+     * 내용 해시의 참조를 하나 얻습니다. 처음 보는 내용이면 candidateKey로 행을 만들고 stored=false를 반환합니다.
+     * 파일 행을 기록하는 트랜잭션 안에서 호출해야 하며, 행 잠금은 그 트랜잭션이 끝날 때까지 유지됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BlobReference acquire(String contentHash, String candidateKey, long size, String contentType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 다른 업로드가 같은 내용의 행을 먼저 만들고 커밋해 INSERT가 무시되면 다시 증가
+        boolean acquired = false;
+        while (!acquired) {
+            acquired = jdbcTemplate.update(ACQUIRE_SQL, now, contentHash) > 0
+                    || jdbcTemplate.update(INSERT_SQL, contentHash, candidateKey, size, contentType, now, now) > 0;
+        }
+        BlobReference reference = jdbcTemplate.queryForObject(FIND_SQL, REFERENCE_MAPPER, contentHash);
+        uploads(reference.stored() ? "hit" : "miss").increment();
+        if (reference.stored()) {
+            Counter.builder("file.upload.dedup.bytes.saved")
+                    .description("중복 업로드라 저장소에 쓰지 않은 바이트 수")
+                    .register(meterRegistry)
+                    .increment(size);
+        }
+        return reference;
+    }
+
+    /**
+     * 객체 저장이 끝났음을 기록합니다. 이후 같은 내용의 업로드는 저장을 건너뜁니다.
+     */
+    public void markStored(String contentHash) {
+        jdbcTemplate.update(MARK_STORED_SQL, Timestamp.valueOf(LocalDateTime.now()), contentHash);
+    }
+
+    /**
+     * 참조를 하나 놓습니다. 마지막 참조였으면 행을 지우고 keys(원본과 파생본)를 저장소에서 삭제합니다.
+     * 삭제가 끝날 때까지 행 잠금을 쥐고 있어 그 사이 같은 내용을 올린 업로드가 지워질 객체를 재사용하지 않습니다.
+     *
+     * @return 객체를 삭제했으면 true
+     */
+    @Transactional
+    public boolean release(String contentHash, List<String> keys) {
+        List<Integer> remaining = jdbcTemplate.queryForList(RELEASE_SQL, Integer.class,
+                Timestamp.valueOf(LocalDateTime.now()), contentHash);
+        if (remaining.isEmpty() || remaining.get(0) > 0) {
+            return false;
+        }
+        jdbcTemplate.update(DELETE_SQL, contentHash);
+        keys.forEach(fileStorageService::deleteFile);
+        return true;
+    }
+
+    /**
+     * 여러 내용 해시의 참조를 한 번에 놓고, 참조가 0이 된 해시의 행을 지웁니다.
+     * 객체 삭제는 호출자가 같은 트랜잭션 안에서 해야 {@link #release}처럼 삭제가 끝날 때까지 행 잠금이 유지됩니다.
+     *
+     * @param counts 내용 해시별로 놓을 참조 수
+     * @return 마지막 참조가 놓여 객체를 지워야 하는 내용 해시
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<String> releaseAll(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return Set.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Set<String> freed = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RELEASE_ALL_SQL);
+            ps.setTimestamp(1, now);
+            ps.setArray(2, connection.createArrayOf("varchar", counts.keySet().toArray()));
+            ps.setArray(3, connection.createArrayOf("integer", counts.values().toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            if (rs.getInt("ref_count") <= 0) {
+                freed.add(rs.getString("content_hash"));
+            }
+        });
+        if (!freed.isEmpty()) {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(DELETE_ALL_SQL);
+                ps.setArray(1, connection.createArrayOf("varchar", freed.toArray()));
+                return ps;
+            });
+        }
+        return freed;
+    }
+
+    public boolean isReferenced(String contentHash) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, contentHash);
+        return count != null && count > 0;
+    }
+
+    private Counter uploads(String result) {
+        return Counter.builder("file.upload.dedup")
+                .description("내용 해시로 기존 객체를 재사용(hit)했는지 여부별 업로드 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
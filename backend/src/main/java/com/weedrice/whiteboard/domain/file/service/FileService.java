@@ -1,31 +1,83 @@
 package com.weedrice.whiteboard.domain.file.service;
 
+import com.weedrice.whiteboard.domain.file.dto.DirectUploadResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileSimpleResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileUploadResponse;
+import com.weedrice.whiteboard.domain.file.dto.FileUploadedEvent;
 import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
 import com.weedrice.whiteboard.domain.file.repository.FileRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.global.common.util.FileStorageService;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
+import com.weedrice.whiteboard.global.storage.BlobMetadata;
+import com.weedrice.whiteboard.global.storage.PresignedUpload;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FileService {
 
+    // 업로더 본인 파일 중 아직 연결되지 않았거나 이미 같은 엔티티에 연결된 파일만 연결
+    private static final String ASSOCIATE_SQL = "UPDATE files SET related_id = ?, related_type = ?, modified_at = ? "
+            + "WHERE file_id = ANY(?::bigint[]) AND uploader_id = ? "
+            + "AND (related_id IS NULL OR (related_id = ? AND related_type = ?)) RETURNING file_id";
+
+    private static final String PENDING_INSERT_SQL = "INSERT INTO pending_uploads "
+            + "(upload_key, uploader_id, original_name, content_type, size, expires_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PENDING_SELECT_SQL = "SELECT original_name, content_type, size FROM pending_uploads "
+            + "WHERE upload_key = ? AND uploader_id = ?";
+
+    private static final String PENDING_LIVE_SQL = "SELECT COUNT(*) FROM pending_uploads "
+            + "WHERE upload_key = ? AND expires_at > ?";
+
+    // 같은 업로드를 동시에 완료해도 행을 지운 한 요청만 파일을 만듦
+    private static final String PENDING_CLAIM_SQL = "DELETE FROM pending_uploads WHERE upload_key = ? AND uploader_id = ?";
+
     private final FileRepository fileRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final org.springframework.transaction.support.TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlobReferenceService blobReferenceService;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${file.upload.max-size-mb:10}")
+    private long maxUploadSizeMb = 10;
+
+    @Value("${file.upload.direct.ttl-seconds:900}")
+    private long directUploadTtlSeconds = 900;
 
     @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
     public FileUploadResponse uploadFile(Long uploaderId, MultipartFile multipartFile) {
@@ -39,82 +91,296 @@ public class FileService {
         return FileSimpleResponse.from(file);
     }
 
-    private File processUpload(Long uploaderId, MultipartFile multipartFile) {
-        // 파일 유효성 검사 (크기, 형식 등)
-        if (multipartFile.isEmpty()) {
+    /**
+     * 요청 본문을 임시 파일/메모리에 모으지 않고 저장소로 바로 흘려보냅니다.
+     * 첫 청크의 시그니처로 형식을 확인하고, 크기 제한은 읽는 중에 적용하며, 내용 해시도 함께 계산합니다.
+     * 해시는 다 받은 뒤에야 알 수 있으므로 새 키로 저장한 뒤, 같은 내용이 이미 있으면 방금 저장한 사본을 지우고 기존 객체를 참조합니다.
+     *
+     * @param contentLength 요청의 Content-Length, 모르면 -1
+     */
+    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
+    public FileUploadResponse uploadStream(Long uploaderId, String originalFilename, long contentLength,
+            InputStream body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if (contentLength > maxUploadBytes()) {
+            // 본문을 읽기 전에 거절
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        validateExtension(originalFilename);
+
+        UploadStream upload = openUpload(body);
+        String mimeType = upload.signature().mimeType();
+        String stagingKey = UUID.randomUUID() + upload.signature().extension();
+        try {
+            fileStorageService.storeFile(stagingKey, upload, -1, mimeType);
+        } catch (RuntimeException e) {
+            // 저장소 쪽에서 감싸 던진 예외라도 원인이 크기 초과면 그대로 알림
+            if (upload.limitExceeded()) {
+                throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+            }
+            throw e;
+        }
+
+        long size = upload.count();
+        File saved = saveShared(uploaderId, originalFilename, size, mimeType, upload.contentHash(), stagingKey, null);
+        recordUpload(sample, "stream", size);
+        return FileUploadResponse.from(saved);
+    }
+
+    /**
+     * 클라이언트가 앱 서버를 거치지 않고 저장소에 직접 올릴 서명된 URL을 발급합니다(직접 업로드 1단계).
+     * 콘텐츠 타입은 확장자로 정해 크기와 함께 서명하며, 업로드 키는 완료 요청까지 pending_uploads에 남겨 둡니다.
+     * 직접 올린 내용은 앱 서버가 읽지 않으므로 내용 해시를 계산하지 않고, 같은 내용의 업로드와 객체를 공유하지 않습니다.
+     */
+    @Transactional
+    public DirectUploadResponse createDirectUpload(Long uploaderId, String originalFilename, long size) {
+        if (size <= 0) {
             throw new BusinessException(ErrorCode.FILE_EMPTY);
         }
-        if (multipartFile.getSize() > 10 * 1024 * 1024) { // 10MB 제한
+        if (size > maxUploadBytes()) {
             throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
         }
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        validateExtension(originalFilename);
+        ImageSignature signature = ImageSignature.fromExtension(getFileExtension(originalFilename));
 
-        // 파일 타입 검증
-        String mimeType = multipartFile.getContentType();
-        String originalFilename = multipartFile.getOriginalFilename();
-        
-        // 허용된 이미지 MIME 타입
-        String[] allowedImageTypes = {
-            "image/jpeg", "image/jpg", "image/png", "image/gif", 
-            "image/webp", "image/svg+xml"
-        };
-        
-        // 이미지 파일인지 확인
-        boolean isImage = false;
-        if (mimeType != null) {
-            for (String allowedType : allowedImageTypes) {
-                if (mimeType.equalsIgnoreCase(allowedType)) {
-                    isImage = true;
-                    break;
-                }
-            }
+        String uploadKey = UUID.randomUUID() + signature.extension();
+        Duration ttl = Duration.ofSeconds(directUploadTtlSeconds);
+        PresignedUpload upload = fileStorageService.presignUpload(uploadKey, signature.mimeType(), size, ttl);
+        if (upload == null) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "직접 업로드를 지원하지 않는 저장소");
         }
-        
-        // 확장자 검증
-        if (originalFilename != null) {
-            String extension = getFileExtension(originalFilename);
-            String[] allowedExtensions = {".jpg", ".jpeg", ".png", ".gif", ".webp", ".svg"};
-            boolean hasValidExtension = false;
-            for (String allowedExt : allowedExtensions) {
-                if (extension.equalsIgnoreCase(allowedExt)) {
-                    hasValidExtension = true;
-                    break;
-                }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(PENDING_INSERT_SQL, uploadKey, uploaderId, originalFilename, signature.mimeType(), size,
+                Timestamp.valueOf(now.plus(ttl)), Timestamp.valueOf(now));
+        return DirectUploadResponse.from(uploadKey, upload);
+    }
+
+    /**
+     * 직접 올린 객체를 확인하고 파일로 등록합니다(직접 업로드 2단계).
+     * 올라온 객체를 서버가 정한 키로 복사(S3는 CopyObject)하고, 내용 전체를 받지 않고 그 사본의 크기(HEAD)와 앞부분 시그니처(Range GET)를
+     * 확인해 파일로 등록한 뒤 업로드 키의 객체는 지웁니다. 검증 뒤 클라이언트가 업로드 키에 다시 올려도 등록된 파일은 바뀌지 않습니다.
+     * 아직 올라오지 않았으면 다시 완료할 수 있게 남겨 두고, 검증에 실패한 객체는 바로 지웁니다.
+     */
+    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
+    public FileUploadResponse completeDirectUpload(Long uploaderId, String uploadKey) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Pending pending = jdbcTemplate.query(PENDING_SELECT_SQL,
+                (rs, rowNum) -> new Pending(rs.getString("original_name"), rs.getString("content_type"),
+                        rs.getLong("size")),
+                uploadKey, uploaderId).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+
+        BlobMetadata uploaded = fileStorageService.statFile(uploadKey);
+        if (uploaded == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "업로드되지 않은 파일: " + uploadKey);
+        }
+        if (uploaded.size() > maxUploadBytes()) {
+            throw rejectDirectUpload(uploaderId, uploadKey, ErrorCode.FILE_TOO_LARGE);
+        }
+        if (uploaded.size() != pending.size()) {
+            throw rejectDirectUpload(uploaderId, uploadKey, ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (uploaded.contentType() != null && !uploaded.contentType().equalsIgnoreCase(pending.contentType())) {
+            throw rejectDirectUpload(uploaderId, uploadKey, ErrorCode.INVALID_FILE_TYPE);
+        }
+
+        // 서명된 URL은 완료 후에도 만료 전까지 다시 쓸 수 있으므로, 서버가 정한 키로 복사한 사본을 검증하고 등록
+        String fileKey = UUID.randomUUID()
+                + ImageSignature.fromExtension(getFileExtension(pending.originalName())).extension();
+        File saved;
+        try {
+            fileStorageService.copyFile(uploadKey, fileKey, uploaded.size(), pending.contentType());
+            BlobMetadata copied = fileStorageService.statFile(fileKey);
+            if (copied == null || copied.size() != pending.size()) {
+                throw rejectDirectUpload(uploaderId, uploadKey, ErrorCode.INVALID_INPUT_VALUE);
             }
-            
-            // 이미지 파일이 아니거나 허용되지 않은 확장자인 경우
-            if (!isImage || !hasValidExtension) {
-                throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+            byte[] head = fileStorageService.readHead(fileKey, ImageSignature.SNIFF_BYTES);
+            ImageSignature signature = ImageSignature.detect(head, head.length);
+            if (signature == null || !signature.mimeType().equals(pending.contentType())) {
+                throw rejectDirectUpload(uploaderId, uploadKey, ErrorCode.INVALID_FILE_TYPE);
             }
-        } else if (!isImage) {
-            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+
+            saved = transactionTemplate.execute(status -> {
+                if (jdbcTemplate.update(PENDING_CLAIM_SQL, uploadKey, uploaderId) == 0) {
+                    // 다른 요청이 먼저 완료했거나, 만료되어 정리됨
+                    throw new BusinessException(ErrorCode.NOT_FOUND);
+                }
+                return saveFile(uploaderId, fileKey, pending.originalName(), copied.size(), signature.mimeType(), null);
+            });
+        } catch (RuntimeException e) {
+            fileStorageService.deleteFile(fileKey);
+            throw e;
         }
+        fileStorageService.deleteFile(uploadKey);
+        recordUpload(sample, "direct", pending.size());
+        return FileUploadResponse.from(saved);
+    }
 
-        String storedFileName = fileStorageService.storeFile(multipartFile);
+    /**
+     * 로컬 저장소의 직접 업로드 수신이 아직 완료하지 않은, 만료 전 업로드 키인지 확인합니다.
+     * 완료했거나 거부된 업로드의 토큰으로는 더 올릴 수 없게 합니다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isDirectUploadPending(String uploadKey) {
+        Integer count = jdbcTemplate.queryForObject(PENDING_LIVE_SQL, Integer.class, uploadKey,
+                Timestamp.valueOf(LocalDateTime.now()));
+        return count != null && count > 0;
+    }
+
+    private BusinessException rejectDirectUpload(Long uploaderId, String uploadKey, ErrorCode errorCode) {
+        log.warn("직접 업로드 거부: uploaderId={}, key={}, error={}", uploaderId, uploadKey, errorCode);
+        if (jdbcTemplate.update(PENDING_CLAIM_SQL, uploadKey, uploaderId) > 0) {
+            fileStorageService.deleteFile(uploadKey);
+        }
+        return new BusinessException(errorCode);
+    }
+
+    private File processUpload(Long uploaderId, MultipartFile multipartFile) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // 파일 유효성 검사 (크기, 형식 등)
+        if (multipartFile.isEmpty()) {
+            throw new BusinessException(ErrorCode.FILE_EMPTY);
+        }
+        if (multipartFile.getSize() > maxUploadBytes()) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+        String originalFilename = multipartFile.getOriginalFilename();
+        validateExtension(originalFilename);
 
+        // 컨테이너가 이미 받아 둔 내용을 한 번 읽어 형식(시그니처)과 해시를 확인
+        UploadStream upload;
+        try (UploadStream in = openUpload(multipartFile.getInputStream())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            upload = in;
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 업로드 실패: " + e.getMessage());
+        }
+        String mimeType = upload.signature().mimeType();
+        long size = upload.count();
+
+        // 같은 내용이 이미 저장돼 있으면 업로드하지 않고 그 객체를 함께 참조
+        String contentHash = upload.contentHash();
+        String uploadKey = UUID.randomUUID() + upload.signature().extension();
+        boolean shared = blobReferenceService.find(contentHash)
+                .map(BlobReferenceService.BlobReference::stored)
+                .orElse(false);
+        if (!shared) {
+            fileStorageService.storeFile(uploadKey, multipartFile, mimeType);
+        }
+        File saved = saveShared(uploaderId, originalFilename, size, mimeType, contentHash, uploadKey,
+                shared ? key -> fileStorageService.storeFile(key, multipartFile, mimeType) : null);
+        recordUpload(sample, "multipart", size);
+        return saved;
+    }
+
+    /**
+     * 내용 해시의 참조를 얻고 파일 행을 같은 트랜잭션에서 기록합니다. 어느 쪽이든 실패하면 함께 롤백되어 참조 수가 남지 않습니다.
+     * 같은 내용의 객체가 이미 있으면 그 키를 함께 쓰고, uploadKey에 올려 둔 사본은 지웁니다.
+     *
+     * @param uploadKey 이 업로드가 만든(또는 만들) 객체의 키. 처음 보는 내용이면 이 키가 파일 경로가 됩니다.
+     * @param store     아직 올리지 않은 내용을 지정한 키로 저장하는 작업. 이미 uploadKey에 올렸으면 null이며,
+     *                  재사용하려던 객체가 그 사이 지워졌을 때만 실행됩니다.
+     */
+    private File saveShared(Long uploaderId, String originalFilename, long size, String mimeType, String contentHash,
+            String uploadKey, Consumer<String> store) {
+        File saved;
         try {
-            return transactionTemplate.execute(status -> {
-                User uploader = userRepository.findById(uploaderId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-                String originalFileName = multipartFile.getOriginalFilename();
-                Long fileSize = multipartFile.getSize();
-                // mimeType은 이미 위에서 선언됨
-
-                File file = File.builder()
-                        .filePath(storedFileName)
-                        .originalName(originalFileName)
-                        .fileSize(fileSize)
-                        .mimeType(mimeType)
-                        .uploader(uploader)
-                        .build();
-
-                return fileRepository.save(file);
+            saved = transactionTemplate.execute(status -> {
+                BlobReferenceService.BlobReference reference = blobReferenceService.acquire(contentHash, uploadKey,
+                        size, mimeType);
+                if (!reference.stored()) {
+                    // 새 내용이거나, 같은 내용을 먼저 올리기 시작한 업로드가 아직 저장을 마치지 못함
+                    if (store != null) {
+                        store.accept(reference.key());
+                    } else if (!reference.key().equals(uploadKey)) {
+                        fileStorageService.copyFile(uploadKey, reference.key(), size, mimeType);
+                    }
+                    blobReferenceService.markStored(contentHash);
+                }
+                return saveFile(uploaderId, reference.key(), originalFilename, size, mimeType, contentHash);
             });
-        } catch (Exception e) {
-            // DB 저장 실패 시 S3 파일 삭제
-            fileStorageService.deleteFile(storedFileName);
+        } catch (RuntimeException e) {
+            // 참조 수 증가는 롤백됐으므로 이 업로드가 만든 사본만 지움
+            fileStorageService.deleteFile(uploadKey);
             throw e;
         }
+        if (store == null && !saved.getFilePath().equals(uploadKey)) {
+            fileStorageService.deleteFile(uploadKey);
+        }
+        return saved;
+    }
+
+    private File saveFile(Long uploaderId, String storedFileName, String originalFileName, long fileSize,
+            String mimeType, String contentHash) {
+        return transactionTemplate.execute(status -> {
+            User uploader = userRepository.findById(uploaderId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+            boolean raster = ImageDerivativeService.isRasterImage(mimeType);
+            File file = File.builder()
+                    .filePath(storedFileName)
+                    .originalName(originalFileName)
+                    .fileSize(fileSize)
+                    .mimeType(mimeType)
+                    .uploader(uploader)
+                    .variantStatus(raster ? ImageVariantStatus.PENDING : ImageVariantStatus.SKIPPED)
+                    .contentHash(contentHash)
+                    .build();
+
+            File saved = fileRepository.save(file);
+            if (raster) {
+                // 커밋과 함께 outbox에 기록되어 파생본(썸네일/중간 크기)을 비동기로 생성
+                eventPublisher.publishEvent(new FileUploadedEvent(saved.getFileId()));
+            }
+            return saved;
+        });
+    }
+
+    private UploadStream openUpload(InputStream body) {
+        try {
+            return UploadStream.open(body, maxUploadBytes());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 업로드 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 원본 파일명의 확장자 검증. 실제 형식은 확장자나 클라이언트가 보낸 Content-Type이 아니라 내용의 시그니처로 정합니다.
+     */
+    private void validateExtension(String originalFilename) {
+        if (originalFilename == null) {
+            return;
+        }
+        String extension = getFileExtension(originalFilename);
+        String[] allowedExtensions = {".jpg", ".jpeg", ".png", ".gif", ".webp", ".svg"};
+        for (String allowedExt : allowedExtensions) {
+            if (extension.equalsIgnoreCase(allowedExt)) {
+                return;
+            }
+        }
+        // 허용되지 않은 확장자인 경우
+        throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+    }
+
+    private long maxUploadBytes() {
+        return maxUploadSizeMb * 1024 * 1024;
+    }
+
+    private void recordUpload(Timer.Sample sample, String path, long size) {
+        sample.stop(meterRegistry.timer("file.upload.duration", "path", path));
+        DistributionSummary.builder("file.upload.size")
+                .description("업로드 경로별 파일 크기")
+                .baseUnit("bytes")
+                .tag("path", path)
+                .register(meterRegistry)
+                .record(size);
     }
 
     /**
@@ -139,16 +405,34 @@ public class FileService {
         fileRepository.save(file);
     }
 
+    /**
+     * 업로더가 올린 파일 여러 개를 한 문장으로 엔티티에 연결합니다.
+     * 없는 파일, 다른 사용자가 올린 파일, 이미 다른 엔티티에 연결된 파일은 연결하지 않습니다.
+     *
+     * @return 연결된 파일 ID
+     */
     @Transactional
-    public void cleanUpTemporaryFiles() {
-        // 24시간이 지난 미연결 임시 파일 삭제
-        LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
-        List<File> temporaryFiles = fileRepository.findByRelatedIdIsNullAndCreatedAtBefore(twentyFourHoursAgo);
-
-        for (File file : temporaryFiles) {
-            fileStorageService.deleteFile(file.getFilePath()); // 실제 파일 삭제
-            fileRepository.delete(file); // DB 레코드 삭제
+    public List<Long> associateFiles(Collection<Long> fileIds, Long uploaderId, Long relatedId, String relatedType) {
+        Set<Long> requested = new LinkedHashSet<>(fileIds);
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+        List<Long> accepted = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ASSOCIATE_SQL);
+            ps.setLong(1, relatedId);
+            ps.setString(2, relatedType);
+            ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setArray(4, connection.createArrayOf("bigint", requested.toArray()));
+            ps.setLong(5, uploaderId);
+            ps.setLong(6, relatedId);
+            ps.setString(7, relatedType);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("file_id"));
+        if (accepted.size() < requested.size()) {
+            log.warn("파일 연결 거부: uploaderId={}, related={}:{}, requested={}, accepted={}", uploaderId,
+                    relatedType, relatedId, requested, accepted);
         }
+        return accepted;
     }
 
     public File getFile(Long fileId) {
@@ -164,14 +448,16 @@ public class FileService {
         return fileRepository.findByRelatedIdInAndRelatedType(relatedIds, relatedType);
     }
 
-    public List<Long> getRelatedIdsWithImages(List<Long> relatedIds, String relatedType) {
-        return fileRepository.findRelatedIdsWithImages(relatedIds, relatedType);
-    }
-
+    /**
+     * 게시글 본문에 연결된 첫 이미지 파일(목록 썸네일)을 조회합니다.
+     */
     public Long getOneImageFileIdForPost(Long postId) {
         return fileRepository
-                .findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWith(postId, "POST_CONTENT", "image/")
+                .findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWithOrderByFileIdAsc(postId, "POST_CONTENT", "image/")
                 .map(File::getFileId)
                 .orElse(null);
     }
+
+    private record Pending(String originalName, String contentType, long size) {
+    }
 }
@@ -0,0 +1,95 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weedrice.whiteboard.domain.file.dto.FileUploadedEvent;
+import com.weedrice.whiteboard.global.outbox.OutboxConsumer;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 이미지 업로드 outbox 이벤트로 파생본을 만듭니다. 받은 묶음을 {@code file.image.workers}개 스레드에 나눠 처리하고
+ * 모두 끝날 때까지 기다리므로, 동시에 디코딩하는 이미지 수(메모리)는 워커 수로 제한됩니다.
+ * 하나라도 저장소 오류로 실패하면 묶음 전체가 다시 전달되며, 처리는 멱등합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeConsumer implements OutboxConsumer {
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${file.image.workers:2}")
+    private int workers = 2;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(workers,
+                Thread.ofPlatform().name("image-derivative-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "image-derivatives";
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(FileUploadedEvent.EVENT_TYPE);
+    }
+
+    @Override
+    public void consume(List<OutboxMessage> messages) {
+        List<Future<?>> tasks = new ArrayList<>(messages.size());
+        messages.stream().map(this::read).map(FileUploadedEvent::getFileId).distinct()
+                .forEach(fileId -> tasks.add(executor.submit(() -> imageDerivativeService.process(fileId))));
+
+        RuntimeException failure = null;
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtime ? runtime
+                            : new IllegalStateException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("이미지 파생본 처리 중단", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private FileUploadedEvent read(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.payload(), FileUploadedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("파일 업로드 이벤트를 읽을 수 없음: outboxId=" + message.outboxId(), e);
+        }
+    }
+}
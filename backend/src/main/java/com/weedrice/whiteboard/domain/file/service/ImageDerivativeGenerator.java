@@ -0,0 +1,235 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 원본 이미지에서 썸네일/중간 크기 파생본을 만듭니다.
+ * <p>
+ * 디코딩은 목표 크기의 두 배 이상이 되지 않도록 서브샘플링해 큰 원본도 작업당 메모리가 일정하게 유지되며,
+ * {@code max-source-pixels}를 넘는 원본은 처리하지 않습니다. EXIF 방향을 픽셀에 반영한 뒤 메타데이터 없이 다시 인코딩하므로
+ * 파생본에는 위치 정보 등 EXIF가 남지 않습니다. 투명도가 없으면 JPEG, 있으면 PNG로 저장합니다.
+ */
+@Component
+public class ImageDerivativeGenerator {
+
+    @Value("${file.image.thumbnail-px:320}")
+    private int thumbnailPx = 320;
+
+    @Value("${file.image.medium-px:1280}")
+    private int mediumPx = 1280;
+
+    @Value("${file.image.jpeg-quality:0.82}")
+    private float jpegQuality = 0.82f;
+
+    @Value("${file.image.max-source-pixels:100000000}")
+    private long maxSourcePixels = 100_000_000L;
+
+    /**
+     * @param mimeType 파생본 MIME 타입(image/jpeg 또는 image/png)
+     * @param medium   애니메이션 GIF처럼 원본을 그대로 써야 하면 null
+     */
+    public record Derivatives(String mimeType, String extension, Derived thumbnail, Derived medium) {
+    }
+
+    public record Derived(byte[] bytes, int width, int height) {
+    }
+
+    /**
+     * 파생본을 만듭니다. 디코더가 없는 형식이거나 허용 픽셀 수를 넘으면 null을 반환합니다.
+     *
+     * @throws IOException 원본을 읽지 못했거나 손상된 경우
+     */
+    public Derivatives generate(InputStream source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    return null;
+                }
+                boolean gif = "gif".equalsIgnoreCase(reader.getFormatName());
+                int orientation = exifOrientation(reader.getImageMetadata(0));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (mediumPx * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = orient(reader.read(0, param), orientation);
+
+                boolean alpha = decoded.getColorModel().hasAlpha();
+                int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+                BufferedImage mediumImage = scale(decoded, mediumPx, type);
+                BufferedImage thumbnailImage = scale(mediumImage, thumbnailPx, type);
+                return new Derivatives(alpha ? "image/png" : "image/jpeg", alpha ? "png" : "jpg",
+                        encode(thumbnailImage, alpha),
+                        gif ? null : encode(mediumImage, alpha));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 줄입니다(확대하지 않음). 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄입니다.
+     */
+    static BufferedImage scale(BufferedImage source, int maxEdge, int type) {
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * EXIF 방향(1~8)대로 픽셀을 회전/반전합니다.
+     */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private byte[] encode(BufferedImage image, boolean png) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(png ? "png" : "jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!png) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            // 메타데이터 없이 기록해 원본의 EXIF/ICC/XMP를 남기지 않음
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 방향 태그(0x0112)를 읽습니다. 없거나 해석할 수 없으면 1(정방향)입니다.
+     */
+    static int exifOrientation(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node root = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!"markerSequence".equals(node.getNodeName())) {
+                continue;
+            }
+            for (Node marker = node.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode unknown && "unknown".equals(marker.getNodeName())
+                        && "225".equals(unknown.getAttribute("MarkerTag"))
+                        && unknown.getUserObject() instanceof byte[] app1) {
+                    return exifOrientation(app1);
+                }
+            }
+        }
+        return 1;
+    }
+
+    static int exifOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return 1;
+        }
+        int tiff = 6;
+        boolean little = app1[tiff] == 'I';
+        long ifd = tiff + readInt(app1, tiff + 4, little);
+        if (ifd < 0 || ifd + 2 > app1.length) {
+            return 1;
+        }
+        int entries = readShort(app1, (int) ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > app1.length) {
+                break;
+            }
+            if (readShort(app1, entry, little) == 0x0112) {
+                int orientation = readShort(app1, entry + 8, little);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean little) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return little ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static long readInt(byte[] data, int offset, boolean little) {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = data[offset + (little ? 3 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,130 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
+import com.weedrice.whiteboard.domain.file.repository.FileRepository;
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 업로드된 이미지의 썸네일/중간 크기 파생본을 만들어 원본 옆(같은 키 + 접미사)에 저장하고 {@link File}에 기록합니다.
+ * <p>
+ * 파생본 키는 원본 키에서 정해지므로 같은 파일을 다시 처리해도 같은 객체를 덮어쓸 뿐입니다(재전달 시 멱등).
+ * 내용 해시가 같은 파일은 원본 객체를 공유하므로, 이미 만든 파생본이 있으면 그대로 기록합니다.
+ * 손상되거나 읽을 수 없는 이미지는 FAILED, 형식상 만들지 않는 파일은 SKIPPED로 남기고 원본을 그대로 씁니다.
+ * 저장소 오류는 예외로 던져 outbox가 다시 전달하게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    static final String THUMBNAIL_SUFFIX = "_thumb";
+    static final String MEDIUM_SUFFIX = "_medium";
+
+    private final FileRepository fileRepository;
+    private final FileStorageService fileStorageService;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobReferenceService blobReferenceService;
+
+    /**
+     * @return 처리 결과 상태. 파일이 이미 정리됐으면 null
+     */
+    public ImageVariantStatus process(Long fileId) {
+        File file = fileRepository.findById(fileId).orElse(null);
+        if (file == null) {
+            return null;
+        }
+        if (!isRasterImage(file.getMimeType())) {
+            record(fileId, ImageVariantStatus.SKIPPED, null, null, null);
+            return ImageVariantStatus.SKIPPED;
+        }
+        if (file.getContentHash() != null) {
+            // 같은 내용(같은 저장소 객체)의 파생본이 이미 있으면 디코딩 없이 함께 참조
+            File sibling = fileRepository.findFirstByContentHashAndVariantStatusAndFileIdNot(file.getContentHash(),
+                    ImageVariantStatus.READY, fileId).orElse(null);
+            if (sibling != null) {
+                return record(fileId, ImageVariantStatus.READY, sibling.getVariantMimeType(),
+                        sibling.getThumbnailPath(), sibling.getThumbnailSize(),
+                        sibling.getMediumPath(), sibling.getMediumSize()) ? ImageVariantStatus.READY : null;
+            }
+        }
+
+        ImageDerivativeGenerator.Derivatives derivatives;
+        try (InputStream source = fileStorageService.loadFile(file.getFilePath())) {
+            derivatives = imageDerivativeGenerator.generate(source);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() != ErrorCode.NOT_FOUND) {
+                throw e;
+            }
+            log.warn("파생본 생성 실패, 원본 없음: fileId={}, path={}", fileId, file.getFilePath());
+            record(fileId, ImageVariantStatus.FAILED, null, null, null);
+            return ImageVariantStatus.FAILED;
+        } catch (IIOException | IllegalArgumentException e) {
+            log.warn("파생본 생성 실패, 이미지 디코딩 불가: fileId={}, cause={}", fileId, e.getMessage());
+            record(fileId, ImageVariantStatus.FAILED, null, null, null);
+            return ImageVariantStatus.FAILED;
+        } catch (IOException e) {
+            throw new UncheckedIOException("원본 읽기 실패: fileId=" + fileId, e);
+        }
+        if (derivatives == null) {
+            record(fileId, ImageVariantStatus.SKIPPED, null, null, null);
+            return ImageVariantStatus.SKIPPED;
+        }
+
+        String base = baseName(file.getFilePath());
+        String thumbnailPath = base + THUMBNAIL_SUFFIX + "." + derivatives.extension();
+        fileStorageService.storeFile(thumbnailPath, derivatives.thumbnail().bytes(), derivatives.mimeType());
+        String mediumPath = null;
+        if (derivatives.medium() != null) {
+            mediumPath = base + MEDIUM_SUFFIX + "." + derivatives.extension();
+            fileStorageService.storeFile(mediumPath, derivatives.medium().bytes(), derivatives.mimeType());
+        }
+        if (!record(fileId, ImageVariantStatus.READY, derivatives, thumbnailPath, mediumPath)) {
+            // 처리 중 파일이 정리된 경우 방금 저장한 파생본도 지움. 같은 객체를 참조하는 파일이 남아 있으면 그 파일이 씀
+            if (file.getContentHash() != null && blobReferenceService.isReferenced(file.getContentHash())) {
+                return null;
+            }
+            fileStorageService.deleteFile(thumbnailPath);
+            if (mediumPath != null) {
+                fileStorageService.deleteFile(mediumPath);
+            }
+            return null;
+        }
+        return ImageVariantStatus.READY;
+    }
+
+    private boolean record(Long fileId, ImageVariantStatus status, ImageDerivativeGenerator.Derivatives derivatives,
+            String thumbnailPath, String mediumPath) {
+        return record(fileId, status, derivatives != null ? derivatives.mimeType() : null,
+                thumbnailPath, derivatives != null ? (long) derivatives.thumbnail().bytes().length : null,
+                mediumPath, mediumPath != null ? (long) derivatives.medium().bytes().length : null);
+    }
+
+    private boolean record(Long fileId, ImageVariantStatus status, String mimeType,
+            String thumbnailPath, Long thumbnailSize, String mediumPath, Long mediumSize) {
+        Integer updated = transactionTemplate.execute(tx -> fileRepository.updateVariants(fileId, status, mimeType,
+                thumbnailPath, thumbnailSize, mediumPath, mediumSize));
+        return updated != null && updated > 0;
+    }
+
+    static boolean isRasterImage(String mimeType) {
+        return mimeType != null && mimeType.startsWith("image/") && !mimeType.equalsIgnoreCase("image/svg+xml");
+    }
+
+    private static String baseName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > 0 ? path.substring(0, dot) : path;
+    }
+}
@@ -0,0 +1,142 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업로드를 허용하는 이미지 형식과 파일 앞부분의 시그니처(magic bytes).
+ * <p>
+ * 클라이언트가 보낸 Content-Type 대신 첫 청크로 형식을 정하고, 저장 MIME 타입과 확장자도 여기서 정합니다.
+ */
+public enum ImageSignature {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    GIF("image/gif", ".gif"),
+    WEBP("image/webp", ".webp"),
+    SVG("image/svg+xml", ".svg");
+
+    /** 형식 판별에 읽는 앞부분 크기. SVG는 XML 선언/주석 뒤의 루트 요소까지 봐야 해서 넉넉히 잡음 */
+    public static final int SNIFF_BYTES = 1024;
+
+    private static final byte[] PNG_MAGIC = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    private final String mimeType;
+    private final String extension;
+
+    ImageSignature(String mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    public String mimeType() {
+        return mimeType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @return 허용하는 형식이 아니면 null
+     */
+    public static ImageSignature detect(byte[] head, int length) {
+        if (length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (startsWith(head, length, 0, PNG_MAGIC)) {
+            return PNG;
+        }
+        if (startsWith(head, length, 0, ascii("GIF87a")) || startsWith(head, length, 0, ascii("GIF89a"))) {
+            return GIF;
+        }
+        if (startsWith(head, length, 0, ascii("RIFF")) && startsWith(head, length, 8, ascii("WEBP"))) {
+            return WEBP;
+        }
+        return isSvg(head, length) ? SVG : null;
+    }
+
+    /**
+     * 파일 확장자(점 포함)에 해당하는 형식. 직접 업로드처럼 내용을 받기 전에 콘텐츠 타입을 정할 때 쓰며, 받은 뒤에는 {@link #detect}로 다시 확인합니다.
+     *
+     * @return 허용하는 확장자가 아니면 null
+     */
+    public static ImageSignature fromExtension(String extension) {
+        if (".jpeg".equalsIgnoreCase(extension)) {
+            return JPEG;
+        }
+        for (ImageSignature signature : values()) {
+            if (signature.extension.equalsIgnoreCase(extension)) {
+                return signature;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 루트 요소가 svg인지 확인합니다. 루트 앞에는 공백, XML 선언/처리 명령, 주석, DOCTYPE만 올 수 있으며,
+     * 다른 요소(예: html) 안에 svg가 들어 있는 문서는 거절합니다.
+     */
+    private static boolean isSvg(byte[] head, int length) {
+        String text = new String(head, 0, length, StandardCharsets.UTF_8);
+        int i = text.startsWith("\uFEFF") ? 1 : 0;
+        while (i >= 0) {
+            i = skipWhitespace(text, i);
+            if (text.startsWith("<?", i)) {
+                i = indexAfter(text, "?>", i + 2);
+            } else if (text.startsWith("<!--", i)) {
+                i = indexAfter(text, "-->", i + 4);
+            } else if (text.startsWith("<!DOCTYPE", i)) {
+                i = skipDoctype(text, i + 9);
+            } else {
+                break;
+            }
+        }
+        // 앞부분이 잘려 루트 요소 이름이 끝나는 곳까지 보이지 않으면 판별하지 않음
+        return i >= 0 && text.startsWith("<svg", i) && i + 4 < text.length() && isNameEnd(text.charAt(i + 4));
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /** DOCTYPE 끝 다음 위치. 내부 부분집합([...]) 안의 '>'는 건너뜁니다. */
+    private static int skipDoctype(String text, int from) {
+        int close = text.indexOf('>', from);
+        int subset = text.indexOf('[', from);
+        if (subset >= 0 && (close < 0 || subset < close)) {
+            int subsetEnd = text.indexOf(']', subset);
+            return subsetEnd < 0 ? -1 : indexAfter(text, ">", subsetEnd);
+        }
+        return close < 0 ? -1 : close + 1;
+    }
+
+    /** from 이후 token이 끝나는 다음 위치, 없으면 -1 */
+    private static int indexAfter(String text, String token, int from) {
+        int index = text.indexOf(token, from);
+        return index < 0 ? -1 : index + token.length();
+    }
+
+    private static boolean isNameEnd(char c) {
+        return Character.isWhitespace(c) || c == '>' || c == '/';
+    }
+
+    private static boolean startsWith(byte[] head, int length, int offset, byte[] prefix) {
+        if (length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (head[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
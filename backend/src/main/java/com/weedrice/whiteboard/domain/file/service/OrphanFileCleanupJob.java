@@ -0,0 +1,295 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.domain.file.entity.FileCleanupCheckpoint;
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 일정 시간(retention-hours)이 지나도 게시글/댓글 등에 연결되지 않은 업로드 파일을 정리합니다.
+ * <p>
+ * file_id 순서의 keyset 페이지로 batch-size개씩 읽고 한 묶음을 한 트랜잭션에서 처리합니다. files 행을 한 번에 지우고,
+ * 내용 해시별 참조 수를 한 번에 줄인 뒤, 더는 참조되지 않는 객체를 저장소 다건 삭제(S3 DeleteObjects)로 지우고 진행 위치를 기록합니다.
+ * 저장소 삭제가 실패하면 묶음 전체를 되돌려 다음 실행에서 다시 시도합니다. 커밋 직전에 객체를 지우므로 커밋이 실패하면
+ * 객체 없는 미연결 행이 남을 수 있지만, 그 행은 다음 실행에서 다시 정리됩니다.
+ * <p>
+ * 진행 위치와 회차 기준 시각(cutoff)은 {@link FileCleanupCheckpoint}에 남아 중간에 멈춘 작업은 다음 실행에서 이어서 처리하고,
+ * 그 행의 임대(lease)를 가진 노드만 실행하므로 여러 노드가 같은 스케줄로 떠 있어도 한 노드만 정리합니다.
+ * 묶음 사이에는 throttle-ms만큼 쉬어 DB와 저장소 부하를 나눕니다. dry-run이면 삭제 없이 정리 대상 보고서만 남깁니다.
+ * <p>
+ * 파일을 다 정리한 뒤에는 만료 후 같은 보존 기간이 지나도록 완료하지 않은 직접 업로드({@code pending_uploads})와
+ * 그 사이 올라간 객체도 batch-size개씩 지웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrphanFileCleanupJob {
+
+    static final String JOB_NAME = "orphan-files";
+
+    private static final String REGISTER_SQL = "INSERT INTO file_cleanup_checkpoints "
+            + "(job_name, last_file_id, modified_at) VALUES (?, 0, ?) ON CONFLICT (job_name) DO NOTHING";
+
+    private static final String LEASE_SQL = "UPDATE file_cleanup_checkpoints SET locked_by = ?, locked_until = ? "
+            + "WHERE job_name = ? AND (locked_by IS NULL OR locked_by = ? OR locked_until < ?)";
+
+    private static final String CHECKPOINT_SQL = "SELECT last_file_id, cutoff FROM file_cleanup_checkpoints "
+            + "WHERE job_name = ?";
+
+    private static final String START_SQL = "UPDATE file_cleanup_checkpoints SET last_file_id = 0, cutoff = ?, "
+            + "modified_at = ? WHERE job_name = ? AND locked_by = ?";
+
+    private static final String PAGE_SQL = "SELECT file_id FROM files "
+            + "WHERE related_id IS NULL AND created_at < ? AND file_id > ? ORDER BY file_id LIMIT ?";
+
+    // 페이지를 읽은 뒤 연결된 파일은 지우지 않음
+    private static final String DELETE_SQL = "DELETE FROM files WHERE file_id = ANY(?::bigint[]) AND related_id IS NULL "
+            + "RETURNING file_path, thumbnail_path, medium_path, content_hash";
+
+    private static final String ADVANCE_SQL = "UPDATE file_cleanup_checkpoints SET last_file_id = ?, locked_until = ?, "
+            + "modified_at = ? WHERE job_name = ? AND locked_by = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE file_cleanup_checkpoints SET last_file_id = 0, cutoff = NULL, "
+            + "last_completed_at = ?, locked_by = NULL, locked_until = NULL, modified_at = ? "
+            + "WHERE job_name = ? AND locked_by = ?";
+
+    private static final String EXPIRED_UPLOADS_SQL = "DELETE FROM pending_uploads WHERE upload_key IN "
+            + "(SELECT upload_key FROM pending_uploads WHERE expires_at < ? ORDER BY expires_at LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED) RETURNING upload_key";
+
+    private static final String RELEASE_SQL = "UPDATE file_cleanup_checkpoints SET locked_by = NULL, locked_until = NULL "
+            + "WHERE job_name = ? AND locked_by = ?";
+
+    private static final String REPORT_FILES_SQL = "SELECT COUNT(*) AS files, COALESCE(SUM(file_size), 0) AS file_bytes, "
+            + "COUNT(*) FILTER (WHERE content_hash IS NULL) AS legacy_files, "
+            + "COALESCE(SUM(file_size) FILTER (WHERE content_hash IS NULL), 0) AS legacy_bytes "
+            + "FROM files WHERE related_id IS NULL AND created_at < ?";
+
+    // 정리 대상이 모든 참조인 내용 해시만 객체가 삭제됨
+    private static final String REPORT_BLOBS_SQL = "SELECT COUNT(*) AS blobs, COALESCE(SUM(b.size), 0) AS blob_bytes "
+            + "FROM stored_blobs b JOIN (SELECT content_hash, COUNT(*) AS n FROM files "
+            + "WHERE related_id IS NULL AND created_at < ? AND content_hash IS NOT NULL GROUP BY content_hash) o "
+            + "ON o.content_hash = b.content_hash WHERE b.ref_count <= o.n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FileStorageService fileStorageService;
+    private final BlobReferenceService blobReferenceService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.cleanup.retention-hours:24}")
+    private long retentionHours = 24;
+
+    @Value("${file.cleanup.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${file.cleanup.throttle-ms:200}")
+    private long throttleMs = 200;
+
+    @Value("${file.cleanup.lease-seconds:300}")
+    private long leaseSeconds = 300;
+
+    @Value("${file.cleanup.dry-run:false}")
+    private boolean dryRun = false;
+
+    private final String workerId = "file-cleanup-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * @param files         정리 대상 파일 수
+     * @param fileBytes     정리 대상 파일의 원본 크기 합
+     * @param legacyFiles   내용 해시 없이 저장된(공유하지 않는) 파일 수
+     * @param freedObjects  삭제될 원본 객체 수(공유 객체는 마지막 참조일 때만)
+     * @param freedBytes    삭제될 원본 객체 크기 합, 파생본 제외
+     * @param chunks        처리할 묶음 수
+     */
+    public record Report(long files, long fileBytes, long legacyFiles, long freedObjects, long freedBytes, long chunks) {
+    }
+
+    /**
+     * 이전 회차가 남아 있으면 이어서, 없으면 새 회차를 시작해 끝까지 정리합니다. dry-run이면 보고서만 남깁니다.
+     *
+     * @return 이번 실행에서 지운 파일 수. 다른 노드가 실행 중이면 0
+     */
+    public long run() {
+        if (dryRun) {
+            report();
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(REGISTER_SQL, JOB_NAME, Timestamp.valueOf(now));
+        if (jdbcTemplate.update(LEASE_SQL, workerId, Timestamp.valueOf(now.plusSeconds(leaseSeconds)), JOB_NAME,
+                workerId, Timestamp.valueOf(now)) == 0) {
+            log.info("미연결 파일 정리 건너뜀, 다른 노드가 실행 중");
+            return 0;
+        }
+
+        Checkpoint checkpoint = jdbcTemplate.queryForObject(CHECKPOINT_SQL, (rs, rowNum) -> {
+            Timestamp cutoff = rs.getTimestamp("cutoff");
+            return new Checkpoint(rs.getLong("last_file_id"), cutoff != null ? cutoff.toLocalDateTime() : null);
+        }, JOB_NAME);
+        long lastFileId = checkpoint.lastFileId();
+        LocalDateTime cutoff = checkpoint.cutoff();
+        if (cutoff == null) {
+            cutoff = now.minusHours(retentionHours);
+            lastFileId = 0;
+            jdbcTemplate.update(START_SQL, Timestamp.valueOf(cutoff), Timestamp.valueOf(now), JOB_NAME, workerId);
+        } else {
+            log.info("미연결 파일 정리 이어서 진행: lastFileId={}, cutoff={}", lastFileId, cutoff);
+        }
+
+        long deleted = 0;
+        try {
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(PAGE_SQL, Long.class, Timestamp.valueOf(cutoff), lastFileId,
+                        batchSize);
+                if (ids.isEmpty()) {
+                    long uploads = deleteExpiredUploads(cutoff);
+                    LocalDateTime completedAt = LocalDateTime.now();
+                    jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(completedAt), Timestamp.valueOf(completedAt),
+                            JOB_NAME, workerId);
+                    log.info("미연결 파일 정리 완료: files={}, uploads={}, cutoff={}", deleted, uploads, cutoff);
+                    return deleted;
+                }
+                long nextFileId = ids.get(ids.size() - 1);
+                Integer chunk = transactionTemplate.execute(status -> deleteChunk(ids, nextFileId));
+                deleted += chunk != null ? chunk : 0;
+                lastFileId = nextFileId;
+                if (ids.size() == batchSize && throttleMs > 0) {
+                    Thread.sleep(throttleMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("미연결 파일 정리 중단, 다음 실행에서 이어서 진행: lastFileId={}", lastFileId);
+        } catch (RuntimeException e) {
+            log.warn("미연결 파일 정리 실패, 다음 실행에서 이어서 진행: lastFileId={}, cause={}", lastFileId, e.getMessage());
+        }
+        releaseLease();
+        return deleted;
+    }
+
+    /**
+     * 현재 기준으로 정리될 파일과 저장소 객체를 집계해 로그로 남깁니다. 아무것도 지우지 않으며 임대도 잡지 않습니다.
+     */
+    public Report report() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+        Report report = jdbcTemplate.queryForObject(REPORT_FILES_SQL, (rs, rowNum) -> {
+            long files = rs.getLong("files");
+            return new Report(files, rs.getLong("file_bytes"), rs.getLong("legacy_files"), rs.getLong("legacy_files"),
+                    rs.getLong("legacy_bytes"), (files + batchSize - 1) / batchSize);
+        }, cutoff);
+        // 해시 없는 파일은 객체를 공유하지 않으므로 그대로 삭제되고, 해시가 있는 객체는 마지막 참조일 때만 삭제됨
+        Report files = report;
+        report = jdbcTemplate.queryForObject(REPORT_BLOBS_SQL, (rs, rowNum) -> new Report(files.files(),
+                files.fileBytes(), files.legacyFiles(), files.freedObjects() + rs.getLong("blobs"),
+                files.freedBytes() + rs.getLong("blob_bytes"), files.chunks()), cutoff);
+        log.info("미연결 파일 정리 dry-run: files={}, fileBytes={}, legacyFiles={}, freedObjects={}, freedBytes={}, chunks={}",
+                report.files(), report.fileBytes(), report.legacyFiles(), report.freedObjects(), report.freedBytes(),
+                report.chunks());
+        return report;
+    }
+
+    /**
+     * 한 묶음의 파일 행을 지우고, 참조가 끝난 객체를 저장소에서 삭제한 뒤 진행 위치를 옮기며 임대를 연장합니다.
+     * 임대를 잃었으면 예외로 묶음 전체를 되돌립니다.
+     */
+    private int deleteChunk(List<Long> ids, long nextFileId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Set<String> keys = new LinkedHashSet<>();
+        Map<String, Integer> references = new HashMap<>();
+        Map<String, Set<String>> keysByHash = new HashMap<>();
+        int[] files = { 0 };
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            files[0]++;
+            String contentHash = rs.getString("content_hash");
+            Set<String> fileKeys = contentHash != null
+                    ? keysByHash.computeIfAbsent(contentHash, hash -> new LinkedHashSet<>())
+                    : keys;
+            fileKeys.add(rs.getString("file_path"));
+            addIfPresent(fileKeys, rs.getString("thumbnail_path"));
+            addIfPresent(fileKeys, rs.getString("medium_path"));
+            if (contentHash != null) {
+                references.merge(contentHash, 1, Integer::sum);
+            }
+        });
+        // 같은 내용을 참조하는 다른 파일이 남아 있는 객체는 유지
+        for (String contentHash : blobReferenceService.releaseAll(references)) {
+            keys.addAll(keysByHash.get(contentHash));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(ADVANCE_SQL, nextFileId, Timestamp.valueOf(now.plusSeconds(leaseSeconds)),
+                Timestamp.valueOf(now), JOB_NAME, workerId) == 0) {
+            throw new IllegalStateException("정리 작업 임대를 잃음: worker=" + workerId);
+        }
+        fileStorageService.deleteFiles(keys);
+
+        meterRegistry.counter("file.cleanup.files").increment(files[0]);
+        meterRegistry.counter("file.cleanup.objects").increment(keys.size());
+        sample.stop(meterRegistry.timer("file.cleanup.chunk.duration"));
+        return files[0];
+    }
+
+    /**
+     * cutoff 전에 만료된 직접 업로드 행을 지우고, 그 사이 올라간 객체를 같은 트랜잭션 안에서 삭제합니다.
+     *
+     * @return 지운 업로드 수
+     */
+    private long deleteExpiredUploads(LocalDateTime cutoff) {
+        long deleted = 0;
+        while (true) {
+            List<String> keys = transactionTemplate.execute(status -> {
+                List<String> expired = jdbcTemplate.queryForList(EXPIRED_UPLOADS_SQL, String.class,
+                        Timestamp.valueOf(cutoff), batchSize);
+                if (!expired.isEmpty()) {
+                    fileStorageService.deleteFiles(expired);
+                }
+                return expired;
+            });
+            int count = keys != null ? keys.size() : 0;
+            meterRegistry.counter("file.cleanup.uploads").increment(count);
+            deleted += count;
+            if (count < batchSize) {
+                return deleted;
+            }
+        }
+    }
+
+    private void releaseLease() {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, JOB_NAME, workerId);
+        } catch (RuntimeException e) {
+            log.warn("미연결 파일 정리 임대 반납 실패: cause={}", e.getMessage());
+        }
+    }
+
+    private static void addIfPresent(Set<String> keys, String key) {
+        if (key != null) {
+            keys.add(key);
+        }
+    }
+
+    private record Checkpoint(long lastFileId, LocalDateTime cutoff) {
+    }
+}
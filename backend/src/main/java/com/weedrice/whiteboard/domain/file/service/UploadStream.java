@@ -0,0 +1,119 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 본문을 저장소로 흘려보내며 한 번만 읽는 동안 검증하는 스트림.
+ * <p>
+ * 첫 청크의 시그니처로 형식을 정하고({@link ImageSignature}), 읽은 바이트 수가 한도를 넘는 순간 FILE_TOO_LARGE로 중단하며,
+ * 읽은 내용의 SHA-256을 함께 계산합니다. 저장소 SDK가 예외를 감싸 던지더라도 {@link #limitExceeded()}로 원인을 알 수 있습니다.
+ */
+class UploadStream extends FilterInputStream {
+
+    private final ImageSignature signature;
+    private final long maxBytes;
+    private final MessageDigest digest;
+    private long count;
+    private boolean limitExceeded;
+
+    private UploadStream(InputStream in, ImageSignature signature, long maxBytes) {
+        super(in);
+        this.signature = signature;
+        this.maxBytes = maxBytes;
+        this.digest = sha256();
+    }
+
+    /**
+     * 앞부분을 읽어 형식을 확인한 뒤, 처음부터 다시 읽는 스트림을 반환합니다.
+     *
+     * @throws BusinessException 내용이 없으면 FILE_EMPTY, 허용하지 않는 형식이면 INVALID_FILE_TYPE
+     */
+    static UploadStream open(InputStream body, long maxBytes) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(body, ImageSignature.SNIFF_BYTES);
+        buffered.mark(ImageSignature.SNIFF_BYTES);
+        byte[] head = buffered.readNBytes(ImageSignature.SNIFF_BYTES);
+        buffered.reset();
+        if (head.length == 0) {
+            throw new BusinessException(ErrorCode.FILE_EMPTY);
+        }
+        ImageSignature signature = ImageSignature.detect(head, head.length);
+        if (signature == null) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        return new UploadStream(buffered, signature, maxBytes);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            digest.update((byte) b);
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            digest.update(b, off, read);
+            advance(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) {
+        // 건너뛴 내용은 해시에 반영되지 않으므로 허용하지 않음
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void advance(int read) {
+        count += read;
+        if (count > maxBytes) {
+            limitExceeded = true;
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE);
+        }
+    }
+
+    ImageSignature signature() {
+        return signature;
+    }
+
+    /** 지금까지 읽은 바이트 수. 끝까지 읽은 뒤에는 전체 크기 */
+    long count() {
+        return count;
+    }
+
+    boolean limitExceeded() {
+        return limitExceeded;
+    }
+
+    /** 지금까지 읽은 내용의 SHA-256(소문자 16진수). 끝까지 읽은 뒤 한 번만 호출합니다. */
+    String contentHash() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+}
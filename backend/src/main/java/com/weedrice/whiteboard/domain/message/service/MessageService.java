@@ -3,6 +3,7 @@ package com.weedrice.whiteboard.domain.message.service;
 import com.weedrice.whiteboard.domain.message.dto.MessageResponse;
 import com.weedrice.whiteboard.domain.message.entity.Message;
 import com.weedrice.whiteboard.domain.message.repository.MessageRepository;
+import com.weedrice.whiteboard.domain.notification.service.UnreadCountService;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.domain.user.service.UserBlockService;
@@ -24,6 +25,7 @@ public class MessageService {
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
     private final UserBlockService userBlockService;
+    private final UnreadCountService unreadCountService;
 
     @Transactional
     public Message sendMessage(Long senderId, Long receiverId, String content) {
@@ -47,7 +49,9 @@ public class MessageService {
                 .receiver(receiver)
                 .content(content)
                 .build();
-        return messageRepository.save(message);
+        Message savedMessage = messageRepository.save(message);
+        unreadCountService.adjust(UnreadCountService.Type.MESSAGE, receiverId, 1);
+        return savedMessage;
     }
 
     public MessageResponse getReceivedMessages(Long userId, Pageable pageable) {
@@ -86,8 +90,9 @@ public class MessageService {
         }
 
         // 수신자가 읽었을 경우 읽음 처리
-        if (message.getReceiver().getUserId().equals(userId)) {
+        if (message.getReceiver().getUserId().equals(userId) && !message.getIsRead()) {
             message.markAsRead();
+            unreadCountService.adjust(UnreadCountService.Type.MESSAGE, userId, -1);
         }
 
         return message;
@@ -118,6 +123,9 @@ public class MessageService {
         if (message.getSender().getUserId().equals(userId)) {
             message.deleteBySender();
         } else if (message.getReceiver().getUserId().equals(userId)) {
+            if (!message.getIsRead() && !message.getIsDeletedByReceiver()) {
+                unreadCountService.adjust(UnreadCountService.Type.MESSAGE, userId, -1);
+            }
             message.deleteByReceiver();
         } else {
             throw new BusinessException(ErrorCode.FORBIDDEN);
@@ -137,9 +145,6 @@ public class MessageService {
     }
 
     public long getUnreadMessageCount(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        List<Long> blockedUserIds = userBlockService.getBlockedUserIds(userId);
-        return messageRepository.countUnreadMessagesExcludingBlocked(user, false, false, blockedUserIds);
+        return unreadCountService.get(UnreadCountService.Type.MESSAGE, userId);
     }
 }
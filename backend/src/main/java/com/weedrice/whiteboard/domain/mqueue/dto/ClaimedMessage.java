@@ -0,0 +1,16 @@
+package com.weedrice.whiteboard.domain.mqueue.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 워커가 임대(lease)한 발송 메시지. 발송에 필요한 대상 사용자 정보를 함께 담아 핸들러가 추가 조회 없이 처리하게 합니다.
+ */
+public record ClaimedMessage(
+        Long queueId,
+        Long targetUserId,
+        String targetEmail,
+        String deliveryMethod,
+        String content,
+        int retryCount,
+        LocalDateTime requestedAt) {
+}
@@ -38,11 +38,23 @@ public class MessageQueue extends BaseTimeEntity {
     private LocalDateTime requestedAt;
 
     @Column(name = "status", length = 50, nullable = false)
-    private String status; // PENDING, SENT, FAILED
+    private String status; // PENDING, PROCESSING, SENT, FAILED
 
     @Column(name = "retry_count", nullable = false)
     private Integer retryCount;
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
     @Builder
     public MessageQueue(User targetUser, String deliveryMethod, String content) {
         this.targetUser = targetUser;
@@ -52,13 +64,4 @@ public class MessageQueue extends BaseTimeEntity {
         this.status = "PENDING";
         this.retryCount = 0;
     }
-
-    public void sent() {
-        this.status = "SENT";
-    }
-
-    public void failed() {
-        this.status = "FAILED";
-        this.retryCount++;
-    }
 }
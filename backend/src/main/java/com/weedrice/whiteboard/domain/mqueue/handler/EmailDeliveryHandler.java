@@ -0,0 +1,54 @@
+package com.weedrice.whiteboard.domain.mqueue.handler;
+
+import com.weedrice.whiteboard.domain.mqueue.dto.ClaimedMessage;
+import com.weedrice.whiteboard.global.email.BulkEmailResult;
+import com.weedrice.whiteboard.global.email.EmailService;
+import com.weedrice.whiteboard.global.email.EmailTemplate;
+import com.weedrice.whiteboard.global.email.TemplatedEmail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EMAIL 메시지를 공지 템플릿({@link EmailTemplate#NOTICE})으로 발송합니다. 워커가 임대한 묶음은 대량 발송 한 번으로 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailDeliveryHandler implements MessageDeliveryHandler {
+
+    private final EmailService emailService;
+
+    @Value("${mqueue.email.subject:[noviIs] 알림}")
+    private String subject = "[noviIs] 알림";
+
+    @Override
+    public String deliveryMethod() {
+        return "EMAIL";
+    }
+
+    @Override
+    public void deliver(ClaimedMessage message) {
+        emailService.sendTemplated(EmailTemplate.NOTICE, message.targetEmail(), data(message));
+    }
+
+    @Override
+    public Map<Long, String> deliverAll(List<ClaimedMessage> messages) {
+        BulkEmailResult result = emailService.sendBulk(EmailTemplate.NOTICE,
+                messages.stream().map(message -> new TemplatedEmail(message.targetEmail(), data(message))).toList());
+        Map<Long, String> failures = new HashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (!result.isSent(i)) {
+                failures.put(messages.get(i).queueId(), result.errors().get(i));
+            }
+        }
+        return failures;
+    }
+
+    private Map<String, String> data(ClaimedMessage message) {
+        return Map.of("subject", subject, "body", message.content());
+    }
+}
@@ -0,0 +1,35 @@
+package com.weedrice.whiteboard.domain.mqueue.handler;
+
+import com.weedrice.whiteboard.domain.mqueue.dto.ClaimedMessage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 발송 방법(delivery_method)별 메시지 전송기. 실패한 메시지는 워커가 재시도 횟수에 따라 지수 백오프 후 다시 시도합니다.
+ */
+public interface MessageDeliveryHandler {
+
+    /** 처리하는 발송 방법 (EMAIL, PUSH, SMS) */
+    String deliveryMethod();
+
+    void deliver(ClaimedMessage message);
+
+    /**
+     * 워커가 임대한 같은 발송 방법의 메시지를 한 번에 전송합니다. 대량 발송 API가 있는 처리기는 이 메서드를 재정의합니다.
+     *
+     * @return 실패한 메시지의 queueId별 실패 원인 (모두 성공하면 빈 맵)
+     */
+    default Map<Long, String> deliverAll(List<ClaimedMessage> messages) {
+        Map<Long, String> failures = new HashMap<>();
+        for (ClaimedMessage message : messages) {
+            try {
+                deliver(message);
+            } catch (RuntimeException e) {
+                failures.put(message.queueId(), e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,26 @@
+package com.weedrice.whiteboard.domain.mqueue.handler;
+
+import com.weedrice.whiteboard.domain.mqueue.dto.ClaimedMessage;
+import com.weedrice.whiteboard.global.realtime.RealtimeBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PUSH 메시지를 실시간 버스로 접속 중인 클라이언트에 `push` 이벤트로 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PushDeliveryHandler implements MessageDeliveryHandler {
+
+    private final RealtimeBus realtimeBus;
+
+    @Override
+    public String deliveryMethod() {
+        return "PUSH";
+    }
+
+    @Override
+    public void deliver(ClaimedMessage message) {
+        realtimeBus.publish(message.targetUserId(), "push", message.content());
+    }
+}
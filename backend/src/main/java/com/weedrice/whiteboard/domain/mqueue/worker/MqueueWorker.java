@@ -0,0 +1,307 @@
+package com.weedrice.whiteboard.domain.mqueue.worker;
+
+import com.weedrice.whiteboard.domain.mqueue.dto.ClaimedMessage;
+import com.weedrice.whiteboard.domain.mqueue.handler.MessageDeliveryHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메시지 큐 워커 풀.
+ * <p>
+ * 워커마다 {@code SELECT ... FOR UPDATE SKIP LOCKED}로 PENDING 메시지를 묶음 단위로 임대(lease)한 뒤 발송 방법별
+ * {@link MessageDeliveryHandler}로 묶어서 처리하고, 결과를 한 번의 JDBC 배치로 기록합니다. 여러 노드/워커가 같은 행을 가져가지 않으며,
+ * 처리할 메시지가 있는 동안은 쉬지 않고 다음 묶음을 가져옵니다.
+ * <p>
+ * 실패한 메시지는 retry_count에 따라 지수 백오프(지터 포함) 후 다시 PENDING이 되고, 최대 시도 횟수를 넘으면 FAILED로 남습니다.
+ * 대상 사용자가 없거나 탈퇴한 메시지는 발송하지 않고 바로 FAILED로 기록합니다.
+ * 임대 시간이 지나도록 완료되지 않은 메시지(워커 중단 등)는 주기적으로 회수해 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MqueueWorker {
+
+    // 대상 사용자가 없거나 탈퇴했어도 임대한 행은 모두 돌려받아야 결과를 기록할 수 있으므로 LEFT JOIN
+    private static final String CLAIM_SQL = "WITH claimed AS ("
+            + "UPDATE message_queue SET status = 'PROCESSING', locked_until = ?, locked_by = ?, modified_at = ? "
+            + "WHERE queue_id IN (SELECT queue_id FROM message_queue "
+            + "WHERE status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= ?) "
+            + "ORDER BY requested_at, queue_id LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING queue_id, target_user_id, delivery_method, content, retry_count, requested_at) "
+            + "SELECT c.queue_id, c.target_user_id, "
+            + "CASE WHEN u.status = 'DELETED' THEN NULL ELSE u.email END AS email, "
+            + "c.delivery_method, c.content, c.retry_count, c.requested_at "
+            + "FROM claimed c LEFT JOIN users u ON u.user_id = c.target_user_id";
+
+    private static final String COMPLETE_SQL = "UPDATE message_queue SET status = ?, retry_count = ?, "
+            + "next_attempt_at = ?, last_error = ?, locked_until = NULL, locked_by = NULL, modified_at = ? "
+            + "WHERE queue_id = ? AND locked_by = ?";
+
+    private static final String RECLAIM_SQL = "UPDATE message_queue SET "
+            + "status = CASE WHEN retry_count + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END, "
+            + "retry_count = retry_count + 1, last_error = 'lease expired', locked_until = NULL, locked_by = NULL, "
+            + "modified_at = ? WHERE status = 'PROCESSING' AND locked_until < ?";
+
+    private static final String BACKLOG_SQL = "SELECT COUNT(*) AS pending, "
+            + "MIN(CASE WHEN next_attempt_at IS NULL OR next_attempt_at <= ? THEN requested_at END) AS oldest "
+            + "FROM message_queue WHERE status = 'PENDING'";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String UNSUPPORTED_PREFIX = "unsupported delivery method: ";
+    private static final String NO_RECIPIENT_ERROR = "recipient not found or deleted";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<MessageDeliveryHandler> handlers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mqueue.worker.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${mqueue.worker.concurrency:4}")
+    private int concurrency = 4;
+
+    @Value("${mqueue.worker.batch-size:20}")
+    private int batchSize = 20;
+
+    @Value("${mqueue.worker.lease-seconds:300}")
+    private long leaseSeconds = 300;
+
+    @Value("${mqueue.worker.idle-poll-ms:1000}")
+    private long idlePollMs = 1000;
+
+    @Value("${mqueue.worker.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${mqueue.worker.backoff-base-seconds:30}")
+    private long backoffBaseSeconds = 30;
+
+    @Value("${mqueue.worker.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds = 3600;
+
+    @Value("${mqueue.worker.maintenance-interval-seconds:15}")
+    private long maintenanceIntervalSeconds = 15;
+
+    private final String workerId = "mqueue-" + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private Map<String, MessageDeliveryHandler> handlerByMethod;
+    private ExecutorService workers;
+    private ScheduledExecutorService maintenance;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        handlerByMethod = handlers.stream()
+                .collect(Collectors.toMap(MessageDeliveryHandler::deliveryMethod, Function.identity()));
+        Gauge.builder("mqueue.pending", pending, AtomicLong::get)
+                .description("발송 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("mqueue.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("발송 시각이 된 가장 오래된 대기 메시지의 경과 시간")
+                .register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("mqueue-worker-", 0).daemon(true).factory());
+        for (int i = 0; i < concurrency; i++) {
+            workers.submit(this::runLoop);
+        }
+        maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("mqueue-maintenance").daemon(true).factory());
+        maintenance.scheduleWithFixedDelay(this::maintain, maintenanceIntervalSeconds, maintenanceIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                if (processBatch() == 0) {
+                    Thread.sleep(idlePollMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("메시지 큐 처리 실패, 잠시 후 재시도: {}", e.getMessage());
+                try {
+                    Thread.sleep(idlePollMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 메시지 한 묶음을 임대해 처리하고 결과를 기록합니다.
+     *
+     * @return 처리한 메시지 수
+     */
+    int processBatch() {
+        List<ClaimedMessage> claimed = claim();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        process(claimed);
+        return claimed.size();
+    }
+
+    private List<ClaimedMessage> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedMessage(
+                rs.getLong("queue_id"),
+                rs.getLong("target_user_id"),
+                rs.getString("email"),
+                rs.getString("delivery_method"),
+                rs.getString("content"),
+                rs.getInt("retry_count"),
+                rs.getTimestamp("requested_at").toLocalDateTime()),
+                Timestamp.valueOf(now.plusSeconds(leaseSeconds)), workerId, Timestamp.valueOf(now),
+                Timestamp.valueOf(now), batchSize);
+    }
+
+    /**
+     * 임대한 메시지를 발송 방법별로 묶어 처리기에 한 번에 넘기고(대량 발송), 결과(완료/재시도/실패)를 한 번의 배치로 기록합니다.
+     * 임대가 만료돼 다른 워커가 다시 가져간 메시지는 locked_by가 달라 기록되지 않습니다.
+     */
+    void process(List<ClaimedMessage> claimed) {
+        Map<String, List<ClaimedMessage>> byMethod = claimed.stream()
+                .collect(Collectors.groupingBy(ClaimedMessage::deliveryMethod, LinkedHashMap::new, Collectors.toList()));
+        List<Object[]> results = new ArrayList<>(claimed.size());
+        byMethod.forEach((method, messages) -> {
+            // 대상 사용자가 없거나 탈퇴한 메시지(targetEmail 없음)는 처리기에 넘기지 않고 실패 처리
+            List<ClaimedMessage> deliverable = messages.stream()
+                    .filter(message -> message.targetEmail() != null)
+                    .toList();
+            Map<Long, String> failures = deliverable.isEmpty() ? Map.of() : deliverAll(method, deliverable);
+            for (ClaimedMessage message : messages) {
+                String failure = message.targetEmail() == null ? NO_RECIPIENT_ERROR : failures.get(message.queueId());
+                results.add(outcome(method, message, failure));
+            }
+        });
+        jdbcTemplate.batchUpdate(COMPLETE_SQL, results);
+    }
+
+    private Map<Long, String> deliverAll(String method, List<ClaimedMessage> messages) {
+        MessageDeliveryHandler handler = handlerByMethod.get(method);
+        if (handler == null) {
+            // 처리기가 없는 발송 방법은 재시도해도 성공할 수 없으므로 바로 실패 처리
+            return messages.stream().collect(Collectors.toMap(ClaimedMessage::queueId,
+                    message -> UNSUPPORTED_PREFIX + method));
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return handler.deliverAll(messages);
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return messages.stream().collect(Collectors.toMap(ClaimedMessage::queueId, message -> error));
+        } finally {
+            sample.stop(meterRegistry.timer("mqueue.delivery.duration", "method", method));
+        }
+    }
+
+    private Object[] outcome(String method, ClaimedMessage message, String failure) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (failure == null) {
+            count(method, "sent");
+            return new Object[] { "SENT", message.retryCount(), null, null, now, message.queueId(), workerId };
+        }
+        int attempts = message.retryCount() + 1;
+        String error = truncate(failure);
+        // 처리기가 없거나 대상 사용자가 없으면 재시도해도 성공할 수 없으므로 바로 실패 처리
+        if (attempts >= maxAttempts || failure.startsWith(UNSUPPORTED_PREFIX) || NO_RECIPIENT_ERROR.equals(failure)) {
+            log.error("메시지 발송 최종 실패: queueId={}, method={}, attempts={}, cause={}", message.queueId(), method,
+                    attempts, error);
+            count(method, "failed");
+            return new Object[] { "FAILED", attempts, null, error, now, message.queueId(), workerId };
+        }
+        count(method, "retry");
+        Timestamp nextAttemptAt = Timestamp.valueOf(LocalDateTime.now().plus(backoff(attempts)));
+        return new Object[] { "PENDING", attempts, nextAttemptAt, error, now, message.queueId(), workerId };
+    }
+
+    /**
+     * attempts번째 실패 후 다음 시도까지의 대기 시간. base * 2^(attempts-1)을 상한으로 자르고, 동시에 실패한 메시지가
+     * 한꺼번에 재시도하지 않도록 절반 구간에 지터를 줍니다.
+     */
+    Duration backoff(int attempts) {
+        long exponential = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        long capped = Math.min(Math.max(exponential, backoffBaseSeconds), backoffMaxSeconds);
+        long half = capped / 2;
+        return Duration.ofSeconds(half + ThreadLocalRandom.current().nextLong(capped - half + 1));
+    }
+
+    /**
+     * 임대 시간이 지난 메시지를 회수하고 대기열 지표(대기 수, 지연)를 갱신합니다.
+     */
+    void maintain() {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int reclaimed = jdbcTemplate.update(RECLAIM_SQL, maxAttempts, now, now);
+            if (reclaimed > 0) {
+                log.warn("임대 시간이 지난 메시지 {}건 회수", reclaimed);
+            }
+            jdbcTemplate.query(BACKLOG_SQL, rs -> {
+                pending.set(rs.getLong("pending"));
+                Timestamp oldest = rs.getTimestamp("oldest");
+                lagSeconds.set(oldest == null ? 0
+                        : Math.max(0, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toSeconds()));
+            }, now);
+        } catch (RuntimeException e) {
+            log.warn("메시지 큐 유지 작업 실패: {}", e.getMessage());
+        }
+    }
+
+    private void count(String method, String result) {
+        Counter.builder("mqueue.deliveries")
+                .description("발송 방법/결과별 메시지 처리 수")
+                .tag("method", method)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+}
@@ -48,8 +48,9 @@ public class NotificationController {
     }
 
     @GetMapping(value = "/stream", produces = org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE)
-    public org.springframework.web.servlet.mvc.method.annotation.SseEmitter subscribe(Authentication authentication) {
+    public org.springframework.web.servlet.mvc.method.annotation.SseEmitter subscribe(Authentication authentication,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = ((CustomUserDetails) authentication.getPrincipal()).getUserId();
-        return notificationService.subscribe(userId);
+        return notificationService.subscribe(userId, lastEventId);
     }
 }
@@ -1,16 +1,33 @@
 package com.weedrice.whiteboard.domain.notification.dto;
 
 import com.weedrice.whiteboard.domain.user.entity.User;
+import com.weedrice.whiteboard.global.outbox.DurableEvent;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 알림 발생 이벤트. outbox에는 엔티티 대신 {@link PendingNotification}으로 기록되어 알림 소비자가 저장합니다.
+ */
 @Getter
 @AllArgsConstructor
-public class NotificationEvent {
+public class NotificationEvent implements DurableEvent {
+
+    public static final String EVENT_TYPE = "NOTIFICATION";
+
     private User userToNotify; // 알림을 받을 사용자
     private User actor; // 알림을 발생시킨 사용자
     private String notificationType; // COMMENT, LIKE 등
     private String sourceType; // POST, COMMENT 등
     private Long sourceId;
     private String content;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Object payload() {
+        return PendingNotification.from(this);
+    }
 }
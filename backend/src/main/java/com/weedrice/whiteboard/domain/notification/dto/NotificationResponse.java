@@ -27,6 +27,7 @@ public class NotificationResponse {
                 private String notificationType;
                 private String message;
                 private UserInfo actor;
+                private Integer actorCount;
                 private String sourceType;
                 private Long sourceId;
                 private Boolean isRead;
@@ -41,6 +42,7 @@ public class NotificationResponse {
                                                         .userId(notification.getActor().getUserId())
                                                         .displayName(notification.getActor().getDisplayName())
                                                         .build())
+                                        .actorCount(notification.getActorCount())
                                         .sourceType(notification.getSourceType())
                                         .sourceId(notification.getSourceId())
                                         .isRead(notification.getIsRead())
@@ -66,6 +68,7 @@ public class NotificationResponse {
                                                                 .userId(notification.getActor().getUserId())
                                                                 .displayName(notification.getActor().getDisplayName())
                                                                 .build())
+                                                .actorCount(notification.getActorCount())
                                                 .sourceType(notification.getSourceType())
                                                 .sourceId(notification.getSourceId())
                                                 .isRead(notification.getIsRead())
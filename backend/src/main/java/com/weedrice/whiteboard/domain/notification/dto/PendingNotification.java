@@ -0,0 +1,117 @@
+package com.weedrice.whiteboard.domain.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 저장 대기 중인 알림. 엔티티 대신 식별자와 표시용 값만 담아 outbox에 JSON으로 기록되고, 알림 소비자가 읽어 배치로 저장합니다.
+ * coalesce가 true이면 같은 대상(수신자, 유형, 원본)의 읽지 않은 알림이 있을 때 새 행 대신 그 알림을 갱신합니다.
+ * actorIds는 이 알림에 합쳐진 행위자 전체(중복 없음)로, 저장된 알림에 합칠 때 처음 보는 행위자만 세는 데 씁니다.
+ */
+public record PendingNotification(
+        Long userId,
+        Long actorId,
+        String actorDisplayName,
+        String notificationType,
+        String sourceType,
+        Long sourceId,
+        String content,
+        LocalDateTime createdAt,
+        int actorCount,
+        List<Long> recentActorIds,
+        List<Long> actorIds,
+        boolean coalesce) {
+
+    /** 묶음 알림에 보관하는 최근 행위자 수 */
+    public static final int MAX_RECENT_ACTORS = 5;
+
+    public PendingNotification {
+        if (actorIds == null) {
+            // 행위자 목록이 생기기 전에 outbox에 기록된 알림
+            actorIds = actorId != null ? List.of(actorId) : List.of();
+        }
+    }
+
+    public static PendingNotification from(NotificationEvent event) {
+        return new PendingNotification(
+                event.getUserToNotify().getUserId(),
+                event.getActor().getUserId(),
+                event.getActor().getDisplayName(),
+                event.getNotificationType(),
+                event.getSourceType(),
+                event.getSourceId(),
+                event.getContent(),
+                LocalDateTime.now(),
+                1,
+                List.of(event.getActor().getUserId()),
+                List.of(event.getActor().getUserId()),
+                false);
+    }
+
+    public PendingNotification withCoalesce(boolean coalesce) {
+        return new PendingNotification(userId, actorId, actorDisplayName, notificationType, sourceType, sourceId,
+                content, createdAt, actorCount, recentActorIds, actorIds, coalesce);
+    }
+
+    public Key key() {
+        return new Key(userId, notificationType, sourceType, sourceId);
+    }
+
+    /**
+     * 이 알림 이후에 발생한 같은 대상의 알림을 합칩니다. 표시 값(최근 행위자, 본문, 시각)은 newer를 따르고,
+     * 행위자 수는 두 알림의 행위자를 중복 없이 합친 수입니다.
+     */
+    public PendingNotification mergeNewer(PendingNotification newer) {
+        Set<Long> merged = new LinkedHashSet<>(actorIds);
+        merged.addAll(newer.actorIds);
+        return new PendingNotification(userId, newer.actorId, newer.actorDisplayName, notificationType, sourceType,
+                sourceId, newer.content, newer.createdAt, merged.size(),
+                mergeRecentActorIds(recentActorIds, newer.recentActorIds), List.copyOf(merged),
+                coalesce || newer.coalesce);
+    }
+
+    /**
+     * 저장된 알림에 합친 결과. 행위자 수는 저장된 수에 처음 보는 행위자 수(addedActors)를 더한 값입니다.
+     */
+    public PendingNotification mergeIntoStored(int storedCount, List<Long> storedRecentActorIds, int addedActors) {
+        return new PendingNotification(userId, actorId, actorDisplayName, notificationType, sourceType, sourceId,
+                content, createdAt, storedCount + addedActors, mergeRecentActorIds(storedRecentActorIds, recentActorIds),
+                actorIds, true);
+    }
+
+    /**
+     * 최신 행위자가 앞에 오도록 중복 없이 합치고 {@link #MAX_RECENT_ACTORS}개로 자릅니다.
+     */
+    public static List<Long> mergeRecentActorIds(List<Long> older, List<Long> newer) {
+        Set<Long> merged = new LinkedHashSet<>(newer);
+        merged.addAll(older);
+        return new ArrayList<>(merged).subList(0, Math.min(merged.size(), MAX_RECENT_ACTORS));
+    }
+
+    /**
+     * 저장된 알림 ID로 실시간 푸시용 요약을 만듭니다.
+     */
+    public NotificationResponse.NotificationSummary toSummary(Long notificationId) {
+        return NotificationResponse.NotificationSummary.builder()
+                .notificationId(notificationId)
+                .notificationType(notificationType)
+                .message(content)
+                .actor(NotificationResponse.UserInfo.builder()
+                        .userId(actorId)
+                        .displayName(actorDisplayName)
+                        .build())
+                .actorCount(actorCount)
+                .sourceType(sourceType)
+                .sourceId(sourceId)
+                .isRead(false)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /** 묶음 기준: 수신자, 알림 유형, 원본 유형, 원본 ID */
+    public record Key(Long userId, String notificationType, String sourceType, Long sourceId) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.weedrice.whiteboard.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 읽지 않은 수 변경 푸시(`unread-count` 이벤트) 본문.
+ */
+@Getter
+@AllArgsConstructor
+public class UnreadCountResponse {
+    private String type; // NOTIFICATION, MESSAGE
+    private long count;
+}
@@ -47,6 +47,14 @@ public class Notification extends BaseTimeEntity {
     @Column(name = "is_read", length = 1, nullable = false)
     private Boolean isRead;
 
+    // 묶음 알림("A님 외 N명")의 행위자 수, 기존 행은 null(1명)
+    @Column(name = "actor_count")
+    private Integer actorCount;
+
+    // 묶음 알림의 최근 행위자 ID(최신순, 쉼표 구분)
+    @Column(name = "recent_actor_ids", length = 255)
+    private String recentActorIds;
+
     @Builder
     public Notification(User user, User actor, String notificationType, String sourceType, Long sourceId, String content) {
         this.user = user;
@@ -56,6 +64,11 @@ public class Notification extends BaseTimeEntity {
         this.sourceId = sourceId;
         this.content = content;
         this.isRead = false;
+        this.actorCount = 1;
+    }
+
+    public Integer getActorCount() {
+        return actorCount != null ? actorCount : 1;
     }
 
     public void read() {
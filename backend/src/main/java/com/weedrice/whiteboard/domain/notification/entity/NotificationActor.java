@@ -0,0 +1,25 @@
+package com.weedrice.whiteboard.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 묶음 알림에 합쳐진 행위자. 알림마다 행위자를 한 번씩만 기록해, 같은 사용자가 다시 행동해도 행위자 수(actor_count)를 늘리지 않습니다.
+ * 기록은 {@link com.weedrice.whiteboard.domain.notification.service.NotificationBatchWriter}가 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notification_actors")
+public class NotificationActor {
+
+    @EmbeddedId
+    private NotificationActorId id;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
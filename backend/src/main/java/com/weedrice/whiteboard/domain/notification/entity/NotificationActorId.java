@@ -0,0 +1,21 @@
+package com.weedrice.whiteboard.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+public class NotificationActorId implements Serializable {
+
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+}
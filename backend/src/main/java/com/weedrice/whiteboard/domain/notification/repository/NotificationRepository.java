@@ -14,6 +14,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByUserAndIsRead(User user, Boolean isRead);
 
+    long countByUser_UserIdAndIsRead(Long userId, Boolean isRead);
+
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user = :user AND n.isRead = false")
     void readAllByUser(@Param("user") User user);
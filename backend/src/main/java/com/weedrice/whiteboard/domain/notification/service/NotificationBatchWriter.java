@@ -0,0 +1,311 @@
+package com.weedrice.whiteboard.domain.notification.service;
+
+import com.weedrice.whiteboard.domain.notification.dto.PendingNotification;
+import com.weedrice.whiteboard.global.outbox.OutboxDeduplicator;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import com.weedrice.whiteboard.global.realtime.RealtimeBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 묶음을 한 트랜잭션의 JDBC 배치로 저장하는 기록기.
+ * <p>
+ * {@link NotificationConsumer}가 outbox에서 꺼낸 묶음을 그대로 넘기며, 저장이 실패하면 예외를 그대로 던져 outbox 릴레이가
+ * 같은 묶음을 다시 전달하게 합니다. 이미 저장한 이벤트는 같은 트랜잭션에서 idempotency key로 걸러내므로
+ * 재전달되어도 알림과 푸시가 중복되지 않습니다. 실시간 푸시는 저장되어 ID가 발급된 알림만 대상으로 합니다.
+ * <p>
+ * 묶음 대상 알림({@link PendingNotification#coalesce()})은 같은 수신자/유형/원본의 읽지 않은 알림이 있으면
+ * 새 행을 만들지 않고 그 알림의 행위자 수와 최근 행위자를 갱신합니다. 행위자 수는 알림별 행위자 목록
+ * ({@code notification_actors})에 처음 들어간 행위자만 더하므로, 최근 행위자 밖으로 밀려난 사용자가 다시 행동해도 중복으로 세지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(user_id, actor_id, notification_type, source_type, source_id, content, actor_count, recent_actor_ids, "
+            + "is_read, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'N', ?, ?)";
+
+    // 묶음 알림은 최근 행위자 기준으로 본문/시각을 갱신해 목록 상단으로 올림
+    private static final String UPDATE_SQL = "UPDATE notifications SET actor_id = ?, actor_count = ?, "
+            + "recent_actor_ids = ?, content = ?, created_at = ?, modified_at = ? WHERE notification_id = ?";
+
+    // 이미 있는 (알림, 행위자)는 무시되어 갱신 건수 0으로 돌아오므로 처음 보는 행위자만 셀 수 있음
+    private static final String ACTOR_INSERT_SQL = "INSERT INTO notification_actors "
+            + "(notification_id, actor_id, created_at) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RealtimeBus realtimeBus;
+    private final PlatformTransactionManager transactionManager;
+    private final UnreadCountService unreadCountService;
+    private final OutboxDeduplicator outboxDeduplicator;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * outbox 메시지 한 묶음을 저장하고 발급된 ID로 실시간 푸시합니다. 저장에 실패하면 아무것도 반영하지 않고 예외를 던집니다.
+     *
+     * @param consumerName 처리 기록을 남길 소비자 이름
+     * @param reader       메시지를 저장할 알림으로 바꿉니다. 저장하지 않을 메시지면 null
+     * @return 저장(추가 또는 묶음 갱신)된 건수
+     */
+    public int flush(String consumerName, List<OutboxMessage> messages,
+            Function<OutboxMessage, PendingNotification> reader) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        List<StoredNotification> stored = transactionTemplate.execute(status -> {
+            List<PendingNotification> batch = outboxDeduplicator.claim(consumerName, messages).stream()
+                    .map(reader)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return batch.isEmpty() ? List.<StoredNotification>of() : write(coalesceWithinBatch(batch));
+        });
+        if (stored == null) {
+            return 0;
+        }
+        for (StoredNotification notification : stored) {
+            if (notification.inserted()) {
+                // 묶음 갱신은 이미 읽지 않은 알림을 고친 것이므로 새로 추가된 알림만 센다
+                unreadCountService.adjust(UnreadCountService.Type.NOTIFICATION, notification.pending().userId(), 1);
+            }
+            try {
+                realtimeBus.publish(notification.pending().userId(), "notification",
+                        notification.pending().toSummary(notification.notificationId()));
+            } catch (RuntimeException e) {
+                // 저장은 끝났으므로 푸시 실패는 다음 목록 조회에서 복구됨
+                log.warn("알림 실시간 전송 실패: userId={}, cause={}", notification.pending().userId(), e.getMessage());
+            }
+        }
+        return stored.size();
+    }
+
+    /**
+     * 같은 배치 안에서 묶음 대상이 같은 알림을 하나로 합칩니다.
+     */
+    private List<PendingNotification> coalesceWithinBatch(List<PendingNotification> batch) {
+        List<PendingNotification> rows = new ArrayList<>(batch.size());
+        Map<PendingNotification.Key, Integer> positions = new HashMap<>();
+        for (PendingNotification notification : batch) {
+            if (!notification.coalesce()) {
+                rows.add(notification);
+                continue;
+            }
+            Integer position = positions.putIfAbsent(notification.key(), rows.size());
+            if (position == null) {
+                rows.add(notification);
+            } else {
+                rows.set(position, rows.get(position).mergeNewer(notification));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 묶음 대상 알림은 같은 대상의 읽지 않은 알림을 갱신하고, 나머지는 새로 추가합니다.
+     */
+    private List<StoredNotification> write(List<PendingNotification> rows) {
+        Map<PendingNotification.Key, UnreadNotification> unread = findUnread(rows.stream()
+                .filter(PendingNotification::coalesce)
+                .toList());
+        List<StoredNotification> stored = new ArrayList<>(rows.size());
+        List<PendingNotification> updates = new ArrayList<>();
+        List<UnreadNotification> targets = new ArrayList<>();
+        List<PendingNotification> inserts = new ArrayList<>();
+        for (PendingNotification row : rows) {
+            UnreadNotification existing = row.coalesce() ? unread.get(row.key()) : null;
+            if (existing == null) {
+                inserts.add(row);
+            } else {
+                updates.add(row);
+                targets.add(existing);
+            }
+        }
+        if (!updates.isEmpty()) {
+            int[] addedActors = addActors(updates, targets);
+            List<Object[]> updateArgs = new ArrayList<>(updates.size());
+            for (int i = 0; i < updates.size(); i++) {
+                UnreadNotification existing = targets.get(i);
+                PendingNotification merged = updates.get(i).mergeIntoStored(existing.actorCount(),
+                        existing.recentActorIds(), addedActors[i]);
+                Timestamp createdAt = Timestamp.valueOf(merged.createdAt());
+                updateArgs.add(new Object[] { merged.actorId(), merged.actorCount(), joinIds(merged.recentActorIds()),
+                        merged.content(), createdAt, createdAt, existing.notificationId() });
+                stored.add(new StoredNotification(existing.notificationId(), merged, false));
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updateArgs);
+        }
+        if (!inserts.isEmpty()) {
+            List<Long> ids = insert(inserts);
+            List<Object[]> actorArgs = new ArrayList<>();
+            for (int i = 0; i < Math.min(inserts.size(), ids.size()); i++) {
+                PendingNotification inserted = inserts.get(i);
+                stored.add(new StoredNotification(ids.get(i), inserted, true));
+                if (inserted.coalesce()) {
+                    Timestamp createdAt = Timestamp.valueOf(inserted.createdAt());
+                    for (Long actorId : inserted.actorIds()) {
+                        actorArgs.add(new Object[] { ids.get(i), actorId, createdAt });
+                    }
+                }
+            }
+            if (!actorArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(ACTOR_INSERT_SQL, actorArgs);
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * 갱신할 알림마다 이번에 합친 행위자를 notification_actors에 넣고, 처음 보는(새로 들어간) 행위자 수를 돌려줍니다.
+     * 행위자 목록이 생기기 전에 저장된 알림도 다시 세지 않도록, 저장된 최근 행위자를 같은 배치 앞쪽에서 먼저 넣어 둡니다.
+     */
+    private int[] addActors(List<PendingNotification> updates, List<UnreadNotification> targets) {
+        List<Object[]> args = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            Timestamp createdAt = Timestamp.valueOf(updates.get(i).createdAt());
+            for (Long actorId : targets.get(i).recentActorIds()) {
+                args.add(new Object[] { targets.get(i).notificationId(), actorId, createdAt });
+            }
+        }
+        int seeded = args.size();
+        int[] owners = new int[updates.stream().mapToInt(row -> row.actorIds().size()).sum()];
+        for (int i = 0, n = 0; i < updates.size(); i++) {
+            Timestamp createdAt = Timestamp.valueOf(updates.get(i).createdAt());
+            for (Long actorId : updates.get(i).actorIds()) {
+                args.add(new Object[] { targets.get(i).notificationId(), actorId, createdAt });
+                owners[n++] = i;
+            }
+        }
+        int[] counts = jdbcTemplate.batchUpdate(ACTOR_INSERT_SQL, args);
+        int[] added = new int[updates.size()];
+        for (int n = 0; n < owners.length; n++) {
+            if (counts[seeded + n] > 0) {
+                added[owners[n]]++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 묶음 대상과 같은 키를 가진 읽지 않은 알림을 조회합니다. 여러 건이면 가장 최근 알림을 갱신 대상으로 삼습니다.
+     */
+    private Map<PendingNotification.Key, UnreadNotification> findUnread(List<PendingNotification> rows) {
+        Map<PendingNotification.Key, UnreadNotification> unread = new HashMap<>();
+        if (rows.isEmpty()) {
+            return unread;
+        }
+        Set<PendingNotification.Key> keys = rows.stream().map(PendingNotification::key).collect(Collectors.toSet());
+        List<Long> userIds = rows.stream().map(PendingNotification::userId).distinct().toList();
+        List<Long> sourceIds = rows.stream().map(PendingNotification::sourceId).distinct().toList();
+        String sql = "SELECT notification_id, user_id, actor_id, notification_type, source_type, source_id, "
+                + "actor_count, recent_actor_ids FROM notifications WHERE is_read = 'N' AND user_id IN (" + placeholders(userIds)
+                + ") AND source_id IN (" + placeholders(sourceIds) + ") ORDER BY notification_id";
+        List<Object> args = new ArrayList<>(userIds);
+        args.addAll(sourceIds);
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            PendingNotification.Key key = new PendingNotification.Key(rs.getLong("user_id"),
+                    rs.getString("notification_type"), rs.getString("source_type"), rs.getLong("source_id"));
+            if (!keys.contains(key)) {
+                return;
+            }
+            int actorCount = rs.getInt("actor_count");
+            boolean legacy = rs.wasNull();
+            List<Long> recentActorIds = splitIds(rs.getString("recent_actor_ids"));
+            if (recentActorIds.isEmpty()) {
+                // 묶음 컬럼이 생기기 전에 저장된 알림은 단일 행위자로 취급
+                long actorId = rs.getLong("actor_id");
+                recentActorIds = rs.wasNull() ? List.of() : List.of(actorId);
+            }
+            unread.put(key, new UnreadNotification(rs.getLong("notification_id"), legacy ? 1 : actorCount,
+                    recentActorIds));
+        }, args.toArray());
+        return unread;
+    }
+
+    private List<Long> insert(List<PendingNotification> batch) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] { "notification_id" })) {
+                for (PendingNotification notification : batch) {
+                    Timestamp createdAt = Timestamp.valueOf(notification.createdAt());
+                    ps.setLong(1, notification.userId());
+                    if (notification.actorId() != null) {
+                        ps.setLong(2, notification.actorId());
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, notification.notificationType());
+                    ps.setString(4, notification.sourceType());
+                    if (notification.sourceId() != null) {
+                        ps.setLong(5, notification.sourceId());
+                    } else {
+                        ps.setNull(5, Types.BIGINT);
+                    }
+                    ps.setString(6, notification.content());
+                    ps.setInt(7, notification.actorCount());
+                    ps.setString(8, joinIds(notification.recentActorIds()));
+                    ps.setTimestamp(9, createdAt);
+                    ps.setTimestamp(10, createdAt);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> ids = new ArrayList<>(batch.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    private static String placeholders(List<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    private static String joinIds(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static List<Long> splitIds(String ids) {
+        if (!StringUtils.hasText(ids)) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(String::trim).map(Long::valueOf).toList();
+    }
+
+    private record StoredNotification(Long notificationId, PendingNotification pending, boolean inserted) {
+    }
+
+    private record UnreadNotification(Long notificationId, int actorCount, List<Long> recentActorIds) {
+    }
+}
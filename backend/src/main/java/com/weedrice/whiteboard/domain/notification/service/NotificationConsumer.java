@@ -0,0 +1,75 @@
+package com.weedrice.whiteboard.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weedrice.whiteboard.domain.notification.dto.NotificationEvent;
+import com.weedrice.whiteboard.domain.notification.dto.PendingNotification;
+import com.weedrice.whiteboard.global.outbox.OutboxConsumer;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 outbox 이벤트 소비자. 릴레이가 넘긴 묶음을 {@link NotificationBatchWriter}로 한 번에 저장합니다.
+ * <p>
+ * 좋아요/댓글처럼 같은 원본에 반복되는 알림은 묶음 대상으로 표시해 (수신자, 유형, 원본 유형, 원본 ID)가 같은 알림을
+ * 묶음 안에서 합치고 읽지 않은 알림에 갱신하므로, 인기 게시글의 좋아요 수천 건도 수신자에게는 "A님 외 N명" 알림 하나로 유지됩니다.
+ * 이미 저장한 이벤트는 idempotency key로 걸러내므로 재전달되어도 알림이 중복되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationConsumer implements OutboxConsumer {
+
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.coalesce.types:LIKE,COMMENT,REPLY}")
+    private String[] coalescedTypes = { "LIKE", "COMMENT", "REPLY" };
+
+    private List<String> types;
+
+    @PostConstruct
+    void init() {
+        types = Arrays.stream(coalescedTypes).map(String::trim).toList();
+    }
+
+    @Override
+    public String name() {
+        return "notification";
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(NotificationEvent.EVENT_TYPE);
+    }
+
+    @Override
+    public void consume(List<OutboxMessage> messages) {
+        // 이미 저장한 메시지는 기록기가 저장 트랜잭션 안에서 걸러냄
+        notificationBatchWriter.flush(name(), messages, this::toPending);
+    }
+
+    private PendingNotification toPending(OutboxMessage message) {
+        PendingNotification notification = read(message);
+        // 자기 자신에게는 알림을 보내지 않음
+        if (notification.userId().equals(notification.actorId())) {
+            return null;
+        }
+        boolean coalesce = notification.sourceId() != null && types.contains(notification.notificationType());
+        return notification.withCoalesce(coalesce);
+    }
+
+    private PendingNotification read(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.payload(), PendingNotification.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 이벤트를 읽을 수 없음: outboxId=" + message.outboxId(), e);
+        }
+    }
+}
@@ -1,20 +1,20 @@
 package com.weedrice.whiteboard.domain.notification.service;
 
 import com.weedrice.whiteboard.domain.notification.dto.NotificationResponse;
-import com.weedrice.whiteboard.domain.notification.dto.NotificationEvent;
 import com.weedrice.whiteboard.domain.notification.entity.Notification;
 import com.weedrice.whiteboard.domain.notification.repository.NotificationRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
+import com.weedrice.whiteboard.global.realtime.SseBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
@@ -23,72 +23,15 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final org.springframework.transaction.support.TransactionTemplate transactionTemplate;
-
-    private final java.util.Map<Long, org.springframework.web.servlet.mvc.method.annotation.SseEmitter> emitters = new java.util.concurrent.ConcurrentHashMap<>();
-
-    // @TransactionalEventListener 메서드에 @Transactional을 붙일 경우 REQUIRES_NEW 또는
-    // NOT_SUPPORTED를 명시해야 함
-    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션 없이 실행
-    @TransactionalEventListener
-    public void handleNotificationEvent(NotificationEvent event) {
-        // 자기 자신에게는 알림을 보내지 않음
-        if (event.getUserToNotify().getUserId().equals(event.getActor().getUserId())) {
-            return;
-        }
-
-        Notification notification = transactionTemplate.execute(status -> {
-            Notification noti = Notification.builder()
-                    .user(event.getUserToNotify())
-                    .actor(event.getActor())
-                    .notificationType(event.getNotificationType())
-                    .sourceType(event.getSourceType())
-                    .sourceId(event.getSourceId())
-                    .content(event.getContent())
-                    .build();
-            return notificationRepository.save(noti);
-        });
-
-        // SSE 전송
-        if (notification != null) {
-            sendNotificationToUser(event.getUserToNotify().getUserId(), notification);
-        }
-    }
+    private final SseBroadcaster sseBroadcaster;
+    private final UnreadCountService unreadCountService;
 
+    /**
+     * 실시간 알림 스트림을 구독합니다. 탭마다 별도 연결이 유지되며, lastEventId 이후 놓친 알림은 재전송됩니다.
+     */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public org.springframework.web.servlet.mvc.method.annotation.SseEmitter subscribe(Long userId) {
-        org.springframework.web.servlet.mvc.method.annotation.SseEmitter emitter = new org.springframework.web.servlet.mvc.method.annotation.SseEmitter(
-                Long.MAX_VALUE);
-        emitters.put(userId, emitter);
-
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError((e) -> emitters.remove(userId));
-
-        // 503 Service Unavailable 방지를 위한 더미 데이터 전송
-        try {
-            emitter.send(org.springframework.web.servlet.mvc.method.annotation.SseEmitter.event()
-                    .name("connect")
-                    .data("connected!"));
-        } catch (java.io.IOException e) {
-            emitters.remove(userId);
-        }
-
-        return emitter;
-    }
-
-    private void sendNotificationToUser(Long userId, Notification notification) {
-        org.springframework.web.servlet.mvc.method.annotation.SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(org.springframework.web.servlet.mvc.method.annotation.SseEmitter.event()
-                        .name("notification")
-                        .data(com.weedrice.whiteboard.domain.notification.dto.NotificationResponse.NotificationSummary
-                                .from(notification)));
-            } catch (java.io.IOException e) {
-                emitters.remove(userId);
-            }
-        }
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        return sseBroadcaster.connect(userId, lastEventId);
     }
 
     public NotificationResponse getNotifications(Long userId, Pageable pageable) {
@@ -105,7 +48,10 @@ public class NotificationService {
         if (!notification.getUser().getUserId().equals(userId)) {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
-        notification.read();
+        if (!notification.getIsRead()) {
+            notification.read();
+            unreadCountService.adjust(UnreadCountService.Type.NOTIFICATION, userId, -1);
+        }
     }
 
     @Transactional
@@ -113,11 +59,10 @@ public class NotificationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         notificationRepository.readAllByUser(user);
+        unreadCountService.reset(UnreadCountService.Type.NOTIFICATION, userId, 0);
     }
 
     public long getUnreadNotificationCount(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return notificationRepository.countByUserAndIsRead(user, false);
+        return unreadCountService.get(UnreadCountService.Type.NOTIFICATION, userId);
     }
 }
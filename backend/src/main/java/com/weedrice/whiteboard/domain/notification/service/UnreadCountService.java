@@ -0,0 +1,173 @@
+package com.weedrice.whiteboard.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.weedrice.whiteboard.domain.message.repository.MessageRepository;
+import com.weedrice.whiteboard.domain.notification.dto.UnreadCountResponse;
+import com.weedrice.whiteboard.domain.notification.repository.NotificationRepository;
+import com.weedrice.whiteboard.domain.user.dto.UserBlockChangedEvent;
+import com.weedrice.whiteboard.domain.user.repository.UserRepository;
+import com.weedrice.whiteboard.domain.user.service.UserBlockService;
+import com.weedrice.whiteboard.global.realtime.RealtimeBus;
+import com.weedrice.whiteboard.global.realtime.SseBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 읽지 않은 알림/쪽지 수 카운터.
+ * <p>
+ * 조회한 적 있는 사용자의 값만 노드별 메모리에 둡니다. 알림/쪽지 추가·읽음·삭제 시 커밋 이후 증감을
+ * {@link RealtimeBus#broadcast}로 모든 노드에 보내고, 각 노드는 자신의 카운터에 반영한 뒤 자기 노드의 SSE 연결로
+ * (`unread-count`) 푸시합니다. 카운터가 없는 노드는 증감하지 않지만, 사용자의 SSE 연결이 열려 있으면 커밋된 DB 값으로
+ * 새로 집계해 푸시합니다. 증감이 어긋난 값은 refresh 주기마다 DB 집계로 다시 맞춥니다(reconciliation).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    public enum Type {
+        NOTIFICATION, MESSAGE
+    }
+
+    static final String CHANGE_TOPIC = "unread-count";
+
+    private final NotificationRepository notificationRepository;
+    private final MessageRepository messageRepository;
+    private final UserRepository userRepository;
+    private final UserBlockService userBlockService;
+    private final RealtimeBus realtimeBus;
+    private final SseBroadcaster sseBroadcaster;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${unread-count.maximum-size:100000}")
+    private long maximumSize = 100000;
+
+    @Value("${unread-count.reconcile-after-seconds:300}")
+    private long reconcileAfterSeconds = 300;
+
+    @Value("${unread-count.expire-after-access-minutes:60}")
+    private long expireAfterAccessMinutes = 60;
+
+    private LoadingCache<CounterKey, AtomicLong> counters;
+
+    @PostConstruct
+    void init() {
+        counters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofSeconds(reconcileAfterSeconds))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build(key -> new AtomicLong(count(key)));
+        realtimeBus.subscribe(CHANGE_TOPIC, CounterChange.class, this::apply);
+    }
+
+    public long get(Type type, Long userId) {
+        return counters.get(new CounterKey(type, userId)).get();
+    }
+
+    /**
+     * 카운터를 증감합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 변경이 섞이지 않게 합니다.
+     */
+    public void adjust(Type type, Long userId, long delta) {
+        afterCommit(() -> broadcast(new CounterChange(type, userId, delta, null, false)));
+    }
+
+    /**
+     * 카운터를 지정한 값으로 맞춥니다(전체 읽음 처리 등).
+     */
+    public void reset(Type type, Long userId, long value) {
+        afterCommit(() -> broadcast(new CounterChange(type, userId, null, value, false)));
+    }
+
+    /**
+     * 캐시된 값을 버려 다음 조회 때 DB에서 다시 집계합니다.
+     */
+    public void invalidate(Type type, Long userId) {
+        afterCommit(() -> broadcast(new CounterChange(type, userId, null, null, true)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserBlockChanged(UserBlockChangedEvent event) {
+        // 읽지 않은 쪽지 수는 차단한 사용자의 쪽지를 제외하므로 차단 관계가 바뀌면 다시 집계
+        broadcast(new CounterChange(Type.MESSAGE, event.getUserId(), null, null, true));
+    }
+
+    /**
+     * 버스로 받은 변경을 이 노드의 카운터에 반영하고 이 노드의 SSE 연결로 푸시합니다. 발행한 노드도 같은 경로로 받습니다.
+     */
+    void apply(CounterChange change) {
+        CounterKey key = new CounterKey(change.type(), change.userId());
+        if (change.invalidate()) {
+            counters.invalidate(key);
+            return;
+        }
+        AtomicLong counter = counters.getIfPresent(key);
+        long count;
+        if (counter != null && change.value() != null) {
+            counter.set(change.value());
+            count = change.value();
+        } else if (counter != null) {
+            count = counter.updateAndGet(value -> Math.max(0, value + change.delta()));
+        } else if (sseBroadcaster.hasConnections(change.userId())) {
+            // 커밋 이후이므로 새로 집계한 값에 이미 변경이 포함됨
+            count = counters.get(key).get();
+        } else {
+            return;
+        }
+        sseBroadcaster.send(change.userId(), "unread-count", new UnreadCountResponse(change.type().name(), count));
+    }
+
+    private long count(CounterKey key) {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        Long count = readOnlyTx.execute(status -> switch (key.type()) {
+            case NOTIFICATION -> notificationRepository.countByUser_UserIdAndIsRead(key.userId(), false);
+            case MESSAGE -> messageRepository.countUnreadMessagesExcludingBlocked(
+                    userRepository.getReferenceById(key.userId()), false, false,
+                    userBlockService.getBlockedUserIds(key.userId()));
+        });
+        return count != null ? count : 0L;
+    }
+
+    private void broadcast(CounterChange change) {
+        try {
+            realtimeBus.broadcast(CHANGE_TOPIC, change);
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 수 변경 전파 실패: userId={}, cause={}", change.userId(), e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    record CounterKey(Type type, Long userId) {
+    }
+
+    /**
+     * 노드 간에 전파하는 카운터 변경. value가 있으면 그 값으로 맞추고, 없으면 delta만큼 증감합니다.
+     */
+    record CounterChange(Type type, Long userId, Long delta, Long value, boolean invalidate) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.weedrice.whiteboard.domain.post.dto;
+
+import com.weedrice.whiteboard.global.outbox.DurableEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 작성/수정/삭제 후 발행되는 이벤트.
+ * 검색 결과 캐시 등 게시글 집합에 의존하는 구성요소가 커밋 이후 갱신 신호로 사용합니다.
+ * outbox에도 기록되어 피드 적재처럼 유실되면 안 되는 처리는 {@code POST_CHANGED} 소비자가 맡습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostChangedEvent implements DurableEvent {
+
+    public static final String EVENT_TYPE = "POST_CHANGED";
+
+    private Long postId;
+    private Long boardId;
+    private String boardUrl; // 게시판 범위 검색 캐시 무효화에 사용
+    private String changeType; // CREATE, MODIFY, DELETE
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+}
@@ -53,7 +53,7 @@ public class PostSummary {
         if (summary.length() > 1000) {
             summary = summary.substring(0, 1000);
         }
-        return from(post, null, null, false, false, false, false, summary);
+        return from(post, null, null, false, false, false, Boolean.TRUE.equals(post.getHasImage()), summary);
     }
 
     public static PostSummary from(Post post, String thumbnailUrl, String boardIconUrl, boolean isLiked,
@@ -20,7 +20,8 @@ import jakarta.persistence.*;
         @Index(name = "idx_posts_board_notice", columnList = "board_id, is_notice, created_at"),
         @Index(name = "idx_posts_user", columnList = "user_id, is_deleted, created_at"),
         @Index(name = "idx_posts_category", columnList = "category_id"),
-        @Index(name = "idx_posts_popular", columnList = "board_id, is_deleted, like_count, created_at")
+        @Index(name = "idx_posts_popular", columnList = "board_id, is_deleted, like_count, created_at"),
+        @Index(name = "idx_posts_has_image", columnList = "has_image, created_at")
 })
 public class Post extends BaseTimeEntity {
 
@@ -72,6 +73,14 @@ public class Post extends BaseTimeEntity {
     @Column(name = "is_spoiler", length = 1, nullable = false)
     private Boolean isSpoiler;
 
+    // 본문에 연결된 이미지가 있는지와 목록 썸네일로 쓸 파일. 목록 조회가 files를 조회하지 않도록 파일 연결 시 갱신하며, null이면 백필 전
+    @Convert(converter = BooleanToYNConverter.class)
+    @Column(name = "has_image", length = 1)
+    private Boolean hasImage;
+
+    @Column(name = "thumbnail_file_id")
+    private Long thumbnailFileId;
+
     @Builder
     public Post(Board board, User user, BoardCategory category, String title, String contents, boolean isNotice, boolean isNsfw, boolean isSpoiler) {
         this.board = board;
@@ -86,6 +95,7 @@ public class Post extends BaseTimeEntity {
         this.isNotice = isNotice;
         this.isNsfw = isNsfw;
         this.isSpoiler = isSpoiler;
+        this.hasImage = false;
     }
 
     public void incrementViewCount() {
@@ -116,6 +126,11 @@ public class Post extends BaseTimeEntity {
         this.isSpoiler = isSpoiler;
     }
 
+    public void updateImageSummary(Long thumbnailFileId) {
+        this.thumbnailFileId = thumbnailFileId;
+        this.hasImage = thumbnailFileId != null;
+    }
+
     public void deletePost() {
         this.isDeleted = true;
     }
@@ -15,6 +15,17 @@ public interface PostRepositoryCustom {
 
     Page<Post> searchPosts(String keyword, String searchType, String boardUrl, List<Long> blockedUserIds, @NonNull Pageable pageable);
 
+    /**
+     * searchPosts와 같은 조건으로 게시글 ID 페이지만 조회합니다. 차단 사용자 필터는 적용하지 않으며,
+     * 사용자와 무관한 결과이므로 검색 결과 캐시에 그대로 담을 수 있습니다.
+     */
+    Page<Long> searchPostIds(String keyword, String searchType, String boardUrl, @NonNull Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 Post를 User, Board, Category와 함께 조회합니다. 반환 순서는 보장하지 않습니다.
+     */
+    List<Post> findAllByIdsWithRelations(java.util.Collection<Long> postIds);
+
     Page<Post> findByTagId(Long tagId, List<Long> blockedUserIds, @NonNull Pageable pageable);
 
     List<Post> findNoticesByBoardId(Long boardId, Boolean isNotice, Boolean isDeleted, List<Long> blockedUserIds);
@@ -23,6 +34,14 @@ public interface PostRepositoryCustom {
 
     List<Post> findTrendingPosts(LocalDateTime since, List<Long> blockedUserIds, Pageable pageable);
 
+    /**
+     * 게시판의 삭제되지 않은 글을 (createdAt, postId) 내림차순 keyset 방식으로 조회합니다.
+     * createdAt이 null이면 최신 글부터 조회하고, excludedUserId가 있으면 그 사용자가 쓴 글은 뺍니다.
+     * 피드의 fan-out-on-read 게시판 병합에 사용합니다.
+     */
+    List<Post> findBoardTimelineBefore(Long boardId, Long excludedUserId, LocalDateTime createdAt, Long postId,
+            int limit);
+
     /**
      * Post를 ID로 조회하면서 연관된 User, Board, Category를 함께 fetch join합니다.
      * N+1 쿼리 문제를 방지하기 위해 사용합니다.
@@ -14,11 +14,11 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static com.weedrice.whiteboard.domain.post.entity.QPost.post;
 import static com.weedrice.whiteboard.domain.tag.entity.QPostTag.postTag;
-import static com.weedrice.whiteboard.domain.file.entity.QFile.file;
 
 @Repository
 @RequiredArgsConstructor
@@ -96,24 +96,8 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         @Override
         public Page<Post> searchPosts(String keyword, String searchType, String boardUrl, List<Long> blockedUserIds,
                         @NonNull Pageable pageable) {
-                BooleanExpression searchCondition = null;
-                if (StringUtils.hasText(keyword)) {
-                        if ("TITLE".equalsIgnoreCase(searchType)) {
-                                searchCondition = post.title.containsIgnoreCase(keyword);
-                        } else if ("CONTENT".equalsIgnoreCase(searchType)) {
-                                searchCondition = post.contents.containsIgnoreCase(keyword);
-                        } else if ("AUTHOR".equalsIgnoreCase(searchType)) {
-                                searchCondition = post.user.displayName.containsIgnoreCase(keyword);
-                        } else { // TITLE_CONTENT or default
-                                searchCondition = post.title.containsIgnoreCase(keyword)
-                                                .or(post.contents.containsIgnoreCase(keyword));
-                        }
-                }
-
-                BooleanExpression boardCondition = null;
-                if (StringUtils.hasText(boardUrl)) {
-                        boardCondition = post.board.boardUrl.eq(boardUrl);
-                }
+                BooleanExpression searchCondition = searchCondition(keyword, searchType);
+                BooleanExpression boardCondition = boardUrlEq(boardUrl);
 
                 List<Post> content = queryFactory
                                 .selectFrom(post)
@@ -145,6 +129,71 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                 return new PageImpl<>(content, pageable, total != null ? total : 0L);
         }
 
+        @Override
+        public Page<Long> searchPostIds(String keyword, String searchType, String boardUrl,
+                        @NonNull Pageable pageable) {
+                BooleanExpression searchCondition = searchCondition(keyword, searchType);
+                BooleanExpression boardCondition = boardUrlEq(boardUrl);
+
+                List<Long> content = queryFactory
+                                .select(post.postId)
+                                .from(post)
+                                .where(
+                                                searchCondition,
+                                                boardCondition,
+                                                post.isDeleted.eq(false),
+                                                post.board.isActive.eq(true))
+                                .offset(pageable.getOffset())
+                                .limit(pageable.getPageSize())
+                                .orderBy(getOrderSpecifiers(pageable))
+                                .fetch();
+
+                Long total = queryFactory
+                                .select(post.count())
+                                .from(post)
+                                .where(
+                                                searchCondition,
+                                                boardCondition,
+                                                post.isDeleted.eq(false),
+                                                post.board.isActive.eq(true))
+                                .fetchOne();
+
+                return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        }
+
+        @Override
+        public List<Post> findAllByIdsWithRelations(Collection<Long> postIds) {
+                if (postIds == null || postIds.isEmpty()) {
+                        return List.of();
+                }
+                return queryFactory
+                                .selectFrom(post)
+                                .join(post.user).fetchJoin()
+                                .join(post.board).fetchJoin()
+                                .leftJoin(post.category).fetchJoin()
+                                .where(post.postId.in(postIds))
+                                .fetch();
+        }
+
+        private BooleanExpression searchCondition(String keyword, String searchType) {
+                if (!StringUtils.hasText(keyword)) {
+                        return null;
+                }
+                if ("TITLE".equalsIgnoreCase(searchType)) {
+                        return post.title.containsIgnoreCase(keyword);
+                } else if ("CONTENT".equalsIgnoreCase(searchType)) {
+                        return post.contents.containsIgnoreCase(keyword);
+                } else if ("AUTHOR".equalsIgnoreCase(searchType)) {
+                        return post.user.displayName.containsIgnoreCase(keyword);
+                }
+                // TITLE_CONTENT or default
+                return post.title.containsIgnoreCase(keyword).or(post.contents.containsIgnoreCase(keyword));
+        }
+
+        private BooleanExpression boardUrlEq(String boardUrl) {
+                return StringUtils.hasText(boardUrl) ? post.board.boardUrl.eq(boardUrl) : null;
+        }
+
         @Override
         public Page<Post> findByTagId(Long tagId, List<Long> blockedUserIds, @NonNull Pageable pageable) {
                 List<Post> content = queryFactory
@@ -210,6 +259,21 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                                 .fetch();
         }
 
+        @Override
+        public List<Post> findBoardTimelineBefore(Long boardId, Long excludedUserId, LocalDateTime createdAt,
+                        Long postId, int limit) {
+                return queryFactory
+                                .selectFrom(post)
+                                .where(
+                                                post.board.boardId.eq(boardId),
+                                                post.isDeleted.eq(false),
+                                                userIdNe(excludedUserId),
+                                                timelineBefore(createdAt, postId))
+                                .orderBy(post.createdAt.desc(), post.postId.desc())
+                                .limit(limit)
+                                .fetch();
+        }
+
         @Override
         public List<Post> findTrendingPosts(LocalDateTime since, List<Long> blockedUserIds, Pageable pageable) {
                 return queryFactory
@@ -221,13 +285,7 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                                                 post.createdAt.goe(since),
                                                 post.isDeleted.eq(false),
                                                 notBlockedCondition(blockedUserIds),
-                                                queryFactory.selectOne()
-                                                                .from(file)
-                                                                .where(
-                                                                                file.relatedId.eq(post.postId),
-                                                                                file.relatedType.eq("POST_CONTENT"),
-                                                                                file.mimeType.like("image/%"))
-                                                                .exists())
+                                                post.hasImage.eq(true))
                                 .orderBy(post.viewCount.multiply(1).add(post.likeCount.multiply(10)).desc()) // (조회수 * 1
                                                                                                              // + 좋아요 *
                                                                                                              // 10)
@@ -241,6 +299,10 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                                 : null;
         }
 
+        private BooleanExpression userIdNe(Long userId) {
+                return userId != null ? post.user.userId.ne(userId) : null;
+        }
+
         private BooleanExpression categoryIdEq(Long categoryId) {
                 return categoryId != null ? post.category.categoryId.eq(categoryId) : null;
         }
@@ -281,4 +343,12 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
                 }
                 return new OrderSpecifier[] { new OrderSpecifier<>(Order.DESC, post.createdAt) };
         }
+
+        private BooleanExpression timelineBefore(LocalDateTime createdAt, Long postId) {
+                if (createdAt == null) {
+                        return null;
+                }
+                return post.createdAt.lt(createdAt)
+                                .or(post.createdAt.eq(createdAt).and(post.postId.lt(postId)));
+        }
 }
@@ -0,0 +1,62 @@
+package com.weedrice.whiteboard.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 여부(has_image)/썸네일(thumbnail_file_id) 컬럼이 생기기 전의 게시글을 채웁니다.
+ * <p>
+ * 아직 채우지 않은(has_image IS NULL) 게시글을 post_id 순으로 batch-size개씩 한 문장으로 갱신하고, 남은 게시글이 없으면 끝냅니다.
+ * 묶음을 고를 때 FOR UPDATE SKIP LOCKED를 쓰므로 여러 노드가 동시에 시작해도 서로 다른 게시글을 나눠 처리하며, 끝난 뒤 다시 실행해도 할 일이 없습니다.
+ * 새 게시글과 파일을 연결한 게시글은 {@link PostService}가 직접 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageBackfill {
+
+    private static final String BACKFILL_SQL = "UPDATE posts p SET "
+            + "has_image = CASE WHEN t.file_id IS NULL THEN 'N' ELSE 'Y' END, thumbnail_file_id = t.file_id "
+            + "FROM (SELECT b.post_id, (SELECT MIN(f.file_id) FROM files f WHERE f.related_id = b.post_id "
+            + "AND f.related_type = 'POST_CONTENT' AND f.mime_type LIKE 'image/%') AS file_id "
+            + "FROM posts b WHERE b.has_image IS NULL ORDER BY b.post_id LIMIT ? FOR UPDATE SKIP LOCKED) t "
+            + "WHERE p.post_id = t.post_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${post.image-backfill.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${post.image-backfill.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * @return 채운 게시글 수
+     */
+    public long backfill() {
+        long updated = 0;
+        while (true) {
+            int batch = jdbcTemplate.update(BACKFILL_SQL, batchSize);
+            if (batch == 0) {
+                break;
+            }
+            updated += batch;
+        }
+        if (updated > 0) {
+            log.info("게시글 이미지 여부 백필 완료: {}건", updated);
+        }
+        return updated;
+    }
+}
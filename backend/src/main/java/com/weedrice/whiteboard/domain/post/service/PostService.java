@@ -13,6 +13,7 @@ import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
 import com.weedrice.whiteboard.domain.file.service.FileService;
 import com.weedrice.whiteboard.domain.notification.dto.NotificationEvent;
 import com.weedrice.whiteboard.domain.post.dto.DraftListResponse;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
 import com.weedrice.whiteboard.domain.post.dto.DraftResponse;
 import com.weedrice.whiteboard.domain.post.dto.PostCreateRequest;
 import com.weedrice.whiteboard.domain.post.dto.PostDraftRequest;
@@ -107,14 +108,9 @@ public class PostService {
                 .anyMatch(order -> order.getProperty().equals("createdAt") && order.isAscending()
                         || order.getProperty().equals("postId") && order.isAscending());
 
-        List<Long> postIds = posts.getContent().stream().map(Post::getPostId)
-                .collect(Collectors.toList());
-        Set<Long> postIdsWithImages = getPostIdsWithImages(postIds);
-
         for (int i = 0; i < posts.getContent().size(); i++) {
             Post post = posts.getContent().get(i);
             PostSummary summary = PostSummary.from(post);
-            summary.setHasImage(postIdsWithImages.contains(post.getPostId()));
 
             if (isAscending) {
                 summary.setRowNum(((long) pageNumber * pageSize) + i + 1);
@@ -189,18 +185,7 @@ public class PostService {
         Page<com.weedrice.whiteboard.domain.tag.entity.PostTag> postTags = postTagRepository
                 .findByTag_TagId(tagId, pageable);
 
-        List<Long> postIds = postTags.getContent().stream()
-                .map(pt -> pt.getPost().getPostId())
-                .collect(Collectors.toList());
-
-        Set<Long> postIdsWithImages = getPostIdsWithImages(postIds);
-
-        return postTags.map(pt -> {
-            Post post = pt.getPost();
-            PostSummary summary = PostSummary.from(post);
-            summary.setHasImage(postIdsWithImages.contains(post.getPostId()));
-            return summary;
-        });
+        return postTags.map(pt -> PostSummary.from(pt.getPost()));
     }
 
     public Page<PostSummary> getMyPosts(Long userId, @NonNull Pageable pageable) {
@@ -208,12 +193,6 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         Page<Post> posts = postRepository.findByUserAndIsDeleted(user, false, pageable);
 
-        List<Long> postIds = posts.getContent().stream()
-                .map(Post::getPostId)
-                .collect(Collectors.toList());
-
-        Set<Long> postIdsWithImages = getPostIdsWithImages(postIds);
-
         long totalElements = posts.getTotalElements();
         int pageNumber = posts.getNumber();
         int pageSize = posts.getSize();
@@ -226,7 +205,6 @@ public class PostService {
         for (int i = 0; i < posts.getContent().size(); i++) {
             Post post = posts.getContent().get(i);
             PostSummary summary = PostSummary.from(post);
-            summary.setHasImage(postIdsWithImages.contains(post.getPostId()));
 
             if (isAscending) {
                 summary.setRowNum(((long) pageNumber * pageSize) + i + 1);
@@ -253,11 +231,8 @@ public class PostService {
             return Collections.emptyList();
         }
 
-        List<Long> postIds = posts.stream().map(Post::getPostId).collect(Collectors.toList());
         List<Board> boards = posts.stream().map(Post::getBoard).distinct().collect(Collectors.toList());
 
-        Set<Long> postIdsWithImages = getPostIdsWithImages(postIds);
-
         // Batch fetch user interactions if logged in
         Set<Long> likedPostIds = new HashSet<>();
         Set<Long> scrappedPostIds = new HashSet<>();
@@ -292,16 +267,15 @@ public class PostService {
                     }
                     return PostSummary.from(
                             post,
-                            postIdsWithImages.contains(post.getPostId()) ? "/api/v1/files/"
-                                    + fileService.getOneImageFileIdForPost(
-                                            post.getPostId())
+                            post.getThumbnailFileId() != null
+                                    ? "/api/v1/files/" + post.getThumbnailFileId() + "?size=thumbnail"
                                     : null,
                             post.getBoard().getIconUrl(),
                             finalLikedPostIds.contains(post.getPostId()),
                             finalScrappedPostIds.contains(post.getPostId()),
                             finalSubscribedBoardUrls
                                     .contains(post.getBoard().getBoardUrl()),
-                            postIdsWithImages.contains(post.getPostId()),
+                            Boolean.TRUE.equals(post.getHasImage()),
                             summary);
                 })
                 .collect(Collectors.toList());
@@ -485,16 +459,19 @@ public class PostService {
         tagService.processTagsForPost(savedPost, request.getTags());
         savePostVersion(savedPost, user, "CREATE", null, null);
 
-        if (request.getFileIds() != null && !request.getFileIds().isEmpty()) {
-            for (Long fileId : request.getFileIds()) {
-                fileService.associateFileWithEntity(fileId, savedPost.getPostId(), "POST_CONTENT");
-            }
+        if (request.getFileIds() != null && !request.getFileIds().isEmpty()
+                && !fileService.associateFiles(request.getFileIds(), userId, savedPost.getPostId(), "POST_CONTENT")
+                        .isEmpty()) {
+            refreshImageSummary(savedPost);
         }
 
         // 포인트 지급 (게시글 작성)
         String postCreateRewardStr = globalConfigService.getConfig("POINT_POST_CREATE_REWARD");
         int postCreateReward = postCreateRewardStr != null ? Integer.parseInt(postCreateRewardStr) : 50;
         pointService.addPoint(userId, postCreateReward, "게시글 작성", savedPost.getPostId(), "POST");
+
+        eventPublisher.publishEvent(
+                new PostChangedEvent(savedPost.getPostId(), boardId, board.getBoardUrl(), "CREATE"));
         return savedPost;
     }
 
@@ -527,16 +504,20 @@ public class PostService {
                 request.isSpoiler());
         tagService.processTagsForPost(post, request.getTags());
 
-        if (request.getFileIds() != null && !request.getFileIds().isEmpty()) {
-            for (Long fileId : request.getFileIds()) {
-                fileService.associateFileWithEntity(fileId, post.getPostId(), "POST_CONTENT");
-            }
+        List<Long> attachedFileIds = request.getFileIds() != null && !request.getFileIds().isEmpty()
+                ? fileService.associateFiles(request.getFileIds(), userId, post.getPostId(), "POST_CONTENT")
+                : List.of();
+        if (!attachedFileIds.isEmpty() || post.getHasImage() == null) {
+            refreshImageSummary(post);
         }
 
         User modifier = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         savePostVersion(post, modifier, "MODIFY", originalTitle, originalContents);
 
+        eventPublisher.publishEvent(
+                new PostChangedEvent(postId, post.getBoard().getBoardId(), post.getBoard().getBoardUrl(), "MODIFY"));
+
         return post;
     }
 
@@ -564,6 +545,9 @@ public class PostService {
         String postCreateRewardStr = globalConfigService.getConfig("POINT_POST_CREATE_REWARD");
         int postCreateReward = postCreateRewardStr != null ? Integer.parseInt(postCreateRewardStr) : 50;
         pointService.forceSubtractPoint(userId, postCreateReward, "게시글 삭제", postId, "POST");
+
+        eventPublisher.publishEvent(
+                new PostChangedEvent(postId, post.getBoard().getBoardId(), post.getBoard().getBoardUrl(), "DELETE"));
     }
 
     @Transactional
@@ -741,33 +725,23 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         Page<ViewHistory> historyPage = viewHistoryRepository.findByUserOrderByModifiedAtDesc(user, pageable);
 
-        List<Long> postIds = historyPage.getContent().stream()
-                .map(h -> h.getPost().getPostId())
-                .collect(Collectors.toList());
-
-        Set<Long> postIdsWithImages = getPostIdsWithImages(postIds);
+        return historyPage.map(viewHistory -> PostSummary.from(viewHistory.getPost()));
+    }
 
-        return historyPage.map(viewHistory -> {
-            PostSummary summary = PostSummary.from(viewHistory.getPost());
-            summary.setHasImage(postIdsWithImages.contains(viewHistory.getPost().getPostId()));
-            return summary;
-        });
+    /**
+     * 게시글에 연결된 첫 이미지로 목록용 이미지 여부/썸네일을 갱신합니다. 목록 조회는 이 값만 읽고 files를 조회하지 않습니다.
+     */
+    private void refreshImageSummary(Post post) {
+        post.updateImageSummary(fileService.getOneImageFileIdForPost(post.getPostId()));
     }
 
     public List<String> getPostImageUrls(@NonNull Long postId) {
         return fileService.getFilesByRelatedEntity(postId, "POST_CONTENT").stream()
                 .filter(file -> file.getMimeType().startsWith("image/"))
-                .map(file -> "/api/v1/files/" + file.getFileId())
+                .map(file -> "/api/v1/files/" + file.getFileId() + "?size=medium")
                 .collect(Collectors.toList());
     }
 
-    public Set<Long> getPostIdsWithImages(List<Long> postIds) {
-        if (postIds == null || postIds.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return new HashSet<>(fileService.getRelatedIdsWithImages(postIds, "POST_CONTENT"));
-    }
-
     public boolean isBoardAdmin(Long userId, Long boardId) {
         if (userId == null)
             return false;
@@ -798,11 +772,8 @@ public class PostService {
             return Collections.emptyList();
         }
 
-        List<Long> postIds = posts.stream().map(Post::getPostId).collect(Collectors.toList());
         List<Board> boards = posts.stream().map(Post::getBoard).distinct().collect(Collectors.toList());
 
-        Set<Long> postIdsWithImages = getPostIdsWithImages(postIds);
-
         // Batch fetch user interactions if logged in
         Set<Long> likedPostIds = new HashSet<>();
         Set<Long> scrappedPostIds = new HashSet<>();
@@ -838,16 +809,15 @@ public class PostService {
                     }
                     return PostSummary.from(
                             post,
-                            postIdsWithImages.contains(post.getPostId()) ? "/api/v1/files/"
-                                    + fileService.getOneImageFileIdForPost(
-                                            post.getPostId())
+                            post.getThumbnailFileId() != null
+                                    ? "/api/v1/files/" + post.getThumbnailFileId() + "?size=thumbnail"
                                     : null,
                             post.getBoard().getIconUrl(),
                             finalLikedPostIds.contains(post.getPostId()),
                             finalScrappedPostIds.contains(post.getPostId()),
                             finalSubscribedBoardUrls
                                     .contains(post.getBoard().getBoardUrl()),
-                            postIdsWithImages.contains(post.getPostId()),
+                            Boolean.TRUE.equals(post.getHasImage()),
                             summary);
                 })
                 .collect(Collectors.toList());
@@ -1,5 +1,6 @@
 package com.weedrice.whiteboard.domain.search.controller;
 
+import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
 import com.weedrice.whiteboard.domain.post.dto.PostSummary;
 import com.weedrice.whiteboard.domain.search.dto.IntegratedSearchResponse;
 import com.weedrice.whiteboard.domain.search.dto.PopularKeywordDto;
@@ -62,6 +63,20 @@ public class SearchController {
         return ApiResponse.success(new PageResponse<>(response));
     }
 
+    @GetMapping("/comments")
+    public ApiResponse<PageResponse<CommentResponse>> searchComments(
+            @RequestParam String q,
+            @RequestParam(required = false) Long postId,
+            @RequestParam(required = false) String boardUrl,
+            @RequestParam(required = false) Long authorId,
+            Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long userId = (userDetails != null) ? userDetails.getUserId() : null;
+        Page<CommentResponse> response = searchService.searchComments(q, postId, boardUrl, authorId, pageable, userId);
+        return ApiResponse.success(new PageResponse<>(response));
+    }
+
     @GetMapping("/popular")
     public ApiResponse<PopularKeywordResponse> getPopularKeywords(
             @RequestParam(defaultValue = "DAILY") String period,
@@ -18,6 +18,8 @@ public class IntegratedSearchResponse {
     private Page<UserSummary> users;
     private List<BoardSummary> boards;
     private String keyword; // Add keyword field
+    @Builder.Default
+    private List<String> partialSections = List.of(); // 타임아웃/오류로 빈 결과를 반환한 섹션
 
     public static IntegratedSearchResponse from(Page<PostSummary> postPage, Page<CommentResponse> commentPage,
             Page<UserSummary> userPage, List<BoardSummary> boardList, String keyword) {
@@ -29,4 +31,16 @@ public class IntegratedSearchResponse {
                 .keyword(keyword) // Set keyword
                 .build();
     }
+
+    public static IntegratedSearchResponse from(Page<PostSummary> postPage, Page<CommentResponse> commentPage,
+            Page<UserSummary> userPage, List<BoardSummary> boardList, String keyword, List<String> partialSections) {
+        return IntegratedSearchResponse.builder()
+                .posts(postPage)
+                .comments(commentPage)
+                .users(userPage)
+                .boards(boardList)
+                .keyword(keyword)
+                .partialSections(partialSections)
+                .build();
+    }
 }
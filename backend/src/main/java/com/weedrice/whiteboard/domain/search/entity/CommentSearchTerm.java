@@ -0,0 +1,45 @@
+package com.weedrice.whiteboard.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 검색용 역색인(bi-gram) 항목.
+ * 댓글 본문을 정규화한 뒤 2글자 단위 토큰으로 쪼개 (term, comment_id) 쌍으로 저장하며,
+ * 게시글/게시판/작성자 범위 검색을 위해 scope 컬럼을 비정규화해 둡니다.
+ * 행 추가/삭제는 {@code CommentSearchIndexer}가 outbox로 전달된 댓글 변경 이벤트를 받아 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "comment_search_terms", indexes = {
+        @Index(name = "idx_comment_search_terms_comment", columnList = "comment_id"),
+        @Index(name = "idx_comment_search_terms_post", columnList = "term, post_id"),
+        @Index(name = "idx_comment_search_terms_board", columnList = "term, board_id"),
+        @Index(name = "idx_comment_search_terms_user", columnList = "term, user_id")
+})
+public class CommentSearchTerm {
+
+    @EmbeddedId
+    private CommentSearchTermId id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Builder
+    public CommentSearchTerm(String term, Long commentId, Long postId, Long boardId, Long userId) {
+        this.id = new CommentSearchTermId(term, commentId);
+        this.postId = postId;
+        this.boardId = boardId;
+        this.userId = userId;
+    }
+}
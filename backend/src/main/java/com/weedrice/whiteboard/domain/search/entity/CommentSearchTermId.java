@@ -0,0 +1,21 @@
+package com.weedrice.whiteboard.domain.search.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CommentSearchTermId implements Serializable {
+
+    @Column(name = "term", length = 4)
+    private String term;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+}
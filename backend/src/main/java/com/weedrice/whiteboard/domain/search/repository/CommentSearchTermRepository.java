@@ -0,0 +1,16 @@
+package com.weedrice.whiteboard.domain.search.repository;
+
+import com.weedrice.whiteboard.domain.search.entity.CommentSearchTerm;
+import com.weedrice.whiteboard.domain.search.entity.CommentSearchTermId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentSearchTermRepository
+        extends JpaRepository<CommentSearchTerm, CommentSearchTermId>, CommentSearchTermRepositoryCustom {
+
+    @Modifying
+    @Query("DELETE FROM CommentSearchTerm t WHERE t.id.commentId = :commentId")
+    void deleteByCommentId(@Param("commentId") Long commentId);
+}
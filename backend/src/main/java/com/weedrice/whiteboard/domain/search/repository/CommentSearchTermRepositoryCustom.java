@@ -0,0 +1,17 @@
+package com.weedrice.whiteboard.domain.search.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentSearchTermRepositoryCustom {
+
+    /**
+     * 모든 term을 포함하는 댓글 ID를 최신순으로 조회합니다.
+     * postId/boardId/authorId가 null이면 해당 범위 조건은 적용하지 않습니다.
+     */
+    Page<Long> searchCommentIds(Collection<String> terms, Long postId, Long boardId, Long authorId,
+            List<Long> blockedUserIds, Pageable pageable);
+}
@@ -0,0 +1,81 @@
+package com.weedrice.whiteboard.domain.search.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.weedrice.whiteboard.domain.comment.entity.QComment.comment;
+import static com.weedrice.whiteboard.domain.search.entity.QCommentSearchTerm.commentSearchTerm;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentSearchTermRepositoryCustomImpl implements CommentSearchTermRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<Long> searchCommentIds(Collection<String> terms, Long postId, Long boardId, Long authorId,
+            List<Long> blockedUserIds, Pageable pageable) {
+        long termCount = terms.size();
+
+        List<Long> content = queryFactory
+                .select(commentSearchTerm.id.commentId)
+                .from(commentSearchTerm)
+                .where(
+                        commentSearchTerm.id.term.in(terms),
+                        postIdEq(postId),
+                        boardIdEq(boardId),
+                        authorIdEq(authorId),
+                        notBlockedCondition(blockedUserIds))
+                .groupBy(commentSearchTerm.id.commentId)
+                .having(commentSearchTerm.id.term.count().eq(termCount))
+                .orderBy(commentSearchTerm.id.commentId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(comment.commentId.in(
+                        JPAExpressions.select(commentSearchTerm.id.commentId)
+                                .from(commentSearchTerm)
+                                .where(
+                                        commentSearchTerm.id.term.in(terms),
+                                        postIdEq(postId),
+                                        boardIdEq(boardId),
+                                        authorIdEq(authorId),
+                                        notBlockedCondition(blockedUserIds))
+                                .groupBy(commentSearchTerm.id.commentId)
+                                .having(commentSearchTerm.id.term.count().eq(termCount))))
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    private BooleanExpression postIdEq(Long postId) {
+        return postId != null ? commentSearchTerm.postId.eq(postId) : null;
+    }
+
+    private BooleanExpression boardIdEq(Long boardId) {
+        return boardId != null ? commentSearchTerm.boardId.eq(boardId) : null;
+    }
+
+    private BooleanExpression authorIdEq(Long authorId) {
+        return authorId != null ? commentSearchTerm.userId.eq(authorId) : null;
+    }
+
+    private BooleanExpression notBlockedCondition(List<Long> blockedUserIds) {
+        return (blockedUserIds != null && !blockedUserIds.isEmpty())
+                ? commentSearchTerm.userId.notIn(blockedUserIds)
+                : null;
+    }
+}
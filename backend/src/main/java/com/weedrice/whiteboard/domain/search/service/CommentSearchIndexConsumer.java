@@ -0,0 +1,66 @@
+package com.weedrice.whiteboard.domain.search.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weedrice.whiteboard.domain.comment.dto.CommentChangedEvent;
+import com.weedrice.whiteboard.global.outbox.OutboxConsumer;
+import com.weedrice.whiteboard.global.outbox.OutboxDeduplicator;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 댓글 변경 outbox 이벤트로 댓글 검색 색인을 갱신합니다. 묶음 하나를 한 트랜잭션으로 반영하며,
+ * 작성/수정은 항상 기존 항목을 지운 뒤 다시 넣으므로 재전달되어도 색인이 중복되지 않고,
+ * 이미 반영한 이벤트는 같은 트랜잭션에서 idempotency key로 걸러냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentSearchIndexConsumer implements OutboxConsumer {
+
+    private final CommentSearchIndexer commentSearchIndexer;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final OutboxDeduplicator outboxDeduplicator;
+
+    @Override
+    public String name() {
+        return "comment-search-index";
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(CommentChangedEvent.EVENT_TYPE);
+    }
+
+    @Override
+    public void consume(List<OutboxMessage> messages) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 반영이 커밋된 뒤 재전달된 이벤트는 건너뛰어, 이후 변경을 이전 상태로 되돌리지 않음
+            List<CommentChangedEvent> events = outboxDeduplicator.claim(name(), messages).stream()
+                    .map(this::read)
+                    .toList();
+            for (CommentChangedEvent event : events) {
+                switch (event.getChangeType()) {
+                    case "CREATE", "MODIFY" -> commentSearchIndexer.reindex(event);
+                    case "DELETE" -> commentSearchIndexer.remove(event.getCommentId());
+                    default -> {
+                    }
+                }
+            }
+        });
+    }
+
+    private CommentChangedEvent read(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.payload(), CommentChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("댓글 변경 이벤트를 읽을 수 없음: outboxId=" + message.outboxId(), e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.weedrice.whiteboard.domain.search.service;
+
+import com.weedrice.whiteboard.domain.comment.dto.CommentChangedEvent;
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
+import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
+import com.weedrice.whiteboard.domain.search.repository.CommentSearchTermRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 본문을 bi-gram 역색인({@code comment_search_terms})으로 유지합니다.
+ * 댓글 변경은 outbox를 거쳐 {@link CommentSearchIndexConsumer}가 커밋 이후 반영하므로 요청 경로에서는 색인 비용이 들지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentSearchIndexer {
+
+    /** 검색어가 길어도 HAVING 비교 비용이 커지지 않도록 조회에 사용하는 term 수를 제한 (최종 일치 여부는 본문으로 재확인) */
+    static final int MAX_QUERY_TERMS = 16;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final String INSERT_SQL = "INSERT INTO comment_search_terms (term, comment_id, post_id, board_id, user_id) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final CommentSearchTermRepository commentSearchTermRepository;
+    private final CommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.comment-index.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public void index(Comment comment) {
+        index(comment.getCommentId(), comment.getPost().getPostId(), comment.getPost().getBoard().getBoardId(),
+                comment.getUser().getUserId(), comment.getContent());
+    }
+
+    public void reindex(Comment comment) {
+        remove(comment.getCommentId());
+        index(comment);
+    }
+
+    /**
+     * 댓글 변경 이벤트의 값으로 재색인합니다. 같은 이벤트가 다시 전달되어도 결과가 같습니다.
+     */
+    public void reindex(CommentChangedEvent event) {
+        remove(event.getCommentId());
+        index(event.getCommentId(), event.getPostId(), event.getBoardId(), event.getAuthorId(), event.getContent());
+    }
+
+    private void index(Long commentId, Long postId, Long boardId, Long userId, String content) {
+        Set<String> terms = tokenize(content);
+        if (terms.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = terms.stream()
+                .map(term -> new Object[] { term, commentId, postId, boardId, userId })
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    public void remove(Long commentId) {
+        commentSearchTermRepository.deleteByCommentId(commentId);
+    }
+
+    /**
+     * 검색어를 조회용 term 집합으로 변환합니다. 2글자 미만이면 빈 집합을 반환하며,
+     * 이 경우 호출자는 역색인 대신 LIKE 검색으로 대체해야 합니다.
+     */
+    public Set<String> queryTerms(String keyword) {
+        return tokenize(keyword).stream()
+                .limit(MAX_QUERY_TERMS)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /** 역색인 후보가 실제로 검색어를 포함하는지 색인과 같은 정규화 기준으로 확인합니다. */
+    public boolean matches(String content, String keyword) {
+        return content != null && normalize(content).contains(normalize(keyword));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 삭제되지 않은 모든 댓글을 commentId 순으로 배치 단위 재색인합니다.
+     * 배치마다 별도 트랜잭션을 사용해 긴 트랜잭션과 영속성 컨텍스트 비대화를 피합니다.
+     */
+    public long rebuildAll() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long lastId = 0L;
+        long indexed = 0L;
+        while (true) {
+            final long cursor = lastId;
+            List<Long> batchIds = tx.execute(status -> {
+                List<Comment> batch = commentRepository.findIndexableComments(cursor,
+                        PageRequest.of(0, REBUILD_BATCH_SIZE));
+                batch.forEach(this::reindex);
+                return batch.stream().map(Comment::getCommentId).collect(Collectors.toList());
+            });
+            if (batchIds == null || batchIds.isEmpty()) {
+                break;
+            }
+            indexed += batchIds.size();
+            lastId = batchIds.get(batchIds.size() - 1);
+        }
+        log.info("댓글 검색 색인 재구축 완료: {}건", indexed);
+        return indexed;
+    }
+
+    /**
+     * NFKC 정규화·소문자화·공백 압축 후 코드포인트 기준 2글자 토큰을 중복 없이 추출합니다.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        int[] codePoints = normalize(text).codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+        return terms;
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+}
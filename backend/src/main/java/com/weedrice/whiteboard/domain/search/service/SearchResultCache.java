@@ -0,0 +1,138 @@
+package com.weedrice.whiteboard.domain.search.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 검색 결과(ID 페이지 + 전체 건수) 캐시.
+ * 사용자와 무관한 결과만 담고, 차단 사용자 필터링과 DTO 변환은 조회한 쪽에서 수행합니다.
+ * <p>
+ * 게시글이 작성/수정/삭제되면 커밋 이후 세대(generation) 값이 증가하며, 이전 세대 항목은 다음 조회 시 동기로 다시 읽습니다.
+ * 세대는 게시판별로 두어 게시판 범위 검색은 그 게시판의 변경에만 무효화되고, 전체 검색만 모든 변경에 무효화됩니다.
+ * 다시 읽기는 키 단위로 한 번만 수행하며(single-flight), 동시에 조회한 요청은 그 결과를 기다립니다.
+ * 세대가 같더라도 refresh 주기가 지난 항목은 기존 값을 즉시 반환하고 백그라운드에서 갱신하므로(stale-while-revalidate)
+ * 자주 검색되는 키워드는 만료 시점에도 원본 쿼리를 기다리지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService searchExecutor;
+
+    @Value("${search.result-cache.maximum-size:10000}")
+    private long maximumSize = 10000;
+
+    @Value("${search.result-cache.refresh-after-seconds:30}")
+    private long refreshAfterSeconds = 30;
+
+    @Value("${search.result-cache.expire-after-seconds:600}")
+    private long expireAfterSeconds = 600;
+
+    /** 전체 게시판 검색(boardUrl 없음)의 세대, 모든 게시글 변경에 증가 */
+    private final AtomicLong allBoardsGeneration = new AtomicLong();
+    /** 게시판 URL별 세대, 그 게시판의 게시글 변경에만 증가 */
+    private final Map<String, AtomicLong> boardGenerations = new ConcurrentHashMap<>();
+    /** 게시판을 알 수 없는 변경의 세대, 모든 게시판 범위 검색에 더해짐 */
+    private final AtomicLong unscopedGeneration = new AtomicLong();
+    private LoadingCache<SearchKey, CachedIdPage> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterSeconds))
+                .executor(searchExecutor)
+                .recordStats()
+                .build(this::load);
+    }
+
+    /**
+     * 정규화된 검색 조건의 게시글 ID 페이지를 반환합니다.
+     */
+    public CachedIdPage get(String keyword, String searchType, String boardUrl, Pageable pageable) {
+        SearchKey key = SearchKey.of(keyword, searchType, boardUrl, pageable);
+        CachedIdPage page = cache.get(key);
+        if (page.generation() != generationOf(key)) {
+            // 게시글 변경 이후 적재된 결과가 아니면 오래된 결과를 내보내지 않고 다시 조회.
+            // compute로 키를 잠가 동시에 들어온 조회는 먼저 시작한 한 번의 조회 결과를 함께 씀
+            page = cache.asMap().compute(key, (k, existing) ->
+                    existing != null && existing.generation() == generationOf(k) ? existing : load(k));
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (StringUtils.hasText(event.getBoardUrl())) {
+            boardGenerations.computeIfAbsent(event.getBoardUrl(), url -> new AtomicLong()).incrementAndGet();
+        } else {
+            // 게시판을 모르는 변경은 모든 게시판 범위 검색을 무효화
+            unscopedGeneration.incrementAndGet();
+        }
+        allBoardsGeneration.incrementAndGet();
+    }
+
+    private long generationOf(SearchKey key) {
+        if (key.boardUrl() == null) {
+            return allBoardsGeneration.get();
+        }
+        AtomicLong boardGeneration = boardGenerations.get(key.boardUrl());
+        return unscopedGeneration.get() + (boardGeneration != null ? boardGeneration.get() : 0);
+    }
+
+    private CachedIdPage load(SearchKey key) {
+        // 조회 전에 세대를 읽어 두어, 조회 도중 변경이 커밋되면 다음 조회에서 다시 읽히도록 함
+        long loadedGeneration = generationOf(key);
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        Page<Long> idPage = readOnlyTx.execute(status -> postRepository.searchPostIds(key.keyword(),
+                key.searchType(), key.boardUrl(), key.toPageable()));
+        return new CachedIdPage(List.copyOf(idPage.getContent()), idPage.getTotalElements(), loadedGeneration);
+    }
+
+    public record CachedIdPage(List<Long> postIds, long total, long generation) {
+    }
+
+    record SearchKey(String keyword, String searchType, String boardUrl, int page, int size, Sort sort) {
+
+        static SearchKey of(String keyword, String searchType, String boardUrl, Pageable pageable) {
+            // 검색은 대소문자를 구분하지 않으므로 소문자로 통일해 같은 결과를 하나의 항목으로 공유
+            String normalizedKeyword = keyword == null ? "" : keyword.strip().toLowerCase(Locale.ROOT);
+            String normalizedType = StringUtils.hasText(searchType) ? searchType.toUpperCase(Locale.ROOT)
+                    : "TITLE_CONTENT";
+            String normalizedBoardUrl = StringUtils.hasText(boardUrl) ? boardUrl : null;
+            return new SearchKey(normalizedKeyword, normalizedType, normalizedBoardUrl, pageable.getPageNumber(),
+                    pageable.getPageSize(), pageable.getSort());
+        }
+
+        Pageable toPageable() {
+            return PageRequest.of(page, size, sort);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.weedrice.whiteboard.domain.search.service;
 
 import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
 import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
 import com.weedrice.whiteboard.domain.post.dto.PostSummary;
+import com.weedrice.whiteboard.domain.post.entity.Post;
 import com.weedrice.whiteboard.domain.post.repository.PostRepository;
 import com.weedrice.whiteboard.domain.search.dto.IntegratedSearchResponse;
 import com.weedrice.whiteboard.domain.search.dto.PopularKeywordDto;
 import com.weedrice.whiteboard.domain.search.dto.SearchPersonalizationResponse;
 import com.weedrice.whiteboard.domain.search.entity.SearchPersonalization;
 import com.weedrice.whiteboard.domain.search.entity.SearchStatistic;
+import com.weedrice.whiteboard.domain.search.repository.CommentSearchTermRepository;
 import com.weedrice.whiteboard.domain.search.repository.SearchPersonalizationRepository;
 import com.weedrice.whiteboard.domain.search.repository.SearchStatisticRepository;
 import com.weedrice.whiteboard.domain.user.dto.UserSummary;
@@ -18,14 +21,29 @@ import com.weedrice.whiteboard.global.common.util.DateTimeUtils;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.weedrice.whiteboard.domain.user.service.UserBlockService; // Import UserBlockService
@@ -38,6 +56,7 @@ import com.weedrice.whiteboard.domain.board.repository.BoardRepository;
 
 // ...
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -51,7 +70,14 @@ public class SearchService {
     private final BoardRepository boardRepository; // Inject BoardRepository
     private final UserBlockService userBlockService; // Inject UserBlockService
 
-    private final com.weedrice.whiteboard.domain.file.service.FileService fileService; // Inject FileService
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService searchExecutor;
+    private final CommentSearchTermRepository commentSearchTermRepository;
+    private final CommentSearchIndexer commentSearchIndexer;
+    private final SearchResultCache searchResultCache;
+
+    @Value("${search.integrated.timeout-ms:1500}")
+    private long integratedSearchTimeoutMs = 1500;
 
     @Transactional
     public void recordSearch(Long userId, String keyword) {
@@ -73,58 +99,140 @@ public class SearchService {
         }
     }
 
+    /**
+     * 게시글/댓글/사용자/게시판 검색을 가상 스레드에서 병렬로 실행합니다.
+     * 각 브랜치는 자신의 읽기 전용 트랜잭션(커넥션)을 사용하며, 제한 시간을 넘기거나 실패한 브랜치는
+     * 빈 결과로 대체하고 partialSections에 기록합니다. 응답 지연은 가장 느린 브랜치 수준으로 제한됩니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IntegratedSearchResponse integratedSearch(String keyword, Long currentUserId) {
         Pageable previewPageable = PageRequest.of(0, 5); // 미리보기는 5개까지만
+        List<String> partialSections = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Page<PostSummary>> posts = searchBranch("posts",
+                () -> searchPostPreviews(keyword, currentUserId, previewPageable),
+                Page.empty(previewPageable), partialSections);
+
+        CompletableFuture<Page<CommentResponse>> comments = searchBranch("comments",
+                () -> searchComments(keyword, null, null, null, previewPageable, currentUserId),
+                Page.empty(previewPageable), partialSections);
+
+        CompletableFuture<Page<UserSummary>> users = searchBranch("users",
+                () -> userRepository.findByDisplayNameContainingIgnoreCase(keyword, previewPageable)
+                        .map(UserSummary::from),
+                Page.empty(previewPageable), partialSections);
+
+        CompletableFuture<List<BoardSummary>> boards = searchBranch("boards",
+                () -> boardRepository.findByBoardNameContainingIgnoreCaseAndIsActiveTrue(keyword)
+                        .stream()
+                        .map(BoardSummary::from)
+                        .collect(Collectors.toList()),
+                List.of(), partialSections);
+
+        return IntegratedSearchResponse.from(posts.join(), comments.join(), users.join(), boards.join(), keyword,
+                List.copyOf(partialSections));
+    }
+
+    private Page<PostSummary> searchPostPreviews(String keyword, Long currentUserId, Pageable pageable) {
+        // 통합 검색 미리보기는 제목+내용 검색과 같은 조건이므로 게시글 검색 결과 캐시를 공유
+        return searchPosts(keyword, null, null, pageable, currentUserId);
+    }
+
+    /**
+     * 검색 브랜치 하나를 searchExecutor에서 별도 읽기 전용 트랜잭션으로 실행합니다.
+     * DTO 변환까지 트랜잭션 안에서 끝내므로 지연 로딩 연관관계도 안전하게 접근할 수 있습니다.
+     */
+    private <T> CompletableFuture<T> searchBranch(String section, Supplier<T> query, T fallback,
+            List<String> partialSections) {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        // 타임아웃 이후에도 쿼리가 커넥션을 붙잡고 있지 않도록 쿼리 타임아웃을 함께 적용
+        readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(integratedSearchTimeoutMs + 999)));
+
+        return CompletableFuture
+                .supplyAsync(() -> readOnlyTx.execute(status -> query.get()), searchExecutor)
+                .orTimeout(integratedSearchTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("통합 검색 브랜치 실패, 부분 결과 반환: section={}, cause={}", section, ex.toString());
+                    partialSections.add(section);
+                    return fallback;
+                });
+    }
+
+    /**
+     * 댓글 역색인으로 키워드를 포함한 댓글을 최신순으로 검색합니다.
+     * 게시글/게시판/작성자 범위를 지정할 수 있으며, 색인 후보는 본문으로 재확인하므로
+     * 한 페이지의 건수가 요청 크기보다 적을 수 있습니다.
+     */
+    public Page<CommentResponse> searchComments(String keyword, Long postId, String boardUrl, Long authorId,
+            Pageable pageable, Long currentUserId) {
+        Long boardId = null;
+        if (boardUrl != null) {
+            boardId = boardRepository.findByBoardUrl(boardUrl)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_NOT_FOUND))
+                    .getBoardId();
+        }
 
         List<Long> blockedUserIds = null;
         if (currentUserId != null) {
             blockedUserIds = userBlockService.getBlockedUserIds(currentUserId);
         }
 
-        Page<PostSummary> posts = postRepository.searchPostsByKeyword(keyword, blockedUserIds, previewPageable)
-                .map(post -> {
-                    PostSummary summary = PostSummary.from(post);
-                    // Check for image
-                    List<Long> postIds = java.util.Collections.singletonList(post.getPostId());
-                    boolean hasImage = !fileService.getRelatedIdsWithImages(postIds, "POST_CONTENT").isEmpty();
-                    summary.setHasImage(hasImage);
-                    return summary;
-                });
-
-        Page<CommentResponse> comments = commentRepository
-                .findByContentContainingIgnoreCaseAndIsDeleted(keyword, false, previewPageable)
-                .map(CommentResponse::from);
+        Set<String> terms = commentSearchIndexer.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            // 1글자 검색어는 bi-gram 색인으로 찾을 수 없으므로 범위가 지정된 LIKE 검색으로 대체
+            return commentRepository
+                    .searchCommentsByKeyword(keyword, postId, boardId, authorId, blockedUserIds, pageable)
+                    .map(CommentResponse::from);
+        }
 
-        Page<UserSummary> users = userRepository.findByDisplayNameContainingIgnoreCase(keyword, previewPageable)
-                .map(UserSummary::from);
+        Page<Long> idPage = commentSearchTermRepository.searchCommentIds(terms, postId, boardId, authorId,
+                blockedUserIds, pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
+        }
 
-        List<BoardSummary> boards = boardRepository.findByBoardNameContainingIgnoreCaseAndIsActiveTrue(keyword)
-                .stream()
-                .map(BoardSummary::from)
+        Map<Long, Comment> commentMap = commentRepository.findAllByIdsWithRelations(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Comment::getCommentId, Function.identity()));
+        List<CommentResponse> content = idPage.getContent().stream()
+                .map(commentMap::get)
+                .filter(c -> c != null && !c.getIsDeleted() && commentSearchIndexer.matches(c.getContent(), keyword))
+                .map(CommentResponse::from)
                 .collect(Collectors.toList());
-
-        return IntegratedSearchResponse.from(posts, comments, users, boards, keyword);
+        return new PageImpl<>(content, pageable, idPage.getTotalElements());
     }
 
+    /**
+     * 게시글 검색. 사용자와 무관한 ID 페이지는 {@link SearchResultCache}에서 가져오고,
+     * 차단 사용자 제외와 이미지 여부 표시는 요청마다 적용합니다.
+     * 차단 사용자의 글이 제외된 페이지는 요청 크기보다 적을 수 있습니다.
+     */
     public Page<PostSummary> searchPosts(String keyword, String searchType, String boardUrl, Pageable pageable,
             Long currentUserId) {
-        List<Long> blockedUserIds = null;
+        Set<Long> blockedUserIds = Set.of();
         if (currentUserId != null) {
-            blockedUserIds = userBlockService.getBlockedUserIds(currentUserId);
+            blockedUserIds = new HashSet<>(userBlockService.getBlockedUserIds(currentUserId));
+        }
+
+        SearchResultCache.CachedIdPage idPage = searchResultCache.get(keyword, searchType, boardUrl, pageable);
+        if (idPage.postIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.total());
         }
-        Page<com.weedrice.whiteboard.domain.post.entity.Post> postPage = postRepository.searchPosts(keyword, searchType,
-                boardUrl, blockedUserIds, pageable);
-
-        List<Long> postIds = postPage.getContent().stream()
-                .map(com.weedrice.whiteboard.domain.post.entity.Post::getPostId).collect(Collectors.toList());
-        java.util.Set<Long> postIdsWithImages = new java.util.HashSet<>(
-                fileService.getRelatedIdsWithImages(postIds, "POST_CONTENT"));
-
-        return postPage.map(post -> {
-            PostSummary summary = PostSummary.from(post);
-            summary.setHasImage(postIdsWithImages.contains(post.getPostId()));
-            return summary;
-        });
+
+        Map<Long, Post> postMap = postRepository.findAllByIdsWithRelations(idPage.postIds()).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        final Set<Long> finalBlockedUserIds = blockedUserIds;
+        List<Post> posts = idPage.postIds().stream()
+                .map(postMap::get)
+                .filter(post -> post != null && !post.getIsDeleted()
+                        && !finalBlockedUserIds.contains(post.getUser().getUserId()))
+                .collect(Collectors.toList());
+
+        // 이미지 여부는 게시글에 유지되는 has_image를 그대로 사용
+        List<PostSummary> content = posts.stream()
+                .map(PostSummary::from)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, idPage.total());
     }
 
     public SearchPersonalizationResponse getRecentSearches(Long userId, Pageable pageable) {
@@ -0,0 +1,15 @@
+package com.weedrice.whiteboard.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 차단/차단 해제 후 발행되는 이벤트.
+ * 차단 사용자를 제외하고 집계하는 값(읽지 않은 쪽지 수 등)을 커밋 이후 다시 계산하는 신호로 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserBlockChangedEvent {
+    private Long userId;
+    private Long targetUserId;
+}
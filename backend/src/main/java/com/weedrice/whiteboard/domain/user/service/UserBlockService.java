@@ -1,6 +1,7 @@
 package com.weedrice.whiteboard.domain.user.service;
 
 import com.weedrice.whiteboard.domain.user.dto.BlockedUserResponse;
+import com.weedrice.whiteboard.domain.user.dto.UserBlockChangedEvent;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.entity.UserBlock;
 import com.weedrice.whiteboard.domain.user.repository.UserBlockRepository;
@@ -8,6 +9,7 @@ import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ public class UserBlockService {
 
         private final UserRepository userRepository;
         private final UserBlockRepository userBlockRepository;
+        private final ApplicationEventPublisher eventPublisher;
 
         @Transactional
         public void blockUser(Long userId, Long targetUserId) {
@@ -46,6 +49,7 @@ public class UserBlockService {
                                 .build();
 
                 userBlockRepository.save(userBlock);
+                eventPublisher.publishEvent(new UserBlockChangedEvent(userId, targetUserId));
         }
 
         @Transactional
@@ -60,6 +64,7 @@ public class UserBlockService {
                                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
 
                 userBlockRepository.delete(userBlock);
+                eventPublisher.publishEvent(new UserBlockChangedEvent(userId, targetUserId));
         }
 
         public Page<BlockedUserResponse> getBlockedUsers(Long userId, Pageable pageable) {
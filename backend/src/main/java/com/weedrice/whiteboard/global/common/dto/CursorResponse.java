@@ -0,0 +1,21 @@
+package com.weedrice.whiteboard.global.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * keyset(커서) 방식 목록 응답. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회합니다.
+ */
+@Getter
+public class CursorResponse<T> {
+    private final List<T> content;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, Long nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -2,28 +2,30 @@ package com.weedrice.whiteboard.global.common.util;
 
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
+import com.weedrice.whiteboard.global.storage.BlobMetadata;
+import com.weedrice.whiteboard.global.storage.BlobStore;
+import com.weedrice.whiteboard.global.storage.PresignedUpload;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.UUID;
 
+/**
+ * 업로드 파일을 {@link BlobStore}(S3 또는 로컬 파일시스템, {@code storage.type})에 저장/조회/삭제합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
 
-    private final S3Client s3Client;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final BlobStore blobStore;
 
     public String storeFile(MultipartFile file) {
         String originalFileName = file.getOriginalFilename();
@@ -32,47 +34,120 @@ public class FileStorageService {
             fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
         }
         String fileName = UUID.randomUUID().toString() + fileExtension;
+        storeFile(fileName, file, file.getContentType());
+        return fileName; // 저장된 파일명(저장소 키) 반환
+    }
+
+    /**
+     * 업로드 파일을 지정한 키(내용 해시 기반 이름 등)와 콘텐츠 타입으로 저장합니다.
+     */
+    public void storeFile(String fileName, MultipartFile file, String contentType) {
+        try (InputStream content = file.getInputStream()) {
+            storeFile(fileName, content, file.getSize(), contentType);
+        } catch (IOException ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 업로드 실패: " + ex.getMessage());
+        }
+    }
 
+    /**
+     * 스트림을 끝까지 읽으며 저장합니다. size가 -1이면 길이를 모르는 스트림입니다.
+     * 스트림이 던진 {@link BusinessException}(크기 초과 등)은 그대로 전달합니다.
+     */
+    public void storeFile(String fileName, InputStream content, long size, String contentType) {
         try {
-            PutObjectRequest putOb = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .build();
+            blobStore.put(fileName, content, size, contentType);
+        } catch (BusinessException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 업로드 실패: " + ex.getMessage());
+        } catch (Exception ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장소 오류: " + ex.getMessage());
+        }
+    }
 
-            RequestBody requestBody = RequestBody.fromInputStream(file.getInputStream(), file.getSize());
-            s3Client.putObject(putOb, requestBody);
+    /**
+     * 저장된 객체를 다른 키로 복사합니다. 저장소가 지원하면 저장소 안에서 복사합니다.
+     */
+    public void copyFile(String sourceName, String targetName, long size, String contentType) {
+        try {
+            blobStore.copy(sourceName, targetName, size, contentType);
+        } catch (Exception ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장소 오류: " + ex.getMessage());
+        }
+    }
 
-            return fileName; // 저장된 파일명(S3 Key) 반환
-        } catch (IOException ex) {
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "S3 파일 업로드 실패: " + ex.getMessage());
+    /**
+     * 서버에서 만든 내용(이미지 파생본 등)을 지정한 키로 저장합니다.
+     */
+    public void storeFile(String fileName, byte[] content, String contentType) {
+        try {
+            blobStore.put(fileName, new ByteArrayInputStream(content), content.length, contentType);
         } catch (Exception ex) {
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "S3 서비스 오류: " + ex.getMessage());
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장소 오류: " + ex.getMessage());
         }
     }
 
     public InputStream loadFile(String fileName) {
         try {
-            GetObjectRequest getOb = GetObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(fileName)
-                    .build();
-            return s3Client.getObject(getOb);
+            return blobStore.open(fileName);
         } catch (Exception ex) {
-            throw new BusinessException(ErrorCode.NOT_FOUND, "S3 파일 로드 실패: " + fileName);
+            throw new BusinessException(ErrorCode.NOT_FOUND, "파일 로드 실패: " + fileName);
+        }
+    }
+
+    /**
+     * 클라이언트가 지정한 키에 직접 올릴 서명된 업로드 요청을 만듭니다. 저장소가 지원하지 않으면 null입니다.
+     */
+    public PresignedUpload presignUpload(String fileName, String contentType, long size, Duration ttl) {
+        try {
+            return blobStore.presignPut(fileName, contentType, size, ttl);
+        } catch (Exception ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장소 오류: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 객체의 크기와 콘텐츠 타입을 내용을 받지 않고 조회합니다. 없으면 null입니다.
+     */
+    public BlobMetadata statFile(String fileName) {
+        try {
+            return blobStore.stat(fileName);
+        } catch (Exception ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장소 오류: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 내용의 앞부분 최대 length 바이트를 읽습니다.
+     */
+    public byte[] readHead(String fileName, int length) {
+        try {
+            return blobStore.readHead(fileName, length);
+        } catch (Exception ex) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "파일 로드 실패: " + fileName);
         }
     }
 
     public void deleteFile(String fileName) {
         try {
-            DeleteObjectRequest deleteOb = DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(fileName)
-                    .build();
-            s3Client.deleteObject(deleteOb);
+            blobStore.delete(fileName);
         } catch (Exception ex) {
             // 파일 삭제 실패는 치명적이지 않으므로 로그만 남김
-            System.err.println("S3 파일 삭제 실패: " + fileName + ", " + ex.getMessage());
+            log.warn("파일 삭제 실패: {}", fileName, ex);
+        }
+    }
+
+    /**
+     * 여러 객체를 한 번에 삭제합니다. {@link #deleteFile}과 달리 실패를 예외로 알려, 호출자가 DB 변경을 되돌리고 다시 시도할 수 있게 합니다.
+     */
+    public void deleteFiles(Collection<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        try {
+            blobStore.deleteAll(fileNames);
+        } catch (Exception ex) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 삭제 실패: " + ex.getMessage());
         }
     }
-}
\ No newline at end of file
+}
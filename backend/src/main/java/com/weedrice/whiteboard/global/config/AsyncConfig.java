@@ -6,6 +6,8 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 @EnableAsync
@@ -21,4 +23,13 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 통합 검색 브랜치(게시글/댓글/사용자/게시판) 병렬 실행용 가상 스레드 Executor.
+     * 실제 동시성 상한은 각 브랜치가 점유하는 DB 커넥션 풀 크기로 제한됩니다.
+     */
+    @Bean(name = "searchExecutor")
+    public ExecutorService searchExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
 }
@@ -0,0 +1,13 @@
+package com.weedrice.whiteboard.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업(임시 파일 정리, 인기글 집계)을 활성화합니다.
+ * 스케줄러 스레드 수는 {@code spring.task.scheduling.pool.size}로 정합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
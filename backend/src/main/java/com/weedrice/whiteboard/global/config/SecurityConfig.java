@@ -77,6 +77,9 @@ public class SecurityConfig {
                                                                 "/api/v1/ads/{adId}/click", // 광고 클릭 기록 허용
                                                                 "/api/v1/posts/*/view" // 게시글 조회수 증가 허용
                                                 ).permitAll()
+                                                .requestMatchers(HttpMethod.PUT,
+                                                                "/api/v1/storage/uploads/*" // 로컬 저장소 직접 업로드, 서명 토큰으로 검증
+                                                ).permitAll()
                                                 .anyRequest().authenticated())
                                 .oauth2Login(oauth2 -> oauth2
                                                 .userInfoEndpoint(userInfo -> userInfo
@@ -40,6 +40,7 @@ public class WebConfig implements WebMvcConfigurer {
                         "/api/v1/posts/**",
                         "/api/v1/comments/**",
                         "/api/v1/files/**",
+                        "/api/v1/storage/uploads/**",
                         "/api/v1/tags/**",
                         "/api/v1/search/**",
                         "/api/v1/shop/items/**",
@@ -0,0 +1,22 @@
+package com.weedrice.whiteboard.global.email;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 대량 발송 결과. errors는 요청한 수신자 순서와 같으며, 성공한 수신자는 null입니다.
+ */
+public record BulkEmailResult(List<String> errors) {
+
+    public static BulkEmailResult allSent(int count) {
+        return new BulkEmailResult(Collections.nCopies(count, null));
+    }
+
+    public boolean isSent(int index) {
+        return errors.get(index) == null;
+    }
+
+    public long sentCount() {
+        return errors.stream().filter(error -> error == null).count();
+    }
+}
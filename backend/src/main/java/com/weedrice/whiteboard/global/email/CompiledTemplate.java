@@ -0,0 +1,65 @@
+package com.weedrice.whiteboard.global.email;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한 번 분석해 둔 메일 템플릿. SES(Handlebars)와 같은 문법으로 {@code {{name}}}은 HTML 이스케이프해서,
+ * {@code {{{name}}}}는 그대로 치환합니다. 렌더링은 고정 조각과 변수 조각을 이어 붙이기만 하므로 매번 문자열을 다시 조립하지 않습니다.
+ */
+final class CompiledTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\{(\\w+)}}}|\\{\\{(\\w+)}}");
+
+    private final String source;
+    private final List<Segment> segments;
+
+    private CompiledTemplate(String source, List<Segment> segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    static CompiledTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                segments.add(new Segment(source.substring(last, matcher.start()), null, false));
+            }
+            boolean raw = matcher.group(1) != null;
+            segments.add(new Segment(null, raw ? matcher.group(1) : matcher.group(2), !raw));
+            last = matcher.end();
+        }
+        if (last < source.length()) {
+            segments.add(new Segment(source.substring(last), null, false));
+        }
+        return new CompiledTemplate(source, List.copyOf(segments));
+    }
+
+    /** SES에 등록할 원본 템플릿 */
+    String source() {
+        return source;
+    }
+
+    String render(Map<String, String> data) {
+        StringBuilder out = new StringBuilder(source.length() + 64);
+        for (Segment segment : segments) {
+            if (segment.text() != null) {
+                out.append(segment.text());
+                continue;
+            }
+            String value = data.getOrDefault(segment.variable(), "");
+            out.append(segment.escape() ? HtmlUtils.htmlEscape(value) : value);
+        }
+        return out.toString();
+    }
+
+    private record Segment(String text, String variable, boolean escape) {
+    }
+}
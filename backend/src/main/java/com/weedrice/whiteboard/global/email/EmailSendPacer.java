@@ -0,0 +1,39 @@
+package com.weedrice.whiteboard.global.email;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+
+import java.time.Duration;
+
+/**
+ * SES 초당 발송 한도(MaxSendRate)에 맞춘 토큰 버킷. 수신자 한 명당 토큰 하나를 쓰며, 모자라면 채워질 때까지 기다립니다.
+ */
+class EmailSendPacer {
+
+    private final Bucket bucket;
+    private final long ratePerSecond;
+
+    EmailSendPacer(long ratePerSecond) {
+        this.ratePerSecond = Math.max(1, ratePerSecond);
+        this.bucket = Bucket.builder()
+                .addLimit(Bandwidth.classic(this.ratePerSecond, Refill.greedy(this.ratePerSecond, Duration.ofSeconds(1))))
+                .build();
+    }
+
+    /**
+     * 수신자 수만큼 토큰을 얻을 때까지 기다립니다. 한 번에 버킷 용량보다 많이 요청하면 용량 단위로 나눠 기다립니다.
+     */
+    void acquire(long recipients) throws InterruptedException {
+        long remaining = recipients;
+        while (remaining > 0) {
+            long chunk = Math.min(remaining, ratePerSecond);
+            bucket.asBlocking().consume(chunk);
+            remaining -= chunk;
+        }
+    }
+
+    long ratePerSecond() {
+        return ratePerSecond;
+    }
+}
@@ -1,5 +1,23 @@
 package com.weedrice.whiteboard.global.email;
 
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+
+import java.util.List;
+import java.util.Map;
+
 public interface EmailService {
     void sendEmail(String to, String subject, String body);
+
+    /**
+     * 같은 템플릿으로 여러 수신자에게 발송합니다. 수신자별 성공/실패는 결과로 돌려주며 일부 실패로 예외를 던지지 않습니다.
+     */
+    BulkEmailResult sendBulk(EmailTemplate template, List<TemplatedEmail> emails);
+
+    default void sendTemplated(EmailTemplate template, String to, Map<String, String> data) {
+        BulkEmailResult result = sendBulk(template, List.of(new TemplatedEmail(to, data)));
+        if (!result.isSent(0)) {
+            throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED, "Email send failed: " + result.errors().get(0));
+        }
+    }
 }
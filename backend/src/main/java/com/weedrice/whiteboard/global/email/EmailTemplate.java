@@ -0,0 +1,51 @@
+package com.weedrice.whiteboard.global.email;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 서비스에서 보내는 메일 템플릿. 클래스 로딩 시 한 번 컴파일하며, SES 사용 시 같은 원본을 SES 템플릿으로 등록해 대량 발송에 사용합니다.
+ */
+public enum EmailTemplate {
+
+    VERIFICATION_CODE(
+            "[noviIs] 이메일 인증 코드",
+            "<h1>이메일 인증 코드</h1><p>아래 코드를 입력하여 인증을 완료해주세요.</p><h3>{{code}}</h3>"),
+    PASSWORD_RESET(
+            "[noviIs] 비밀번호 재설정 링크",
+            "<h1>비밀번호 재설정</h1><p>아래 링크를 클릭하여 비밀번호를 재설정해주세요.</p>"
+                    + "<p><a href=\"{{resetLink}}\">{{resetLink}}</a></p>"),
+    /** 공지/다이제스트 등 본문을 그대로 싣는 알림 메일 (본문은 발송 측에서 만든 HTML) */
+    NOTICE(
+            "{{subject}}",
+            "{{{body}}}");
+
+    private final CompiledTemplate subject;
+    private final CompiledTemplate html;
+
+    EmailTemplate(String subject, String html) {
+        this.subject = CompiledTemplate.compile(subject);
+        this.html = CompiledTemplate.compile(html);
+    }
+
+    public String renderSubject(Map<String, String> data) {
+        return subject.render(data);
+    }
+
+    public String renderHtml(Map<String, String> data) {
+        return html.render(data);
+    }
+
+    String subjectSource() {
+        return subject.source();
+    }
+
+    String htmlSource() {
+        return html.source();
+    }
+
+    /** SES에 등록하는 템플릿 이름 */
+    String sesName(String prefix) {
+        return prefix + "-" + name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,61 @@
+package com.weedrice.whiteboard.global.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 실제로 발송하지 않고 렌더링한 메일을 기록하는 구현 ({@code email.provider=fake}, 기본값).
+ * 로컬 개발과 테스트에서 발송 내용을 확인하는 용도이며, 최근 {@code email.fake.capacity}건만 보관합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "email.provider", havingValue = "fake", matchIfMissing = true)
+public class FakeEmailService implements EmailService {
+
+    private final Deque<SentEmail> sent = new ArrayDeque<>();
+
+    @Value("${email.fake.capacity:1000}")
+    private int capacity = 1000;
+
+    @Override
+    public void sendEmail(String to, String subject, String body) {
+        record(new SentEmail(to, subject, body, null));
+    }
+
+    @Override
+    public BulkEmailResult sendBulk(EmailTemplate template, List<TemplatedEmail> emails) {
+        for (TemplatedEmail email : emails) {
+            record(new SentEmail(email.to(), template.renderSubject(email.data()), template.renderHtml(email.data()),
+                    template));
+        }
+        return BulkEmailResult.allSent(emails.size());
+    }
+
+    /** 기록된 메일을 오래된 순으로 반환합니다. */
+    public synchronized List<SentEmail> sentEmails() {
+        return new ArrayList<>(sent);
+    }
+
+    public synchronized void clear() {
+        sent.clear();
+    }
+
+    private synchronized void record(SentEmail email) {
+        log.info("Email sending disabled. To: {}, Subject: {}", email.to(), email.subject());
+        sent.addLast(email);
+        while (sent.size() > capacity) {
+            sent.removeFirst();
+        }
+    }
+
+    /** 기록된 메일. 템플릿 없이 보낸 메일은 template이 null입니다. */
+    public record SentEmail(String to, String subject, String html, EmailTemplate template) {
+    }
+}
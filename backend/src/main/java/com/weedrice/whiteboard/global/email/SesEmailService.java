@@ -1,28 +1,70 @@
 package com.weedrice.whiteboard.global.email;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Amazon SES 발송 구현 ({@code email.provider=ses}).
+ * <p>
+ * 시작 시 {@link EmailTemplate}을 SES 템플릿으로 등록(갱신)하고, 대량 발송은 SendBulkTemplatedEmail로 호출당 최대 50명씩 보냅니다.
+ * 모든 호출은 계정의 초당 발송 한도(GetSendQuota)에 맞춘 토큰 버킷으로 속도를 맞추며, 묶음별 크기/소요 시간/결과를 지표로 남깁니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "email.provider", havingValue = "ses")
 public class SesEmailService implements EmailService {
 
+    /** SES SendBulkTemplatedEmail 한 번에 넣을 수 있는 최대 수신자 수 */
+    static final int MAX_DESTINATIONS_PER_CALL = 50;
+
     private final SesClient sesClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.ses.sender}")
     private String sender;
 
+    @Value("${email.ses.template-prefix:whiteboard}")
+    private String templatePrefix = "whiteboard";
+
+    /** 0이면 SES 계정 한도(MaxSendRate)를 조회해 사용 */
+    @Value("${email.ses.max-send-rate:0}")
+    private long maxSendRate = 0;
+
+    private EmailSendPacer pacer;
+
+    @PostConstruct
+    void init() {
+        pacer = new EmailSendPacer(maxSendRate > 0 ? maxSendRate : quotaSendRate());
+        for (EmailTemplate template : EmailTemplate.values()) {
+            registerTemplate(template);
+        }
+        log.info("SES 발송 준비 완료: maxSendRate={}/s, templates={}", pacer.ratePerSecond(), EmailTemplate.values().length);
+    }
+
     @Override
     public void sendEmail(String to, String subject, String body) {
         try {
-            SendEmailRequest request = SendEmailRequest.builder()
+            pace(1);
+            sesClient.sendEmail(SendEmailRequest.builder()
                     .destination(Destination.builder().toAddresses(to).build())
                     .message(Message.builder()
                             .subject(Content.builder().data(subject).build())
@@ -31,14 +73,108 @@ public class SesEmailService implements EmailService {
                                     .build())
                             .build())
                     .source(sender)
-                    .build();
-
-            // sesClient.sendEmail(request);
-            // log.info("Email sent to: {}", to);
-            log.info("Email sending disabled. To: {}, Subject: {}, Body: {}", to, subject, body);
+                    .build());
         } catch (SesException e) {
             log.error("Failed to send email to: {}", to, e);
             throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED, "Email send failed: " + e.getMessage());
         }
     }
+
+    @Override
+    public BulkEmailResult sendBulk(EmailTemplate template, List<TemplatedEmail> emails) {
+        List<String> errors = new ArrayList<>(emails.size());
+        for (int from = 0; from < emails.size(); from += MAX_DESTINATIONS_PER_CALL) {
+            List<TemplatedEmail> batch = emails.subList(from, Math.min(from + MAX_DESTINATIONS_PER_CALL, emails.size()));
+            errors.addAll(sendBatch(template, batch));
+        }
+        return new BulkEmailResult(errors);
+    }
+
+    private List<String> sendBatch(EmailTemplate template, List<TemplatedEmail> batch) {
+        String templateName = template.name();
+        DistributionSummary.builder("email.batch.size")
+                .description("SES 대량 발송 호출당 수신자 수")
+                .tag("template", templateName)
+                .register(meterRegistry)
+                .record(batch.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<String> errors = new ArrayList<>(batch.size());
+        try {
+            pace(batch.size());
+            List<BulkEmailDestination> destinations = new ArrayList<>(batch.size());
+            for (TemplatedEmail email : batch) {
+                destinations.add(BulkEmailDestination.builder()
+                        .destination(Destination.builder().toAddresses(email.to()).build())
+                        .replacementTemplateData(objectMapper.writeValueAsString(email.data()))
+                        .build());
+            }
+            SendBulkTemplatedEmailResponse response = sesClient.sendBulkTemplatedEmail(
+                    SendBulkTemplatedEmailRequest.builder()
+                            .source(sender)
+                            .template(template.sesName(templatePrefix))
+                            .defaultTemplateData("{}")
+                            .destinations(destinations)
+                            .build());
+            List<BulkEmailDestinationStatus> statuses = response.status();
+            for (int i = 0; i < batch.size(); i++) {
+                BulkEmailDestinationStatus status = i < statuses.size() ? statuses.get(i) : null;
+                errors.add(status != null && status.status() == BulkEmailStatus.SUCCESS ? null
+                        : status != null ? status.statusAsString() + ": " + status.error() : "missing status");
+            }
+        } catch (SesException | JsonProcessingException e) {
+            log.error("SES 대량 발송 실패: template={}, recipients={}", templateName, batch.size(), e);
+            errors.clear();
+            batch.forEach(email -> errors.add(e.getMessage()));
+        } catch (BusinessException e) {
+            errors.clear();
+            batch.forEach(email -> errors.add(e.getMessage()));
+        } finally {
+            sample.stop(meterRegistry.timer("email.batch.duration", "template", templateName));
+        }
+        long failed = errors.stream().filter(error -> error != null).count();
+        recipients(templateName, "sent").increment(batch.size() - failed);
+        recipients(templateName, "failed").increment(failed);
+        return errors;
+    }
+
+    private void pace(int recipients) {
+        try {
+            pacer.acquire(recipients);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED, "Email send interrupted");
+        }
+    }
+
+    private Counter recipients(String template, String result) {
+        return Counter.builder("email.recipients")
+                .description("템플릿/결과별 메일 수신자 수")
+                .tag("template", template)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private long quotaSendRate() {
+        try {
+            return (long) Math.floor(sesClient.getSendQuota().maxSendRate());
+        } catch (SesException e) {
+            log.warn("SES 발송 한도 조회 실패, 초당 1건으로 제한: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private void registerTemplate(EmailTemplate template) {
+        Template sesTemplate = Template.builder()
+                .templateName(template.sesName(templatePrefix))
+                .subjectPart(template.subjectSource())
+                .htmlPart(template.htmlSource())
+                .build();
+        try {
+            sesClient.updateTemplate(UpdateTemplateRequest.builder().template(sesTemplate).build());
+        } catch (TemplateDoesNotExistException e) {
+            sesClient.createTemplate(CreateTemplateRequest.builder().template(sesTemplate).build());
+        } catch (SesException e) {
+            log.warn("SES 템플릿 등록 실패: template={}, cause={}", sesTemplate.templateName(), e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package com.weedrice.whiteboard.global.email;
+
+import java.util.Map;
+
+/**
+ * 템플릿 메일 수신자 한 명과 치환 값.
+ */
+public record TemplatedEmail(String to, Map<String, String> data) {
+}
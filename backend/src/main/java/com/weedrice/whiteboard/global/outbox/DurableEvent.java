@@ -0,0 +1,19 @@
+package com.weedrice.whiteboard.global.outbox;
+
+/**
+ * outbox에 기록되어 커밋 이후 반드시 전달되어야 하는 도메인 이벤트.
+ * <p>
+ * {@code ApplicationEventPublisher}로 발행하면 {@link OutboxPublisher}가 커밋 직전(같은 트랜잭션 안에서) outbox 테이블에 기록하고,
+ * {@link OutboxRelay}가 커밋된 이벤트를 {@link OutboxConsumer}에 전달합니다. 노드 로컬 캐시 무효화처럼 유실돼도 되는 처리는
+ * 기존처럼 {@code @TransactionalEventListener}로 같은 이벤트를 받으면 됩니다.
+ */
+public interface DurableEvent {
+
+    /** 소비자가 구독하는 이벤트 유형. 저장된 행과 호환되도록 클래스 이름 대신 고정 문자열을 사용합니다. */
+    String eventType();
+
+    /** outbox에 JSON으로 저장할 값. 엔티티를 담은 이벤트는 식별자와 표시용 값만 담은 객체를 반환해야 합니다. */
+    default Object payload() {
+        return this;
+    }
+}
@@ -0,0 +1,25 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * outbox 이벤트 소비자. 소비자마다 별도의 처리 위치(offset)를 가지며, 클러스터 전체에서 한 노드만 묶음 단위로 전달받습니다.
+ * <p>
+ * 전달은 최소 한 번(at-least-once)입니다. {@link #consume}이 예외 없이 끝나야 처리 위치가 넘어가고, 예외가 나면 같은 묶음이
+ * {@link OutboxMessage#redelivered()}로 다시 전달되므로 구현은 멱등해야 합니다.
+ * 쓰기 자체가 멱등하지 않으면 같은 트랜잭션에서 {@link OutboxDeduplicator#claim}으로 이미 처리한 이벤트를 걸러냅니다.
+ */
+public interface OutboxConsumer {
+
+    /** 처리 위치를 저장하는 고유 이름. 바꾸면 새 소비자로 취급되어 그 시점 이후 이벤트부터 받습니다. */
+    String name();
+
+    /** 전달받을 이벤트 유형 */
+    Set<String> eventTypes();
+
+    /**
+     * 이벤트 묶음을 발생 순서대로 처리합니다.
+     */
+    void consume(List<OutboxMessage> messages);
+}
@@ -0,0 +1,55 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최대 시도 후에도 전달에 실패해 처리 위치에서 건너뛴 outbox 이벤트. outbox 보관 기간과 상관없이 이벤트 내용을 그대로 남겨,
+ * 원인을 해결한 뒤 {@link OutboxDeadLetters#replay}로 다시 전달합니다. 기록은 {@link OutboxRelay}가 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_dead_letters", indexes = {
+        @Index(name = "idx_outbox_dead_letters_replayed_at", columnList = "replayed_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_dead_letters", columnNames = { "consumer_name", "outbox_id" })
+})
+public class OutboxDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dead_letter_id")
+    private Long deadLetterId;
+
+    @Column(name = "consumer_name", length = 100, nullable = false)
+    private String consumerName;
+
+    @Column(name = "outbox_id", nullable = false)
+    private Long outboxId;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "idempotency_key", length = 36)
+    private String idempotencyKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Column(name = "replayed_at")
+    private LocalDateTime replayedAt;
+}
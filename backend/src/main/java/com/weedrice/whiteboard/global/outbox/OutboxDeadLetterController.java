@@ -0,0 +1,47 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import com.weedrice.whiteboard.domain.user.entity.Role;
+import com.weedrice.whiteboard.global.common.ApiResponse;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * outbox dead letter 조회/재전달 관리자 API
+ */
+@RestController
+@RequestMapping("/api/v1/admin/outbox/dead-letters")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('" + Role.SUPER_ADMIN + "')")
+public class OutboxDeadLetterController {
+
+    private final OutboxDeadLetters outboxDeadLetters;
+
+    /**
+     * 아직 다시 전달하지 않은 dead letter 조회
+     *
+     * @param limit 최대 조회 수
+     * @return {@link OutboxDeadLetterResponse} 보관된 순서의 dead letter 목록
+     */
+    @GetMapping
+    public ApiResponse<List<OutboxDeadLetterResponse>> getDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        return ApiResponse.success(outboxDeadLetters.getPending(limit));
+    }
+
+    /**
+     * dead letter 재전달
+     * <p>
+     * {@link BusinessException} 대상이 없거나 이미 재전달했으면 <code>NOT_FOUND</code>,
+     * 다시 실패하면 <code>INTERNAL_SERVER_ERROR</code> 반환
+     *
+     * @param deadLetterId 재전달할 dead letter ID
+     * @return {@link OutboxDeadLetterResponse} 재전달한 dead letter
+     */
+    @PostMapping("/{deadLetterId}/replay")
+    public ApiResponse<OutboxDeadLetterResponse> replay(@PathVariable Long deadLetterId) {
+        return ApiResponse.success(outboxDeadLetters.replay(deadLetterId));
+    }
+}
@@ -0,0 +1,20 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class OutboxDeadLetterResponse {
+    private Long deadLetterId;
+    private String consumerName;
+    private Long outboxId;
+    private String eventType;
+    private String idempotencyKey;
+    private String payload;
+    private LocalDateTime createdAt;
+    private String lastError;
+    private LocalDateTime failedAt;
+}
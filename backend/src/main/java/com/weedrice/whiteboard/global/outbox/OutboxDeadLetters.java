@@ -0,0 +1,99 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link OutboxRelay}가 최대 시도 후 건너뛴 이벤트(outbox_dead_letters)를 조회하고 해당 소비자에게 다시 전달합니다.
+ * <p>
+ * 다시 전달은 {@link OutboxMessage#redelivered()}로 한 건씩 이뤄지며, 릴레이의 전달과 동시에 실행될 수 있으므로
+ * 소비자의 멱등 처리({@link OutboxDeduplicator})에 기댑니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDeadLetters {
+
+    private static final String COLUMNS = "dead_letter_id, consumer_name, outbox_id, event_type, idempotency_key, "
+            + "payload, created_at, last_error, failed_at";
+
+    private static final String PENDING_SQL = "SELECT " + COLUMNS + " FROM outbox_dead_letters "
+            + "WHERE replayed_at IS NULL ORDER BY dead_letter_id LIMIT ?";
+
+    private static final String FIND_SQL = "SELECT " + COLUMNS + " FROM outbox_dead_letters "
+            + "WHERE dead_letter_id = ? AND replayed_at IS NULL";
+
+    private static final String REPLAYED_SQL = "UPDATE outbox_dead_letters SET replayed_at = ? WHERE dead_letter_id = ?";
+
+    private static final String FAILED_SQL = "UPDATE outbox_dead_letters SET last_error = ?, failed_at = ? "
+            + "WHERE dead_letter_id = ?";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final RowMapper<OutboxDeadLetterResponse> MAPPER = (rs, rowNum) -> OutboxDeadLetterResponse.builder()
+            .deadLetterId(rs.getLong("dead_letter_id"))
+            .consumerName(rs.getString("consumer_name"))
+            .outboxId(rs.getLong("outbox_id"))
+            .eventType(rs.getString("event_type"))
+            .idempotencyKey(rs.getString("idempotency_key"))
+            .payload(rs.getString("payload"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .lastError(rs.getString("last_error"))
+            .failedAt(rs.getTimestamp("failed_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<OutboxConsumer> consumers;
+
+    /**
+     * 아직 다시 전달하지 않은 dead letter를 보관된 순서대로 조회합니다.
+     */
+    public List<OutboxDeadLetterResponse> getPending(int limit) {
+        return jdbcTemplate.query(PENDING_SQL, MAPPER, limit);
+    }
+
+    /**
+     * dead letter 한 건을 원래 소비자에게 다시 전달하고, 성공하면 다시 전달한 것으로 표시합니다.
+     * <p>
+     * {@link BusinessException} 대상이 없거나 이미 다시 전달했으면 <code>NOT_FOUND</code>,
+     * 소비자가 더 이상 없으면 <code>INVALID_INPUT_VALUE</code>,
+     * 다시 실패하면 오류를 기록하고 <code>INTERNAL_SERVER_ERROR</code>
+     */
+    public OutboxDeadLetterResponse replay(Long deadLetterId) {
+        OutboxDeadLetterResponse deadLetter = jdbcTemplate.query(FIND_SQL, MAPPER, deadLetterId).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+        OutboxConsumer consumer = consumers.stream()
+                .filter(candidate -> candidate.name().equals(deadLetter.getConsumerName()))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        "등록되지 않은 outbox 소비자: " + deadLetter.getConsumerName()));
+        OutboxMessage message = new OutboxMessage(deadLetter.getOutboxId(), deadLetter.getEventType(),
+                deadLetter.getIdempotencyKey(), deadLetter.getPayload(), deadLetter.getCreatedAt(), true);
+        try {
+            consumer.consume(List.of(message));
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (error.length() > MAX_ERROR_LENGTH) {
+                error = error.substring(0, MAX_ERROR_LENGTH);
+            }
+            jdbcTemplate.update(FAILED_SQL, error, Timestamp.valueOf(LocalDateTime.now()), deadLetterId);
+            log.warn("outbox dead letter 재전달 실패: deadLetterId={}, consumer={}, cause={}", deadLetterId,
+                    consumer.name(), error);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, error);
+        }
+        jdbcTemplate.update(REPLAYED_SQL, Timestamp.valueOf(LocalDateTime.now()), deadLetterId);
+        log.info("outbox dead letter 재전달 완료: deadLetterId={}, consumer={}, outboxId={}", deadLetterId,
+                consumer.name(), deadLetter.getOutboxId());
+        return deadLetter;
+    }
+}
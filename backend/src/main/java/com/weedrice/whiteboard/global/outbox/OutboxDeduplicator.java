@@ -0,0 +1,57 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 재전달된 outbox 이벤트를 idempotency key로 걸러내는 도구. 쓰기가 멱등하지 않은 소비자(알림 추가 등)가 사용합니다.
+ * <p>
+ * {@link #claim}은 처리 기록을 남기면서 처음 보는 이벤트만 돌려주므로, 반드시 소비자의 쓰기와 같은 트랜잭션 안에서 호출해야 합니다.
+ * 쓰기가 롤백되면 기록도 함께 롤백되어 다음 전달에서 다시 처리되고, 커밋된 뒤 처리 위치를 옮기기 전에 실패해 재전달되면 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxDeduplicator {
+
+    // 이미 기록된 키는 충돌로 건너뛰고, 이번에 기록된 키만 돌려받음
+    static final String CLAIM_SQL = "INSERT INTO outbox_processed_keys (consumer_name, idempotency_key, processed_at) "
+            + "SELECT ?, key, ? FROM unnest(?::varchar[]) AS key "
+            + "ON CONFLICT (consumer_name, idempotency_key) DO NOTHING RETURNING idempotency_key";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 묶음 중 이 소비자가 아직 처리하지 않은 이벤트만 순서대로 반환하고 처리 기록을 남깁니다.
+     */
+    public List<OutboxMessage> claim(String consumerName, List<OutboxMessage> messages) {
+        String[] keys = messages.stream()
+                .map(OutboxMessage::idempotencyKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(String[]::new);
+        if (keys.length == 0) {
+            return messages;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Set<String> claimed = new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CLAIM_SQL);
+            ps.setString(1, consumerName);
+            ps.setTimestamp(2, now);
+            ps.setArray(3, connection.createArrayOf("varchar", keys));
+            return ps;
+        }, (rs, rowNum) -> rs.getString("idempotency_key")));
+        // 키가 없는 이벤트는 거를 수 없으므로 그대로 처리
+        return messages.stream()
+                .filter(message -> message.idempotencyKey() == null || claimed.remove(message.idempotencyKey()))
+                .toList();
+    }
+}
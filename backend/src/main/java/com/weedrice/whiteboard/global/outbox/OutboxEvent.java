@@ -0,0 +1,40 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 테이블 매핑. 기록과 조회는 {@link OutboxPublisher}, {@link OutboxRelay}가 JDBC로 수행하며,
+ * 엔티티는 스키마 관리(ddl-auto)용으로만 둡니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_idempotency_key", columnNames = "idempotency_key")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "idempotency_key", length = 36, nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소비자에게 전달되는 outbox 이벤트.
+ *
+ * @param idempotencyKey 이벤트마다 발급되는 고유 키. 재전달되어도 같으므로 소비자가 중복 처리를 걸러낼 때 사용합니다.
+ * @param redelivered    이전 전달이 실패해 다시 전달되는 묶음이면 true. 이미 일부 반영됐을 수 있으므로 멱등하게 처리해야 합니다.
+ */
+public record OutboxMessage(
+        Long outboxId,
+        String eventType,
+        String idempotencyKey,
+        String payload,
+        LocalDateTime createdAt,
+        boolean redelivered) {
+}
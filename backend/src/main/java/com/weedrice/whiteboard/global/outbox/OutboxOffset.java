@@ -0,0 +1,44 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소비자별 outbox 처리 위치. locked_by/locked_until은 한 소비자를 클러스터에서 한 노드만 처리하도록 하는 임대(lease)이고,
+ * attempts/last_error/next_attempt_at은 현재 위치 다음 묶음의 연속 실패 기록과 다음 재시도 시각입니다. 기록과 조회는 {@link OutboxRelay}가 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_offsets")
+public class OutboxOffset {
+
+    @Id
+    @Column(name = "consumer_name", length = 100)
+    private String consumerName;
+
+    @Column(name = "last_outbox_id", nullable = false)
+    private Long lastOutboxId;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+}
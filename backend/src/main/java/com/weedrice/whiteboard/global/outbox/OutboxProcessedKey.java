@@ -0,0 +1,38 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소비자별로 처리를 마친 outbox 이벤트의 idempotency key. 소비자의 쓰기와 같은 트랜잭션에서 기록되어,
+ * 재전달된 이벤트를 유니크 제약으로 걸러냅니다. 기록과 조회는 {@link OutboxDeduplicator}, 정리는 {@link OutboxRelay}가
+ * JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_processed_keys", indexes = {
+        @Index(name = "idx_outbox_processed_keys_processed_at", columnList = "processed_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_processed_keys", columnNames = { "consumer_name", "idempotency_key" })
+})
+public class OutboxProcessedKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "processed_key_id")
+    private Long processedKeyId;
+
+    @Column(name = "consumer_name", length = 100, nullable = false)
+    private String consumerName;
+
+    @Column(name = "idempotency_key", length = 36, nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
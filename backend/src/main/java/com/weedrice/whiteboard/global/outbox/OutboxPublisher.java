@@ -0,0 +1,53 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * {@link DurableEvent}를 outbox 테이블에 기록합니다.
+ * <p>
+ * 커밋 직전(BEFORE_COMMIT)에 업무 트랜잭션과 같은 커넥션으로 INSERT하므로 업무 변경과 이벤트가 함께 커밋되거나 함께 롤백됩니다.
+ * 발행 코드는 기존처럼 {@code ApplicationEventPublisher}를 쓰면 되고, 트랜잭션 밖에서 발행된 이벤트는 바로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox (event_type, idempotency_key, payload, created_at) "
+            + "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDurableEvent(DurableEvent event) {
+        append(event.eventType(), event.payload());
+    }
+
+    /**
+     * 이벤트를 현재 트랜잭션에 기록합니다.
+     *
+     * @return 발급한 멱등성 키
+     */
+    public String append(String eventType, Object payload) {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            // 기록하지 못한 이벤트는 전달되지 않으므로 업무 트랜잭션도 롤백
+            throw new IllegalStateException("outbox payload 직렬화 실패: " + eventType, e);
+        }
+        jdbcTemplate.update(INSERT_SQL, eventType, idempotencyKey, json, Timestamp.valueOf(LocalDateTime.now()));
+        return idempotencyKey;
+    }
+}
@@ -0,0 +1,386 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 이벤트를 소비자별로 묶어 전달하는 릴레이.
+ * <p>
+ * 소비자마다 전용 스레드가 처리 위치(outbox_offsets) 이후의 이벤트를 outbox_id 순으로 batch-size씩 읽어 전달하고,
+ * 전달이 끝나면 처리 위치를 옮깁니다(at-least-once). 처리 위치 행의 임대(lease)를 가진 노드만 전달하므로 여러 노드가 떠 있어도
+ * 소비자별로 한 노드만 처리하며, 노드가 죽으면 임대가 만료된 뒤 다른 노드가 이어서 처리합니다.
+ * <p>
+ * 전달이 실패하면 시도 횟수에 따라 지수적으로 늘어나는 간격(backoff-base-ms ~ backoff-max-ms)을 두고 같은 묶음을 다시 전달합니다.
+ * max-attempts회 연속 실패하면 한 건씩 전달해 실패하는 이벤트만 outbox_dead_letters에 보관하고 넘어가며,
+ * 보관된 이벤트는 원인을 해결한 뒤 {@link OutboxDeadLetters#replay}로 다시 전달합니다.
+ * <p>
+ * outbox_id는 INSERT 시점에 발급되지만 커밋은 순서가 바뀔 수 있어, 아직 커밋되지 않은 이벤트의 ID가 비어 보일 수 있습니다.
+ * 처리 위치 바로 다음 ID가 비어 있으면 그 뒤 이벤트가 gap-grace-ms보다 오래됐을 때만(롤백 등으로 영영 채워지지 않는 ID) 건너뜁니다.
+ * 이벤트는 커밋 직전에 기록되므로 ID 발급부터 커밋까지의 간격은 짧습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Logger deadLetterLog = LoggerFactory.getLogger("outbox.dead-letter");
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM outbox_offsets WHERE consumer_name = ?";
+
+    // 새 소비자는 등록 시점 이후 이벤트부터 받음
+    private static final String REGISTER_SQL = "INSERT INTO outbox_offsets "
+            + "(consumer_name, last_outbox_id, attempts, modified_at) "
+            + "SELECT ?, COALESCE(MAX(outbox_id), 0), 0, ? FROM outbox";
+
+    private static final String LEASE_SQL = "UPDATE outbox_offsets SET locked_by = ?, locked_until = ? "
+            + "WHERE consumer_name = ? AND (locked_by IS NULL OR locked_by = ? OR locked_until < ?)";
+
+    private static final String POSITION_SQL = "SELECT last_outbox_id, attempts, next_attempt_at FROM outbox_offsets "
+            + "WHERE consumer_name = ?";
+
+    private static final String FETCH_SQL = "SELECT outbox_id, event_type, idempotency_key, payload, created_at "
+            + "FROM outbox WHERE outbox_id > ? ORDER BY outbox_id LIMIT ?";
+
+    private static final String ADVANCE_SQL = "UPDATE outbox_offsets SET last_outbox_id = ?, attempts = 0, "
+            + "last_error = NULL, next_attempt_at = NULL, modified_at = ? WHERE consumer_name = ? AND locked_by = ?";
+
+    private static final String FAIL_SQL = "UPDATE outbox_offsets SET attempts = attempts + 1, last_error = ?, "
+            + "next_attempt_at = ?, modified_at = ? WHERE consumer_name = ? AND locked_by = ?";
+
+    // 처리 위치를 옮기기 전에 기록하므로, 기록 후 위치 이동 전에 중단되면 같은 이벤트가 다시 기록될 수 있어 무시
+    private static final String DEAD_LETTER_SQL = "INSERT INTO outbox_dead_letters "
+            + "(consumer_name, outbox_id, event_type, idempotency_key, payload, created_at, last_error, failed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (consumer_name, outbox_id) DO NOTHING";
+
+    private static final String RELEASE_SQL = "UPDATE outbox_offsets SET locked_by = NULL, locked_until = NULL "
+            + "WHERE consumer_name = ? AND locked_by = ?";
+
+    private static final String OFFSETS_SQL = "SELECT consumer_name, last_outbox_id FROM outbox_offsets";
+
+    private static final String HEAD_SQL = "SELECT COALESCE(MAX(outbox_id), 0) FROM outbox";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<OutboxConsumer> consumers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${outbox.relay.idle-poll-ms:500}")
+    private long idlePollMs = 500;
+
+    @Value("${outbox.relay.lease-seconds:60}")
+    private long leaseSeconds = 60;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${outbox.relay.backoff-base-ms:1000}")
+    private long backoffBaseMs = 1000;
+
+    @Value("${outbox.relay.backoff-max-ms:300000}")
+    private long backoffMaxMs = 300000;
+
+    @Value("${outbox.relay.gap-grace-ms:10000}")
+    private long gapGraceMs = 10000;
+
+    @Value("${outbox.relay.retention-hours:72}")
+    private long retentionHours = 72;
+
+    @Value("${outbox.relay.maintenance-interval-seconds:60}")
+    private long maintenanceIntervalSeconds = 60;
+
+    private final String workerId = "outbox-" + UUID.randomUUID().toString().substring(0, 8);
+    private final Map<String, AtomicLong> lags = new HashMap<>();
+    private ExecutorService relays;
+    private ScheduledExecutorService maintenance;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        for (OutboxConsumer consumer : consumers) {
+            AtomicLong lag = new AtomicLong();
+            lags.put(consumer.name(), lag);
+            Gauge.builder("outbox.lag", lag, AtomicLong::get)
+                    .description("소비자가 아직 처리하지 않은 outbox 이벤트 수")
+                    .tag("consumer", consumer.name())
+                    .register(meterRegistry);
+        }
+        if (!enabled || consumers.isEmpty()) {
+            return;
+        }
+        consumers.forEach(consumer -> register(consumer.name()));
+        running = true;
+        relays = Executors.newFixedThreadPool(consumers.size(),
+                Thread.ofPlatform().name("outbox-relay-", 0).daemon(true).factory());
+        for (OutboxConsumer consumer : consumers) {
+            relays.submit(() -> runLoop(consumer));
+        }
+        maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-maintenance").daemon(true).factory());
+        maintenance.scheduleWithFixedDelay(this::maintain, maintenanceIntervalSeconds, maintenanceIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (relays != null) {
+            relays.shutdownNow();
+        }
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+        if (enabled) {
+            // 다른 노드가 임대 만료를 기다리지 않고 바로 이어받도록 반납
+            for (OutboxConsumer consumer : consumers) {
+                try {
+                    jdbcTemplate.update(RELEASE_SQL, consumer.name(), workerId);
+                } catch (RuntimeException e) {
+                    log.warn("outbox 임대 반납 실패: consumer={}, cause={}", consumer.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void register(String name) {
+        Integer exists = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, name);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(REGISTER_SQL, name, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 등록함
+        }
+    }
+
+    private void runLoop(OutboxConsumer consumer) {
+        while (running) {
+            try {
+                if (relay(consumer) == 0) {
+                    Thread.sleep(idlePollMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("outbox 전달 실패, 잠시 후 재시도: consumer={}, cause={}", consumer.name(), e.getMessage());
+                try {
+                    Thread.sleep(idlePollMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 소비자의 처리 위치 이후 이벤트 한 묶음을 전달하고 처리 위치를 옮깁니다.
+     *
+     * @return 처리 위치를 넘긴 이벤트 수(구독하지 않는 유형 포함). 임대를 얻지 못했거나, 재시도 대기 중이거나, 전달이 실패하면 0
+     */
+    int relay(OutboxConsumer consumer) {
+        String name = consumer.name();
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(LEASE_SQL, workerId, Timestamp.valueOf(now.plusSeconds(leaseSeconds)), name, workerId,
+                Timestamp.valueOf(now)) == 0) {
+            return 0;
+        }
+        Position position = jdbcTemplate.queryForObject(POSITION_SQL, (rs, rowNum) -> {
+            Timestamp nextAttemptAt = rs.getTimestamp("next_attempt_at");
+            return new Position(rs.getLong("last_outbox_id"), rs.getInt("attempts"),
+                    nextAttemptAt != null ? nextAttemptAt.toLocalDateTime() : null);
+        }, name);
+        if (position.nextAttemptAt() != null && now.isBefore(position.nextAttemptAt())) {
+            return 0;
+        }
+        List<OutboxMessage> fetched = jdbcTemplate.query(FETCH_SQL, messageMapper(position.attempts() > 0),
+                position.lastOutboxId(), batchSize);
+        List<OutboxMessage> visible = visible(position.lastOutboxId(), fetched,
+                now.minusNanos(TimeUnit.MILLISECONDS.toNanos(gapGraceMs)));
+        if (visible.isEmpty()) {
+            return 0;
+        }
+        Set<String> eventTypes = consumer.eventTypes();
+        List<OutboxMessage> messages = visible.stream()
+                .filter(message -> eventTypes.contains(message.eventType()))
+                .toList();
+        if (!messages.isEmpty() && !deliver(consumer, messages, position.attempts())) {
+            return 0;
+        }
+        jdbcTemplate.update(ADVANCE_SQL, visible.get(visible.size() - 1).outboxId(),
+                Timestamp.valueOf(LocalDateTime.now()), name, workerId);
+        return visible.size();
+    }
+
+    /**
+     * 묶음을 전달합니다. 실패하면 시도 횟수와 다음 시도 시각을 기록하고 false를 반환하며, 최대 시도에 도달하면 한 건씩 다시
+     * 전달해 실패하는 이벤트만 outbox_dead_letters에 보관하고 true를 반환합니다.
+     */
+    private boolean deliver(OutboxConsumer consumer, List<OutboxMessage> messages, int attempts) {
+        String name = consumer.name();
+        try {
+            consume(consumer, messages);
+            count(name, "delivered").increment(messages.size());
+            return true;
+        } catch (RuntimeException e) {
+            String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            if (attempts + 1 < maxAttempts) {
+                log.warn("outbox 묶음 전달 실패 ({}/{}): consumer={}, size={}, cause={}", attempts + 1, maxAttempts, name,
+                        messages.size(), error);
+                LocalDateTime failedAt = LocalDateTime.now();
+                jdbcTemplate.update(FAIL_SQL, error, Timestamp.valueOf(failedAt.plus(backoff(attempts + 1))),
+                        Timestamp.valueOf(failedAt), name, workerId);
+                count(name, "failed").increment(messages.size());
+                return false;
+            }
+        }
+        for (OutboxMessage message : messages) {
+            try {
+                consume(consumer, List.of(message));
+                count(name, "delivered").increment();
+            } catch (RuntimeException e) {
+                String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                // 보관에 실패하면 예외가 전파되어 처리 위치를 옮기지 않으므로 이벤트를 잃지 않음
+                jdbcTemplate.update(DEAD_LETTER_SQL, name, message.outboxId(), message.eventType(),
+                        message.idempotencyKey(), message.payload(), Timestamp.valueOf(message.createdAt()), error,
+                        Timestamp.valueOf(LocalDateTime.now()));
+                deadLetterLog.error("consumer={}, message={}, cause={}", name, message, error);
+                count(name, "dead").increment();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * attempts번째 실패 후 같은 묶음을 다시 전달하기까지의 대기 시간. base * 2^(attempts-1)을 상한으로 자르고, 여러 소비자가
+     * 같은 장애로 동시에 실패해도 한꺼번에 재시도하지 않도록 절반 구간에 지터를 줍니다.
+     */
+    Duration backoff(int attempts) {
+        long exponential = backoffBaseMs << Math.min(attempts - 1, 20);
+        long capped = Math.min(Math.max(exponential, backoffBaseMs), backoffMaxMs);
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(capped - half + 1));
+    }
+
+    private void consume(OutboxConsumer consumer, List<OutboxMessage> messages) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            consumer.consume(messages);
+        } finally {
+            sample.stop(meterRegistry.timer("outbox.consume.duration", "consumer", consumer.name()));
+        }
+    }
+
+    /**
+     * 처리 위치 다음부터 ID가 이어지는 구간만 반환합니다. 비어 있는 ID 뒤의 이벤트가 gapCutoff 이후에 기록됐으면
+     * 비어 있는 ID가 아직 커밋 중일 수 있으므로 그 앞에서 자릅니다.
+     */
+    static List<OutboxMessage> visible(long lastOutboxId, List<OutboxMessage> fetched, LocalDateTime gapCutoff) {
+        long expected = lastOutboxId + 1;
+        for (int i = 0; i < fetched.size(); i++) {
+            OutboxMessage message = fetched.get(i);
+            if (message.outboxId() != expected && message.createdAt().isAfter(gapCutoff)) {
+                return fetched.subList(0, i);
+            }
+            expected = message.outboxId() + 1;
+        }
+        return fetched;
+    }
+
+    /**
+     * 소비자별 지연 지표를 갱신하고, 모든 소비자가 처리했고 보관 기간이 지난 이벤트를 삭제합니다.
+     */
+    void maintain() {
+        try {
+            Long head = jdbcTemplate.queryForObject(HEAD_SQL, Long.class);
+            List<Long> positions = new ArrayList<>();
+            jdbcTemplate.query(OFFSETS_SQL, rs -> {
+                AtomicLong lag = lags.get(rs.getString("consumer_name"));
+                if (lag != null) {
+                    long position = rs.getLong("last_outbox_id");
+                    lag.set(Math.max(0, (head != null ? head : 0) - position));
+                    positions.add(position);
+                }
+            });
+            if (positions.size() == consumers.size()) {
+                long safe = Collections.min(positions);
+                int purged = jdbcTemplate.update("DELETE FROM outbox WHERE outbox_id <= ? AND created_at < ?", safe,
+                        Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+                if (purged > 0) {
+                    log.info("처리가 끝난 outbox 이벤트 {}건 삭제", purged);
+                }
+            }
+            // 보관 기간이 지난 이벤트는 다시 전달될 일이 없으므로 처리 기록도 정리
+            jdbcTemplate.update("DELETE FROM outbox_processed_keys WHERE processed_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+            // 다시 전달을 마친 dead letter도 보관 기간이 지나면 정리, 아직 다시 전달하지 않은 것은 남김
+            jdbcTemplate.update("DELETE FROM outbox_dead_letters WHERE replayed_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+        } catch (RuntimeException e) {
+            log.warn("outbox 유지 작업 실패: {}", e.getMessage());
+        }
+    }
+
+    private static RowMapper<OutboxMessage> messageMapper(boolean redelivered) {
+        return (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("outbox_id"),
+                rs.getString("event_type"),
+                rs.getString("idempotency_key"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                redelivered);
+    }
+
+    private Counter count(String consumer, String result) {
+        return Counter.builder("outbox.deliveries")
+                .description("소비자/결과별 outbox 이벤트 전달 수")
+                .tag("consumer", consumer)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+
+    record Position(long lastOutboxId, int attempts, LocalDateTime nextAttemptAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM의 브로드캐스터로 바로 전달하는 버스. 단일 노드 배포와 테스트에서 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "realtime.bus.type", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackRealtimeBus implements RealtimeBus {
+
+    private final SseBroadcaster sseBroadcaster;
+    private final Map<String, Consumer<Object>> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(Long userId, String name, Object data) {
+        sseBroadcaster.send(userId, name, data);
+    }
+
+    @Override
+    public void broadcast(String topic, Object data) {
+        Consumer<Object> handler = handlers.get(topic);
+        if (handler != null) {
+            handler.accept(data);
+        }
+    }
+
+    @Override
+    public <T> void subscribe(String topic, Class<T> type, Consumer<T> handler) {
+        handlers.put(topic, data -> handler.accept(type.cast(data)));
+    }
+}
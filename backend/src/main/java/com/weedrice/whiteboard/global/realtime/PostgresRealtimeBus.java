@@ -0,0 +1,264 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Postgres LISTEN/NOTIFY 기반 버스. 기존 데이터소스의 DB를 그대로 사용하므로 별도 메시지 브로커가 필요 없습니다.
+ * <p>
+ * 발행한 노드도 자신의 NOTIFY를 수신하므로 로컬 전달은 수신 경로 하나로만 이루어집니다.
+ * 이벤트 ID는 발행 노드에서 발급해 메시지에 담고, 모든 노드가 연결 유무와 관계없이 같은 ID로 재전송 버퍼에 남깁니다.
+ * 따라서 노드가 내려가 클라이언트가 다른 노드로 재연결해도 Last-Event-ID 이후 이벤트를 이어 받을 수 있습니다.
+ * 수신 연결은 커넥션 풀과 별도로 열어 풀 크기를 점유하지 않으며, 끊기면 지연 후 다시 LISTEN 합니다.
+ * <p>
+ * NOTIFY는 수신 연결이 없는 동안 보낸 것을 보관하지 않으므로, 발행은 같은 문장에서 {@code realtime_event_log}에
+ * 기록하고 그 seq를 붙여 알립니다. 재연결한 노드는 LISTEN을 다시 건 뒤 마지막으로 받은 seq 이후의 기록을 읽어
+ * 끊긴 동안의 이벤트를 전달하고, 재연결 직후 겹쳐 도착하는 알림은 최근 seq로 걸러냅니다.
+ * 기록은 {@code realtime.bus.log-retention-minutes} 동안만 보존하므로 그보다 오래 끊겼던 구간은 복구하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "realtime.bus.type", havingValue = "postgres")
+public class PostgresRealtimeBus implements RealtimeBus {
+
+    static final String CHANNEL = "realtime_events";
+    // 기록에 성공한 이벤트만 seq를 붙여 알림 (payload는 "seq:메시지")
+    static final String PUBLISH_SQL = """
+            WITH logged AS (
+                INSERT INTO realtime_event_log (payload, created_at) VALUES (?, now()) RETURNING seq
+            )
+            SELECT pg_notify(?, CAST(seq AS text) || ':' || ?) FROM logged
+            """;
+    static final String LAST_SEQ_SQL = "SELECT COALESCE(MAX(seq), 0) FROM realtime_event_log";
+    static final String CATCH_UP_SQL = "SELECT seq, payload FROM realtime_event_log WHERE seq > ? ORDER BY seq LIMIT ?";
+    static final String PURGE_SQL = "DELETE FROM realtime_event_log WHERE created_at < now() - (? * interval '1 minute')";
+    static final int CATCH_UP_BATCH_SIZE = 500;
+    // 재연결 직후 기록과 알림으로 겹쳐 받을 수 있는 구간보다 넉넉하게 유지
+    private static final int RECENT_SEQ_CAPACITY = 4096;
+    // NOTIFY payload 상한(8000 bytes)보다 여유 있게 제한
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final SseBroadcaster sseBroadcaster;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${realtime.bus.poll-timeout-ms:500}")
+    private int pollTimeoutMs = 500;
+
+    @Value("${realtime.bus.reconnect-delay-ms:2000}")
+    private long reconnectDelayMs = 2000;
+
+    @Value("${realtime.bus.log-retention-minutes:10}")
+    private long logRetentionMinutes = 10;
+
+    private final Map<String, Consumer<JsonNode>> handlers = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listener;
+
+    // 아래 상태는 수신 스레드에서만 읽고 씀
+    private long lastSeq = -1;
+    private final Set<Long> recentSeqs = new LinkedHashSet<>();
+    private long nextPurgeAt;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("realtime-bus-listener").daemon(true).start(this::listen);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(Long userId, String name, Object data) {
+        BusMessage message = new BusMessage(null, userId, sseBroadcaster.nextEventId(), name,
+                objectMapper.valueToTree(data));
+        String payload = serialize(message);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            // 다른 노드로는 보낼 수 없으므로 최소한 이 노드의 연결에는 전달
+            log.warn("실시간 이벤트가 NOTIFY 크기 제한을 넘어 로컬로만 전달: userId={}, name={}", userId, name);
+            sseBroadcaster.dispatch(userId, new RealtimeEvent(message.id(), name, message.data()));
+            return;
+        }
+        jdbcTemplate.queryForObject(PUBLISH_SQL, String.class, payload, CHANNEL, payload);
+    }
+
+    @Override
+    public void broadcast(String topic, Object data) {
+        String payload = serialize(new BusMessage(topic, null, 0L, null, objectMapper.valueToTree(data)));
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("노드 메시지가 NOTIFY 크기 제한을 넘음: topic=" + topic);
+        }
+        jdbcTemplate.queryForObject(PUBLISH_SQL, String.class, payload, CHANNEL, payload);
+    }
+
+    @Override
+    public <T> void subscribe(String topic, Class<T> type, Consumer<T> handler) {
+        handlers.put(topic, data -> {
+            try {
+                handler.accept(objectMapper.treeToValue(data, type));
+            } catch (JsonProcessingException | RuntimeException e) {
+                // 수신 스레드가 멈추지 않도록 핸들러 실패는 기록만 함
+                log.warn("노드 메시지 처리 실패: topic={}, cause={}", topic, e.getMessage());
+            }
+        });
+    }
+
+    private String serialize(BusMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 이벤트 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 수신한 NOTIFY payload("seq:메시지")를 이 노드의 브로드캐스터로 전달합니다.
+     */
+    void handleNotification(String parameter) {
+        int separator = parameter.indexOf(':');
+        try {
+            handle(Long.parseLong(parameter.substring(0, separator)), parameter.substring(separator + 1));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("실시간 이벤트 알림 형식 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막으로 받은 seq 이후의 기록을 순서대로 전달합니다. 재연결 후 LISTEN을 다시 건 다음 호출합니다.
+     */
+    void catchUp() {
+        int recovered = 0;
+        List<LoggedEvent> events;
+        do {
+            events = jdbcTemplate.query(CATCH_UP_SQL,
+                    (rs, rowNum) -> new LoggedEvent(rs.getLong("seq"), rs.getString("payload")),
+                    lastSeq, CATCH_UP_BATCH_SIZE);
+            for (LoggedEvent event : events) {
+                handle(event.seq(), event.payload());
+            }
+            recovered += events.size();
+        } while (events.size() == CATCH_UP_BATCH_SIZE);
+        if (recovered > 0) {
+            log.info("실시간 이벤트 버스 재연결 후 누락 이벤트 {}건 전달: lastSeq={}", recovered, lastSeq);
+        }
+    }
+
+    private void handle(long seq, String payload) {
+        if (!recentSeqs.add(seq)) {
+            return;
+        }
+        if (recentSeqs.size() > RECENT_SEQ_CAPACITY) {
+            Iterator<Long> oldest = recentSeqs.iterator();
+            oldest.next();
+            oldest.remove();
+        }
+        lastSeq = Math.max(lastSeq, seq);
+        try {
+            BusMessage message = objectMapper.readValue(payload, BusMessage.class);
+            if (message.topic() != null) {
+                Consumer<JsonNode> handler = handlers.get(message.topic());
+                if (handler != null) {
+                    handler.accept(message.data());
+                }
+                return;
+            }
+            sseBroadcaster.dispatch(message.userId(), new RealtimeEvent(message.id(), message.name(), message.data()));
+        } catch (JsonProcessingException e) {
+            log.warn("실시간 이벤트 역직렬화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                if (lastSeq < 0) {
+                    // 첫 연결은 이전 기록을 재생하지 않고 현재 위치부터 수신
+                    lastSeq = jdbcTemplate.queryForObject(LAST_SEQ_SQL, Long.class);
+                } else {
+                    catchUp();
+                }
+                log.info("실시간 이벤트 버스 수신 시작: channel={}, lastSeq={}", CHANNEL, lastSeq);
+                while (running) {
+                    purgeIfDue();
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handleNotification(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | DataAccessException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("실시간 이벤트 버스 연결 끊김, {}ms 후 재연결: {}", reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextPurgeAt) {
+            return;
+        }
+        nextPurgeAt = now + Duration.ofMinutes(1).toMillis();
+        // 모든 노드가 수행해도 같은 결과이므로 별도 조율 없이 각자 정리
+        jdbcTemplate.update(PURGE_SQL, logRetentionMinutes);
+    }
+
+    record LoggedEvent(long seq, String payload) {
+    }
+
+    /**
+     * @param topic 노드 단위 메시지의 주제, 사용자 이벤트면 null
+     */
+    record BusMessage(String topic, Long userId, long id, String name, JsonNode data) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 실시간 이벤트 버스. 발행된 이벤트는 모든 노드에 전달되며, 각 노드는 자기 JVM에 열린 SSE 연결로만 전송합니다.
+ * <p>
+ * 단일 노드/테스트 환경은 {@link LoopbackRealtimeBus}, 다중 노드 환경은 {@link PostgresRealtimeBus}를 사용합니다
+ * ({@code realtime.bus.type}).
+ */
+public interface RealtimeBus {
+
+    /**
+     * 사용자에게 보낼 이벤트를 발행합니다. 호출 스레드를 오래 붙잡지 않아야 합니다.
+     */
+    void publish(Long userId, String name, Object data);
+
+    /**
+     * 발행한 노드를 포함한 모든 노드에 노드 단위 메시지를 보냅니다. SSE 연결로 보내지 않고,
+     * 각 노드에서 {@link #subscribe}로 등록한 핸들러가 받습니다(노드별 캐시 동기화 등).
+     */
+    void broadcast(String topic, Object data);
+
+    /**
+     * 이 노드가 받을 노드 단위 메시지 핸들러를 등록합니다. 주제마다 핸들러는 하나입니다.
+     */
+    <T> void subscribe(String topic, Class<T> type, Consumer<T> handler);
+}
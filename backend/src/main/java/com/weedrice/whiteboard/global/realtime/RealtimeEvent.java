@@ -0,0 +1,15 @@
+package com.weedrice.whiteboard.global.realtime;
+
+/**
+ * 클라이언트로 푸시되는 실시간 이벤트. id는 Last-Event-ID 재전송 기준이 되며 노드 안에서 단조 증가합니다.
+ * 재전송 대상이 아닌 이벤트(연결 확인 등)는 id가 없어 클라이언트의 Last-Event-ID를 바꾸지 않습니다.
+ */
+public record RealtimeEvent(Long id, String name, Object data) {
+
+    /** 연결 유지용 하트비트. 재전송 버퍼에 남기지 않고 SSE 주석으로 전송됩니다. */
+    static final RealtimeEvent HEARTBEAT = new RealtimeEvent(null, null, null);
+
+    boolean isHeartbeat() {
+        return this == HEARTBEAT;
+    }
+}
@@ -0,0 +1,34 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link PostgresRealtimeBus}가 NOTIFY와 함께 남기는 이벤트 기록. 수신 연결이 끊겼던 노드가 재연결 후
+ * 마지막으로 받은 seq 이후의 이벤트를 다시 읽는 데 사용하며, 보존 기간이 지난 행은 수신 스레드가 지웁니다.
+ * 기록과 조회는 JDBC로 수행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "realtime_event_log", indexes = {
+        @Index(name = "idx_realtime_event_log_created_at", columnList = "created_at")
+})
+public class RealtimeEventLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private Long seq;
+
+    /** NOTIFY로 보낸 것과 같은 직렬화된 메시지 */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,39 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 최근 이벤트 링 버퍼. 재연결한 클라이언트가 보낸 Last-Event-ID 이후의 이벤트를 다시 보내는 데 사용합니다.
+ */
+class ReplayBuffer {
+
+    private final RealtimeEvent[] ring;
+    private int next;
+    private int size;
+
+    ReplayBuffer(int capacity) {
+        this.ring = new RealtimeEvent[Math.max(1, capacity)];
+    }
+
+    synchronized void append(RealtimeEvent event) {
+        ring[next] = event;
+        next = (next + 1) % ring.length;
+        size = Math.min(size + 1, ring.length);
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 오래된 순으로 반환합니다. 버퍼가 이미 밀려난 구간은 복구하지 않습니다.
+     */
+    synchronized List<RealtimeEvent> after(long lastEventId) {
+        List<RealtimeEvent> events = new ArrayList<>();
+        int start = (next - size + ring.length) % ring.length;
+        for (int i = 0; i < size; i++) {
+            RealtimeEvent event = ring[(start + i) % ring.length];
+            if (event.id() > lastEventId) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,216 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 SSE 연결을 관리하고 이벤트를 비동기로 전달하는 브로드캐스터.
+ * <p>
+ * 한 사용자가 여러 탭에서 동시에 구독할 수 있으며(사용자당 최대 연결 수 초과 시 가장 오래된 연결 종료),
+ * 각 연결은 자체 전송 큐와 전송 스레드를 가집니다. 큐가 가득 찬 느린 소비자는 연결을 끊고,
+ * 클라이언트(EventSource)는 자동 재연결 시 Last-Event-ID로 놓친 이벤트를 재전송 버퍼에서 받습니다.
+ * 주기적인 하트비트로 프록시 유휴 타임아웃을 막고 끊어진 연결을 조기에 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseBroadcaster {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${realtime.sse.timeout-ms:1800000}")
+    private long timeoutMs = 1_800_000L;
+
+    @Value("${realtime.sse.queue-capacity:64}")
+    private int queueCapacity = 64;
+
+    @Value("${realtime.sse.heartbeat-seconds:15}")
+    private long heartbeatSeconds = 15;
+
+    @Value("${realtime.sse.replay-size:50}")
+    private int replaySize = 50;
+
+    @Value("${realtime.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser = 5;
+
+    private final Map<Long, Queue<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private Cache<Long, ReplayBuffer> replayBuffers;
+    private ScheduledExecutorService heartbeatScheduler;
+    private Counter evictions;
+
+    @PostConstruct
+    void init() {
+        replayBuffers = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(timeoutMs))
+                .maximumSize(100_000)
+                .build();
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sse-heartbeat").daemon(true).factory());
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("realtime.sse.connections", this, broadcaster -> broadcaster.connectionCount())
+                .description("현재 열린 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("realtime.sse.users", connections, Map::size)
+                .description("SSE로 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("realtime.sse.queue.depth", this, broadcaster -> broadcaster.queueDepth())
+                .description("전송 대기 중인 SSE 이벤트 수")
+                .register(meterRegistry);
+        evictions = Counter.builder("realtime.sse.evictions")
+                .description("전송 큐 초과로 끊은 느린 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        connections.values().forEach(userConnections -> List.copyOf(userConnections).forEach(SseConnection::close));
+    }
+
+    /**
+     * 새 SSE 연결을 등록합니다. lastEventId가 있으면 재전송 버퍼에 남아 있는 이후 이벤트를 먼저 보냅니다.
+     */
+    public SseEmitter connect(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity, this::unregister);
+        emitter.onCompletion(connection::release);
+        emitter.onTimeout(connection::release);
+        emitter.onError(e -> connection.release());
+
+        // 등록 해제(unregister)와 같은 키에서 원자적으로 수행되도록 compute 안에서 추가
+        Queue<SseConnection> userConnections = connections.compute(userId, (id, existing) -> {
+            Queue<SseConnection> queue = existing != null ? existing : new ConcurrentLinkedQueue<>();
+            queue.add(connection);
+            return queue;
+        });
+        while (userConnections.size() > maxConnectionsPerUser) {
+            SseConnection oldest = userConnections.poll();
+            if (oldest != null) {
+                oldest.close();
+            }
+        }
+        connection.start();
+
+        // 503 Service Unavailable 방지를 위한 연결 이벤트 즉시 전송
+        connection.offer(new RealtimeEvent(null, "connect", "connected!"));
+        Long replayFrom = parseEventId(lastEventId);
+        if (replayFrom != null) {
+            ReplayBuffer buffer = replayBuffers.getIfPresent(userId);
+            if (buffer != null) {
+                for (RealtimeEvent event : buffer.after(replayFrom)) {
+                    deliver(connection, event);
+                }
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 새 이벤트 ID를 발급합니다. 현재 시각(밀리초 × 1000)을 하한으로 단조 증가하므로,
+     * 여러 노드가 발급한 ID도 대체로 시간 순서를 따르고 재시작 후에도 이전 ID보다 커집니다.
+     */
+    public long nextEventId() {
+        long now = System.currentTimeMillis() * 1000;
+        return sequence.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
+    /**
+     * 이 노드에서 ID를 발급해 사용자의 로컬 연결로 이벤트를 전달합니다.
+     */
+    public void send(Long userId, String name, Object data) {
+        dispatch(userId, new RealtimeEvent(nextEventId(), name, data));
+    }
+
+    /**
+     * 이미 ID가 발급된 이벤트를 재전송 버퍼에 남기고, 이 노드에 열린 사용자의 모든 연결 전송 큐에 넣은 뒤 즉시 반환합니다.
+     * 실제 전송은 연결별 전송 스레드가 수행합니다. 연결이 없어도 버퍼에는 남겨 다른 노드에서 옮겨 온 재연결을 복구합니다.
+     */
+    public void dispatch(Long userId, RealtimeEvent event) {
+        replayBuffers.get(userId, id -> new ReplayBuffer(replaySize)).append(event);
+        Queue<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (SseConnection connection : userConnections) {
+            deliver(connection, event);
+        }
+    }
+
+    /**
+     * 이 노드에 사용자의 SSE 연결이 열려 있는지 여부.
+     */
+    public boolean hasConnections(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    int connectionCount() {
+        return connections.values().stream().mapToInt(Queue::size).sum();
+    }
+
+    int connectionCount(Long userId) {
+        Queue<SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? 0 : userConnections.size();
+    }
+
+    private int queueDepth() {
+        return connections.values().stream()
+                .flatMap(Queue::stream)
+                .mapToInt(SseConnection::queueDepth)
+                .sum();
+    }
+
+    private void heartbeat() {
+        connections.values().forEach(userConnections -> userConnections
+                .forEach(connection -> deliver(connection, RealtimeEvent.HEARTBEAT)));
+    }
+
+    private void deliver(SseConnection connection, RealtimeEvent event) {
+        if (!connection.offer(event) && !connection.isClosed()) {
+            log.debug("SSE 전송 큐 초과로 연결 종료: userId={}", connection.getUserId());
+            evictions.increment();
+            connection.close();
+        }
+    }
+
+    private void unregister(SseConnection connection) {
+        connections.computeIfPresent(connection.getUserId(), (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (!StringUtils.hasText(lastEventId)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
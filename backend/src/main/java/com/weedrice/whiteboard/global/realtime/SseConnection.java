@@ -0,0 +1,109 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결(브라우저 탭) 하나. 이벤트는 크기가 제한된 큐에 쌓이고 연결마다 하나의 가상 스레드가 순서대로 전송하므로,
+ * 이벤트를 발행한 스레드(비즈니스 트랜잭션)는 클라이언트 네트워크 상태와 무관하게 즉시 반환됩니다.
+ */
+@Slf4j
+class SseConnection {
+
+    @Getter
+    private final Long userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<RealtimeEvent> queue;
+    private final Consumer<SseConnection> onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private Thread writer;
+
+    SseConnection(Long userId, SseEmitter emitter, int queueCapacity, Consumer<SseConnection> onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.onClose = onClose;
+    }
+
+    void start() {
+        writer = Thread.ofVirtual().name("sse-writer-" + userId).start(this::drain);
+    }
+
+    /**
+     * 전송 큐에 이벤트를 넣습니다. 큐가 가득 차 있으면(느린 소비자) false를 반환하며 호출자가 연결을 끊습니다.
+     */
+    boolean offer(RealtimeEvent event) {
+        return !closed.get() && queue.offer(event);
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 서버 측에서 연결을 끊습니다. 정리 후 emitter를 완료시켜 클라이언트가 재연결하도록 합니다.
+     */
+    void close() {
+        if (release()) {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 emitter
+            }
+        }
+    }
+
+    /**
+     * 연결을 한 번만 정리합니다(브로드캐스터 등록 해제, 전송 스레드 종료). emitter 완료/타임아웃/오류 콜백에서 호출됩니다.
+     *
+     * @return 이번 호출에서 정리했으면 true
+     */
+    boolean release() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        onClose.accept(this);
+        if (writer != null) {
+            writer.interrupt();
+        }
+        queue.clear();
+        return true;
+    }
+
+    private void drain() {
+        try {
+            while (!closed.get()) {
+                send(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패로 연결 종료: userId={}, cause={}", userId, e.getMessage());
+            close();
+        }
+    }
+
+    private void send(RealtimeEvent event) throws IOException {
+        if (event.isHeartbeat()) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name()).data(event.data());
+        if (event.id() != null) {
+            builder.id(String.valueOf(event.id()));
+        }
+        emitter.send(builder);
+    }
+}
@@ -0,0 +1,14 @@
+package com.weedrice.whiteboard.global.storage;
+
+import java.time.Instant;
+
+/**
+ * 내려받을 저장 객체와 응답 헤더에 쓸 메타데이터. 크기와 수정 시각은 DB 메타데이터를 사용해 저장소 조회 없이 조건부 요청에 응답합니다.
+ *
+ * @param lastModified 알 수 없으면 null
+ * @param immutable    같은 URL이 나중에 다른 객체를 가리킬 수 있으면 false(예: 파생본 생성 전 원본으로 대체한 응답).
+ *                     false면 장기 캐시 대신 매번 재검증({@code no-cache})하게 합니다.
+ */
+public record BlobDownload(String key, long size, Instant lastModified, String contentType, String filename,
+        boolean immutable) {
+}
@@ -0,0 +1,151 @@
+package com.weedrice.whiteboard.global.storage;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 저장 객체를 HTTP로 내려보냅니다.
+ * <p>
+ * 저장 키(UUID 이름)는 한 번 쓰면 내용이 바뀌지 않으므로 키를 강한 ETag로 쓰고, 오래 유지되는 {@code immutable} 캐시 헤더를 붙입니다.
+ * {@code If-None-Match}/{@code If-Modified-Since}는 저장소를 읽지 않고 304로 응답하며, 단일 {@code Range} 요청은 206으로 필요한 구간만 보냅니다.
+ * 로컬 저장소는 Tomcat sendfile로, 그 밖에는 {@link BlobStore#transferTo}로 전송하고,
+ * {@code storage.download.redirect}가 켜져 있으면 presigned URL로 302 리다이렉트해 앱 서버가 바이트를 옮기지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlobDownloadService {
+
+    static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final BlobStore blobStore;
+
+    @Value("${storage.download.max-age-days:365}")
+    private long maxAgeDays = 365;
+
+    @Value("${storage.download.redirect:false}")
+    private boolean redirect = false;
+
+    @Value("${storage.download.presign-ttl-seconds:600}")
+    private long presignTtlSeconds = 600;
+
+    public void serve(BlobDownload download, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String disposition = "attachment; filename=\"" + download.filename() + "\"";
+        if (redirect && sendRedirect(download, disposition, response)) {
+            return;
+        }
+
+        String etag = "\"" + download.key() + "\"";
+        long lastModified = download.lastModified() != null ? download.lastModified().toEpochMilli() : -1;
+        response.setHeader(HttpHeaders.CACHE_CONTROL, download.immutable()
+                ? "public, max-age=" + Duration.ofDays(maxAgeDays).toSeconds() + ", immutable"
+                : "public, no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return; // 304 (또는 If-Match 불일치 시 412), ETag/Last-Modified는 checkNotModified가 설정
+        }
+
+        long size = download.size();
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(range);
+            // 여러 구간 요청은 multipart 응답 대신 전체를 보냄(RFC 9110은 Range 무시를 허용)
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(download.contentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        Path path = blobStore.localPath(download.key());
+        if (path != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // 응답 본문을 쓰지 않으면 Tomcat이 커널 sendfile로 파일 구간을 소켓에 직접 보냄
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        try {
+            blobStore.transferTo(download.key(), start, length, Channels.newChannel(response.getOutputStream()));
+        } catch (IOException | RuntimeException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            throw new BusinessException(ErrorCode.NOT_FOUND, "파일 로드 실패: " + download.key());
+        }
+    }
+
+    private boolean sendRedirect(BlobDownload download, String disposition, HttpServletResponse response) throws IOException {
+        Duration ttl = Duration.ofSeconds(presignTtlSeconds);
+        String url = blobStore.presignGet(download.key(), ttl, download.contentType(), disposition);
+        if (url == null) {
+            return false;
+        }
+        // 리다이렉트는 서명 만료 전까지만 재사용되도록 짧게 캐시, 검증자(ETag)는 S3 응답이 제공
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + ttl.toSeconds() / 2);
+        response.setStatus(HttpServletResponse.SC_FOUND);
+        response.setHeader(HttpHeaders.LOCATION, url);
+        return true;
+    }
+
+    private static List<HttpRange> parseRanges(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of(); // 문법이 틀린 Range는 무시하고 전체 응답
+        }
+    }
+
+    /**
+     * If-Range가 없거나 현재 표현과 같을 때만 Range를 적용합니다. 다르면 바뀐 표현 전체를 보냅니다.
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && lastModified / 1000 == date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
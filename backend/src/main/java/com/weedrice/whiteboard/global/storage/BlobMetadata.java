@@ -0,0 +1,9 @@
+package com.weedrice.whiteboard.global.storage;
+
+/**
+ * 내용을 내려받지 않고 조회한 저장 객체의 메타데이터.
+ *
+ * @param contentType 저장소가 콘텐츠 타입을 기록하지 않으면 null(로컬 파일시스템)
+ */
+public record BlobMetadata(long size, String contentType) {
+}
@@ -0,0 +1,116 @@
+package com.weedrice.whiteboard.global.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 업로드 파일 원본을 키 단위로 저장하는 저장소. 구현은 {@code storage.type} 설정으로 고릅니다.
+ * <p>
+ * 키는 {@link com.weedrice.whiteboard.global.common.util.FileStorageService}로 저장하는 UUID 또는 내용 해시(SHA-256) 기반 이름이며,
+ * 경로 구분자를 포함하지 않습니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 내용을 키에 저장합니다. 같은 키가 이미 있으면 덮어쓰며, 저장이 끝나기 전에는 읽는 쪽에 일부 내용이 보이지 않아야 합니다.
+     * size가 -1이면 길이를 모르는 스트림으로, 끝까지 읽으며 저장합니다. 전체 내용을 메모리에 모으지 않아야 합니다.
+     */
+    void put(String key, InputStream content, long size, String contentType) throws IOException;
+
+    /**
+     * 저장된 내용을 읽는 스트림을 엽니다. 키가 없으면 예외를 던집니다.
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 저장된 내용 중 offset부터 length 바이트를 채널로 그대로 보냅니다. 기본 구현은 {@link #open(String)} 스트림을 건너뛰며 복사하고,
+     * 부분 조회나 커널 복사(zero-copy)가 가능한 구현은 재정의합니다.
+     *
+     * @return 보낸 바이트 수. 저장된 내용이 짧으면 length보다 작을 수 있습니다.
+     */
+    default long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        try (InputStream in = open(key)) {
+            in.skipNBytes(offset);
+            OutputStream out = Channels.newOutputStream(target);
+            byte[] buffer = new byte[8192];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            return length - remaining;
+        }
+    }
+
+    /**
+     * 저장된 내용의 앞부분 최대 length 바이트를 읽습니다. 업로드된 객체의 형식(시그니처) 확인처럼 전체가 필요 없을 때 씁니다.
+     * 기본 구현은 {@link #transferTo}를 쓰며, 읽는 김에 전체를 받아 두는 구현(캐시)은 재정의해 앞부분만 받습니다.
+     */
+    default byte[] readHead(String key, int length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+        transferTo(key, 0, length, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    /**
+     * 저장된 내용을 다른 키로 복사합니다. 대상 키가 이미 있으면 덮어씁니다. 기본 구현은 {@link #open(String)} 스트림을 그대로
+     * {@link #put}에 넘기고, 저장소 안에서 복사할 수 있는 구현은 재정의해 내용이 앱 서버를 거치지 않게 합니다.
+     */
+    default void copy(String sourceKey, String targetKey, long size, String contentType) throws IOException {
+        try (InputStream content = open(sourceKey)) {
+            put(targetKey, content, size, contentType);
+        }
+    }
+
+    /**
+     * 내용을 읽지 않고 크기와 콘텐츠 타입을 조회합니다. 키가 없으면 null입니다.
+     */
+    BlobMetadata stat(String key) throws IOException;
+
+    /**
+     * 키가 로컬 파일로 저장돼 있으면 그 경로를 반환합니다. 서블릿 컨테이너의 sendfile 전송에 사용하며, 원격 저장소는 null입니다.
+     */
+    default Path localPath(String key) {
+        return null;
+    }
+
+    /**
+     * 클라이언트가 앱 서버를 거치지 않고 직접 내려받을 수 있는 서명된 GET URL을 만듭니다. 지원하지 않는 저장소는 null입니다.
+     */
+    default String presignGet(String key, Duration ttl, String contentType, String contentDisposition) {
+        return null;
+    }
+
+    /**
+     * 클라이언트가 앱 서버를 거치지 않고 키에 직접 올릴 수 있는 서명된 업로드 요청을 만듭니다.
+     * 콘텐츠 타입과 크기(size 바이트)가 서명에 포함돼 다른 값으로는 올릴 수 없습니다. 지원하지 않는 저장소는 null입니다.
+     */
+    default PresignedUpload presignPut(String key, String contentType, long size, Duration ttl) {
+        return null;
+    }
+
+    /**
+     * 키를 삭제합니다. 없는 키는 무시합니다.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 여러 키를 삭제합니다. 없는 키는 무시합니다. 기본 구현은 하나씩 삭제하고, 한 요청으로 여러 키를 지울 수 있는 구현은 재정의합니다.
+     */
+    default void deleteAll(Collection<String> keys) throws IOException {
+        for (String key : keys) {
+            delete(key);
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package com.weedrice.whiteboard.global.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * S3 저장소 앞의 읽기 전용 로컬 디스크 LRU 캐시 ({@code storage.type=s3}, {@code storage.cache.enabled=true}).
+ * <p>
+ * 객체 전체를 {@code storage.cache.dir}에 받아 두고 이후 조회는 {@link FileChannel#transferTo}로 디스크에서 바로 보냅니다.
+ * 인덱스(키 → 파일, 크기, CRC32C)는 메모리의 접근 순서 맵이며, 합계가 {@code max-size-mb}를 넘으면 가장 오래 안 쓴 항목부터 지웁니다.
+ * 캐시 파일 이름에 CRC32C를 담아 재시작 후에는 파일을 인덱스로 다시 읽고, 각 항목을 처음 쓸 때 체크섬을 검증해 손상되면 다시 받습니다.
+ * 같은 키의 동시 미스는 한 번만 S3에서 받고(single-flight) 나머지는 그 결과를 기다립니다.
+ * 캐시 전체 용량보다 큰 객체는 담으면 다른 항목을 모두 밀어내므로 받지 않고 S3에서 바로 읽으며, 그런 키는 최근 것만 기억해 다음 조회부터 바로 넘깁니다.
+ * 쓰기, 메타데이터 조회, 앞부분 읽기, presigned URL은 S3로 그대로 넘기며, 삭제 시 캐시 항목도 지웁니다.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${storage.type:s3}' == 's3' and ${storage.cache.enabled:false}")
+public class CachingBlobStore implements BlobStore {
+
+    private static final String TEMP_DIR = ".tmp";
+    private static final int MAX_OVERSIZED_KEYS = 4096;
+
+    private final S3BlobStore origin;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${storage.cache.dir:${java.io.tmpdir}/whiteboard-blob-cache}")
+    private String cacheDir = System.getProperty("java.io.tmpdir") + "/whiteboard-blob-cache";
+
+    @Value("${storage.cache.max-size-mb:1024}")
+    private long maxSizeMb = 1024;
+
+    /** 접근 순서 LinkedHashMap, index 모니터로 보호 */
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, CompletableFuture<Entry>> fills = new ConcurrentHashMap<>();
+    /** 캐시 용량보다 커서 적재하지 않는 키, index 모니터로 보호 */
+    private final LinkedHashMap<String, Boolean> oversized = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_OVERSIZED_KEYS;
+        }
+    };
+    private long totalBytes;
+    long maxBytes;
+
+    private Path root;
+    private Path tempDir;
+    private Counter hits;
+    private Counter misses;
+    private Counter bypasses;
+    private Counter bytesSaved;
+    private Counter bytesFetched;
+
+    @PostConstruct
+    void init() throws IOException {
+        maxBytes = maxSizeMb * 1024 * 1024;
+        root = Paths.get(cacheDir).toAbsolutePath().normalize();
+        tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(tempDir)) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        loadIndex();
+
+        hits = requests("hit");
+        misses = requests("miss");
+        bypasses = requests("bypass");
+        bytesSaved = Counter.builder("storage.cache.bytes.saved")
+                .description("캐시 적중으로 S3에서 받지 않은 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        bytesFetched = Counter.builder("storage.cache.bytes.fetched")
+                .description("캐시 적재를 위해 S3에서 받은 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("storage.cache.size", this, store -> store.sizeBytes())
+                .description("캐시 디스크 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("storage.cache.entries", this, store -> store.entries())
+                .description("캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("storage.cache.hit.ratio", this, store -> store.hitRatio())
+                .description("시작 이후 캐시 적중률")
+                .register(meterRegistry);
+        log.info("S3 로컬 캐시 사용: dir={}, maxSizeMb={}, entries={}", root, maxSizeMb, entries());
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType) throws IOException {
+        synchronized (index) {
+            oversized.remove(key);
+        }
+        origin.put(key, content, size, contentType);
+    }
+
+    /**
+     * S3 안에서 복사하며, 대상 키의 캐시 항목은 이전 내용이므로 지웁니다.
+     */
+    @Override
+    public void copy(String sourceKey, String targetKey, long size, String contentType) throws IOException {
+        synchronized (index) {
+            Entry entry = index.get(targetKey);
+            if (entry != null) {
+                invalidate(targetKey, entry);
+            }
+            oversized.remove(targetKey);
+        }
+        origin.copy(sourceKey, targetKey, size, contentType);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        if (!cacheable(key)) {
+            return origin.open(key);
+        }
+        Lookup lookup = lookup(key);
+        if (lookup == null) {
+            return origin.open(key);
+        }
+        try {
+            InputStream in = Files.newInputStream(lookup.entry().path());
+            if (lookup.hit()) {
+                bytesSaved.increment(lookup.entry().size());
+            }
+            return in;
+        } catch (NoSuchFileException e) {
+            // 조회와 열기 사이에 축출된 경우
+            invalidate(key, lookup.entry());
+            return origin.open(key);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        if (!cacheable(key)) {
+            return origin.transferTo(key, offset, length, target);
+        }
+        Lookup lookup = lookup(key);
+        if (lookup == null) {
+            return origin.transferTo(key, offset, length, target);
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(lookup.entry().path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            invalidate(key, lookup.entry());
+            return origin.transferTo(key, offset, length, target);
+        }
+        try (channel) {
+            long end = Math.min(lookup.entry().size(), offset + length);
+            long position = offset;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+            long transferred = Math.max(0, end - offset);
+            if (lookup.hit()) {
+                bytesSaved.increment(transferred);
+            }
+            return transferred;
+        }
+    }
+
+    /**
+     * 업로드 직후 형식 확인용이므로 캐시에 적재하지 않고 Range GET으로 앞부분만 받습니다.
+     */
+    @Override
+    public byte[] readHead(String key, int length) throws IOException {
+        return origin.readHead(key, length);
+    }
+
+    @Override
+    public BlobMetadata stat(String key) {
+        return origin.stat(key);
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long size, Duration ttl) {
+        return origin.presignPut(key, contentType, size, ttl);
+    }
+
+    @Override
+    public String presignGet(String key, Duration ttl, String contentType, String contentDisposition) {
+        return origin.presignGet(key, ttl, contentType, contentDisposition);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        synchronized (index) {
+            Entry entry = index.get(key);
+            if (entry != null) {
+                invalidate(key, entry);
+            }
+            oversized.remove(key);
+        }
+        origin.delete(key);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) throws IOException {
+        synchronized (index) {
+            for (String key : keys) {
+                Entry entry = index.get(key);
+                if (entry != null) {
+                    invalidate(key, entry);
+                }
+                oversized.remove(key);
+            }
+        }
+        origin.deleteAll(keys);
+    }
+
+    /**
+     * 캐시 항목을 찾거나 받아 옵니다. 캐시 용량보다 커서 적재하지 않는 객체면 null을 반환하며, 호출자는 S3에서 바로 읽습니다.
+     */
+    private Lookup lookup(String key) throws IOException {
+        Entry entry;
+        synchronized (index) {
+            if (oversized.get(key) != null) {
+                bypasses.increment();
+                return null;
+            }
+            entry = index.get(key);
+        }
+        if (entry != null && verify(key, entry)) {
+            hits.increment();
+            return new Lookup(entry, true);
+        }
+        misses.increment();
+        Entry filled = fill(key);
+        return filled != null ? new Lookup(filled, false) : null;
+    }
+
+    /**
+     * 재시작 후 처음 쓰는 항목은 파일 전체의 CRC32C를 다시 계산해 이름에 담긴 값과 비교합니다.
+     */
+    private boolean verify(String key, Entry entry) {
+        if (entry.verified) {
+            return true;
+        }
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(entry.path()), new CRC32C())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            if (in.getChecksum().getValue() == entry.crc()
+                    && Files.size(entry.path()) == entry.size()) {
+                entry.verified = true;
+                return true;
+            }
+            log.warn("캐시 파일 체크섬 불일치, 다시 받음: key={}", key);
+        } catch (IOException e) {
+            log.warn("캐시 파일 검증 실패, 다시 받음: key={}, cause={}", key, e.getMessage());
+        }
+        invalidate(key, entry);
+        return false;
+    }
+
+    private Entry fill(String key) throws IOException {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> running = fills.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            Entry entry;
+            synchronized (index) {
+                entry = index.get(key); // 앞선 적재가 막 끝난 경우
+            }
+            if (entry == null) {
+                entry = download(key);
+                if (entry != null) {
+                    admit(key, entry);
+                }
+            }
+            mine.complete(entry);
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            fills.remove(key, mine);
+        }
+    }
+
+    /**
+     * 객체를 받아 캐시 파일로 둡니다. 캐시 용량보다 큰 객체는 본문을 받지 않고(응답 길이로 판단) 기억해 둔 뒤 null을 반환합니다.
+     */
+    private Entry download(String key) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "fill-", ".part");
+        try {
+            CRC32C crc = new CRC32C();
+            long expected = -1;
+            long written;
+            try (InputStream in = origin.open(key);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                if (in instanceof ResponseInputStream<?> response
+                        && response.response() instanceof GetObjectResponse object
+                        && object.contentLength() != null) {
+                    expected = object.contentLength();
+                    if (expected > maxBytes) {
+                        response.abort();
+                        markOversized(key, expected);
+                        return null;
+                    }
+                }
+                written = new CheckedInputStream(in, crc).transferTo(out);
+            }
+            if (written > maxBytes) {
+                // 응답에 길이가 없어 받은 뒤에야 안 경우
+                markOversized(key, written);
+                return null;
+            }
+            if (expected >= 0 && written != expected) {
+                throw new IOException("캐시 적재 크기 불일치: key=" + key + ", expected=" + expected + ", written=" + written);
+            }
+            Path target = root.resolve(key + "." + Long.toHexString(crc.getValue()));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            bytesFetched.increment(written);
+            return new Entry(target, written, crc.getValue(), true);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void markOversized(String key, long size) {
+        synchronized (index) {
+            oversized.put(key, Boolean.TRUE);
+        }
+        log.debug("캐시 용량보다 큰 객체는 적재하지 않음: key={}, size={}, maxBytes={}", key, size, maxBytes);
+    }
+
+    private void admit(String key, Entry entry) {
+        synchronized (index) {
+            Entry previous = index.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.path().equals(entry.path())) {
+                    deleteQuietly(previous.path());
+                }
+            }
+            totalBytes += entry.size();
+            evict(key);
+        }
+    }
+
+    /**
+     * 용량을 넘는 동안 가장 오래 안 쓴 항목부터 지웁니다. 방금 넣은 항목(keep)은 곧 읽을 것이므로 남깁니다.
+     */
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Entry>> eldest = index.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> candidate = eldest.next();
+            if (candidate.getKey().equals(keep)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= candidate.getValue().size();
+            deleteQuietly(candidate.getValue().path());
+        }
+    }
+
+    private void invalidate(String key, Entry entry) {
+        synchronized (index) {
+            if (index.remove(key, entry)) {
+                totalBytes -= entry.size();
+            }
+        }
+        deleteQuietly(entry.path());
+    }
+
+    /**
+     * 재시작 전 캐시 파일({@code key.crc32c})을 수정 시각 순으로 인덱스에 넣습니다. 체크섬은 첫 사용 때 검증합니다.
+     */
+    private void loadIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root, Files::isRegularFile)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(CachingBlobStore::modifiedTime));
+        synchronized (index) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                int dot = name.lastIndexOf('.');
+                try {
+                    long crc = Long.parseUnsignedLong(name.substring(dot + 1), 16);
+                    long size = Files.size(file);
+                    index.put(name.substring(0, dot), new Entry(file, size, crc, false));
+                    totalBytes += size;
+                } catch (RuntimeException e) {
+                    deleteQuietly(file);
+                }
+            }
+            evict(null);
+        }
+    }
+
+    private static FileTime modifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean cacheable(String key) {
+        return key != null && !key.isEmpty() && !key.startsWith(".") && key.indexOf('/') < 0 && key.indexOf('\\') < 0;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private Counter requests(String result) {
+        return Counter.builder("storage.cache.requests")
+                .description("로컬 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    long sizeBytes() {
+        synchronized (index) {
+            return totalBytes;
+        }
+    }
+
+    int entries() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record Lookup(Entry entry, boolean hit) {
+    }
+
+    private static final class Entry {
+        private final Path path;
+        private final long size;
+        private final long crc;
+        /** 이번 프로세스에서 체크섬을 확인했는지(직접 받은 항목은 true) */
+        private volatile boolean verified;
+
+        Entry(Path path, long size, long crc, boolean verified) {
+            this.path = path;
+            this.size = size;
+            this.crc = crc;
+            this.verified = verified;
+        }
+
+        Path path() {
+            return path;
+        }
+
+        long size() {
+            return size;
+        }
+
+        long crc() {
+            return crc;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.weedrice.whiteboard.global.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * 로컬 파일시스템 저장소 ({@code storage.type=local}). {@code file.upload-dir} 아래에 저장합니다.
+ * <p>
+ * 한 디렉터리에 파일이 몰리지 않도록 키의 SHA-256 앞 두 바이트로 두 단계 샤딩(ab/cd/key)합니다.
+ * 쓰기는 같은 파일시스템의 임시 파일에 기록하고 fsync한 뒤 원자적 rename으로 공개하므로, 읽는 쪽은 완성된 파일만 봅니다.
+ * 읽기는 {@link FileChannel#transferTo}로 페이지 캐시에서 대상 채널로 바로 보내며, 다운로드는 {@link #localPath}로 sendfile 전송을 쓸 수 있습니다.
+ * <p>
+ * 직접 업로드는 S3 presigned PUT과 같은 방식으로, 키/콘텐츠 타입/크기/만료 시각을 HMAC-SHA256으로 서명한 토큰 URL
+ * ({@link LocalUploadController})을 발급합니다. 서명 키({@code storage.local.upload-secret})가 없으면 시작할 때 임의로 만들어
+ * 재시작 전까지만 유효합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+    static final String TEMP_DIR = ".tmp";
+    private static final String TEMP_SUFFIX = ".part";
+
+    /** 직접 업로드 토큰을 받는 경로, 뒤에 토큰이 붙음 */
+    static final String UPLOAD_PATH = "/api/v1/storage/uploads/";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir = "./uploads";
+
+    @Value("${storage.local.upload-secret:}")
+    private String uploadSecret = "";
+
+    private Path root;
+    private Path tempDir;
+    private SecretKeySpec uploadSigningKey;
+
+    /**
+     * 검증을 통과한 직접 업로드 토큰이 허용하는 업로드.
+     */
+    public record UploadGrant(String key, String contentType, long size) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        // 이전 프로세스가 쓰다 만 임시 파일 정리
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(tempDir, "*" + TEMP_SUFFIX)) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        byte[] secret;
+        if (uploadSecret == null || uploadSecret.isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = uploadSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        uploadSigningKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        log.info("로컬 파일 저장소 사용: root={}", root);
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = Files.createTempFile(tempDir, "blob-", TEMP_SUFFIX);
+        try {
+            long written;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                written = content.transferTo(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+            if (size >= 0 && written != size) {
+                throw new IOException("업로드 크기 불일치: expected=" + size + ", written=" + written);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 같은 파일시스템 안에서 임시 파일로 복사한 뒤 원자적 rename으로 공개합니다.
+     */
+    @Override
+    public void copy(String sourceKey, String targetKey, long size, String contentType) throws IOException {
+        Path source = resolve(sourceKey);
+        Path target = resolve(targetKey);
+        Path temp = Files.createTempFile(tempDir, "blob-", TEMP_SUFFIX);
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                if (size >= 0 && channel.size() != size) {
+                    throw new IOException("복사 크기 불일치: expected=" + size + ", copied=" + channel.size());
+                }
+                channel.force(true);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = Math.min(channel.size(), offset + length);
+            long position = offset;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+            return Math.max(0, end - offset);
+        }
+    }
+
+    @Override
+    public Path localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    @Override
+    public BlobMetadata stat(String key) throws IOException {
+        Path path = resolve(key);
+        try {
+            return new BlobMetadata(Files.size(path), null);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 서명한 토큰을 담은 앱 서버 상대 경로를 반환합니다. 본문은 토큰에 적힌 크기와 같아야 하며, 다 받은 뒤에만 키에 공개됩니다.
+     */
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long size, Duration ttl) {
+        resolve(key);
+        Instant expiresAt = Instant.now().plus(ttl);
+        String payload = String.join("\n", key, contentType, Long.toString(size),
+                Long.toString(expiresAt.getEpochSecond()));
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(sign(payload));
+        return new PresignedUpload(UPLOAD_PATH + token, "PUT", Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    /**
+     * 직접 업로드 토큰의 서명과 만료 시각을 확인합니다.
+     *
+     * @return 위조됐거나 형식이 잘못됐거나 만료된 토큰이면 null
+     */
+    public UploadGrant verifyUpload(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            String payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            if (!MessageDigest.isEqual(sign(payload), decoder.decode(token.substring(dot + 1)))) {
+                return null;
+            }
+            String[] fields = payload.split("\n", -1);
+            if (fields.length != 4 || Instant.now().getEpochSecond() > Long.parseLong(fields[3])) {
+                return null;
+            }
+            return new UploadGrant(fields[0], fields[1], Long.parseLong(fields[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(uploadSigningKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * 키를 샤딩된 저장 경로로 바꿉니다. 경로 구분자나 상위 디렉터리 참조로 저장소 밖을 가리키는 키는 거부합니다.
+     */
+    Path resolve(String key) {
+        if (key == null || key.isEmpty() || key.startsWith(".") || key.indexOf('/') >= 0 || key.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("잘못된 저장 키: " + key);
+        }
+        byte[] digest = sha256(key);
+        Path path = root.resolve(HexFormat.of().toHexDigits(digest[0]))
+                .resolve(HexFormat.of().toHexDigits(digest[1]))
+                .resolve(key)
+                .normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 저장 키: " + key);
+        }
+        return path;
+    }
+
+    private static byte[] sha256(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
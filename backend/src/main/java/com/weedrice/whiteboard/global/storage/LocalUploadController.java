@@ -0,0 +1,49 @@
+package com.weedrice.whiteboard.global.storage;
+
+import com.weedrice.whiteboard.domain.file.service.FileService;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 로컬 파일시스템 저장소의 직접 업로드 수신 ({@code storage.type=local}). S3 presigned PUT과 같은 규칙으로 동작해
+ * 클라이언트와 테스트가 저장소 종류와 관계없이 같은 흐름을 씁니다.
+ * <p>
+ * 인증 대신 {@link LocalBlobStore#presignPut}이 서명한 토큰으로 허용하며, Content-Type과 Content-Length가 토큰과 다르면
+ * 본문을 읽지 않고 거절합니다. 완료했거나 거부돼 대기 업로드({@code pending_uploads})가 없는 키도 토큰이 만료되기 전이라도 거절해,
+ * 검증을 마친 뒤에는 같은 키에 다시 올릴 수 없습니다. 성공하면 S3처럼 빈 200 응답을 보냅니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalUploadController {
+
+    private final LocalBlobStore localBlobStore;
+    private final FileService fileService;
+
+    @PutMapping(LocalBlobStore.UPLOAD_PATH + "{token}")
+    public void upload(@PathVariable String token, HttpServletRequest request) throws IOException {
+        LocalBlobStore.UploadGrant grant = localBlobStore.verifyUpload(token);
+        if (grant == null) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase(grant.contentType())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        if (request.getContentLengthLong() != grant.size()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        if (!fileService.isDirectUploadPending(grant.key())) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        localBlobStore.put(grant.key(), request.getInputStream(), grant.size(), grant.contentType());
+    }
+}
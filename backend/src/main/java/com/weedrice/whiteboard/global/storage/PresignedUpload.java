@@ -0,0 +1,13 @@
+package com.weedrice.whiteboard.global.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 앱 서버를 거치지 않고 저장소에 직접 보내는 서명된 업로드 요청.
+ * 클라이언트는 url로 method 요청을 보내며, headers를 그대로 싣고 본문은 서명한 크기와 정확히 같아야 합니다.
+ *
+ * @param headers 서명에 포함돼 반드시 보내야 하는 헤더(Content-Type 등). Host와 Content-Length는 클라이언트가 정하므로 제외
+ */
+public record PresignedUpload(String url, String method, Map<String, String> headers, Instant expiresAt) {
+}
@@ -0,0 +1,345 @@
+package com.weedrice.whiteboard.global.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Amazon S3 저장소 ({@code storage.type=s3}, 기본값). 키를 버킷의 객체 키로 그대로 사용합니다.
+ * 부분 전송은 Range GET으로 필요한 구간만 받고, 다운로드 리다이렉트용 presigned GET URL과
+ * 클라이언트 직접 업로드용 presigned PUT URL(콘텐츠 타입과 크기를 서명)을 만들 수 있습니다.
+ * <p>
+ * 길이를 모르거나 파트 크기보다 큰 내용은 멀티파트 업로드로 보냅니다. 파트 크기만큼 읽을 때마다 공용 풀에서 UploadPart를 보내고
+ * 업로드당 동시에 {@code parallelism}개 파트까지만 메모리에 두므로, 로컬 사본 없이 업로드당 최대 (parallelism + 1) × 파트 크기만 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+
+    /** S3 DeleteObjects 한 번에 지울 수 있는 최대 키 수 */
+    static final int MAX_DELETE_KEYS = 1000;
+
+    /** S3 CopyObject 한 번으로 복사할 수 있는 최대 크기 */
+    private static final long MAX_COPY_BYTES = 5L * 1024 * 1024 * 1024;
+
+    /** S3 멀티파트 업로드의 최소 파트 크기(마지막 파트 제외) */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.multipart.part-size-mb:8}")
+    private int partSizeMb = 8;
+
+    @Value("${storage.s3.multipart.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${storage.s3.multipart.threads:8}")
+    private int threads = 8;
+
+    int partSize = 8 * 1024 * 1024;
+
+    private ExecutorService partExecutor;
+
+    @PostConstruct
+    void init() {
+        partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+        partExecutor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("s3-upload-part-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (partExecutor != null) {
+            partExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size, String contentType) throws IOException {
+        if (size >= 0 && size <= partSize) {
+            putObject(key, RequestBody.fromInputStream(content, size), contentType);
+            return;
+        }
+        byte[] first = content.readNBytes(partSize);
+        if (first.length < partSize) {
+            // 파트 하나에 다 들어가면 멀티파트 없이 한 번에 저장
+            putObject(key, RequestBody.fromBytes(first), contentType);
+            return;
+        }
+        putMultipart(key, first, content, contentType);
+    }
+
+    private void putObject(String key, RequestBody body, String contentType) {
+        PutObjectRequest putOb = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putOb, body);
+    }
+
+    private void putMultipart(String key, byte[] first, InputStream content, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build())
+                .uploadId();
+        Deque<Future<CompletedPart>> inFlight = new ArrayDeque<>();
+        List<CompletedPart> completed = new ArrayList<>();
+        try {
+            byte[] part = first;
+            int partNumber = 1;
+            while (part.length > 0) {
+                if (inFlight.size() >= parallelism) {
+                    completed.add(await(inFlight.removeFirst()));
+                }
+                inFlight.addLast(submitPart(key, uploadId, partNumber++, part));
+                part = content.readNBytes(partSize);
+            }
+            while (!inFlight.isEmpty()) {
+                completed.add(await(inFlight.removeFirst()));
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    private Future<CompletedPart> submitPart(String key, String uploadId, int partNumber, byte[] bytes) {
+        return partExecutor.submit(() -> {
+            String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength((long) bytes.length)
+                    .build(), RequestBody.fromBytes(bytes))
+                    .eTag();
+            return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+        });
+    }
+
+    private static CompletedPart await(Future<CompletedPart> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("멀티파트 업로드 중단");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("파트 업로드 실패", e.getCause());
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            // 남은 파트는 버킷 수명 주기 규칙(AbortIncompleteMultipartUpload)으로 정리
+            log.warn("멀티파트 업로드 취소 실패: key={}, uploadId={}, cause={}", key, uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * CopyObject로 버킷 안에서 복사해 내용이 앱 서버를 거치지 않습니다. 콘텐츠 타입은 원본 대신 지정한 값으로 바꿉니다.
+     * 한 번에 복사할 수 없는 크기는 기본 구현(읽어서 다시 쓰기)을 씁니다.
+     */
+    @Override
+    public void copy(String sourceKey, String targetKey, long size, String contentType) throws IOException {
+        if (size > MAX_COPY_BYTES) {
+            BlobStore.super.copy(sourceKey, targetKey, size, contentType);
+            return;
+        }
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucket)
+                .destinationKey(targetKey)
+                .metadataDirective(MetadataDirective.REPLACE)
+                .contentType(contentType)
+                .build());
+    }
+
+    @Override
+    public InputStream open(String key) {
+        GetObjectRequest getOb = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+        return s3Client.getObject(getOb);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        if (length <= 0) {
+            return 0;
+        }
+        GetObjectRequest getOb = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        try (InputStream in = s3Client.getObject(getOb)) {
+            return in.transferTo(Channels.newOutputStream(target));
+        }
+    }
+
+    @Override
+    public String presignGet(String key, Duration ttl, String contentType, String contentDisposition) {
+        GetObjectRequest getOb = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .responseContentType(contentType)
+                .responseContentDisposition(contentDisposition)
+                .build();
+        return s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .getObjectRequest(getOb)
+                .build())
+                .url()
+                .toString();
+    }
+
+    @Override
+    public BlobMetadata stat(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+            return new BlobMetadata(head.contentLength(), head.contentType());
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Content-Type과 Content-Length를 서명한 PUT URL을 만듭니다. 다른 타입이나 크기로 올리면 S3가 서명 불일치로 거절합니다.
+     */
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long size, Duration ttl) {
+        PutObjectRequest putOb = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putOb)
+                .build());
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host") && !name.equalsIgnoreCase("content-length")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), "PUT", headers, presigned.expiration());
+    }
+
+    @Override
+    public void delete(String key) {
+        DeleteObjectRequest deleteOb = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+        s3Client.deleteObject(deleteOb);
+    }
+
+    /**
+     * DeleteObjects로 최대 1000개씩 한 번에 삭제합니다. 남은 묶음도 모두 요청한 뒤, 일부 키라도 삭제에 실패했으면 예외를 던져
+     * 호출자가 DB 변경을 되돌리고 다시 시도하게 합니다(없는 키는 S3가 성공으로 처리).
+     */
+    @Override
+    public void deleteAll(Collection<String> keys) throws IOException {
+        List<ObjectIdentifier> objects = keys.stream()
+                .distinct()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        List<S3Error> errors = new ArrayList<>();
+        for (int from = 0; from < objects.size(); from += MAX_DELETE_KEYS) {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder()
+                            .objects(objects.subList(from, Math.min(from + MAX_DELETE_KEYS, objects.size())))
+                            .quiet(true)
+                            .build())
+                    .build());
+            for (S3Error error : response.errors()) {
+                log.warn("객체 삭제 실패: key={}, code={}, message={}", error.key(), error.code(), error.message());
+                errors.add(error);
+            }
+        }
+        if (!errors.isEmpty()) {
+            S3Error first = errors.get(0);
+            throw new IOException("객체 " + errors.size() + "개 삭제 실패: key=" + first.key() + ", code=" + first.code());
+        }
+    }
+}
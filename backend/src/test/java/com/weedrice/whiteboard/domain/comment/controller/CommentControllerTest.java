@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.weedrice.whiteboard.domain.comment.dto.CommentCreateRequest;
 import com.weedrice.whiteboard.domain.comment.dto.CommentListResponse;
 import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.dto.CommentThreadResponse;
 import com.weedrice.whiteboard.domain.comment.dto.CommentUpdateRequest;
 import com.weedrice.whiteboard.domain.comment.entity.Comment;
 import com.weedrice.whiteboard.domain.comment.service.CommentService;
+import com.weedrice.whiteboard.global.common.dto.CursorResponse;
 import com.weedrice.whiteboard.global.security.CustomUserDetails;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -175,6 +177,24 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    @DisplayName("커서 방식 댓글 조회 성공")
+    void getCommentsByCursor_returnsSuccess() throws Exception {
+        // given
+        Long postId = 1L;
+        CursorResponse<CommentThreadResponse> response =
+                new CursorResponse<>(List.of(), 30L, true);
+        when(commentService.getCommentsByCursor(eq(postId), eq(10L), eq(20), eq(3), any())).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}/comments/cursor", postId)
+                        .param("cursor", "10")
+                        .with(anonymous()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value(30))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("댓글 생성 성공")
     void createComment_returnsSuccess() throws Exception {
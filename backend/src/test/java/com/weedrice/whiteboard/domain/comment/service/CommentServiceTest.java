@@ -2,6 +2,7 @@ package com.weedrice.whiteboard.domain.comment.service;
 
 import com.weedrice.whiteboard.domain.board.entity.Board;
 import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.dto.CommentThreadResponse;
 import com.weedrice.whiteboard.domain.comment.entity.Comment;
 import com.weedrice.whiteboard.domain.comment.entity.CommentLikeId;
 import com.weedrice.whiteboard.domain.comment.repository.CommentClosureRepository;
@@ -14,6 +15,7 @@ import com.weedrice.whiteboard.domain.post.repository.PostRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.domain.user.service.UserBlockService;
+import com.weedrice.whiteboard.global.common.dto.CursorResponse;
 import com.weedrice.whiteboard.global.common.service.GlobalConfigService;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
@@ -63,6 +65,8 @@ class CommentServiceTest {
     private UserBlockService userBlockService;
     @Mock
     private GlobalConfigService globalConfigService;
+    @Mock
+    private CommentTreeCache commentTreeCache;
 
     @Test
     @DisplayName("댓글 생성 성공 - 루트 댓글")
@@ -151,13 +155,78 @@ class CommentServiceTest {
         assertThat(response.getAuthor().getDisplayName()).isEqualTo("차단된 사용자");
     }
 
+    @Test
+    @DisplayName("댓글 조회 - 캐시된 트리 사용 시 DB 조회 없이 조회자별 마스킹 적용")
+    void getComments_fromCachedTree() {
+        // given
+        User blockedUser = User.builder().displayName("Blocked").build();
+        ReflectionTestUtils.setField(blockedUser, "userId", 2L);
+        Board board = Board.builder().boardUrl("free").build();
+        Post post = Post.builder().board(board).title("Title").build();
+        ReflectionTestUtils.setField(post, "postId", 100L);
+        Comment comment = Comment.builder().user(blockedUser).post(post).content("Bad Content").depth(0).build();
+        ReflectionTestUtils.setField(comment, "commentId", 10L);
+        CommentTree tree = CommentTree.build(100L, "free", "Title", List.of(comment));
+
+        when(userBlockService.getBlockedUserIds(1L)).thenReturn(List.of(2L));
+        when(commentTreeCache.get(100L)).thenReturn(Optional.of(tree));
+
+        // when
+        Page<CommentResponse> masked = commentService.getComments(100L, 1L, PageRequest.of(0, 10));
+        Page<CommentResponse> anonymous = commentService.getComments(100L, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(masked.getContent().get(0).getContent()).isEqualTo("차단된 사용자의 댓글입니다.");
+        assertThat(anonymous.getContent().get(0).getContent()).isEqualTo("Bad Content");
+        verify(commentRepository, never()).findParentsWithChildrenOrNotDeleted(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("커서 방식 댓글 조회 - 앞쪽 답글과 답글 수만 포함하고 다음 커서 반환")
+    void getCommentsByCursor_includesPreviewRepliesAndCounts() {
+        // given
+        User writer = User.builder().displayName("Writer").build();
+        ReflectionTestUtils.setField(writer, "userId", 1L);
+        Board board = Board.builder().boardUrl("free").build();
+        Post post = Post.builder().board(board).title("Title").build();
+        ReflectionTestUtils.setField(post, "postId", 100L);
+        Comment root1 = Comment.builder().user(writer).post(post).content("r1").depth(0).build();
+        ReflectionTestUtils.setField(root1, "commentId", 11L);
+        Comment root2 = Comment.builder().user(writer).post(post).content("r2").depth(0).build();
+        ReflectionTestUtils.setField(root2, "commentId", 12L);
+        Comment root3 = Comment.builder().user(writer).post(post).content("r3").depth(0).build();
+        ReflectionTestUtils.setField(root3, "commentId", 13L);
+        Comment reply = Comment.builder().user(writer).post(post).parent(root1).content("re").depth(1).build();
+        ReflectionTestUtils.setField(reply, "commentId", 20L);
+
+        when(commentRepository.findVisibleRootsAfter(100L, 10L, 3)).thenReturn(List.of(root1, root2, root3));
+        when(commentClosureRepository.findFirstReplyIds(List.of(11L, 12L), 1)).thenReturn(List.of(20L));
+        when(commentRepository.findAllByIdsWithRelations(List.of(20L))).thenReturn(List.of(reply));
+        when(commentClosureRepository.countVisibleReplies(List.of(11L, 12L, 20L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 11L, 5L }));
+
+        // when
+        CursorResponse<CommentThreadResponse> result =
+                commentService.getCommentsByCursor(100L, 10L, 2, 1, null);
+
+        // then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(12L);
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(0).getReplyCount()).isEqualTo(5L);
+        assertThat(result.getContent().get(0).getReplies()).hasSize(1);
+        assertThat(result.getContent().get(1).getReplies()).isEmpty();
+        verify(commentRepository, never()).findAllDescendants(anyList());
+    }
+
     @Test
     @DisplayName("댓글 좋아요 성공")
     void likeComment_success() {
         // given
         User user = User.builder().displayName("User").build();
         ReflectionTestUtils.setField(user, "userId", 1L);
-        Comment comment = Comment.builder().user(user).build(); // 작성자에게 알림
+        Post post = Post.builder().build();
+        Comment comment = Comment.builder().user(user).post(post).build(); // 작성자에게 알림
         ReflectionTestUtils.setField(comment, "commentId", 10L);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
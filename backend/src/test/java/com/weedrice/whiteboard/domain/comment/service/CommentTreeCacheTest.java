@@ -0,0 +1,63 @@
+package com.weedrice.whiteboard.domain.comment.service;
+
+import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentTreeCacheTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostRepository postRepository;
+
+    private CommentTreeCache commentTreeCache;
+
+    @BeforeEach
+    void setUp() {
+        commentTreeCache = new CommentTreeCache(commentRepository, postRepository);
+        ReflectionTestUtils.setField(commentTreeCache, "maxComments", 10L);
+        commentTreeCache.init();
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아닌 게시글은 판정을 기억해 댓글 수를 한 번만 조회")
+    void get_remembersOversizedPost() {
+        // given
+        when(commentRepository.countByPost_PostId(1L)).thenReturn(11L);
+
+        // when
+        assertThat(commentTreeCache.get(1L)).isEmpty();
+        assertThat(commentTreeCache.get(1L)).isEmpty();
+
+        // then
+        verify(commentRepository, times(1)).countByPost_PostId(1L);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 캐시 대상 제외 판정도 폐기")
+    void onPostChanged_deleteForgetsOversizedDecision() {
+        // given
+        when(commentRepository.countByPost_PostId(1L)).thenReturn(11L);
+        commentTreeCache.get(1L);
+
+        // when
+        commentTreeCache.onPostChanged(new PostChangedEvent(1L, 2L, "free", "DELETE"));
+        commentTreeCache.get(1L);
+
+        // then
+        verify(commentRepository, times(2)).countByPost_PostId(1L);
+    }
+}
@@ -0,0 +1,102 @@
+package com.weedrice.whiteboard.domain.comment.service;
+
+import com.weedrice.whiteboard.domain.comment.dto.CommentChangedEvent;
+import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
+import com.weedrice.whiteboard.domain.post.entity.Post;
+import com.weedrice.whiteboard.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeTest {
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().displayName("writer").build();
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        post = Post.builder().title("Title").build();
+        ReflectionTestUtils.setField(post, "postId", 100L);
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글은 살아있는 직계 자식이 있을 때만 노출")
+    void render_prunesDeletedLeaves() {
+        // given
+        Comment root = comment(1L, null, "root");
+        Comment deletedLeafRoot = comment(2L, null, "gone");
+        deletedLeafRoot.deleteComment();
+        Comment reply = comment(3L, root, "reply");
+        root.deleteComment();
+        CommentTree tree = CommentTree.build(100L, "free", "Title", List.of(root, deletedLeafRoot, reply));
+
+        // when
+        Page<CommentResponse> page = tree.render(PageRequest.of(0, 10), UnaryOperator.identity());
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(1L);
+        CommentResponse rendered = page.getContent().get(0);
+        assertThat(rendered.getContent()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(rendered.getAuthor()).isNull();
+        assertThat(rendered.getChildren()).extracting(CommentResponse::getContent).containsExactly("reply");
+    }
+
+    @Test
+    @DisplayName("커밋된 변경 패치 - 중복 적용에도 결과가 같고 응답은 매번 새로 복사")
+    void apply_isIdempotentAndRenderCopies() {
+        // given
+        Comment root = comment(1L, null, "root");
+        CommentTree tree = CommentTree.build(100L, "free", "Title", List.of(root));
+        Comment reply = comment(2L, root, "reply");
+        CommentChangedEvent created = CommentChangedEvent.of("CREATE", reply);
+
+        // when
+        assertThat(tree.apply(created)).isTrue();
+        assertThat(tree.apply(created)).isTrue();
+        reply.updateContent("edited");
+        reply.incrementLikeCount();
+        assertThat(tree.apply(CommentChangedEvent.of("MODIFY", reply))).isTrue();
+        assertThat(tree.apply(CommentChangedEvent.of("LIKE", reply))).isTrue();
+        Page<CommentResponse> first = tree.render(PageRequest.of(0, 10), UnaryOperator.identity());
+        first.getContent().get(0).getChildren().clear();
+        Page<CommentResponse> second = tree.render(PageRequest.of(0, 10), UnaryOperator.identity());
+
+        // then
+        List<CommentResponse> children = second.getContent().get(0).getChildren();
+        assertThat(children).hasSize(1);
+        assertThat(children.get(0).getContent()).isEqualTo("edited");
+        assertThat(children.get(0).getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트리에 없는 댓글 변경은 반영하지 않고 실패를 알림")
+    void apply_unknownCommentReturnsFalse() {
+        CommentTree tree = CommentTree.build(100L, "free", "Title", List.of());
+        Comment unknown = comment(9L, null, "unknown");
+
+        assertThat(tree.apply(CommentChangedEvent.of("DELETE", unknown))).isFalse();
+    }
+
+    private Comment comment(Long id, Comment parent, String content) {
+        Comment comment = Comment.builder()
+                .post(post)
+                .user(user)
+                .parent(parent)
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
+                .content(content)
+                .build();
+        ReflectionTestUtils.setField(comment, "commentId", id);
+        return comment;
+    }
+}
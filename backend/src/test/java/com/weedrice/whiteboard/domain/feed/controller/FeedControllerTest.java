@@ -1,6 +1,7 @@
 package com.weedrice.whiteboard.domain.feed.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursorResponse;
 import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
 import com.weedrice.whiteboard.domain.feed.service.FeedService;
 import com.weedrice.whiteboard.global.security.CustomUserDetails;
@@ -101,4 +102,20 @@ class FeedControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
     }
+
+    @Test
+    @DisplayName("내 피드 커서 조회 성공")
+    void getMyFeedsByCursor_returnsSuccess() throws Exception {
+        // given
+        FeedCursorResponse response = new FeedCursorResponse(Collections.emptyList(), null, false);
+        when(feedService.getUserFeedsByCursor(1L, null, 20)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/users/me/feeds/cursor")
+                        .with(user(customUserDetails))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
 }
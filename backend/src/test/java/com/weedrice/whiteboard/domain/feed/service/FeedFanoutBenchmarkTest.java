@@ -0,0 +1,107 @@
+package com.weedrice.whiteboard.domain.feed.service;
+
+import com.weedrice.whiteboard.domain.board.entity.Board;
+import com.weedrice.whiteboard.domain.board.repository.BoardSubscriptionRepository;
+import com.weedrice.whiteboard.domain.post.entity.Post;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import com.weedrice.whiteboard.domain.user.entity.User;
+import com.weedrice.whiteboard.global.config.QuerydslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 구독자 1만/10만 명 게시판의 fan-out 처리량 벤치마크. 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * 구독자 목록은 생성해 주고 {@code user_feeds} 적재와 길이 정리는 H2(PostgreSQL 모드)에 실제로 수행합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FeedFanoutBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM user_feeds");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @ParameterizedTest(name = "구독자 {0}명")
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("구독자 수별 fan-out 처리량")
+    void fanOutPost(int followers) {
+        // given
+        // 구독자 사용자 행 없이 적재하도록 외래 키 검사를 끔
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        BoardSubscriptionRepository boardSubscriptionRepository = mock(BoardSubscriptionRepository.class);
+        PostRepository postRepository = mock(PostRepository.class);
+        when(boardSubscriptionRepository.countByBoard_BoardId(1L)).thenReturn((long) followers);
+        when(boardSubscriptionRepository.findSubscriberIdsAfter(eq(1L), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long after = invocation.getArgument(1);
+                    int size = invocation.getArgument(2, Pageable.class).getPageSize();
+                    return LongStream.rangeClosed(after + 1, Math.min(after + size, followers)).boxed().toList();
+                });
+        givenPost(postRepository, 100L, 1L, 1L);
+        FeedFanoutService feedFanoutService = new FeedFanoutService(boardSubscriptionRepository, postRepository,
+                jdbcTemplate, transactionManager, mock(FeedTimelineCache.class));
+        ReflectionTestUtils.setField(feedFanoutService, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(feedFanoutService, "largeBoardThreshold", Long.MAX_VALUE);
+        feedFanoutService.init();
+
+        // when
+        long startedAt = System.nanoTime();
+        int inserted = feedFanoutService.fanOutPost(100L);
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+        // then
+        System.out.printf("fan-out followers=%d rows=%d elapsedMs=%d rowsPerSec=%d%n",
+                followers, inserted, elapsedMs, inserted * 1000L / elapsedMs);
+        assertThat(inserted).isEqualTo(followers - 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_feeds WHERE content_id = 100", Long.class))
+                .isEqualTo(followers - 1L);
+        verify(boardSubscriptionRepository, times(followers / BATCH_SIZE + 1))
+                .findSubscriberIdsAfter(eq(1L), anyLong(), any(Pageable.class));
+    }
+
+    private void givenPost(PostRepository postRepository, Long postId, Long boardId, Long authorId) {
+        Post post = mock(Post.class);
+        Board board = mock(Board.class);
+        User author = mock(User.class);
+        when(board.getBoardId()).thenReturn(boardId);
+        when(author.getUserId()).thenReturn(authorId);
+        when(post.getBoard()).thenReturn(board);
+        when(post.getUser()).thenReturn(author);
+        when(post.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+    }
+}
@@ -0,0 +1,189 @@
+package com.weedrice.whiteboard.domain.feed.service;
+
+import com.weedrice.whiteboard.domain.board.entity.Board;
+import com.weedrice.whiteboard.domain.board.repository.BoardSubscriptionRepository;
+import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.domain.post.entity.Post;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import com.weedrice.whiteboard.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedFanoutServiceTest {
+
+    @Mock
+    private BoardSubscriptionRepository boardSubscriptionRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private FeedTimelineCache feedTimelineCache;
+
+    @InjectMocks
+    private FeedFanoutService feedFanoutService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedFanoutService, "batchSize", 2);
+        ReflectionTestUtils.setField(feedFanoutService, "largeBoardThreshold", 10L);
+        feedFanoutService.init();
+    }
+
+    @Test
+    @DisplayName("구독자를 묶음 단위로 배치 적재하고 작성자는 제외한 뒤 메모리 링에 반영")
+    @SuppressWarnings("unchecked")
+    void fanOutPost_insertsInChunksExcludingAuthor() {
+        // given
+        Long postId = 100L;
+        givenPost(postId, 1L, 3L);
+        when(boardSubscriptionRepository.countByBoard_BoardId(1L)).thenReturn(4L);
+        when(boardSubscriptionRepository.findSubscriberIdsAfter(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(2L, 3L));
+        when(boardSubscriptionRepository.findSubscriberIdsAfter(eq(1L), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(4L, 5L));
+        when(boardSubscriptionRepository.findSubscriberIdsAfter(eq(1L), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenReturn(List.of(1001L))
+                .thenReturn(List.of(1002L, 1003L));
+
+        // when
+        int inserted = feedFanoutService.fanOutPost(postId);
+
+        // then
+        assertThat(inserted).isEqualTo(3);
+        verify(jdbcTemplate, times(2)).execute(any(ConnectionCallback.class));
+        ArgumentCaptor<FeedResponse.FeedSummary> entry = ArgumentCaptor.forClass(FeedResponse.FeedSummary.class);
+        verify(feedTimelineCache).push(eq(2L), entry.capture());
+        assertThat(entry.getValue().getFeedId()).isEqualTo(1001L);
+        assertThat(entry.getValue().getContentId()).isEqualTo(postId);
+        verify(feedTimelineCache).push(eq(4L), any());
+        verify(feedTimelineCache).push(eq(5L), any());
+        verify(feedTimelineCache, never()).push(eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("구독자 1만 명 게시판 - 1000명 묶음마다 배치 INSERT 한 번과 길이 정리 한 번만 실행")
+    @SuppressWarnings("unchecked")
+    void fanOutPost_batchesRealisticFollowerCount() throws Exception {
+        // given
+        int followers = 10_000;
+        ReflectionTestUtils.setField(feedFanoutService, "batchSize", 1000);
+        ReflectionTestUtils.setField(feedFanoutService, "largeBoardThreshold", 100_000L);
+        Long postId = 100L;
+        givenPost(postId, 1L, 500L);
+        when(boardSubscriptionRepository.countByBoard_BoardId(1L)).thenReturn((long) followers);
+        when(boardSubscriptionRepository.findSubscriberIdsAfter(eq(1L), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long after = invocation.getArgument(1);
+                    int size = invocation.getArgument(2, Pageable.class).getPageSize();
+                    return LongStream.rangeClosed(after + 1, Math.min(after + size, followers)).boxed().toList();
+                });
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(statement);
+        when(statement.getGeneratedKeys()).thenReturn(keys);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, ConnectionCallback.class).doInConnection(connection));
+
+        // when
+        int inserted = feedFanoutService.fanOutPost(postId);
+
+        // then
+        assertThat(inserted).isEqualTo(followers - 1);
+        verify(boardSubscriptionRepository, times(11)).findSubscriberIdsAfter(eq(1L), anyLong(), any(Pageable.class));
+        verify(connection, times(10)).prepareStatement(anyString(), any(String[].class));
+        verify(statement, times(followers - 1)).addBatch();
+        verify(statement, times(10)).executeBatch();
+        verify(jdbcTemplate, times(10)).update(startsWith("DELETE FROM user_feeds WHERE feed_id IN"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("구독자가 임계치를 넘는 게시판은 적재하지 않고 게시판 링에만 반영(fan-out-on-read)")
+    @SuppressWarnings("unchecked")
+    void fanOutPost_skipsLargeBoard() {
+        // given
+        Long postId = 100L;
+        givenPost(postId, 1L, 3L);
+        when(boardSubscriptionRepository.countByBoard_BoardId(1L)).thenReturn(11L);
+
+        // when
+        int inserted = feedFanoutService.fanOutPost(postId);
+
+        // then
+        assertThat(inserted).isZero();
+        assertThat(feedFanoutService.isFanoutOnRead(1L)).isTrue();
+        verify(boardSubscriptionRepository, never()).findSubscriberIdsAfter(anyLong(), anyLong(), any());
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+        verify(feedTimelineCache).pushBoardPost(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 적재된 피드 항목 삭제")
+    void onPostChanged_deleteRemovesFeedRows() {
+        // when
+        feedFanoutService.onPostChanged(new PostChangedEvent(100L, 1L, "free", "DELETE"), false);
+
+        // then
+        verify(jdbcTemplate).update(contains("DELETE FROM user_feeds"), eq("POST"), eq(100L));
+        verify(feedTimelineCache).removeContent("POST", 100L);
+    }
+
+    @Test
+    @DisplayName("재전달된 게시글 작성 이벤트는 일부 적재된 항목을 지우고 다시 적재")
+    void onPostChanged_redeliveredCreateRemovesBeforeFanOut() {
+        // given
+        when(postRepository.findById(100L)).thenReturn(Optional.empty());
+
+        // when
+        feedFanoutService.onPostChanged(new PostChangedEvent(100L, 1L, "free", "CREATE"), true);
+
+        // then
+        verify(jdbcTemplate).update(contains("DELETE FROM user_feeds"), eq("POST"), eq(100L));
+        verify(postRepository).findById(100L);
+    }
+
+    private void givenPost(Long postId, Long boardId, Long authorId) {
+        Post post = mock(Post.class);
+        Board board = mock(Board.class);
+        User author = mock(User.class);
+        when(board.getBoardId()).thenReturn(boardId);
+        when(author.getUserId()).thenReturn(authorId);
+        when(post.getBoard()).thenReturn(board);
+        when(post.getUser()).thenReturn(author);
+        when(post.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+    }
+}
@@ -1,8 +1,11 @@
 package com.weedrice.whiteboard.domain.feed.service;
 
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursor;
+import com.weedrice.whiteboard.domain.feed.dto.FeedCursorResponse;
 import com.weedrice.whiteboard.domain.feed.dto.FeedResponse;
 import com.weedrice.whiteboard.domain.feed.entity.UserFeed;
 import com.weedrice.whiteboard.domain.feed.repository.UserFeedRepository;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.global.exception.BusinessException;
@@ -19,12 +22,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +49,15 @@ class FeedServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private FeedFanoutService feedFanoutService;
+
+    @Mock
+    private FeedTimelineCache feedTimelineCache;
+
     @Test
     @DisplayName("피드 조회 성공 - 데이터 포함")
     void getUserFeeds_success_withData() {
@@ -75,13 +94,6 @@ class FeedServiceTest {
         assertThat(response.getTotalElements()).isEqualTo(1);
     }
 
-    @Test
-    @DisplayName("피드 생성 TODO 메서드 호출 (커버리지용)")
-    void generateFeeds_call() {
-        // FeedService.generateFeeds()는 현재 TODO 빈 메서드이지만 커버리지를 위해 호출
-        feedService.generateFeeds();
-    }
-
     @Test
     @DisplayName("피드 조회 실패 - 사용자 없음")
     void getUserFeeds_userNotFound() {
@@ -96,4 +108,113 @@ class FeedServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 피드 첫 페이지 - 메모리 링의 적재 피드와 대형 게시판 글을 병합")
+    void getUserFeedsByCursor_firstPageFromHotRings() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        HotTimeline feeds = new HotTimeline(100, List.of(feed(11L, now.minusMinutes(1)), feed(12L, now.minusMinutes(3))));
+        HotTimeline boardPosts = new HotTimeline(100, List.of(
+                FeedResponse.FeedSummary.ofPost(21L, 2L, now.minusMinutes(2)),
+                FeedResponse.FeedSummary.ofPost(11L, 2L, now.minusMinutes(1))));
+        when(feedTimelineCache.user(1L)).thenReturn(new FeedTimelineCache.UserTimeline(feeds, List.of(5L, 6L)));
+        when(feedFanoutService.isFanoutOnRead(5L)).thenReturn(true);
+        when(feedFanoutService.isFanoutOnRead(6L)).thenReturn(false);
+        when(feedTimelineCache.board(5L)).thenReturn(boardPosts);
+
+        // when
+        FeedCursorResponse response = feedService.getUserFeedsByCursor(1L, null, 2);
+
+        // then
+        assertThat(response.getContent()).extracting(FeedResponse.FeedSummary::getContentId).containsExactly(11L, 21L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(FeedCursor.decode(response.getNextCursor()).contentId()).isEqualTo(21L);
+        verifyNoInteractions(userFeedRepository, postRepository);
+    }
+
+    @Test
+    @DisplayName("커서 피드 - 링 밖 구간은 keyset 쿼리로 조회")
+    void getUserFeedsByCursor_fallsBackToKeysetQuery() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        HotTimeline feeds = new HotTimeline(1, List.of(feed(11L, now.minusMinutes(1)), feed(12L, now.minusMinutes(3))));
+        when(feedTimelineCache.user(1L)).thenReturn(new FeedTimelineCache.UserTimeline(feeds, List.of()));
+        FeedCursor cursor = new FeedCursor(now.minusMinutes(1), 11L);
+        UserFeed older = UserFeed.builder().feedType("NEW_POST").contentType("POST").contentId(12L).build();
+        ReflectionTestUtils.setField(older, "createdAt", now.minusMinutes(3));
+        when(userFeedRepository.findTimelineBefore(eq(1L), eq(cursor.createdAt()), eq(11L), any(Pageable.class)))
+                .thenReturn(List.of(older));
+
+        // when
+        FeedCursorResponse response = feedService.getUserFeedsByCursor(1L, cursor.encode(), 10);
+
+        // then
+        assertThat(response.getContent()).extracting(FeedResponse.FeedSummary::getContentId).containsExactly(12L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        verify(postRepository, never()).findBoardTimelineBefore(anyLong(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 피드 - 대형 게시판을 구독한 작성자에게는 본인 글을 병합하지 않음")
+    void getUserFeedsByCursor_excludesOwnPostsFromLargeBoard() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        HotTimeline feeds = new HotTimeline(100, List.of());
+        HotTimeline boardPosts = new HotTimeline(100, List.of(
+                FeedResponse.FeedSummary.ofPost(21L, 1L, now.minusMinutes(1)),
+                FeedResponse.FeedSummary.ofPost(22L, 2L, now.minusMinutes(2))));
+        when(feedTimelineCache.user(1L)).thenReturn(new FeedTimelineCache.UserTimeline(feeds, List.of(5L)));
+        when(feedFanoutService.isFanoutOnRead(5L)).thenReturn(true);
+        when(feedTimelineCache.board(5L)).thenReturn(boardPosts);
+
+        // when
+        FeedCursorResponse response = feedService.getUserFeedsByCursor(1L, null, 10);
+
+        // then
+        assertThat(response.getContent()).extracting(FeedResponse.FeedSummary::getContentId).containsExactly(22L);
+        assertThat(response.isHasNext()).isFalse();
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("커서 피드 - 대형 게시판의 링 밖 구간도 작성자 본인 글을 빼고 조회")
+    void getUserFeedsByCursor_excludesOwnPostsInBoardKeysetQuery() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        HotTimeline feeds = new HotTimeline(100, List.of());
+        HotTimeline boardPosts = new HotTimeline(1, List.of(
+                FeedResponse.FeedSummary.ofPost(21L, 1L, now.minusMinutes(1)),
+                FeedResponse.FeedSummary.ofPost(22L, 2L, now.minusMinutes(2))));
+        when(feedTimelineCache.user(1L)).thenReturn(new FeedTimelineCache.UserTimeline(feeds, List.of(5L)));
+        when(feedFanoutService.isFanoutOnRead(5L)).thenReturn(true);
+        when(feedTimelineCache.board(5L)).thenReturn(boardPosts);
+        when(postRepository.findBoardTimelineBefore(5L, 1L, null, null, 11)).thenReturn(List.of());
+
+        // when
+        FeedCursorResponse response = feedService.getUserFeedsByCursor(1L, null, 10);
+
+        // then
+        assertThat(response.getContent()).isEmpty();
+        verify(postRepository).findBoardTimelineBefore(5L, 1L, null, null, 11);
+    }
+
+    @Test
+    @DisplayName("커서 피드 - 잘못된 커서")
+    void getUserFeedsByCursor_invalidCursor() {
+        assertThatThrownBy(() -> feedService.getUserFeedsByCursor(1L, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private FeedResponse.FeedSummary feed(Long postId, LocalDateTime createdAt) {
+        return FeedResponse.FeedSummary.builder()
+                .feedId(postId + 1000)
+                .feedType("NEW_POST")
+                .contentType("POST")
+                .contentId(postId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
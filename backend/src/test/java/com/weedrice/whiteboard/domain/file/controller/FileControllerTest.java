@@ -1,11 +1,14 @@
 package com.weedrice.whiteboard.domain.file.controller;
 
+import com.weedrice.whiteboard.domain.file.dto.DirectUploadResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileSimpleResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileUploadResponse;
 import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
 import com.weedrice.whiteboard.domain.file.service.FileService;
-import com.weedrice.whiteboard.global.common.util.FileStorageService;
 import com.weedrice.whiteboard.global.security.CustomUserDetails;
+import com.weedrice.whiteboard.global.storage.BlobDownloadService;
+import com.weedrice.whiteboard.global.storage.BlobStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,10 +23,13 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,7 +47,7 @@ import static org.mockito.Mockito.doAnswer;
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = com.weedrice.whiteboard.global.config.SecurityConfig.class)
     })
 @org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
-@org.springframework.context.annotation.Import({FileControllerTest.TestSecurityConfig.class, com.weedrice.whiteboard.global.exception.GlobalExceptionHandler.class})
+@org.springframework.context.annotation.Import({FileControllerTest.TestSecurityConfig.class, com.weedrice.whiteboard.global.exception.GlobalExceptionHandler.class, BlobDownloadService.class})
 class FileControllerTest {
 
     @org.springframework.boot.test.context.TestConfiguration
@@ -63,7 +69,7 @@ class FileControllerTest {
     private FileService fileService;
 
     @MockBean
-    private FileStorageService fileStorageService;
+    private BlobStore blobStore;
 
     @MockBean
     private com.weedrice.whiteboard.global.security.JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -120,6 +126,63 @@ class FileControllerTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    @DisplayName("스트리밍 업로드 - 본문을 그대로 서비스에 전달")
+    void uploadStream_returnsSuccess() throws Exception {
+        FileUploadResponse response = FileUploadResponse.builder().fileId(1L).build();
+        when(fileService.uploadStream(any(), eq("cat.png"), eq(4L), any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/files/stream")
+                        .param("filename", "cat.png")
+                        .contentType("image/png")
+                        .content(new byte[] { 1, 2, 3, 4 })
+                        .with(user(customUserDetails)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.fileId").value(1));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 서명된 업로드 URL 발급")
+    void createDirectUpload_returnsUploadUrl() throws Exception {
+        DirectUploadResponse response = DirectUploadResponse.builder()
+                .uploadKey("k.png")
+                .uploadUrl("https://bucket.s3.amazonaws.com/k.png?X-Amz-Signature=sig")
+                .method("PUT")
+                .build();
+        when(fileService.createDirectUpload(1L, "cat.png", 100L)).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/files/direct")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filename\":\"cat.png\",\"size\":100}")
+                        .with(user(customUserDetails)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.uploadKey").value("k.png"))
+                .andExpect(jsonPath("$.data.method").value("PUT"));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 크기가 없으면 요청 거절")
+    void createDirectUpload_requiresSize() throws Exception {
+        mockMvc.perform(post("/api/v1/files/direct")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filename\":\"cat.png\"}")
+                        .with(user(customUserDetails)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 파일로 등록")
+    void completeDirectUpload_returnsFile() throws Exception {
+        FileUploadResponse response = FileUploadResponse.builder().fileId(7L).build();
+        when(fileService.completeDirectUpload(1L, "k.png")).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/files/direct/k.png/complete")
+                        .with(user(customUserDetails)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.fileId").value(7));
+    }
+
     @Test
     @DisplayName("간단 파일 업로드 성공")
     void uploadSimple_returnsSuccess() throws Exception {
@@ -138,18 +201,81 @@ class FileControllerTest {
     @DisplayName("파일 다운로드 성공")
     void downloadFile_returnsSuccess() throws Exception {
         Long fileId = 1L;
+        when(fileService.getFile(eq(fileId))).thenReturn(givenFile(fileId));
+        givenStoredContent("test content");
+
+        mockMvc.perform(get("/api/v1/files/{fileId}", fileId))
+                .andExpect(status().isOk())
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("Content-Disposition", "attachment; filename=\"test.txt\""))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("ETag", "\"path/to/file.txt\""))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("Accept-Ranges", "bytes"))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().longValue("Content-Length", 12))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.content().string("test content"));
+    }
+
+    @Test
+    @DisplayName("파일 다운로드 - ETag가 같으면 저장소를 읽지 않고 304")
+    void downloadFile_notModified() throws Exception {
+        Long fileId = 1L;
+        when(fileService.getFile(eq(fileId))).thenReturn(givenFile(fileId));
+
+        mockMvc.perform(get("/api/v1/files/{fileId}", fileId).header("If-None-Match", "\"path/to/file.txt\""))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("파일 다운로드 - Range 요청은 206으로 구간만 전송")
+    void downloadFile_range() throws Exception {
+        Long fileId = 1L;
+        when(fileService.getFile(eq(fileId))).thenReturn(givenFile(fileId));
+        givenStoredContent("test content");
+
+        mockMvc.perform(get("/api/v1/files/{fileId}", fileId).header("Range", "bytes=5-11"))
+                .andExpect(status().isPartialContent())
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("Content-Range", "bytes 5-11/12"))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.content().string("content"));
+    }
+
+    @Test
+    @DisplayName("파일 다운로드 - size=thumbnail이면 생성된 썸네일을 전송")
+    void downloadFile_thumbnailVariant() throws Exception {
+        Long fileId = 1L;
+        File file = givenFile(fileId);
+        ReflectionTestUtils.setField(file, "variantStatus", ImageVariantStatus.READY);
+        ReflectionTestUtils.setField(file, "variantMimeType", "image/jpeg");
+        ReflectionTestUtils.setField(file, "thumbnailPath", "path/to/file_thumb.jpg");
+        ReflectionTestUtils.setField(file, "thumbnailSize", 5L);
+        when(fileService.getFile(eq(fileId))).thenReturn(file);
+        givenStoredContent("thumb");
+
+        mockMvc.perform(get("/api/v1/files/{fileId}", fileId).param("size", "thumbnail"))
+                .andExpect(status().isOk())
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("ETag", "\"path/to/file_thumb.jpg\""))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("Content-Type", "image/jpeg"))
+                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.content().string("thumb"));
+        verify(blobStore).transferTo(eq("path/to/file_thumb.jpg"), eq(0L), eq(5L), any(WritableByteChannel.class));
+    }
+
+    private File givenFile(Long fileId) {
         File file = File.builder().build();
         ReflectionTestUtils.setField(file, "fileId", fileId);
         ReflectionTestUtils.setField(file, "originalName", "test.txt");
         ReflectionTestUtils.setField(file, "mimeType", "text/plain");
         ReflectionTestUtils.setField(file, "filePath", "path/to/file.txt");
-        
-        when(fileService.getFile(eq(fileId))).thenReturn(file);
-        when(fileStorageService.loadFile(anyString())).thenReturn(new ByteArrayInputStream("test content".getBytes()));
+        ReflectionTestUtils.setField(file, "fileSize", 12L);
+        return file;
+    }
 
-        mockMvc.perform(get("/api/v1/files/{fileId}", fileId))
-                .andExpect(status().isOk())
-                .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers.header().string("Content-Disposition", "attachment; filename=\"test.txt\""));
+    private void givenStoredContent(String content) throws Exception {
+        byte[] bytes = content.getBytes();
+        when(blobStore.transferTo(anyString(), anyLong(), anyLong(), any(WritableByteChannel.class))).thenAnswer(invocation -> {
+            int offset = (int) (long) invocation.getArgument(1);
+            int length = (int) (long) invocation.getArgument(2);
+            WritableByteChannel channel = invocation.getArgument(3);
+            return (long) channel.write(ByteBuffer.wrap(bytes, offset, length));
+        });
     }
 
     @Test
@@ -79,19 +79,6 @@ class FileRepositoryTest {
         assertThat(files).isNotEmpty();
     }
 
-    @Test
-    @DisplayName("이미지 파일이 있는 관련 ID 조회")
-    void findRelatedIdsWithImages_success() {
-        // given
-        List<Long> relatedIds = List.of(1L);
-
-        // when
-        List<Long> idsWithImages = fileRepository.findRelatedIdsWithImages(relatedIds, "POST_CONTENT");
-
-        // then
-        assertThat(idsWithImages).isNotEmpty();
-    }
-
     @Test
     @DisplayName("관련 ID가 null이고 생성일이 이전인 파일 조회")
     void findByRelatedIdIsNullAndCreatedAtBefore_success() {
@@ -117,9 +104,9 @@ class FileRepositoryTest {
 
     @Test
     @DisplayName("특정 관련 ID, 타입, MIME 타입으로 첫 번째 파일 조회")
-    void findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWith_success() {
+    void findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWithOrderByFileIdAsc_success() {
         // when
-        Optional<File> found = fileRepository.findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWith(
+        Optional<File> found = fileRepository.findFirstByRelatedIdAndRelatedTypeAndMimeTypeStartingWithOrderByFileIdAsc(
                 1L, "POST_CONTENT", "image/");
 
         // then
@@ -0,0 +1,35 @@
+package com.weedrice.whiteboard.domain.file.scheduler;
+
+import com.weedrice.whiteboard.domain.file.service.OrphanFileCleanupJob;
+import com.weedrice.whiteboard.global.config.SchedulingConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FileCleanupSchedulerTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SchedulingConfig.class, FileCleanupScheduler.class)
+            .withBean(OrphanFileCleanupJob.class, () -> mock(OrphanFileCleanupJob.class));
+
+    @Test
+    @DisplayName("스케줄링 설정과 함께 뜨면 임시 파일 정리가 설정한 cron으로 등록됨")
+    void cleanupTemporaryFiles_registeredAsCronTask() {
+        contextRunner
+                .withPropertyValues("file.cleanup.cron=0 30 3 * * ?")
+                .run(context -> {
+                    ScheduledTaskHolder holder = context.getBean(ScheduledTaskHolder.class);
+                    assertThat(holder.getScheduledTasks()).anySatisfy(scheduled -> {
+                        assertThat(scheduled.getTask()).isInstanceOf(CronTask.class);
+                        assertThat(((CronTask) scheduled.getTask()).getExpression()).isEqualTo("0 30 3 * * ?");
+                        assertThat(scheduled.getTask().getRunnable().toString())
+                                .contains("FileCleanupScheduler.cleanupTemporaryFiles");
+                    });
+                });
+    }
+}
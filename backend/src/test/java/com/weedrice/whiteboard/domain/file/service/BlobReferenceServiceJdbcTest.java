@@ -0,0 +1,132 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import com.weedrice.whiteboard.global.config.QuerydslConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 참조 수 기록을 H2(PostgreSQL 모드)에 실제로 수행해, 파일 기록과 같은 트랜잭션에서 얻은 참조가 함께 커밋/롤백되는지 확인합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ QuerydslConfig.class, BlobReferenceService.class, SimpleMeterRegistry.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BlobReferenceServiceJdbcTest {
+
+    @Autowired
+    private BlobReferenceService blobReferenceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private FileStorageService fileStorageService;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM stored_blobs");
+    }
+
+    @Test
+    @DisplayName("파일 기록이 실패해 트랜잭션이 롤백되면 새 내용의 참조 행이 남지 않음")
+    void acquire_rolledBackWithFileInsert() {
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            blobReferenceService.acquire("hash", "a.png", 10L, "image/png");
+            blobReferenceService.markStored("hash");
+            throw new IllegalStateException("file insert failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(blobReferenceService.find("hash")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 객체를 재사용하다 롤백되면 참조 수가 늘지 않음")
+    void acquire_rolledBackKeepsExistingCount() {
+        // given
+        givenStoredBlob("hash", "a.png", 1);
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            BlobReferenceService.BlobReference reference = blobReferenceService.acquire("hash", "b.png", 10L,
+                    "image/png");
+            assertThat(reference.key()).isEqualTo("a.png");
+            assertThat(reference.stored()).isTrue();
+            throw new IllegalStateException("file insert failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(refCount("hash")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋된 참조는 다음 업로드가 같은 키로 공유하고 참조 수가 늘어남")
+    void acquire_sharesCommittedBlob() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            blobReferenceService.acquire("hash", "a.png", 10L, "image/png");
+            blobReferenceService.markStored("hash");
+        });
+
+        // when
+        BlobReferenceService.BlobReference reference = transactionTemplate.execute(
+                status -> blobReferenceService.acquire("hash", "b.png", 10L, "image/png"));
+
+        // then
+        assertThat(reference.key()).isEqualTo("a.png");
+        assertThat(reference.stored()).isTrue();
+        assertThat(refCount("hash")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 참조를 얻으면 거부")
+    void acquire_requiresTransaction() {
+        assertThatThrownBy(() -> blobReferenceService.acquire("hash", "a.png", 10L, "image/png"))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(blobReferenceService.find("hash")).isEmpty();
+    }
+
+    private void givenStoredBlob(String contentHash, String key, int refCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO stored_blobs "
+                + "(content_hash, blob_key, size, content_type, ref_count, stored, created_at, modified_at) "
+                + "VALUES (?, ?, 10, 'image/png', ?, true, ?, ?)", contentHash, key, refCount, now, now);
+    }
+
+    private Integer refCount(String contentHash) {
+        return jdbcTemplate.queryForObject("SELECT ref_count FROM stored_blobs WHERE content_hash = ?", Integer.class,
+                contentHash);
+    }
+}
@@ -0,0 +1,108 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlobReferenceServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlobReferenceService blobReferenceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        blobReferenceService = new BlobReferenceService(jdbcTemplate, fileStorageService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 내용이면 기존 키를 반환하고 재사용 지표를 남김")
+    @SuppressWarnings("unchecked")
+    void acquire_existingBlob() {
+        // given
+        when(jdbcTemplate.update(contains("ref_count = ref_count + 1"), any(), eq("hash"))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("SELECT blob_key"), any(RowMapper.class), eq("hash")))
+                .thenReturn(new BlobReferenceService.BlobReference("hash.jpg", true));
+
+        // when
+        BlobReferenceService.BlobReference reference = blobReferenceService.acquire("hash", "hash.png", 100L, "image/png");
+
+        // then
+        assertThat(reference.key()).isEqualTo("hash.jpg");
+        assertThat(reference.stored()).isTrue();
+        assertThat(meterRegistry.counter("file.upload.dedup", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("file.upload.dedup.bytes.saved").count()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("행이 없어 새로 만들려다 다른 업로드가 먼저 만들었으면 다시 참조 수를 늘림")
+    @SuppressWarnings("unchecked")
+    void acquire_retriesWhenConcurrentlyInserted() {
+        // given
+        when(jdbcTemplate.update(contains("ref_count = ref_count + 1"), any(), eq("hash"))).thenReturn(0, 1);
+        when(jdbcTemplate.update(contains("ON CONFLICT DO NOTHING"), eq("hash"), eq("new.png"),
+                eq(100L), eq("image/png"), any(), any())).thenReturn(0);
+        when(jdbcTemplate.queryForObject(contains("SELECT blob_key"), any(RowMapper.class), eq("hash")))
+                .thenReturn(new BlobReferenceService.BlobReference("other.png", false));
+
+        // when
+        BlobReferenceService.BlobReference reference = blobReferenceService.acquire("hash", "new.png", 100L, "image/png");
+
+        // then
+        assertThat(reference.key()).isEqualTo("other.png");
+        verify(jdbcTemplate, times(2)).update(contains("ref_count = ref_count + 1"), any(), eq("hash"));
+        assertThat(meterRegistry.counter("file.upload.dedup", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 놓으면 행과 저장소 객체를 삭제")
+    void release_lastReferenceDeletesBlob() {
+        // given
+        when(jdbcTemplate.queryForList(contains("ref_count - 1"), eq(Integer.class), any(), eq("hash")))
+                .thenReturn(List.of(0));
+
+        // when
+        boolean deleted = blobReferenceService.release("hash", List.of("hash.png", "hash_thumb.jpg"));
+
+        // then
+        assertThat(deleted).isTrue();
+        verify(jdbcTemplate).update(contains("DELETE FROM stored_blobs"), eq("hash"));
+        verify(fileStorageService).deleteFile("hash.png");
+        verify(fileStorageService).deleteFile("hash_thumb.jpg");
+    }
+
+    @Test
+    @DisplayName("다른 참조가 남아 있으면 저장소 객체를 유지")
+    void release_keepsSharedBlob() {
+        // given
+        when(jdbcTemplate.queryForList(contains("ref_count - 1"), eq(Integer.class), any(), eq("hash")))
+                .thenReturn(List.of(2));
+
+        // when
+        boolean deleted = blobReferenceService.release("hash", List.of("hash.png"));
+
+        // then
+        assertThat(deleted).isFalse();
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM stored_blobs"), any(Object[].class));
+        verifyNoInteractions(fileStorageService);
+    }
+}
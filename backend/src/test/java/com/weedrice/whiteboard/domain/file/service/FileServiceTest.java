@@ -1,25 +1,62 @@
 package com.weedrice.whiteboard.domain.file.service;
 
+import com.weedrice.whiteboard.domain.file.dto.DirectUploadResponse;
 import com.weedrice.whiteboard.domain.file.dto.FileUploadResponse;
+import com.weedrice.whiteboard.domain.file.dto.FileUploadedEvent;
 import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
 import com.weedrice.whiteboard.domain.file.repository.FileRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import com.weedrice.whiteboard.global.storage.BlobMetadata;
+import com.weedrice.whiteboard.global.storage.PresignedUpload;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,38 +70,466 @@ class FileServiceTest {
     private FileStorageService fileStorageService;
     @Mock
     private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private BlobReferenceService blobReferenceService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Mock
+    private JdbcTemplate jdbcTemplate;
 
     @InjectMocks
     private FileService fileService;
 
+    private static final byte[] JPEG = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10 };
+    private static final String JPEG_HASH = sha256Hex(JPEG);
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0x0D };
+
     @Test
     @DisplayName("파일 업로드 성공")
     void uploadFile_success() {
         // given
         Long uploaderId = 1L;
         User uploader = User.builder().build();
-        MultipartFile multipartFile = new MockMultipartFile("file", "test.jpg", "image/jpeg", "test data".getBytes());
-        File file = File.builder()
-                .filePath("storedFileName.jpg")
-                .originalName("test.jpg")
-                .fileSize(10L)
-                .mimeType("image/jpeg")
-                .uploader(uploader)
-                .build();
+        MultipartFile multipartFile = new MockMultipartFile("file", "test.jpg", "image/jpeg", JPEG);
 
         when(userRepository.findById(uploaderId)).thenReturn(Optional.of(uploader));
-        when(fileStorageService.storeFile(multipartFile)).thenReturn("storedFileName.jpg");
+        when(blobReferenceService.acquire(eq(JPEG_HASH), anyString(), eq(6L), eq("image/jpeg")))
+                .thenAnswer(invocation -> new BlobReferenceService.BlobReference(invocation.getArgument(1), false));
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
             return callback.doInTransaction(null);
         });
-        when(fileRepository.save(any(File.class))).thenReturn(file);
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         FileUploadResponse uploadedFile = fileService.uploadFile(uploaderId, multipartFile);
 
         // then
         assertThat(uploadedFile.getOriginalName()).isEqualTo("test.jpg");
-        assertThat(uploadedFile.getStoredName()).isEqualTo("storedFileName.jpg");
+        assertThat(uploadedFile.getStoredName()).endsWith(".jpg");
+        verify(fileStorageService).storeFile(uploadedFile.getStoredName(), multipartFile, "image/jpeg");
+        verify(blobReferenceService).markStored(JPEG_HASH);
+        verify(fileStorageService, never()).deleteFile(anyString());
+        verify(eventPublisher).publishEvent(any(FileUploadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("래스터 이미지 업로드는 파생본 생성 대기 상태로 저장")
+    void uploadFile_marksVariantsPending() {
+        // given
+        User uploader = User.builder().build();
+        MultipartFile multipartFile = new MockMultipartFile("file", "test.png", "image/png", PNG);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(uploader));
+        when(blobReferenceService.acquire(any(), any(), anyLong(), any()))
+                .thenAnswer(invocation -> new BlobReferenceService.BlobReference(invocation.getArgument(1), false));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        org.mockito.ArgumentCaptor<File> saved = org.mockito.ArgumentCaptor.forClass(File.class);
+        when(fileRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        fileService.uploadFile(1L, multipartFile);
+
+        // then
+        assertThat(saved.getValue().getVariantStatus()).isEqualTo(ImageVariantStatus.PENDING);
+        verify(eventPublisher).publishEvent(any(FileUploadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 내용이 이미 저장돼 있으면 업로드하지 않고 기존 객체를 참조")
+    void uploadFile_reusesStoredBlob() {
+        // given
+        User uploader = User.builder().build();
+        MultipartFile multipartFile = new MockMultipartFile("file", "meme.png", "image/png", PNG);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(uploader));
+        when(blobReferenceService.find(anyString()))
+                .thenReturn(Optional.of(new BlobReferenceService.BlobReference("hash.png", true)));
+        when(blobReferenceService.acquire(any(), any(), anyLong(), eq("image/png")))
+                .thenReturn(new BlobReferenceService.BlobReference("hash.png", true));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        org.mockito.ArgumentCaptor<File> saved = org.mockito.ArgumentCaptor.forClass(File.class);
+        when(fileRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        fileService.uploadFile(1L, multipartFile);
+
+        // then
+        assertThat(saved.getValue().getFilePath()).isEqualTo("hash.png");
+        assertThat(saved.getValue().getContentHash()).hasSize(64);
+        verify(fileStorageService, never()).storeFile(anyString(), any(MultipartFile.class), anyString());
+        verify(fileStorageService, never()).deleteFile(anyString());
+        verify(blobReferenceService, never()).markStored(anyString());
+    }
+
+    @Test
+    @DisplayName("재사용하려던 객체가 그 사이 지워졌으면 참조를 얻은 트랜잭션에서 직접 저장")
+    void uploadFile_storesWhenSharedBlobVanished() {
+        // given
+        User uploader = User.builder().build();
+        MultipartFile multipartFile = new MockMultipartFile("file", "meme.png", "image/png", PNG);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(uploader));
+        when(blobReferenceService.find(anyString()))
+                .thenReturn(Optional.of(new BlobReferenceService.BlobReference("hash.png", true)));
+        when(blobReferenceService.acquire(any(), any(), anyLong(), eq("image/png")))
+                .thenAnswer(invocation -> new BlobReferenceService.BlobReference(invocation.getArgument(1), false));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        FileUploadResponse response = fileService.uploadFile(1L, multipartFile);
+
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService).storeFile(key.capture(), eq(multipartFile), eq("image/png"));
+        assertThat(response.getStoredName()).isEqualTo(key.getValue());
+        verify(blobReferenceService).markStored(anyString());
+    }
+
+    @Test
+    @DisplayName("DB 기록 실패 시 참조는 트랜잭션과 함께 롤백되고 올린 사본만 지움")
+    void uploadFile_deletesUploadOnFailure() {
+        // given
+        MultipartFile multipartFile = new MockMultipartFile("file", "test.png", "image/png", PNG);
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadFile(1L, multipartFile)).isInstanceOf(IllegalStateException.class);
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService).storeFile(key.capture(), eq(multipartFile), eq("image/png"));
+        verify(fileStorageService).deleteFile(key.getValue());
+        verify(blobReferenceService, never()).release(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("여러 파일을 업로더 조건과 함께 한 문장으로 연결하고 연결된 ID를 반환")
+    @SuppressWarnings("unchecked")
+    void associateFiles_singleStatementWithOwnership() throws Exception {
+        // given
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of(1L));
+
+        // when
+        List<Long> accepted = fileService.associateFiles(List.of(1L, 2L, 1L), 7L, 100L, "POST_CONTENT");
+
+        // then
+        assertThat(accepted).containsExactly(1L);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(argThat(sql -> sql.contains("file_id = ANY(?::bigint[]) AND uploader_id = ?"))))
+                .thenReturn(statement);
+        creator.getValue().createPreparedStatement(connection);
+        verify(connection).createArrayOf("bigint", new Object[] { 1L, 2L });
+        verify(statement).setLong(5, 7L);
+        verify(statement).setLong(1, 100L);
+        verify(statement).setString(2, "POST_CONTENT");
+    }
+
+    @Test
+    @DisplayName("연결할 파일이 없으면 조회하지 않음")
+    void associateFiles_empty() {
+        assertThat(fileService.associateFiles(List.of(), 7L, 100L, "POST_CONTENT")).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("확장자와 Content-Type이 이미지여도 내용 시그니처가 아니면 거절")
+    void uploadFile_rejectsSpoofedContentType() {
+        // given
+        MultipartFile multipartFile = new MockMultipartFile("file", "evil.png", "image/png", "<html></html>".getBytes());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadFile(1L, multipartFile))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+        verifyNoInteractions(blobReferenceService, fileStorageService);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - 임시 키로 저장한 뒤 새 내용이면 그 키를 그대로 사용")
+    void uploadStream_storesNewContent() {
+        // given
+        User uploader = User.builder().build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(uploader));
+        when(blobReferenceService.acquire(eq(JPEG_HASH), anyString(), eq(6L), eq("image/jpeg")))
+                .thenAnswer(invocation -> new BlobReferenceService.BlobReference(invocation.getArgument(1), false));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        org.mockito.ArgumentCaptor<String> key = org.mockito.ArgumentCaptor.forClass(String.class);
+        doAnswer(invocation -> {
+            InputStream content = invocation.getArgument(1);
+            content.transferTo(java.io.OutputStream.nullOutputStream());
+            return null;
+        }).when(fileStorageService).storeFile(key.capture(), any(InputStream.class), eq(-1L), eq("image/jpeg"));
+
+        // when
+        FileUploadResponse response = fileService.uploadStream(1L, "photo.jpeg", -1, new ByteArrayInputStream(JPEG));
+
+        // then
+        assertThat(key.getValue()).endsWith(".jpg");
+        assertThat(response.getStoredName()).isEqualTo(key.getValue());
+        assertThat(response.getMimeType()).isEqualTo("image/jpeg");
+        verify(blobReferenceService).markStored(JPEG_HASH);
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - 이미 저장된 내용이면 임시 사본을 지우고 기존 객체를 참조")
+    void uploadStream_deduplicates() {
+        // given
+        User uploader = User.builder().build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(uploader));
+        when(blobReferenceService.acquire(eq(JPEG_HASH), anyString(), eq(6L), eq("image/jpeg")))
+                .thenReturn(new BlobReferenceService.BlobReference("existing.jpg", true));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        org.mockito.ArgumentCaptor<String> key = org.mockito.ArgumentCaptor.forClass(String.class);
+        doAnswer(invocation -> {
+            InputStream content = invocation.getArgument(1);
+            content.transferTo(java.io.OutputStream.nullOutputStream());
+            return null;
+        }).when(fileStorageService).storeFile(key.capture(), any(InputStream.class), eq(-1L), anyString());
+
+        // when
+        FileUploadResponse response = fileService.uploadStream(1L, "photo.jpg", 6, new ByteArrayInputStream(JPEG));
+
+        // then
+        assertThat(response.getStoredName()).isEqualTo("existing.jpg");
+        verify(fileStorageService).deleteFile(key.getValue());
+        verify(blobReferenceService, never()).markStored(anyString());
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - DB 기록 실패 시 저장한 사본을 지움")
+    void uploadStream_deletesUploadOnFailure() {
+        // given
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("db down"));
+        org.mockito.ArgumentCaptor<String> key = org.mockito.ArgumentCaptor.forClass(String.class);
+        doAnswer(invocation -> {
+            InputStream content = invocation.getArgument(1);
+            content.transferTo(java.io.OutputStream.nullOutputStream());
+            return null;
+        }).when(fileStorageService).storeFile(key.capture(), any(InputStream.class), eq(-1L), anyString());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadStream(1L, "photo.jpg", 6, new ByteArrayInputStream(JPEG)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(fileStorageService).deleteFile(key.getValue());
+        verifyNoInteractions(blobReferenceService);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - 읽는 중 한도를 넘으면 FILE_TOO_LARGE")
+    void uploadStream_enforcesLimitWhileStreaming() {
+        // given
+        ReflectionTestUtils.setField(fileService, "maxUploadSizeMb", 1L);
+        byte[] large = new byte[1024 * 1024 + 1];
+        System.arraycopy(JPEG, 0, large, 0, JPEG.length);
+        doAnswer(invocation -> {
+            InputStream content = invocation.getArgument(1);
+            try {
+                content.transferTo(java.io.OutputStream.nullOutputStream());
+            } catch (BusinessException e) {
+                // 저장소 SDK가 원인을 감싸 던지는 경우
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장소 오류: upload aborted");
+            }
+            return null;
+        }).when(fileStorageService).storeFile(anyString(), any(InputStream.class), eq(-1L), anyString());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadStream(1L, "big.jpg", -1, new ByteArrayInputStream(large)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_TOO_LARGE);
+        verifyNoInteractions(blobReferenceService);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - Content-Length가 한도를 넘으면 본문을 읽지 않고 거절")
+    void uploadStream_rejectsDeclaredLength() {
+        // given
+        InputStream body = org.mockito.Mockito.mock(InputStream.class);
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadStream(1L, "big.jpg", 11L * 1024 * 1024, body))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_TOO_LARGE);
+        verifyNoInteractions(body, fileStorageService);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 확장자로 정한 콘텐츠 타입과 크기로 서명하고 대기 업로드로 기록")
+    void createDirectUpload_presignsAndRecords() {
+        // given
+        PresignedUpload presigned = new PresignedUpload("https://bucket.s3.amazonaws.com/key?X-Amz-Signature=sig", "PUT",
+                Map.of("content-type", "image/jpeg"), Instant.now().plusSeconds(900));
+        when(fileStorageService.presignUpload(anyString(), eq("image/jpeg"), eq(100L), any(Duration.class)))
+                .thenReturn(presigned);
+
+        // when
+        DirectUploadResponse response = fileService.createDirectUpload(1L, "cat.jpeg", 100L);
+
+        // then
+        assertThat(response.getUploadKey()).endsWith(".jpg");
+        assertThat(response.getUploadUrl()).isEqualTo(presigned.url());
+        assertThat(response.getHeaders()).containsEntry("content-type", "image/jpeg");
+        verify(jdbcTemplate).update(contains("INSERT INTO pending_uploads"), eq(response.getUploadKey()), eq(1L),
+                eq("cat.jpeg"), eq("image/jpeg"), eq(100L), any(), any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 한도를 넘는 크기는 URL을 발급하지 않음")
+    void createDirectUpload_rejectsOversize() {
+        // when & then
+        assertThatThrownBy(() -> fileService.createDirectUpload(1L, "big.png", 11L * 1024 * 1024))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_TOO_LARGE);
+        verifyNoInteractions(fileStorageService, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 서버가 정한 키로 복사한 사본의 크기와 시그니처만 확인해 등록하고 업로드 키는 지움")
+    void completeDirectUpload_verifiesAndSaves() {
+        // given
+        User uploader = User.builder().build();
+        givenPendingUpload("k.png", "cat.png", "image/png", PNG.length);
+        when(fileStorageService.statFile(anyString())).thenReturn(new BlobMetadata(PNG.length, "image/png"));
+        when(fileStorageService.readHead(anyString(), eq(ImageSignature.SNIFF_BYTES))).thenReturn(PNG);
+        when(jdbcTemplate.update(contains("DELETE FROM pending_uploads"), eq("k.png"), eq(1L))).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(userRepository.findById(1L)).thenReturn(Optional.of(uploader));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        FileUploadResponse response = fileService.completeDirectUpload(1L, "k.png");
+
+        // then
+        ArgumentCaptor<String> fileKey = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService).copyFile(eq("k.png"), fileKey.capture(), eq((long) PNG.length), eq("image/png"));
+        assertThat(fileKey.getValue()).isNotEqualTo("k.png").endsWith(".png");
+        assertThat(response.getStoredName()).isEqualTo(fileKey.getValue());
+        verify(fileStorageService).readHead(fileKey.getValue(), ImageSignature.SNIFF_BYTES);
+        verify(fileStorageService, never()).readHead(eq("k.png"), anyInt());
+        ArgumentCaptor<File> saved = ArgumentCaptor.forClass(File.class);
+        verify(fileRepository).save(saved.capture());
+        assertThat(saved.getValue().getFilePath()).isEqualTo(fileKey.getValue());
+        assertThat(saved.getValue().getMimeType()).isEqualTo("image/png");
+        assertThat(saved.getValue().getFileSize()).isEqualTo(PNG.length);
+        assertThat(saved.getValue().getContentHash()).isNull();
+        verify(fileStorageService).deleteFile("k.png");
+        verify(fileStorageService, never()).deleteFile(fileKey.getValue());
+        verify(eventPublisher).publishEvent(any(FileUploadedEvent.class));
+        verify(fileStorageService, never()).loadFile(anyString());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 시그니처가 서명한 형식과 다르면 객체, 사본과 대기 업로드를 지움")
+    void completeDirectUpload_rejectsSignatureMismatch() {
+        // given
+        givenPendingUpload("k.png", "cat.png", "image/png", JPEG.length);
+        when(fileStorageService.statFile(anyString())).thenReturn(new BlobMetadata(JPEG.length, "image/png"));
+        when(fileStorageService.readHead(anyString(), eq(ImageSignature.SNIFF_BYTES))).thenReturn(JPEG);
+        when(jdbcTemplate.update(contains("DELETE FROM pending_uploads"), eq("k.png"), eq(1L))).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> fileService.completeDirectUpload(1L, "k.png"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+        ArgumentCaptor<String> fileKey = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService).copyFile(eq("k.png"), fileKey.capture(), anyLong(), anyString());
+        verify(fileStorageService).deleteFile("k.png");
+        verify(fileStorageService).deleteFile(fileKey.getValue());
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 다른 요청이 먼저 완료했으면 만든 사본만 지우고 업로드 키는 남김")
+    void completeDirectUpload_deletesCopyWhenClaimFails() {
+        // given
+        givenPendingUpload("k.png", "cat.png", "image/png", PNG.length);
+        when(fileStorageService.statFile(anyString())).thenReturn(new BlobMetadata(PNG.length, "image/png"));
+        when(fileStorageService.readHead(anyString(), eq(ImageSignature.SNIFF_BYTES))).thenReturn(PNG);
+        when(jdbcTemplate.update(contains("DELETE FROM pending_uploads"), eq("k.png"), eq(1L))).thenReturn(0);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<File> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+
+        // when & then
+        assertThatThrownBy(() -> fileService.completeDirectUpload(1L, "k.png"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        ArgumentCaptor<String> fileKey = ArgumentCaptor.forClass(String.class);
+        verify(fileStorageService).copyFile(eq("k.png"), fileKey.capture(), anyLong(), anyString());
+        verify(fileStorageService).deleteFile(fileKey.getValue());
+        verify(fileStorageService, never()).deleteFile("k.png");
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 완료 - 아직 올라오지 않았으면 대기 업로드를 남겨 다시 완료할 수 있음")
+    void completeDirectUpload_notUploadedYet() {
+        // given
+        givenPendingUpload("k.png", "cat.png", "image/png", PNG.length);
+        when(fileStorageService.statFile("k.png")).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> fileService.completeDirectUpload(1L, "k.png"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM pending_uploads"), any(Object[].class));
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 완료하지 않은 만료 전 업로드 키만 수신 대상")
+    void isDirectUploadPending_checksLiveRow() {
+        // given
+        when(jdbcTemplate.queryForObject(contains("FROM pending_uploads"), eq(Integer.class), eq("k.png"), any()))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("FROM pending_uploads"), eq(Integer.class), eq("done.png"), any()))
+                .thenReturn(0);
+
+        // when & then
+        assertThat(fileService.isDirectUploadPending("k.png")).isTrue();
+        assertThat(fileService.isDirectUploadPending("done.png")).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPendingUpload(String key, String originalName, String contentType, long size) {
+        when(jdbcTemplate.query(contains("FROM pending_uploads"), any(RowMapper.class), eq(key), eq(1L)))
+                .thenAnswer(invocation -> {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getString("original_name")).thenReturn(originalName);
+                    when(rs.getString("content_type")).thenReturn(contentType);
+                    when(rs.getLong("size")).thenReturn(size);
+                    return List.of(((RowMapper<?>) invocation.getArgument(1)).mapRow(rs, 0));
+                });
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return java.util.HexFormat.of().formatHex(java.security.MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
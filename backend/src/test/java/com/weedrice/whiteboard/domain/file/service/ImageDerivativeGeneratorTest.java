@@ -0,0 +1,96 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageDerivativeGeneratorTest {
+
+    private final ImageDerivativeGenerator generator = new ImageDerivativeGenerator();
+
+    @Test
+    @DisplayName("불투명 이미지는 썸네일/중간 크기 JPEG로 축소")
+    void generate_opaqueImageToJpeg() throws IOException {
+        // given
+        byte[] source = encode(new BufferedImage(3000, 1500, BufferedImage.TYPE_INT_RGB), "jpeg");
+
+        // when
+        ImageDerivativeGenerator.Derivatives derivatives = generator.generate(new ByteArrayInputStream(source));
+
+        // then
+        assertThat(derivatives.mimeType()).isEqualTo("image/jpeg");
+        assertThat(derivatives.extension()).isEqualTo("jpg");
+        assertThat(derivatives.medium().width()).isEqualTo(1280);
+        assertThat(derivatives.medium().height()).isEqualTo(640);
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(derivatives.thumbnail().bytes()));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("투명도가 있으면 PNG, 작은 원본은 확대하지 않음")
+    void generate_alphaImageToPngWithoutUpscaling() throws IOException {
+        // given
+        byte[] source = encode(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), "png");
+
+        // when
+        ImageDerivativeGenerator.Derivatives derivatives = generator.generate(new ByteArrayInputStream(source));
+
+        // then
+        assertThat(derivatives.mimeType()).isEqualTo("image/png");
+        assertThat(derivatives.medium().width()).isEqualTo(200);
+        assertThat(derivatives.thumbnail().width()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 null")
+    void generate_notAnImage() throws IOException {
+        assertThat(generator.generate(new ByteArrayInputStream("<svg/>".getBytes()))).isNull();
+    }
+
+    @Test
+    @DisplayName("EXIF 방향 태그 해석")
+    void exifOrientation_readsTag() {
+        // given: "Exif\0\0" + 빅엔디언 TIFF 헤더 + IFD(항목 1개: 0x0112 = 6)
+        byte[] app1 = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0,
+                0, 0, 0, 0
+        };
+
+        // when & then
+        assertThat(ImageDerivativeGenerator.exifOrientation(app1)).isEqualTo(6);
+        assertThat(ImageDerivativeGenerator.exifOrientation(new byte[] { 'J', 'F', 'I', 'F' })).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("90도 회전 방향은 가로세로를 바꿈")
+    void orient_rotatesQuarterTurn() {
+        // given
+        BufferedImage image = new BufferedImage(40, 10, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0xFF0000);
+
+        // when
+        BufferedImage oriented = ImageDerivativeGenerator.orient(image, 6);
+
+        // then: 왼쪽 위 픽셀은 시계 방향 90도 회전 후 오른쪽 위로 이동
+        assertThat(oriented.getWidth()).isEqualTo(10);
+        assertThat(oriented.getHeight()).isEqualTo(40);
+        assertThat(oriented.getRGB(9, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
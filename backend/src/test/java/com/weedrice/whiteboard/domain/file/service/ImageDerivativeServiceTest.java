@@ -0,0 +1,169 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.domain.file.entity.File;
+import com.weedrice.whiteboard.domain.file.entity.ImageVariantStatus;
+import com.weedrice.whiteboard.domain.file.repository.FileRepository;
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+
+    @Mock
+    private FileRepository fileRepository;
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private ImageDerivativeGenerator imageDerivativeGenerator;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private BlobReferenceService blobReferenceService;
+
+    @InjectMocks
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("파생본을 원본 옆 키로 저장하고 READY로 기록")
+    void process_storesVariants() throws Exception {
+        // given
+        givenFile("uuid.png", "image/png");
+        InputStream source = new ByteArrayInputStream(new byte[0]);
+        when(fileStorageService.loadFile("uuid.png")).thenReturn(source);
+        when(imageDerivativeGenerator.generate(source)).thenReturn(new ImageDerivativeGenerator.Derivatives(
+                "image/jpeg", "jpg",
+                new ImageDerivativeGenerator.Derived(new byte[3], 320, 160),
+                new ImageDerivativeGenerator.Derived(new byte[7], 1280, 640)));
+        when(fileRepository.updateVariants(any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+        // when
+        ImageVariantStatus status = imageDerivativeService.process(1L);
+
+        // then
+        assertThat(status).isEqualTo(ImageVariantStatus.READY);
+        verify(fileStorageService).storeFile(eq("uuid_thumb.jpg"), any(byte[].class), eq("image/jpeg"));
+        verify(fileStorageService).storeFile(eq("uuid_medium.jpg"), any(byte[].class), eq("image/jpeg"));
+        verify(fileRepository).updateVariants(1L, ImageVariantStatus.READY, "image/jpeg",
+                "uuid_thumb.jpg", 3L, "uuid_medium.jpg", 7L);
+    }
+
+    @Test
+    @DisplayName("처리 중 파일이 정리됐으면 저장한 파생본을 지움")
+    void process_fileRemovedDuringProcessing() throws Exception {
+        // given
+        givenFile("uuid.gif", "image/gif");
+        InputStream source = new ByteArrayInputStream(new byte[0]);
+        when(fileStorageService.loadFile("uuid.gif")).thenReturn(source);
+        when(imageDerivativeGenerator.generate(source)).thenReturn(new ImageDerivativeGenerator.Derivatives(
+                "image/jpeg", "jpg", new ImageDerivativeGenerator.Derived(new byte[3], 320, 160), null));
+        when(fileRepository.updateVariants(any(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // when
+        ImageVariantStatus status = imageDerivativeService.process(1L);
+
+        // then
+        assertThat(status).isNull();
+        verify(fileStorageService).deleteFile("uuid_thumb.jpg");
+        verify(fileStorageService, never()).storeFile(eq("uuid_medium.jpg"), any(byte[].class), any());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파생본이 이미 있으면 디코딩 없이 함께 기록")
+    void process_reusesSiblingVariants() {
+        // given
+        File file = File.builder().filePath("hash.png").mimeType("image/png").contentHash("hash")
+                .variantStatus(ImageVariantStatus.PENDING).build();
+        when(fileRepository.findById(1L)).thenReturn(Optional.of(file));
+        File sibling = File.builder().filePath("hash.png").mimeType("image/png").contentHash("hash")
+                .variantStatus(ImageVariantStatus.READY).build();
+        ReflectionTestUtils.setField(sibling, "variantMimeType", "image/jpeg");
+        ReflectionTestUtils.setField(sibling, "thumbnailPath", "hash_thumb.jpg");
+        ReflectionTestUtils.setField(sibling, "thumbnailSize", 3L);
+        when(fileRepository.findFirstByContentHashAndVariantStatusAndFileIdNot("hash", ImageVariantStatus.READY, 1L))
+                .thenReturn(Optional.of(sibling));
+        when(fileRepository.updateVariants(any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+        // when
+        ImageVariantStatus status = imageDerivativeService.process(1L);
+
+        // then
+        assertThat(status).isEqualTo(ImageVariantStatus.READY);
+        verify(fileRepository).updateVariants(1L, ImageVariantStatus.READY, "image/jpeg", "hash_thumb.jpg", 3L, null, null);
+        verifyNoInteractions(fileStorageService, imageDerivativeGenerator);
+    }
+
+    @Test
+    @DisplayName("원본이 없으면 FAILED로 기록")
+    void process_missingSource() {
+        // given
+        givenFile("uuid.jpg", "image/jpeg");
+        when(fileStorageService.loadFile("uuid.jpg")).thenThrow(new BusinessException(ErrorCode.NOT_FOUND));
+
+        // when
+        ImageVariantStatus status = imageDerivativeService.process(1L);
+
+        // then
+        assertThat(status).isEqualTo(ImageVariantStatus.FAILED);
+        verify(fileRepository).updateVariants(eq(1L), eq(ImageVariantStatus.FAILED), isNull(), isNull(), isNull(),
+                isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("SVG는 파생본을 만들지 않음")
+    void process_skipsSvg() {
+        // given
+        givenFile("uuid.svg", "image/svg+xml");
+
+        // when
+        ImageVariantStatus status = imageDerivativeService.process(1L);
+
+        // then
+        assertThat(status).isEqualTo(ImageVariantStatus.SKIPPED);
+        verifyNoInteractions(fileStorageService, imageDerivativeGenerator);
+    }
+
+    @Test
+    @DisplayName("이미 정리된 파일은 처리하지 않음")
+    void process_fileGone() {
+        // given
+        when(fileRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(imageDerivativeService.process(1L)).isNull();
+        verifyNoInteractions(fileStorageService);
+    }
+
+    private void givenFile(String path, String mimeType) {
+        File file = File.builder().filePath(path).mimeType(mimeType).variantStatus(ImageVariantStatus.PENDING).build();
+        when(fileRepository.findById(1L)).thenReturn(Optional.of(file));
+    }
+}
@@ -0,0 +1,244 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.global.common.util.FileStorageService;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanFileCleanupJobTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private BlobReferenceService blobReferenceService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OrphanFileCleanupJob orphanFileCleanupJob;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orphanFileCleanupJob, "batchSize", 2);
+        ReflectionTestUtils.setField(orphanFileCleanupJob, "throttleMs", 0L);
+        lenient().when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("묶음 단위로 파일 행을 지우고 참조가 끝난 객체만 한 번에 삭제한 뒤 회차를 완료")
+    void run_deletesChunksAndCompletes() throws Exception {
+        // given
+        givenCheckpoint(0L, null);
+        givenPages(List.of(1L, 2L), List.of());
+        givenDeletedRows(new Object[][] {
+                { "hash.png", "hash_thumb.jpg", null, "hash" },
+                { "legacy.png", null, null, null } });
+        when(blobReferenceService.releaseAll(Map.of("hash", 1))).thenReturn(Set.of("hash"));
+
+        // when
+        long deleted = orphanFileCleanupJob.run();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        verify(jdbcTemplate).update(contains("SET last_file_id = 0, cutoff = ?"), any(), any(),
+                eq(OrphanFileCleanupJob.JOB_NAME), anyString());
+        verify(fileStorageService).deleteFiles(argThat(keys ->
+                Set.copyOf(keys).equals(Set.of("legacy.png", "hash.png", "hash_thumb.jpg"))));
+        verify(jdbcTemplate).update(contains("SET last_file_id = ?, locked_until"), eq(2L), any(), any(),
+                eq(OrphanFileCleanupJob.JOB_NAME), anyString());
+        verify(jdbcTemplate).update(contains("cutoff = NULL"), any(), any(), eq(OrphanFileCleanupJob.JOB_NAME),
+                anyString());
+        assertThat(meterRegistry.counter("file.cleanup.files").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 후 보존 기간이 지난 직접 업로드는 올라간 객체와 함께 정리")
+    void run_deletesExpiredUploads() {
+        // given
+        givenCheckpoint(0L, null);
+        givenPages(List.of());
+        when(jdbcTemplate.queryForList(contains("FROM pending_uploads"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("a.png", "b.jpg"), List.of("c.gif"));
+
+        // when
+        orphanFileCleanupJob.run();
+
+        // then
+        verify(fileStorageService).deleteFiles(List.of("a.png", "b.jpg"));
+        verify(fileStorageService).deleteFiles(List.of("c.gif"));
+        verify(jdbcTemplate).update(contains("cutoff = NULL"), any(), any(), eq(OrphanFileCleanupJob.JOB_NAME),
+                anyString());
+        assertThat(meterRegistry.counter("file.cleanup.uploads").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 내용을 참조하는 파일이 남아 있으면 저장소 객체는 유지")
+    void run_keepsSharedObjects() throws Exception {
+        // given
+        givenCheckpoint(0L, null);
+        givenPages(List.of(1L), List.of());
+        givenDeletedRows(new Object[][] { { "hash.png", null, null, "hash" } });
+        when(blobReferenceService.releaseAll(Map.of("hash", 1))).thenReturn(Set.of());
+
+        // when
+        orphanFileCleanupJob.run();
+
+        // then
+        verify(fileStorageService).deleteFiles(argThat(keys -> keys.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 가지고 있으면 실행하지 않음")
+    void run_skipsWhenLeaseHeld() {
+        // given
+        when(jdbcTemplate.update(contains("SET locked_by = ?, locked_until = ?"), any(Object[].class))).thenReturn(0);
+
+        // when
+        long deleted = orphanFileCleanupJob.run();
+
+        // then
+        assertThat(deleted).isZero();
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), any(Object[].class));
+        verifyNoInteractions(transactionTemplate, fileStorageService);
+    }
+
+    @Test
+    @DisplayName("진행 중인 회차가 있으면 기록된 위치와 기준 시각으로 이어서 정리")
+    void run_resumesFromCheckpoint() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+        givenCheckpoint(42L, cutoff);
+        when(jdbcTemplate.queryForList(contains("FROM files"), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of());
+
+        // when
+        orphanFileCleanupJob.run();
+
+        // then
+        verify(jdbcTemplate).queryForList(contains("FROM files"), eq(Long.class), eq(Timestamp.valueOf(cutoff)),
+                eq(42L), eq(2));
+        verify(jdbcTemplate, never()).update(contains("SET last_file_id = 0, cutoff = ?"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("저장소 삭제가 실패하면 완료 처리하지 않고 임대만 반납")
+    void run_storageFailureKeepsCheckpoint() throws Exception {
+        // given
+        givenCheckpoint(0L, null);
+        givenPages(List.of(1L), List.of());
+        givenDeletedRows(new Object[][] { { "legacy.png", null, null, null } });
+        when(blobReferenceService.releaseAll(Map.of())).thenReturn(Set.of());
+        doThrow(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 삭제 실패: s3 down"))
+                .when(fileStorageService).deleteFiles(any());
+
+        // when
+        long deleted = orphanFileCleanupJob.run();
+
+        // then
+        assertThat(deleted).isZero();
+        verify(jdbcTemplate, never()).update(contains("cutoff = NULL"), any(Object[].class));
+        verify(jdbcTemplate).update(contains("SET locked_by = NULL"), eq(OrphanFileCleanupJob.JOB_NAME), anyString());
+    }
+
+    @Test
+    @DisplayName("dry-run이면 임대 없이 정리 대상만 집계")
+    @SuppressWarnings("unchecked")
+    void run_dryRunReportsOnly() throws Exception {
+        // given
+        ReflectionTestUtils.setField(orphanFileCleanupJob, "dryRun", true);
+        ResultSet files = mock(ResultSet.class);
+        when(files.getLong("files")).thenReturn(5L);
+        when(files.getLong("file_bytes")).thenReturn(500L);
+        when(files.getLong("legacy_files")).thenReturn(1L);
+        when(files.getLong("legacy_bytes")).thenReturn(100L);
+        ResultSet blobs = mock(ResultSet.class);
+        when(blobs.getLong("blobs")).thenReturn(2L);
+        when(blobs.getLong("blob_bytes")).thenReturn(300L);
+        when(jdbcTemplate.queryForObject(contains("legacy_bytes"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> ((RowMapper<?>) invocation.getArgument(1)).mapRow(files, 0));
+        when(jdbcTemplate.queryForObject(contains("FROM stored_blobs"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> ((RowMapper<?>) invocation.getArgument(1)).mapRow(blobs, 0));
+
+        // when
+        long deleted = orphanFileCleanupJob.run();
+        OrphanFileCleanupJob.Report report = orphanFileCleanupJob.report();
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(report).isEqualTo(new OrphanFileCleanupJob.Report(5, 500, 1, 3, 400, 3));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verifyNoInteractions(transactionTemplate, fileStorageService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCheckpoint(long lastFileId, LocalDateTime cutoff) {
+        when(jdbcTemplate.queryForObject(contains("SELECT last_file_id"), any(RowMapper.class),
+                eq(OrphanFileCleanupJob.JOB_NAME))).thenAnswer(invocation -> {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong("last_file_id")).thenReturn(lastFileId);
+                    when(rs.getTimestamp("cutoff")).thenReturn(cutoff != null ? Timestamp.valueOf(cutoff) : null);
+                    return ((RowMapper<?>) invocation.getArgument(1)).mapRow(rs, 0);
+                });
+    }
+
+    @SafeVarargs
+    private void givenPages(List<Long> first, List<Long>... rest) {
+        when(jdbcTemplate.queryForList(contains("FROM files"), eq(Long.class), any(Object[].class)))
+                .thenReturn(first, rest);
+    }
+
+    private void givenDeletedRows(Object[][] rows) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                when(rs.getString("file_path")).thenReturn((String) row[0]);
+                when(rs.getString("thumbnail_path")).thenReturn((String) row[1]);
+                when(rs.getString("medium_path")).thenReturn((String) row[2]);
+                when(rs.getString("content_hash")).thenReturn((String) row[3]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
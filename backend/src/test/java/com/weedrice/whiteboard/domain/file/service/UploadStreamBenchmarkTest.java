@@ -0,0 +1,199 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.global.storage.S3BlobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 큰 파일 여러 개를 동시에 스트리밍 업로드할 때의 처리량과 최대 힙 사용량 벤치마크. 기본 테스트에서는 제외되며
+ * {@code ./gradlew benchmark}로 실행합니다.
+ * 본문은 읽는 만큼 만들어 내고, 저장소는 실제 {@link S3BlobStore} 멀티파트 경로에 받은 파트를 읽어 버리기만 하는 S3Client를 붙여
+ * {@link UploadStream}의 검증/해시와 파트 버퍼만 측정합니다. 업로드당 힙은 파일 크기가 아니라
+ * part-size-mb x (parallelism + 1) 정도에 머물러야 합니다.
+ */
+@Tag("benchmark")
+class UploadStreamBenchmarkTest {
+
+    private static final long FILE_SIZE = 128L * 1024 * 1024;
+    private static final int PART_SIZE_MB = 8;
+    private static final int PARALLELISM = 4;
+    private static final long MB = 1024 * 1024;
+
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private S3BlobStore s3BlobStore;
+
+    @BeforeEach
+    void setUp() {
+        // 호출 기록이 파트 버퍼를 붙잡지 않도록 stub만 사용
+        S3Client s3Client = mock(S3Client.class, withSettings().stubOnly());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            RequestBody body = invocation.getArgument(1);
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                uploadedBytes.addAndGet(in.transferTo(OutputStream.nullOutputStream()));
+            }
+            return UploadPartResponse.builder().eTag("etag").build();
+        });
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompleteMultipartUploadResponse.builder().build());
+
+        s3BlobStore = new S3BlobStore(s3Client, null);
+        ReflectionTestUtils.setField(s3BlobStore, "bucket", "benchmark");
+        ReflectionTestUtils.setField(s3BlobStore, "partSizeMb", PART_SIZE_MB);
+        ReflectionTestUtils.setField(s3BlobStore, "parallelism", PARALLELISM);
+        ReflectionTestUtils.setField(s3BlobStore, "threads", 32);
+        ReflectionTestUtils.invokeMethod(s3BlobStore, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(s3BlobStore, "shutdown");
+    }
+
+    @ParameterizedTest(name = "동시 업로드 {0}개")
+    @ValueSource(ints = {1, 4, 8})
+    @DisplayName("동시 업로드 수별 처리량과 업로드당 최대 힙 사용량")
+    void uploadConcurrently(int concurrency) throws Exception {
+        // given
+        ExecutorService uploaders = Executors.newFixedThreadPool(concurrency);
+        HeapSampler heap = HeapSampler.start();
+
+        // when
+        long startedAt = System.nanoTime();
+        List<Future<String>> hashes = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            String key = "benchmark-" + i + ".jpg";
+            hashes.add(uploaders.submit(() -> {
+                UploadStream upload = UploadStream.open(new GeneratedJpeg(FILE_SIZE), FILE_SIZE);
+                s3BlobStore.put(key, upload, -1, upload.signature().mimeType());
+                return upload.contentHash();
+            }));
+        }
+        for (Future<String> hash : hashes) {
+            assertThat(hash.get()).hasSize(64);
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long peakBytes = heap.stop();
+        uploaders.shutdown();
+
+        // then
+        long totalMb = concurrency * FILE_SIZE / MB;
+        System.out.printf("upload concurrency=%d fileMb=%d elapsedMs=%d mbPerSec=%d peakHeapMb=%d peakHeapPerUploadMb=%d%n",
+                concurrency, FILE_SIZE / MB, elapsedMs, totalMb * 1000 / elapsedMs, peakBytes / MB,
+                peakBytes / concurrency / MB);
+        assertThat(uploadedBytes.get()).isEqualTo(concurrency * FILE_SIZE);
+    }
+
+    /**
+     * 측정 동안 힙 사용량을 주기적으로 읽어 시작 시점 대비 최댓값을 구합니다. 아직 수거되지 않은 객체도 포함하므로 상한 값입니다.
+     */
+    private static final class HeapSampler implements Runnable {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private long peak;
+
+        private HeapSampler() {
+            System.gc();
+            baseline = memory.getHeapMemoryUsage().getUsed();
+            thread = Thread.ofPlatform().name("heap-sampler").daemon(true).unstarted(this);
+        }
+
+        static HeapSampler start() {
+            HeapSampler sampler = new HeapSampler();
+            sampler.thread.start();
+            return sampler;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        /** @return 시작 시점 대비 최대 힙 증가량(바이트) */
+        long stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            return Math.max(0, peak - baseline);
+        }
+    }
+
+    /**
+     * JPEG 시그니처로 시작하는 size 바이트를 읽는 만큼 만들어 내는 본문. 전체 내용을 메모리에 두지 않습니다.
+     */
+    private static final class GeneratedJpeg extends InputStream {
+
+        private static final byte[] MAGIC = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 };
+
+        private final long size;
+        private long position;
+
+        private GeneratedJpeg(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            return byteAt(position++) & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                return -1;
+            }
+            int n = (int) Math.min(len, size - position);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = byteAt(position++);
+            }
+            return n;
+        }
+
+        private static byte byteAt(long index) {
+            return index < MAGIC.length ? MAGIC[(int) index] : (byte) (index * 31);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.weedrice.whiteboard.domain.file.service;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UploadStreamTest {
+
+    @Test
+    @DisplayName("시그니처로 형식을 판별하고 처음부터 다시 읽으며 해시와 크기를 계산")
+    void open_detectsSignatureAndHashesWholeBody() throws IOException {
+        // given
+        byte[] body = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3 };
+
+        // when
+        UploadStream upload = UploadStream.open(new ByteArrayInputStream(body), 100);
+        byte[] read = upload.readAllBytes();
+
+        // then
+        assertThat(upload.signature()).isEqualTo(ImageSignature.PNG);
+        assertThat(read).isEqualTo(body);
+        assertThat(upload.count()).isEqualTo(body.length);
+        assertThat(upload.contentHash()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("형식별 시그니처 판별")
+    void detect_signatures() {
+        assertThat(detect(new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDB })).isEqualTo(ImageSignature.JPEG);
+        assertThat(detect("GIF89a....".getBytes(StandardCharsets.US_ASCII))).isEqualTo(ImageSignature.GIF);
+        assertThat(detect("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII))).isEqualTo(ImageSignature.WEBP);
+        assertThat(detect("\uFEFF<?xml version=\"1.0\"?>\n<svg xmlns=\"http://www.w3.org/2000/svg\"/>"
+                .getBytes(StandardCharsets.UTF_8))).isEqualTo(ImageSignature.SVG);
+        assertThat(detect("<html><body>".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(detect("PK\u0003\u0004".getBytes(StandardCharsets.US_ASCII))).isNull();
+    }
+
+    @Test
+    @DisplayName("SVG는 XML 선언, 주석, DOCTYPE 뒤의 루트 요소가 svg일 때만 인정")
+    void detect_svgRequiresSvgRoot() {
+        assertThat(detect(utf8("<svg viewBox=\"0 0 1 1\"></svg>"))).isEqualTo(ImageSignature.SVG);
+        assertThat(detect(utf8("<?xml version=\"1.0\"?>\n<!-- <html> -->\n<!DOCTYPE svg PUBLIC \"-//W3C//DTD SVG 1.1//EN\" "
+                + "\"http://www.w3.org/Graphics/SVG/1.1/DTD/svg11.dtd\">\n<svg/>"))).isEqualTo(ImageSignature.SVG);
+        assertThat(detect(utf8("<!DOCTYPE svg [ <!ENTITY a \"<b>\"> ]>\n<svg>"))).isEqualTo(ImageSignature.SVG);
+        assertThat(detect(utf8("<html><body><svg/></body></html>"))).isNull();
+        assertThat(detect(utf8("<?xml version=\"1.0\"?><script>alert(1)</script><svg/>"))).isNull();
+        assertThat(detect(utf8("<svgx/>"))).isNull();
+        assertThat(detect(utf8("<!-- unterminated <svg/>"))).isNull();
+        assertThat(detect(utf8("<svg"))).isNull();
+    }
+
+    @Test
+    @DisplayName("허용하지 않는 형식이나 빈 본문은 거절")
+    void open_rejectsUnknownOrEmpty() {
+        assertThatThrownBy(() -> UploadStream.open(new ByteArrayInputStream("MZ\u0090\0".getBytes(StandardCharsets.ISO_8859_1)), 100))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+        assertThatThrownBy(() -> UploadStream.open(new ByteArrayInputStream(new byte[0]), 100))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_EMPTY);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 순간 FILE_TOO_LARGE로 중단")
+    void read_stopsAtLimit() throws IOException {
+        // given
+        byte[] body = new byte[64];
+        body[0] = (byte) 0xFF;
+        body[1] = (byte) 0xD8;
+        body[2] = (byte) 0xFF;
+        UploadStream upload = UploadStream.open(new ByteArrayInputStream(body), 32);
+
+        // when & then
+        assertThatThrownBy(() -> upload.transferTo(OutputStream.nullOutputStream()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_TOO_LARGE);
+        assertThat(upload.limitExceeded()).isTrue();
+    }
+
+    private static ImageSignature detect(byte[] head) {
+        return ImageSignature.detect(head, head.length);
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
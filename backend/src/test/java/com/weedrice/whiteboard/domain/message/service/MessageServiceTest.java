@@ -3,6 +3,7 @@ package com.weedrice.whiteboard.domain.message.service;
 import com.weedrice.whiteboard.domain.message.dto.MessageResponse;
 import com.weedrice.whiteboard.domain.message.entity.Message;
 import com.weedrice.whiteboard.domain.message.repository.MessageRepository;
+import com.weedrice.whiteboard.domain.notification.service.UnreadCountService;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
 import com.weedrice.whiteboard.domain.user.service.UserBlockService;
@@ -39,6 +40,8 @@ class MessageServiceTest {
     private UserRepository userRepository;
     @Mock
     private UserBlockService userBlockService;
+    @Mock
+    private UnreadCountService unreadCountService;
 
     @InjectMocks
     private MessageService messageService;
@@ -149,16 +152,14 @@ class MessageServiceTest {
     void getUnreadMessageCount_success() {
         // given
         Long userId = 2L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(receiver));
-        when(userBlockService.getBlockedUserIds(userId)).thenReturn(Collections.emptyList());
-        when(messageRepository.countUnreadMessagesExcludingBlocked(eq(receiver), eq(false), eq(false), anyList()))
-                .thenReturn(5L);
+        when(unreadCountService.get(UnreadCountService.Type.MESSAGE, userId)).thenReturn(5L);
 
         // when
         long count = messageService.getUnreadMessageCount(userId);
 
         // then
         assertThat(count).isEqualTo(5L);
+        verify(messageRepository, never()).countUnreadMessagesExcludingBlocked(any(), any(), any(), anyList());
     }
 
     @Test
@@ -0,0 +1,115 @@
+package com.weedrice.whiteboard.domain.mqueue.worker;
+
+import com.weedrice.whiteboard.domain.mqueue.dto.ClaimedMessage;
+import com.weedrice.whiteboard.domain.mqueue.handler.MessageDeliveryHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MqueueWorkerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private MessageDeliveryHandler emailHandler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MqueueWorker mqueueWorker;
+
+    @BeforeEach
+    void setUp() {
+        when(emailHandler.deliveryMethod()).thenReturn("EMAIL");
+        meterRegistry = new SimpleMeterRegistry();
+        mqueueWorker = new MqueueWorker(jdbcTemplate, List.of(emailHandler), meterRegistry);
+        ReflectionTestUtils.setField(mqueueWorker, "enabled", false);
+        ReflectionTestUtils.setField(mqueueWorker, "maxAttempts", 3);
+        mqueueWorker.init();
+    }
+
+    @Test
+    @DisplayName("발송 결과를 완료/재시도/실패로 한 번에 기록")
+    @SuppressWarnings("unchecked")
+    void process_recordsOutcomesInOneBatch() {
+        // given
+        ClaimedMessage ok = message(1L, "EMAIL", 0);
+        ClaimedMessage retry = message(2L, "EMAIL", 0);
+        ClaimedMessage exhausted = message(3L, "EMAIL", 2);
+        ClaimedMessage sms = message(4L, "SMS", 0);
+        doNothing().when(emailHandler).deliver(ok);
+        doThrow(new IllegalStateException("smtp down")).when(emailHandler).deliver(retry);
+        doThrow(new IllegalStateException("smtp down")).when(emailHandler).deliver(exhausted);
+        when(emailHandler.deliverAll(anyList())).thenCallRealMethod();
+
+        // when
+        mqueueWorker.process(List.of(ok, retry, exhausted, sms));
+
+        // then
+        ArgumentCaptor<List<Object[]>> results = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), results.capture());
+        List<Object[]> rows = results.getValue();
+        assertThat(rows).extracting(row -> row[0]).containsExactly("SENT", "PENDING", "FAILED", "FAILED");
+        assertThat(rows.get(1)[1]).isEqualTo(1);
+        assertThat(rows.get(1)[2]).isNotNull();
+        assertThat(rows.get(2)[1]).isEqualTo(3);
+        assertThat((String) rows.get(3)[3]).contains("unsupported");
+        assertThat(meterRegistry.get("mqueue.deliveries").tag("result", "sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mqueue.deliveries").tag("result", "retry").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상 사용자가 없거나 탈퇴한 메시지는 처리기에 넘기지 않고 바로 실패로 기록")
+    @SuppressWarnings("unchecked")
+    void process_failsMessagesWithoutRecipient() {
+        // given
+        ClaimedMessage ok = message(1L, "EMAIL", 0);
+        ClaimedMessage orphan = new ClaimedMessage(2L, 99L, null, "EMAIL", "content", 0, LocalDateTime.now());
+        when(emailHandler.deliverAll(List.of(ok))).thenReturn(Map.of());
+
+        // when
+        mqueueWorker.process(List.of(ok, orphan));
+
+        // then
+        ArgumentCaptor<List<Object[]>> results = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), results.capture());
+        List<Object[]> rows = results.getValue();
+        assertThat(rows).extracting(row -> row[0]).containsExactly("SENT", "FAILED");
+        assertThat((String) rows.get(1)[3]).contains("recipient");
+        verify(emailHandler).deliverAll(List.of(ok));
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 지수적으로 늘고 상한을 넘지 않음")
+    void backoff_growsExponentiallyWithCap() {
+        // given
+        ReflectionTestUtils.setField(mqueueWorker, "backoffBaseSeconds", 10L);
+        ReflectionTestUtils.setField(mqueueWorker, "backoffMaxSeconds", 100L);
+
+        // when & then
+        assertThat(mqueueWorker.backoff(1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(mqueueWorker.backoff(3)).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        assertThat(mqueueWorker.backoff(10)).isBetween(Duration.ofSeconds(50), Duration.ofSeconds(100));
+    }
+
+    private ClaimedMessage message(Long queueId, String method, int retryCount) {
+        return new ClaimedMessage(queueId, 10L, "user@example.com", method, "content", retryCount,
+                LocalDateTime.now());
+    }
+}
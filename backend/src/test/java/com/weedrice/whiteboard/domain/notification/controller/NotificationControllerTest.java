@@ -103,7 +103,7 @@ class NotificationControllerTest {
 
             void subscribe_success() throws Exception {
 
-                when(notificationService.subscribe(anyLong())).thenReturn(new SseEmitter());
+                when(notificationService.subscribe(anyLong(), any())).thenReturn(new SseEmitter());
 
         
 
@@ -0,0 +1,213 @@
+package com.weedrice.whiteboard.domain.notification.service;
+
+import com.weedrice.whiteboard.domain.notification.dto.NotificationResponse;
+import com.weedrice.whiteboard.domain.notification.dto.PendingNotification;
+import com.weedrice.whiteboard.global.outbox.OutboxDeduplicator;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import com.weedrice.whiteboard.global.realtime.RealtimeBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private RealtimeBus realtimeBus;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private UnreadCountService unreadCountService;
+    @Mock
+    private OutboxDeduplicator outboxDeduplicator;
+
+    @InjectMocks
+    private NotificationBatchWriter notificationBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationBatchWriter, "transactionTemplate",
+                new TransactionTemplate(transactionManager));
+    }
+
+    private void givenNothingProcessed() {
+        when(outboxDeduplicator.claim(eq("notification"), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("배치 저장 후 발급된 ID로 실시간 푸시")
+    @SuppressWarnings("unchecked")
+    void flush_insertsBatchThenPublishesWithIds() {
+        // given
+        givenNothingProcessed();
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(List.of(10L, 11L));
+
+        // when
+        int saved = flush(pending(1L), pending(2L));
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        ArgumentCaptor<NotificationResponse.NotificationSummary> summary =
+                ArgumentCaptor.forClass(NotificationResponse.NotificationSummary.class);
+        verify(realtimeBus).publish(eq(1L), eq("notification"), summary.capture());
+        assertThat(summary.getValue().getNotificationId()).isEqualTo(10L);
+        verify(realtimeBus).publish(eq(2L), eq("notification"), any());
+        verify(unreadCountService).adjust(UnreadCountService.Type.NOTIFICATION, 1L, 1);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 푸시하지 않고 예외를 던져 outbox 재전달에 맡김")
+    @SuppressWarnings("unchecked")
+    void flush_failurePropagatesForRedelivery() {
+        // given
+        givenNothingProcessed();
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> flush(pending(1L)))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        verifyNoInteractions(realtimeBus, unreadCountService);
+    }
+
+    @Test
+    @DisplayName("이미 저장한 메시지가 재전달되면 저장과 푸시를 다시 하지 않음")
+    void flush_skipsAlreadyProcessedMessages() {
+        // given
+        when(outboxDeduplicator.claim(eq("notification"), anyList())).thenReturn(List.of());
+
+        // when
+        int saved = flush(pending(1L));
+
+        // then
+        assertThat(saved).isZero();
+        verifyNoInteractions(jdbcTemplate, realtimeBus, unreadCountService);
+    }
+
+    @Test
+    @DisplayName("같은 묶음 안에서 최근 행위자 수를 넘겨 다시 행동한 사용자는 한 번만 셈")
+    @SuppressWarnings("unchecked")
+    void flush_countsDistinctActorsWithinBatch() {
+        // given
+        givenNothingProcessed();
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(List.of(10L));
+
+        // when
+        flush(like(1L, 1L), like(1L, 2L), like(1L, 3L), like(1L, 4L), like(1L, 5L), like(1L, 6L), like(1L, 1L));
+
+        // then
+        ArgumentCaptor<NotificationResponse.NotificationSummary> summary =
+                ArgumentCaptor.forClass(NotificationResponse.NotificationSummary.class);
+        verify(realtimeBus).publish(eq(1L), eq("notification"), summary.capture());
+        assertThat(summary.getValue().getActorCount()).isEqualTo(6);
+        ArgumentCaptor<List<Object[]>> actors = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("notification_actors"), actors.capture());
+        assertThat(actors.getValue()).extracting(args -> args[1]).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("저장된 묶음 알림에는 행위자 목록에 처음 들어간 행위자만 더함")
+    @SuppressWarnings("unchecked")
+    void flush_addsOnlyNewActorsToStoredNotification() throws Exception {
+        // given: 6명이 행동해 최근 행위자(5명) 밖으로 밀려난 1번이 다시 행동
+        givenNothingProcessed();
+        givenUnread(100L, 1L, 6, "6,5,4,3,2");
+        when(jdbcTemplate.batchUpdate(contains("notification_actors"), anyList()))
+                .thenReturn(new int[] { 0, 0, 0, 0, 0, 0 });
+
+        // when
+        flush(like(1L, 1L));
+
+        // then
+        ArgumentCaptor<List<Object[]>> actors = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("notification_actors"), actors.capture());
+        assertThat(actors.getValue()).extracting(args -> args[1]).containsExactly(6L, 5L, 4L, 3L, 2L, 1L);
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE notifications"), updates.capture());
+        assertThat(updates.getValue().get(0)[1]).isEqualTo(6);
+        assertThat(updates.getValue().get(0)[2]).isEqualTo("1,6,5,4,3");
+        verify(unreadCountService, never()).adjust(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("저장된 묶음 알림에 처음 보는 행위자가 합쳐지면 행위자 수가 늘어남")
+    @SuppressWarnings("unchecked")
+    void flush_countsNewActorOnStoredNotification() throws Exception {
+        // given
+        givenNothingProcessed();
+        givenUnread(100L, 1L, 6, "6,5,4,3,2");
+        when(jdbcTemplate.batchUpdate(contains("notification_actors"), anyList()))
+                .thenReturn(new int[] { 0, 0, 0, 0, 0, 1 });
+
+        // when
+        flush(like(1L, 7L));
+
+        // then
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE notifications"), updates.capture());
+        assertThat(updates.getValue().get(0)[1]).isEqualTo(7);
+    }
+
+    private void givenUnread(Long notificationId, Long userId, int actorCount, String recentActorIds)
+            throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("user_id")).thenReturn(userId);
+        when(rs.getString("notification_type")).thenReturn("LIKE");
+        when(rs.getString("source_type")).thenReturn("POST");
+        when(rs.getLong("source_id")).thenReturn(5L);
+        when(rs.getInt("actor_count")).thenReturn(actorCount);
+        when(rs.getString("recent_actor_ids")).thenReturn(recentActorIds);
+        when(rs.getLong("notification_id")).thenReturn(notificationId);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("FROM notifications"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private int flush(PendingNotification... notifications) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (int i = 0; i < notifications.length; i++) {
+            messages.add(new OutboxMessage((long) i, "NOTIFICATION", "key-" + i, "{}", LocalDateTime.now(), false));
+        }
+        return notificationBatchWriter.flush("notification", messages,
+                message -> notifications[message.outboxId().intValue()]);
+    }
+
+    private PendingNotification like(Long userId, Long actorId) {
+        return new PendingNotification(userId, actorId, "actor" + actorId, "LIKE", "POST", 5L, "liked",
+                LocalDateTime.now(), 1, List.of(actorId), List.of(actorId), true);
+    }
+
+    private PendingNotification pending(Long userId) {
+        return new PendingNotification(userId, 99L, "actor", "LIKE", "POST", 5L, "liked", LocalDateTime.now(), 1,
+                List.of(99L), List.of(99L), false);
+    }
+}
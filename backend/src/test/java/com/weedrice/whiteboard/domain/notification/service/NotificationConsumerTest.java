@@ -0,0 +1,70 @@
+package com.weedrice.whiteboard.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.weedrice.whiteboard.domain.notification.dto.PendingNotification;
+import com.weedrice.whiteboard.global.outbox.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationConsumerTest {
+
+    @Mock
+    private NotificationBatchWriter notificationBatchWriter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private NotificationConsumer notificationConsumer;
+
+    @BeforeEach
+    void setUp() {
+        notificationConsumer = new NotificationConsumer(notificationBatchWriter, objectMapper);
+        notificationConsumer.init();
+    }
+
+    @Test
+    @DisplayName("outbox 묶음을 한 번에 저장하고 묶음 대상 유형만 표시하며 자기 자신 알림은 제외")
+    @SuppressWarnings("unchecked")
+    void consume_flushesBatchWithCoalesceFlags() throws Exception {
+        // given
+        List<OutboxMessage> messages = List.of(
+                message(1L, pending(1L, 10L, "LIKE")),
+                message(2L, pending(1L, 11L, "MENTION")),
+                message(3L, pending(1L, 1L, "LIKE")));
+
+        // when
+        notificationConsumer.consume(messages);
+
+        // then
+        ArgumentCaptor<Function<OutboxMessage, PendingNotification>> reader = ArgumentCaptor.forClass(Function.class);
+        verify(notificationBatchWriter).flush(eq("notification"), eq(messages), reader.capture());
+        List<PendingNotification> batch = messages.stream().map(reader.getValue()).toList();
+        assertThat(batch.get(0).coalesce()).isTrue();
+        assertThat(batch.get(0).recentActorIds()).containsExactly(10L);
+        assertThat(batch.get(1).coalesce()).isFalse();
+        assertThat(batch.get(2)).isNull();
+    }
+
+    private OutboxMessage message(Long outboxId, PendingNotification notification) throws Exception {
+        return new OutboxMessage(outboxId, "NOTIFICATION", "key-" + outboxId,
+                objectMapper.writeValueAsString(notification), LocalDateTime.now(), false);
+    }
+
+    private PendingNotification pending(Long userId, Long actorId, String type) {
+        return new PendingNotification(userId, actorId, "actor", type, "POST", 5L, "content", LocalDateTime.now(), 1,
+                List.of(actorId), List.of(actorId), false);
+    }
+}
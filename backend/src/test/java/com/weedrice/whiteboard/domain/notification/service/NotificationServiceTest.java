@@ -1,10 +1,10 @@
 package com.weedrice.whiteboard.domain.notification.service;
 
-import com.weedrice.whiteboard.domain.notification.dto.NotificationEvent;
 import com.weedrice.whiteboard.domain.notification.entity.Notification;
 import com.weedrice.whiteboard.domain.notification.repository.NotificationRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
 import com.weedrice.whiteboard.domain.user.repository.UserRepository;
+import com.weedrice.whiteboard.global.realtime.SseBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,12 +13,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,7 +28,9 @@ class NotificationServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private TransactionTemplate transactionTemplate;
+    private SseBroadcaster sseBroadcaster;
+    @Mock
+    private UnreadCountService unreadCountService;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -58,24 +58,6 @@ class NotificationServiceTest {
         ReflectionTestUtils.setField(notification, "notificationId", 1L);
     }
 
-    @Test
-    @DisplayName("알림 이벤트 처리 성공")
-    void handleNotificationEvent_success() {
-        // given
-        NotificationEvent event = new NotificationEvent(user, actor, "LIKE", "POST", 1L, "Test Notification");
-        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
-            org.springframework.transaction.support.TransactionCallback<Notification> callback = invocation.getArgument(0);
-            return callback.doInTransaction(null);
-        });
-        when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
-
-        // when
-        notificationService.handleNotificationEvent(event);
-
-        // then
-        verify(notificationRepository).save(any(Notification.class));
-    }
-
     @Test
     @DisplayName("알림 읽음 처리 성공")
     void readNotification_success() {
@@ -89,6 +71,7 @@ class NotificationServiceTest {
 
         // then
         assertThat(notification.getIsRead()).isEqualTo(true);
+        verify(unreadCountService).adjust(UnreadCountService.Type.NOTIFICATION, userId, -1);
     }
 
     @Test
@@ -116,8 +99,7 @@ class NotificationServiceTest {
     void getUnreadNotificationCount_success() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(notificationRepository.countByUserAndIsRead(user, false)).thenReturn(5L);
+        when(unreadCountService.get(UnreadCountService.Type.NOTIFICATION, userId)).thenReturn(5L);
 
         // when
         long count = notificationService.getUnreadNotificationCount(userId);
@@ -0,0 +1,131 @@
+package com.weedrice.whiteboard.domain.notification.service;
+
+import com.weedrice.whiteboard.domain.message.repository.MessageRepository;
+import com.weedrice.whiteboard.domain.notification.dto.UnreadCountResponse;
+import com.weedrice.whiteboard.domain.notification.repository.NotificationRepository;
+import com.weedrice.whiteboard.domain.user.dto.UserBlockChangedEvent;
+import com.weedrice.whiteboard.domain.user.entity.User;
+import com.weedrice.whiteboard.domain.user.repository.UserRepository;
+import com.weedrice.whiteboard.domain.user.service.UserBlockService;
+import com.weedrice.whiteboard.global.realtime.LoopbackRealtimeBus;
+import com.weedrice.whiteboard.global.realtime.SseBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private MessageRepository messageRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserBlockService userBlockService;
+    @Mock
+    private SseBroadcaster sseBroadcaster;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UnreadCountService unreadCountService;
+
+    @BeforeEach
+    void setUp() {
+        unreadCountService = new UnreadCountService(notificationRepository, messageRepository, userRepository,
+                userBlockService, new LoopbackRealtimeBus(sseBroadcaster), sseBroadcaster, transactionManager);
+        unreadCountService.init();
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 집계하고 이후 증감은 메모리에서 반영 후 푸시")
+    void adjust_updatesCachedCounterAndPushes() {
+        // given
+        when(notificationRepository.countByUser_UserIdAndIsRead(1L, false)).thenReturn(3L);
+        assertThat(unreadCountService.get(UnreadCountService.Type.NOTIFICATION, 1L)).isEqualTo(3L);
+
+        // when
+        unreadCountService.adjust(UnreadCountService.Type.NOTIFICATION, 1L, 1);
+        unreadCountService.adjust(UnreadCountService.Type.NOTIFICATION, 1L, -5);
+
+        // then
+        assertThat(unreadCountService.get(UnreadCountService.Type.NOTIFICATION, 1L)).isZero();
+        verify(notificationRepository, times(1)).countByUser_UserIdAndIsRead(1L, false);
+        ArgumentCaptor<UnreadCountResponse> pushed = ArgumentCaptor.forClass(UnreadCountResponse.class);
+        verify(sseBroadcaster, times(2)).send(eq(1L), eq("unread-count"), pushed.capture());
+        assertThat(pushed.getAllValues()).extracting(UnreadCountResponse::getCount).containsExactly(4L, 0L);
+    }
+
+    @Test
+    @DisplayName("조회한 적 없는 사용자는 증감하지 않고 푸시도 하지 않음")
+    void adjust_skipsUncachedUser() {
+        unreadCountService.adjust(UnreadCountService.Type.MESSAGE, 2L, 1);
+
+        verify(sseBroadcaster, never()).send(any(), any(), any());
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 증감도 이 노드의 카운터에 반영")
+    void apply_convergesWithChangeFromOtherNode() {
+        // given
+        when(notificationRepository.countByUser_UserIdAndIsRead(1L, false)).thenReturn(3L);
+        unreadCountService.get(UnreadCountService.Type.NOTIFICATION, 1L);
+
+        // when
+        unreadCountService.apply(new UnreadCountService.CounterChange(
+                UnreadCountService.Type.NOTIFICATION, 1L, 2L, null, false));
+
+        // then
+        assertThat(unreadCountService.get(UnreadCountService.Type.NOTIFICATION, 1L)).isEqualTo(5L);
+        verify(sseBroadcaster).send(eq(1L), eq("unread-count"), any(UnreadCountResponse.class));
+    }
+
+    @Test
+    @DisplayName("카운터가 없어도 이 노드에 SSE 연결이 있으면 커밋된 값으로 집계해 푸시")
+    void apply_countsForConnectedUserWithoutCounter() {
+        // given
+        when(sseBroadcaster.hasConnections(1L)).thenReturn(true);
+        when(notificationRepository.countByUser_UserIdAndIsRead(1L, false)).thenReturn(4L);
+
+        // when
+        unreadCountService.apply(new UnreadCountService.CounterChange(
+                UnreadCountService.Type.NOTIFICATION, 1L, 1L, null, false));
+
+        // then
+        ArgumentCaptor<UnreadCountResponse> pushed = ArgumentCaptor.forClass(UnreadCountResponse.class);
+        verify(sseBroadcaster).send(eq(1L), eq("unread-count"), pushed.capture());
+        assertThat(pushed.getValue().getCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("차단 관계가 바뀌면 읽지 않은 쪽지 수를 다시 집계")
+    void onUserBlockChanged_recountsMessages() {
+        // given
+        User user = User.builder().build();
+        when(userRepository.getReferenceById(2L)).thenReturn(user);
+        when(userBlockService.getBlockedUserIds(2L)).thenReturn(List.of(), List.of(9L));
+        when(messageRepository.countUnreadMessagesExcludingBlocked(eq(user), eq(false), eq(false), any()))
+                .thenReturn(5L, 2L);
+        assertThat(unreadCountService.get(UnreadCountService.Type.MESSAGE, 2L)).isEqualTo(5L);
+
+        // when
+        unreadCountService.onUserBlockChanged(new UserBlockChangedEvent(2L, 9L));
+
+        // then
+        assertThat(unreadCountService.get(UnreadCountService.Type.MESSAGE, 2L)).isEqualTo(2L);
+    }
+}
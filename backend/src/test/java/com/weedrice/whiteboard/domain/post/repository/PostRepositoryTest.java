@@ -204,6 +204,7 @@ class PostRepositoryTest {
                 .build();
         entityManager.persist(file);
 
+        post.updateImageSummary(file.getFileId());
         post.incrementViewCount();
         post.incrementLikeCount();
         entityManager.persist(post);
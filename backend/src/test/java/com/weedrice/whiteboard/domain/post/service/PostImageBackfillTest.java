@@ -0,0 +1,53 @@
+package com.weedrice.whiteboard.domain.post.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostImageBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostImageBackfill postImageBackfill;
+
+    @Test
+    @DisplayName("채울 게시글이 없을 때까지 묶음 단위로 갱신")
+    void backfill_updatesInBatchesUntilDone() {
+        // given
+        ReflectionTestUtils.setField(postImageBackfill, "batchSize", 2);
+        when(jdbcTemplate.update(contains("has_image IS NULL"), eq(2))).thenReturn(2, 1, 0);
+
+        // when
+        long updated = postImageBackfill.backfill();
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        verify(jdbcTemplate, times(3)).update(contains("has_image IS NULL"), eq(2));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 시작 시 백필하지 않음")
+    void backfillOnStartup_disabled() {
+        // given
+        ReflectionTestUtils.setField(postImageBackfill, "enabled", false);
+
+        // when
+        postImageBackfill.backfillOnStartup();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
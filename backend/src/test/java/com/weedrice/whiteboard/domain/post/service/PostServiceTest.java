@@ -140,12 +140,15 @@ class PostServiceTest {
             ReflectionTestUtils.setField(p, "postId", 100L);
             return p;
         });
+        when(fileService.associateFiles(List.of(1L, 2L), 1L, 100L, "POST_CONTENT")).thenReturn(List.of(1L, 2L));
+        when(fileService.getOneImageFileIdForPost(100L)).thenReturn(1L);
 
         Post created = postService.createPost(1L, "free", request);
 
         assertThat(created).isNotNull();
         assertThat(created.getTitle()).isEqualTo("New Post");
-        verify(fileService, times(2)).associateFileWithEntity(anyLong(), eq(100L), eq("POST_CONTENT"));
+        verify(fileService).associateFiles(List.of(1L, 2L), 1L, 100L, "POST_CONTENT");
+        assertThat(created.getThumbnailFileId()).isEqualTo(1L);
         verify(pointService).addPoint(eq(1L), eq(50), eq("게시글 작성"), eq(100L), eq("POST"));
     }
 
@@ -224,7 +227,6 @@ class PostServiceTest {
     void getPosts_byBoardUrl() {
         when(boardRepository.findByBoardUrl("free")).thenReturn(Optional.of(board));
         // currentUserId가 null이므로 userBlockService가 호출되지 않음
-        // Page.empty()인 경우 getPostIdsWithImages가 빈 리스트를 받아 fileService가 호출되지 않음
         when(postRepository.findByBoardIdAndCategoryId(eq(1L), any(), any(), any(), any(Pageable.class)))
                 .thenReturn(Page.empty());
 
@@ -260,8 +262,7 @@ class PostServiceTest {
                 .thenReturn(List.of(post));
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
-        when(fileService.getRelatedIdsWithImages(anyList(), eq("POST_CONTENT"))).thenReturn(List.of(1L));
-        when(fileService.getOneImageFileIdForPost(1L)).thenReturn(10L);
+        post.updateImageSummary(10L);
 
         when(postLikeRepository.findByUserAndPostIn(user, List.of(post))).thenReturn(Collections.emptyList());
         when(scrapRepository.findByUserAndPostIn(user, List.of(post))).thenReturn(Collections.emptyList());
@@ -270,7 +271,7 @@ class PostServiceTest {
         List<PostSummary> result = postService.getTrendingPosts(PageRequest.of(0, 10), 1L);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getThumbnailUrl()).isEqualTo("/api/v1/files/10");
+        assertThat(result.get(0).getThumbnailUrl()).isEqualTo("/api/v1/files/10?size=thumbnail");
     }
 
     // --- Update Post ---
@@ -283,12 +284,48 @@ class PostServiceTest {
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(fileService.associateFiles(List.of(5L), 1L, 1L, "POST_CONTENT")).thenReturn(List.of(5L));
+        when(fileService.getOneImageFileIdForPost(1L)).thenReturn(5L);
 
         Post updated = postService.updatePost(1L, 1L, request);
 
         assertThat(updated.getTitle()).isEqualTo("Updated Title");
-        verify(fileService).associateFileWithEntity(eq(5L), eq(1L), eq("POST_CONTENT"));
+        verify(fileService).associateFiles(List.of(5L), 1L, 1L, "POST_CONTENT");
         verify(postVersionRepository).save(any(PostVersion.class));
+        assertThat(updated.getHasImage()).isTrue();
+        assertThat(updated.getThumbnailFileId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 다른 사용자의 파일만 첨부하면 연결되지 않아 이미지 여부를 다시 조회하지 않음")
+    void updatePost_rejectedFilesKeepImageSummary() {
+        PostUpdateRequest request = new PostUpdateRequest(null, "Updated Title", "Updated Contents",
+                Collections.emptyList(), false, false, List.of(9L));
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(fileService.associateFiles(List.of(9L), 1L, 1L, "POST_CONTENT")).thenReturn(List.of());
+
+        Post updated = postService.updatePost(1L, 1L, request);
+
+        assertThat(updated.getHasImage()).isFalse();
+        verify(fileService, never()).getOneImageFileIdForPost(any());
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 첨부 파일이 없으면 이미지 여부를 다시 조회하지 않음")
+    void updatePost_withoutFilesKeepsImageSummary() {
+        post.updateImageSummary(7L);
+        PostUpdateRequest request = new PostUpdateRequest(null, "Updated Title", "Updated Contents",
+                Collections.emptyList(), false, false, null);
+
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        Post updated = postService.updatePost(1L, 1L, request);
+
+        assertThat(updated.getThumbnailFileId()).isEqualTo(7L);
+        verify(fileService, never()).getOneImageFileIdForPost(any());
     }
 
     @Test
@@ -504,9 +541,6 @@ class PostServiceTest {
     @DisplayName("태그별 게시글 조회")
     void getPostsByTag_success() {
         when(postTagRepository.findByTag_TagId(eq(1L), any(Pageable.class))).thenReturn(Page.empty());
-        // Page.empty()인 경우 getPostIdsWithImages가 빈 리스트를 받아 fileService가 호출되지 않음
-        lenient().when(fileService.getRelatedIdsWithImages(anyList(), eq("POST_CONTENT")))
-                .thenReturn(Collections.emptyList());
 
         postService.getPostsByTag(1L, null, Pageable.unpaged());
 
@@ -518,9 +552,6 @@ class PostServiceTest {
     void getMyPosts_success() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(postRepository.findByUserAndIsDeleted(eq(user), eq(false), any(Pageable.class))).thenReturn(Page.empty());
-        // Page.empty()인 경우 getPostIdsWithImages가 빈 리스트를 받아 fileService가 호출되지 않음
-        lenient().when(fileService.getRelatedIdsWithImages(anyList(), eq("POST_CONTENT")))
-                .thenReturn(Collections.emptyList());
 
         postService.getMyPosts(1L, Pageable.unpaged());
 
@@ -536,7 +567,7 @@ class PostServiceTest {
 
         List<String> urls = postService.getPostImageUrls(1L);
 
-        assertThat(urls).contains("/api/v1/files/123");
+        assertThat(urls).contains("/api/v1/files/123?size=medium");
     }
 
     @Test
@@ -748,8 +779,7 @@ class PostServiceTest {
         when(postRepository.findByBoardIdAndCategoryId(eq(1L), isNull(), isNull(), anyList(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(post)));
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(fileService.getRelatedIdsWithImages(anyList(), eq("POST_CONTENT"))).thenReturn(List.of(1L));
-        when(fileService.getOneImageFileIdForPost(1L)).thenReturn(20L);
+        post.updateImageSummary(20L);
         when(postLikeRepository.findByUserAndPostIn(user, List.of(post))).thenReturn(Collections.emptyList());
         when(scrapRepository.findByUserAndPostIn(user, List.of(post))).thenReturn(Collections.emptyList());
         when(boardSubscriptionRepository.findByUserAndBoardIn(eq(user), anyList())).thenReturn(Collections.emptyList());
@@ -757,7 +787,7 @@ class PostServiceTest {
         List<PostSummary> result = postService.getLatestPostsByBoard(1L, 5, 1L);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getThumbnailUrl()).isEqualTo("/api/v1/files/20");
+        assertThat(result.get(0).getThumbnailUrl()).isEqualTo("/api/v1/files/20?size=thumbnail");
     }
 
     @Test
@@ -765,11 +795,13 @@ class PostServiceTest {
     void getLatestPostsByBoard_notLoggedIn() {
         when(postRepository.findByBoardIdAndCategoryId(eq(1L), isNull(), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(post)));
-        when(fileService.getRelatedIdsWithImages(anyList(), eq("POST_CONTENT"))).thenReturn(Collections.emptyList());
 
         List<PostSummary> result = postService.getLatestPostsByBoard(1L, 5, null);
 
         assertThat(result).hasSize(1);
+        assertThat(result.get(0).isHasImage()).isFalse();
+        assertThat(result.get(0).getThumbnailUrl()).isNull();
+        verifyNoInteractions(fileService);
     }
 
     @Test
@@ -993,24 +1025,6 @@ class PostServiceTest {
         verify(scrapRepository, never()).existsById(any());
     }
 
-    @Test
-    @DisplayName("게시글 이미지 확인 - 빈 목록")
-    void getPostIdsWithImages_emptyList() {
-        Set<Long> result = postService.getPostIdsWithImages(Collections.emptyList());
-
-        assertThat(result).isEmpty();
-        verify(fileService, never()).getRelatedIdsWithImages(anyList(), anyString());
-    }
-
-    @Test
-    @DisplayName("게시글 이미지 확인 - null 목록")
-    void getPostIdsWithImages_nullList() {
-        Set<Long> result = postService.getPostIdsWithImages(null);
-
-        assertThat(result).isEmpty();
-        verify(fileService, never()).getRelatedIdsWithImages(anyList(), anyString());
-    }
-
     @Test
     @DisplayName("초안 저장 - originalPostId 포함")
     void saveDraftPost_withOriginalPost() {
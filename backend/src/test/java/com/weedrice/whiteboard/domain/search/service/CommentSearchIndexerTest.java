@@ -0,0 +1,76 @@
+package com.weedrice.whiteboard.domain.search.service;
+
+import com.weedrice.whiteboard.domain.board.entity.Board;
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
+import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
+import com.weedrice.whiteboard.domain.post.entity.Post;
+import com.weedrice.whiteboard.domain.search.repository.CommentSearchTermRepository;
+import com.weedrice.whiteboard.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentSearchIndexerTest {
+
+    @Mock
+    private CommentSearchTermRepository commentSearchTermRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CommentSearchIndexer commentSearchIndexer;
+
+    @Test
+    @DisplayName("토큰화 - 정규화 후 중복 없는 2글자 토큰 추출")
+    void tokenize_normalizesAndExtractsDistinctBigrams() {
+        assertThat(CommentSearchIndexer.tokenize("  ＨＥＬＬＯ   안녕 ")).containsExactly(
+                "he", "el", "ll", "lo", "o ", " 안", "안녕");
+        assertThat(CommentSearchIndexer.tokenize("aaaa")).containsExactly("aa");
+        assertThat(CommentSearchIndexer.tokenize("a")).isEmpty();
+        assertThat(CommentSearchIndexer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 확인 - 색인과 같은 기준으로 본문 포함 여부 판단")
+    void matches_usesSameNormalization() {
+        assertThat(commentSearchIndexer.matches("Hello   World", "o w")).isTrue();
+        assertThat(commentSearchIndexer.matches("wor ld", "world")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재색인 - 기존 항목 삭제 후 토큰 일괄 저장")
+    void reindex_removesThenInsertsTerms() {
+        // given
+        User user = User.builder().loginId("writer").build();
+        ReflectionTestUtils.setField(user, "userId", 1L);
+        Board board = Board.builder().boardName("Board").creator(user).build();
+        ReflectionTestUtils.setField(board, "boardId", 3L);
+        Post post = Post.builder().title("t").contents("c").user(user).board(board).build();
+        ReflectionTestUtils.setField(post, "postId", 2L);
+        Comment comment = Comment.builder().post(post).user(user).content("abc").depth(0).build();
+        ReflectionTestUtils.setField(comment, "commentId", 10L);
+
+        // when
+        commentSearchIndexer.reindex(comment);
+
+        // then
+        verify(commentSearchTermRepository).deleteByCommentId(10L);
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+}
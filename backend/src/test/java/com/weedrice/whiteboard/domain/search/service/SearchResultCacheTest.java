@@ -0,0 +1,150 @@
+package com.weedrice.whiteboard.domain.search.service;
+
+import com.weedrice.whiteboard.domain.post.dto.PostChangedEvent;
+import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private SearchResultCache searchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        searchResultCache = new SearchResultCache(postRepository, transactionManager, executor);
+        searchResultCache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("정규화된 같은 검색 조건은 하나의 캐시 항목을 공유")
+    void get_sharesEntryForNormalizedKey() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepository.searchPostIds(eq("hello"), eq("TITLE_CONTENT"), isNull(), any()))
+                .thenReturn(new PageImpl<>(List.of(3L, 1L), pageable, 2));
+
+        // when
+        SearchResultCache.CachedIdPage first = searchResultCache.get("Hello ", null, "", pageable);
+        SearchResultCache.CachedIdPage second = searchResultCache.get("hello", "title_content", null, pageable);
+
+        // then
+        assertThat(first.postIds()).containsExactly(3L, 1L);
+        assertThat(second).isSameAs(first);
+        verify(postRepository, times(1)).searchPostIds(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("게시글 변경으로 세대가 바뀌면 다음 조회에서 다시 읽음")
+    void get_reloadsAfterPostChanged() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepository.searchPostIds(eq("hello"), eq("TITLE"), eq("free"), any()))
+                .thenReturn(new PageImpl<>(List.of(1L), pageable, 1))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        searchResultCache.get("hello", "TITLE", "free", pageable);
+
+        // when
+        searchResultCache.onPostChanged(new PostChangedEvent(2L, 1L, "free", "CREATE"));
+        SearchResultCache.CachedIdPage reloaded = searchResultCache.get("hello", "TITLE", "free", pageable);
+
+        // then
+        assertThat(reloaded.postIds()).containsExactly(2L, 1L);
+        assertThat(reloaded.total()).isEqualTo(2L);
+        assertThat(reloaded.generation()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 게시판의 변경은 게시판 범위 검색 결과를 무효화하지 않고 전체 검색만 무효화")
+    void get_invalidatesOnlyChangedBoard() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepository.searchPostIds(eq("hello"), eq("TITLE"), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        SearchResultCache.CachedIdPage notice = searchResultCache.get("hello", "TITLE", "notice", pageable);
+        searchResultCache.get("hello", "TITLE", null, pageable);
+
+        // when
+        searchResultCache.onPostChanged(new PostChangedEvent(2L, 1L, "free", "CREATE"));
+        SearchResultCache.CachedIdPage noticeAfter = searchResultCache.get("hello", "TITLE", "notice", pageable);
+        searchResultCache.get("hello", "TITLE", null, pageable);
+
+        // then
+        assertThat(noticeAfter).isSameAs(notice);
+        verify(postRepository, times(1)).searchPostIds(eq("hello"), eq("TITLE"), eq("notice"), any());
+        verify(postRepository, times(2)).searchPostIds(eq("hello"), eq("TITLE"), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("세대가 바뀐 뒤 동시에 조회해도 다시 읽기는 한 번만 수행")
+    void get_reloadsOnceForConcurrentReaders() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.searchPostIds(eq("hello"), eq("TITLE"), eq("free"), any()))
+                .thenReturn(new PageImpl<>(List.of(1L), pageable, 1))
+                .thenAnswer(invocation -> {
+                    reloading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return new PageImpl<>(List.of(2L, 1L), pageable, 2);
+                });
+        searchResultCache.get("hello", "TITLE", "free", pageable);
+        searchResultCache.onPostChanged(new PostChangedEvent(2L, 1L, "free", "CREATE"));
+
+        // when
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SearchResultCache.CachedIdPage>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(readers.submit(() -> searchResultCache.get("hello", "TITLE", "free", pageable)));
+            }
+            assertThat(reloading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<SearchResultCache.CachedIdPage> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).postIds()).containsExactly(2L, 1L);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        verify(postRepository, times(2)).searchPostIds(any(), any(), any(), any());
+    }
+}
@@ -1,12 +1,19 @@
 package com.weedrice.whiteboard.domain.search.service;
 
+import com.weedrice.whiteboard.domain.board.entity.Board;
+import com.weedrice.whiteboard.domain.board.repository.BoardRepository;
+import com.weedrice.whiteboard.domain.comment.dto.CommentResponse;
+import com.weedrice.whiteboard.domain.comment.entity.Comment;
 import com.weedrice.whiteboard.domain.comment.repository.CommentRepository;
-import com.weedrice.whiteboard.domain.file.service.FileService;
+import com.weedrice.whiteboard.domain.post.dto.PostSummary;
+import com.weedrice.whiteboard.domain.post.entity.Post;
 import com.weedrice.whiteboard.domain.post.repository.PostRepository;
+import com.weedrice.whiteboard.domain.search.dto.IntegratedSearchResponse;
 import com.weedrice.whiteboard.domain.search.dto.PopularKeywordDto;
 import com.weedrice.whiteboard.domain.search.dto.SearchPersonalizationResponse;
 import com.weedrice.whiteboard.domain.search.entity.SearchPersonalization;
 import com.weedrice.whiteboard.domain.search.entity.SearchStatistic;
+import com.weedrice.whiteboard.domain.search.repository.CommentSearchTermRepository;
 import com.weedrice.whiteboard.domain.search.repository.SearchPersonalizationRepository;
 import com.weedrice.whiteboard.domain.search.repository.SearchStatisticRepository;
 import com.weedrice.whiteboard.domain.user.entity.User;
@@ -26,11 +33,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,7 +64,15 @@ class SearchServiceTest {
     @Mock
     private UserBlockService userBlockService;
     @Mock
-    private FileService fileService;
+    private BoardRepository boardRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private CommentSearchTermRepository commentSearchTermRepository;
+    @Mock
+    private CommentSearchIndexer commentSearchIndexer;
+    @Mock
+    private SearchResultCache searchResultCache;
 
     @InjectMocks
     private SearchService searchService;
@@ -206,4 +225,122 @@ class SearchServiceTest {
         // then
         verify(searchPersonalizationRepository).deleteByUser(user);
     }
+
+    @Test
+    @DisplayName("게시글 검색 - 캐시된 ID 순서를 유지하고 차단 사용자 글은 요청 시점에 제외")
+    void searchPosts_filtersBlockedAuthorsFromCachedIds() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        User blocked = User.builder().loginId("blocked").build();
+        ReflectionTestUtils.setField(blocked, "userId", 9L);
+        Board board = Board.builder().boardName("Test Board").creator(user).build();
+        Post post1 = Post.builder().title("t1").contents("c1").user(user).board(board).build();
+        ReflectionTestUtils.setField(post1, "postId", 1L);
+        Post post2 = Post.builder().title("t2").contents("c2").user(blocked).board(board).build();
+        ReflectionTestUtils.setField(post2, "postId", 2L);
+        Post post3 = Post.builder().title("t3").contents("c3").user(user).board(board).build();
+        ReflectionTestUtils.setField(post3, "postId", 3L);
+
+        when(userBlockService.getBlockedUserIds(1L)).thenReturn(List.of(9L));
+        when(searchResultCache.get("test", "TITLE", "free", pageable))
+                .thenReturn(new SearchResultCache.CachedIdPage(List.of(3L, 2L, 1L), 3, 0));
+        post1.updateImageSummary(10L);
+        when(postRepository.findAllByIdsWithRelations(List.of(3L, 2L, 1L))).thenReturn(List.of(post1, post2, post3));
+
+        // when
+        Page<PostSummary> result = searchService.searchPosts("test", "TITLE", "free", pageable, 1L);
+
+        // then
+        assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(3L, 1L);
+        assertThat(result.getContent().get(1).isHasImage()).isTrue();
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        verify(postRepository, never()).searchPosts(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("댓글 검색 - 역색인 후보를 ID 순서대로 조회하고 본문으로 재확인")
+    void searchComments_usesIndexAndVerifiesContent() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        Board board = Board.builder().boardName("Test Board").creator(user).build();
+        ReflectionTestUtils.setField(board, "boardId", 3L);
+        Post post = Post.builder().title("t").contents("c").user(user).board(board).build();
+        ReflectionTestUtils.setField(post, "postId", 1L);
+        Comment matched = Comment.builder().post(post).user(user).content("hello world").depth(0).build();
+        ReflectionTestUtils.setField(matched, "commentId", 20L);
+        Comment falsePositive = Comment.builder().post(post).user(user).content("wor ld").depth(0).build();
+        ReflectionTestUtils.setField(falsePositive, "commentId", 10L);
+
+        when(boardRepository.findByBoardUrl("free")).thenReturn(Optional.of(board));
+        when(commentSearchIndexer.queryTerms("world")).thenReturn(Set.of("wo", "or", "rl", "ld"));
+        when(commentSearchTermRepository.searchCommentIds(anyCollection(), eq(1L), eq(3L), isNull(), isNull(),
+                eq(pageable))).thenReturn(new PageImpl<>(List.of(20L, 10L), pageable, 2));
+        when(commentRepository.findAllByIdsWithRelations(List.of(20L, 10L)))
+                .thenReturn(List.of(falsePositive, matched));
+        when(commentSearchIndexer.matches("hello world", "world")).thenReturn(true);
+        when(commentSearchIndexer.matches("wor ld", "world")).thenReturn(false);
+
+        // when
+        Page<CommentResponse> result = searchService.searchComments("world", 1L, "free", null, pageable, null);
+
+        // then
+        assertThat(result.getContent()).extracting(CommentResponse::getCommentId).containsExactly(20L);
+        verify(commentRepository, never()).findByContentContainingIgnoreCaseAndIsDeleted(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("댓글 검색 - 1글자 검색어는 범위 지정 LIKE 검색으로 대체")
+    void searchComments_singleCharacterFallsBackToLike() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(commentSearchIndexer.queryTerms("a")).thenReturn(Set.of());
+        when(commentRepository.searchCommentsByKeyword("a", null, null, 5L, null, pageable))
+                .thenReturn(Page.empty(pageable));
+
+        // when
+        searchService.searchComments("a", null, null, 5L, pageable, null);
+
+        // then
+        verify(commentSearchTermRepository, never()).searchCommentIds(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("통합 검색 - 게시글의 이미지 여부 사용 및 실패 섹션 부분 결과 처리")
+    void integratedSearch_usesPostImageFlagAndReturnsPartialResult() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ReflectionTestUtils.setField(searchService, "searchExecutor", executor);
+
+        Board board = Board.builder().boardName("Test Board").creator(user).build();
+        ReflectionTestUtils.setField(board, "boardUrl", "free");
+        Post post1 = Post.builder().title("t1").contents("c1").user(user).board(board).build();
+        ReflectionTestUtils.setField(post1, "postId", 1L);
+        Post post2 = Post.builder().title("t2").contents("c2").user(user).board(board).build();
+        ReflectionTestUtils.setField(post2, "postId", 2L);
+
+        when(searchResultCache.get(eq("test"), isNull(), isNull(), any()))
+                .thenReturn(new SearchResultCache.CachedIdPage(List.of(1L, 2L), 2, 0));
+        when(postRepository.findAllByIdsWithRelations(List.of(1L, 2L))).thenReturn(List.of(post2, post1));
+        post2.updateImageSummary(20L);
+        when(commentSearchIndexer.queryTerms("test")).thenReturn(Set.of("te", "es", "st"));
+        when(commentSearchTermRepository.searchCommentIds(anyCollection(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("DB Error"));
+        when(userRepository.findByDisplayNameContainingIgnoreCase(eq("test"), any())).thenReturn(Page.empty());
+        when(boardRepository.findByBoardNameContainingIgnoreCaseAndIsActiveTrue("test"))
+                .thenReturn(Collections.emptyList());
+
+        try {
+            // when
+            IntegratedSearchResponse response = searchService.integratedSearch("test", null);
+
+            // then
+            assertThat(response.getPosts().getContent()).hasSize(2);
+            assertThat(response.getPosts().getContent().get(0).isHasImage()).isFalse();
+            assertThat(response.getPosts().getContent().get(1).isHasImage()).isTrue();
+            assertThat(response.getComments().getContent()).isEmpty();
+            assertThat(response.getPartialSections()).containsExactly("comments");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
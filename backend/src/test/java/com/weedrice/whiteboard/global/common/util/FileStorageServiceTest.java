@@ -1,59 +1,48 @@
 package com.weedrice.whiteboard.global.common.util;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.weedrice.whiteboard.global.exception.BusinessException;
 import com.weedrice.whiteboard.global.exception.ErrorCode;
-import org.junit.jupiter.api.BeforeEach;
+import com.weedrice.whiteboard.global.storage.BlobStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 import org.springframework.mock.web.MockMultipartFile;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintStream;
-import java.io.ByteArrayOutputStream;
-import org.springframework.test.util.ReflectionTestUtils;
+import java.nio.file.NoSuchFileException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FileStorageServiceTest {
 
     @Mock
-    private S3Client s3Client;
+    private BlobStore blobStore;
 
     @InjectMocks
     private FileStorageService fileStorageService;
 
-    private String bucket = "test-bucket";
-
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(fileStorageService, "bucket", bucket);
-    }
-
     @Test
     @DisplayName("파일 저장 성공")
-    void storeFile_success() {
+    void storeFile_success() throws IOException {
         // given
         MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", "content".getBytes());
-        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenReturn(null);
 
         // when
         String fileName = fileStorageService.storeFile(file);
@@ -61,16 +50,28 @@ class FileStorageServiceTest {
         // then
         assertThat(fileName).isNotNull();
         assertThat(fileName).endsWith(".txt");
-        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(blobStore).put(eq(fileName), any(InputStream.class), eq(7L), eq("text/plain"));
     }
 
     @Test
-    @DisplayName("파일 저장 실패 - S3 오류")
-    void storeFile_failure() {
+    @DisplayName("스트림 저장 - 스트림이 던진 업무 예외(크기 초과)는 그대로 전달")
+    void storeStream_propagatesBusinessException() throws IOException {
+        // given
+        doThrow(new BusinessException(ErrorCode.FILE_TOO_LARGE))
+                .when(blobStore).put(eq("key.png"), any(InputStream.class), eq(-1L), eq("image/png"));
+
+        // when & then
+        assertThatThrownBy(() -> fileStorageService.storeFile("key.png", new ByteArrayInputStream(new byte[1]), -1, "image/png"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("파일 저장 실패 - 저장소 오류")
+    void storeFile_failure() throws IOException {
         // given
         MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", "content".getBytes());
-        // Simulating SdkClientException or general Exception during S3 putObject
-        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenThrow(new RuntimeException("S3 Error"));
+        doThrow(new RuntimeException("S3 Error")).when(blobStore).put(anyString(), any(InputStream.class), anyLong(), anyString());
 
         // when & then
         assertThatThrownBy(() -> fileStorageService.storeFile(file))
@@ -78,34 +79,40 @@ class FileStorageServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
+    @Test
+    @DisplayName("파일 저장 실패 - 입출력 오류")
+    void storeFile_ioFailure() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", "content".getBytes());
+        doThrow(new IOException("disk full")).when(blobStore).put(anyString(), any(InputStream.class), anyLong(), anyString());
+
+        // when & then
+        assertThatThrownBy(() -> fileStorageService.storeFile(file))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INTERNAL_SERVER_ERROR)
+                .hasMessageContaining("disk full");
+    }
+
     @Test
     @DisplayName("파일 로드 성공")
     void loadFile_success() throws IOException {
         // given
-        String fileName = "test.txt";
-        // Mock a ResponseInputStream that returns a valid stream
-        @SuppressWarnings("unchecked")
-        ResponseInputStream<GetObjectResponse> mockResponseStream = mock(ResponseInputStream.class);
-        when(mockResponseStream.read()).thenReturn(1, 2, -1); // Return some bytes then EOF
-        
-        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(mockResponseStream);
+        when(blobStore.open("test.txt")).thenReturn(new ByteArrayInputStream(new byte[] { 1, 2 }));
 
         // when
-        InputStream resultStream = fileStorageService.loadFile(fileName);
+        InputStream resultStream = fileStorageService.loadFile("test.txt");
 
         // then
         assertThat(resultStream).isNotNull();
-        verify(s3Client).getObject(any(GetObjectRequest.class));
-        // Additional check: ensure stream can be read (at least one byte)
-        assertThat(resultStream.read()).isNotEqualTo(-1);
+        assertThat(resultStream.read()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("파일 로드 실패")
-    void loadFile_failure() {
+    void loadFile_failure() throws IOException {
         // given
         String fileName = "nonexistent.txt";
-        when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(new RuntimeException("Not Found"));
+        when(blobStore.open(fileName)).thenThrow(new NoSuchFileException(fileName));
 
         // when & then
         assertThatThrownBy(() -> fileStorageService.loadFile(fileName))
@@ -115,40 +122,39 @@ class FileStorageServiceTest {
 
     @Test
     @DisplayName("파일 삭제 성공")
-    void deleteFile_success() {
-        // given
-        String fileName = "test.txt";
-        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenReturn(null);
-
+    void deleteFile_success() throws IOException {
         // when
-        fileStorageService.deleteFile(fileName);
+        fileStorageService.deleteFile("test.txt");
 
         // then
-        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(blobStore).delete("test.txt");
     }
 
     @Test
-    @DisplayName("파일 삭제 실패 - S3 오류 로깅 확인")
-    void deleteFile_failureLogsError() {
+    @DisplayName("파일 삭제 실패 - 오류 로깅 확인")
+    void deleteFile_failureLogsError() throws IOException {
         // given
         String fileName = "fail.txt";
-        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenThrow(new RuntimeException("S3 Delete Error"));
+        doThrow(new RuntimeException("S3 Delete Error")).when(blobStore).delete(fileName);
 
-        // Redirect stderr to capture output
-        ByteArrayOutputStream errContent = new ByteArrayOutputStream();
-        PrintStream originalErr = System.err;
-        System.setErr(new PrintStream(errContent));
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        Logger logger = (Logger) LoggerFactory.getLogger(FileStorageService.class);
+        logger.addAppender(appender);
 
         try {
             // when
             fileStorageService.deleteFile(fileName);
 
             // then
-            verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
-            assertThat(errContent.toString()).contains("S3 파일 삭제 실패: " + fileName + ", S3 Delete Error");
+            verify(blobStore).delete(fileName);
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                assertThat(event.getFormattedMessage()).isEqualTo("파일 삭제 실패: " + fileName);
+                assertThat(event.getThrowableProxy().getMessage()).isEqualTo("S3 Delete Error");
+            });
         } finally {
-            // Restore original stderr
-            System.setErr(originalErr);
+            logger.detachAppender(appender);
         }
     }
-}
\ No newline at end of file
+}
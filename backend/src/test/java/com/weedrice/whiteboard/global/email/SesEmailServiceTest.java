@@ -0,0 +1,96 @@
+package com.weedrice.whiteboard.global.email;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.model.BulkEmailDestinationStatus;
+import software.amazon.awssdk.services.ses.model.BulkEmailStatus;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailRequest;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailResponse;
+import software.amazon.awssdk.services.ses.model.UpdateTemplateRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SesEmailServiceTest {
+
+    @Mock
+    private SesClient sesClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SesEmailService sesEmailService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sesEmailService = new SesEmailService(sesClient, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(sesEmailService, "sender", "noreply@example.com");
+        ReflectionTestUtils.setField(sesEmailService, "maxSendRate", 1000L);
+        sesEmailService.init();
+    }
+
+    @Test
+    @DisplayName("시작 시 모든 템플릿을 SES에 등록")
+    void init_registersTemplates() {
+        verify(sesClient, times(EmailTemplate.values().length)).updateTemplate(any(UpdateTemplateRequest.class));
+    }
+
+    @Test
+    @DisplayName("대량 발송은 호출당 50명씩 나누고 수신자별 결과를 순서대로 반환")
+    void sendBulk_splitsIntoBatchesOfFifty() {
+        // given
+        List<TemplatedEmail> emails = IntStream.range(0, 120)
+                .mapToObj(i -> new TemplatedEmail(i == 60 ? "bad@example.com" : "user" + i + "@example.com",
+                        Map.of("subject", "공지", "body", "<p>" + i + "</p>")))
+                .toList();
+        when(sesClient.sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class))).thenAnswer(invocation -> {
+            SendBulkTemplatedEmailRequest request = invocation.getArgument(0);
+            return SendBulkTemplatedEmailResponse.builder()
+                    .status(request.destinations().stream()
+                            .map(destination -> destination.destination().toAddresses().get(0).startsWith("bad")
+                                    ? BulkEmailDestinationStatus.builder().status(BulkEmailStatus.INVALID_PARAMETER)
+                                            .error("invalid address").build()
+                                    : BulkEmailDestinationStatus.builder().status(BulkEmailStatus.SUCCESS).build())
+                            .toList())
+                    .build();
+        });
+
+        // when
+        BulkEmailResult result = sesEmailService.sendBulk(EmailTemplate.NOTICE, emails);
+
+        // then
+        ArgumentCaptor<SendBulkTemplatedEmailRequest> requests = ArgumentCaptor.forClass(SendBulkTemplatedEmailRequest.class);
+        verify(sesClient, times(3)).sendBulkTemplatedEmail(requests.capture());
+        assertThat(requests.getAllValues()).extracting(request -> request.destinations().size())
+                .containsExactly(50, 50, 20);
+        assertThat(requests.getValue().template()).isEqualTo("whiteboard-notice");
+        assertThat(result.errors()).hasSize(120);
+        assertThat(result.sentCount()).isEqualTo(119);
+        assertThat(result.isSent(60)).isFalse();
+        assertThat(meterRegistry.get("email.recipients").tag("result", "failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("email.batch.size").summary().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("템플릿은 값을 HTML 이스케이프하고 삼중 중괄호는 그대로 치환")
+    void template_escapesValues() {
+        assertThat(EmailTemplate.PASSWORD_RESET.renderHtml(Map.of("resetLink", "https://a.test/?x=1&y=\"2\"")))
+                .contains("href=\"https://a.test/?x=1&amp;y=&quot;2&quot;\"");
+        assertThat(EmailTemplate.NOTICE.renderHtml(Map.of("body", "<b>공지</b>"))).isEqualTo("<b>공지</b>");
+        assertThat(EmailTemplate.VERIFICATION_CODE.renderSubject(Map.of())).isEqualTo("[noviIs] 이메일 인증 코드");
+    }
+}
@@ -0,0 +1,143 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDeadLettersTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final RecordingConsumer consumer = new RecordingConsumer();
+    private OutboxDeadLetters outboxDeadLetters;
+
+    @BeforeEach
+    void setUp() {
+        outboxDeadLetters = new OutboxDeadLetters(jdbcTemplate, List.of(consumer));
+    }
+
+    @Test
+    @DisplayName("dead letter를 원래 소비자에게 재전달로 표시해 전달하고 재전달 완료로 기록")
+    void replay_deliversAndMarksReplayed() {
+        // given
+        givenDeadLetter("test");
+
+        // when
+        OutboxDeadLetterResponse replayed = outboxDeadLetters.replay(1L);
+
+        // then
+        assertThat(replayed.getOutboxId()).isEqualTo(11L);
+        assertThat(consumer.received).singleElement().satisfies(message -> {
+            assertThat(message.outboxId()).isEqualTo(11L);
+            assertThat(message.idempotencyKey()).isEqualTo("key-11");
+            assertThat(message.redelivered()).isTrue();
+        });
+        verify(jdbcTemplate).update(contains("SET replayed_at"), any(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("재전달이 다시 실패하면 오류를 기록하고 재전달 완료로 표시하지 않음")
+    void replay_failureRecordsError() {
+        // given
+        givenDeadLetter("test");
+        consumer.fail = true;
+
+        // when & then
+        assertThatThrownBy(() -> outboxDeadLetters.replay(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+        verify(jdbcTemplate).update(contains("SET last_error"), eq("boom"), any(), eq(1L));
+        verify(jdbcTemplate, never()).update(contains("SET replayed_at"), any(), any());
+    }
+
+    @Test
+    @DisplayName("없거나 이미 재전달한 dead letter는 NOT_FOUND")
+    @SuppressWarnings("unchecked")
+    void replay_notFound() {
+        // given
+        when(jdbcTemplate.query(contains("WHERE dead_letter_id = ?"), any(RowMapper.class), eq(1L)))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> outboxDeadLetters.replay(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NOT_FOUND);
+        assertThat(consumer.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 소비자의 dead letter는 전달하지 않음")
+    void replay_unknownConsumer() {
+        // given
+        givenDeadLetter("removed");
+
+        // when & then
+        assertThatThrownBy(() -> outboxDeadLetters.replay(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDeadLetter(String consumerName) {
+        OutboxDeadLetterResponse deadLetter = OutboxDeadLetterResponse.builder()
+                .deadLetterId(1L)
+                .consumerName(consumerName)
+                .outboxId(11L)
+                .eventType("A")
+                .idempotencyKey("key-11")
+                .payload("{}")
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .lastError("boom")
+                .failedAt(LocalDateTime.now())
+                .build();
+        when(jdbcTemplate.query(contains("WHERE dead_letter_id = ?"), any(RowMapper.class), eq(1L)))
+                .thenReturn(List.of(deadLetter));
+    }
+
+    private static class RecordingConsumer implements OutboxConsumer {
+
+        private final List<OutboxMessage> received = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of("A");
+        }
+
+        @Override
+        public void consume(List<OutboxMessage> messages) {
+            if (fail) {
+                throw new IllegalStateException("boom");
+            }
+            received.addAll(messages);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDeduplicatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OutboxDeduplicator outboxDeduplicator;
+
+    @Test
+    @DisplayName("이번에 처리 기록을 남긴 메시지만 순서대로 반환하고 이미 처리한 메시지는 제외")
+    @SuppressWarnings("unchecked")
+    void claim_returnsOnlyNewlyRecordedMessages() {
+        // given
+        OutboxMessage first = message(1L, "key-1");
+        OutboxMessage processed = message(2L, "key-2");
+        OutboxMessage third = message(3L, "key-3");
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenReturn(List.of("key-3", "key-1"));
+
+        // when
+        List<OutboxMessage> claimed = outboxDeduplicator.claim("notification", List.of(first, processed, third));
+
+        // then
+        assertThat(claimed).containsExactly(first, third);
+    }
+
+    @Test
+    @DisplayName("키가 없는 메시지는 거르지 않고 조회도 하지 않음")
+    void claim_passesThroughMessagesWithoutKey() {
+        // given
+        OutboxMessage legacy = message(1L, null);
+
+        // when
+        List<OutboxMessage> claimed = outboxDeduplicator.claim("notification", List.of(legacy));
+
+        // then
+        assertThat(claimed).containsExactly(legacy);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private OutboxMessage message(Long outboxId, String key) {
+        return new OutboxMessage(outboxId, "NOTIFICATION", key, "{}", LocalDateTime.now(), true);
+    }
+}
@@ -0,0 +1,186 @@
+package com.weedrice.whiteboard.global.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final RecordingConsumer consumer = new RecordingConsumer();
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(jdbcTemplate, List.of(consumer), meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "enabled", false);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 2);
+        outboxRelay.init();
+    }
+
+    @Test
+    @DisplayName("비어 있는 ID 뒤의 이벤트가 최근 것이면 그 앞에서 자르고, 오래된 것이면 건너뜀")
+    void visible_stopsAtRecentGap() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(10);
+        List<OutboxMessage> recentGap = List.of(message(11L, "A", cutoff.minusSeconds(5)),
+                message(13L, "A", cutoff.plusSeconds(5)));
+        List<OutboxMessage> oldGap = List.of(message(11L, "A", cutoff.minusSeconds(5)),
+                message(13L, "A", cutoff.minusSeconds(1)));
+
+        assertThat(OutboxRelay.visible(10L, recentGap, cutoff)).extracting(OutboxMessage::outboxId)
+                .containsExactly(11L);
+        assertThat(OutboxRelay.visible(10L, oldGap, cutoff)).extracting(OutboxMessage::outboxId)
+                .containsExactly(11L, 13L);
+    }
+
+    @Test
+    @DisplayName("구독하는 유형만 전달하고 처리 위치는 읽은 마지막 이벤트로 이동")
+    void relay_deliversSubscribedTypesAndAdvances() {
+        // given
+        givenLeaseAndPosition(10L, 0);
+        givenFetched(false, message(11L, "A", LocalDateTime.now()), message(12L, "B", LocalDateTime.now()));
+
+        // when
+        int relayed = outboxRelay.relay(consumer);
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(consumer.received).extracting(OutboxMessage::outboxId).containsExactly(11L);
+        verify(jdbcTemplate).update(contains("SET last_outbox_id"), eq(12L), any(), eq("test"), anyString());
+    }
+
+    @Test
+    @DisplayName("전달 실패 시 처리 위치를 두고 시도 횟수를 기록하며, 최대 시도에 도달하면 실패한 이벤트만 dead letter로 보관")
+    void relay_failureKeepsPositionThenIsolates() {
+        // given
+        consumer.failOn = 11L;
+        givenLeaseAndPosition(10L, 0);
+        givenFetched(false, message(11L, "A", LocalDateTime.now()), message(12L, "A", LocalDateTime.now()));
+
+        // when
+        int first = outboxRelay.relay(consumer);
+
+        // then
+        assertThat(first).isZero();
+        verify(jdbcTemplate).update(contains("attempts = attempts + 1"), anyString(), any(), any(), eq("test"),
+                anyString());
+        verify(jdbcTemplate, never()).update(contains("SET last_outbox_id"), any(), any(), any(), any());
+
+        // when - 재전달에서도 실패하면 한 건씩 전달
+        givenLeaseAndPosition(10L, 1);
+        givenFetched(true, message(11L, "A", LocalDateTime.now()), message(12L, "A", LocalDateTime.now()));
+        int second = outboxRelay.relay(consumer);
+
+        // then
+        assertThat(second).isEqualTo(2);
+        assertThat(consumer.received).extracting(OutboxMessage::outboxId).containsExactly(12L);
+        assertThat(consumer.received.get(0).redelivered()).isTrue();
+        verify(jdbcTemplate).update(contains("INSERT INTO outbox_dead_letters"), eq("test"), eq(11L), eq("A"),
+                eq("key-11"), eq("{}"), any(), eq("boom"), any());
+        verify(jdbcTemplate).update(contains("SET last_outbox_id"), eq(12L), any(), eq("test"), anyString());
+        assertThat(meterRegistry.counter("outbox.deliveries", "consumer", "test", "result", "dead").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다음 재시도 시각 전에는 이벤트를 읽지 않음")
+    @SuppressWarnings("unchecked")
+    void relay_waitsUntilNextAttempt() {
+        // given
+        givenPosition(new OutboxRelay.Position(10L, 1, LocalDateTime.now().plusMinutes(1)));
+
+        // when
+        int relayed = outboxRelay.relay(consumer);
+
+        // then
+        assertThat(relayed).isZero();
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(), any());
+        assertThat(consumer.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 실패할수록 두 배로 늘고 상한에서 멈추며, 상한의 절반 이상을 보장")
+    void backoff_growsExponentiallyUpToMax() {
+        // given
+        ReflectionTestUtils.setField(outboxRelay, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "backoffMaxMs", 8000L);
+
+        // when & then
+        assertThat(outboxRelay.backoff(1).toMillis()).isBetween(500L, 1000L);
+        assertThat(outboxRelay.backoff(3).toMillis()).isBetween(2000L, 4000L);
+        assertThat(outboxRelay.backoff(30).toMillis()).isBetween(4000L, 8000L);
+    }
+
+    private void givenLeaseAndPosition(long lastOutboxId, int attempts) {
+        givenPosition(new OutboxRelay.Position(lastOutboxId, attempts, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPosition(OutboxRelay.Position position) {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("SELECT last_outbox_id"), any(RowMapper.class), eq("test")))
+                .thenReturn(position);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenFetched(boolean redelivered, OutboxMessage... messages) {
+        List<OutboxMessage> fetched = List.of(messages).stream()
+                .map(message -> new OutboxMessage(message.outboxId(), message.eventType(), message.idempotencyKey(),
+                        message.payload(), message.createdAt(), redelivered))
+                .toList();
+        when(jdbcTemplate.query(contains("FROM outbox WHERE"), any(RowMapper.class), any(), any()))
+                .thenReturn(fetched);
+    }
+
+    private static OutboxMessage message(Long outboxId, String eventType, LocalDateTime createdAt) {
+        return new OutboxMessage(outboxId, eventType, "key-" + outboxId, "{}", createdAt, false);
+    }
+
+    private static class RecordingConsumer implements OutboxConsumer {
+
+        private final List<OutboxMessage> received = new ArrayList<>();
+        private Long failOn;
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of("A");
+        }
+
+        @Override
+        public void consume(List<OutboxMessage> messages) {
+            if (failOn != null && messages.stream().anyMatch(message -> message.outboxId().equals(failOn))) {
+                throw new IllegalStateException("boom");
+            }
+            received.addAll(messages);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresRealtimeBusTest {
+
+    @Mock
+    private SseBroadcaster sseBroadcaster;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private DataSourceProperties dataSourceProperties;
+
+    @InjectMocks
+    private PostgresRealtimeBus postgresRealtimeBus;
+
+    @Test
+    @DisplayName("발행 - 발행 노드에서 ID를 발급해 기록과 함께 NOTIFY로 전송하고 로컬로 직접 전달하지 않음")
+    void publish_notifiesWithAssignedId() {
+        // given
+        when(sseBroadcaster.nextEventId()).thenReturn(42L);
+
+        // when
+        postgresRealtimeBus.publish(1L, "notification", Map.of("notificationId", 7));
+
+        // then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(eq(PostgresRealtimeBus.PUBLISH_SQL), eq(String.class),
+                payload.capture(), eq(PostgresRealtimeBus.CHANNEL), payload.capture());
+        assertThat(payload.getAllValues().get(1)).isEqualTo(payload.getAllValues().get(0));
+        assertThat(payload.getValue()).contains("\"id\":42", "\"notificationId\":7");
+        verify(sseBroadcaster, never()).dispatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("수신 - 메시지의 ID 그대로 이 노드의 연결로 전달")
+    void handle_dispatchesToLocalBroadcaster() {
+        // when
+        postgresRealtimeBus.handleNotification("5:" + message(42L));
+
+        // then
+        ArgumentCaptor<RealtimeEvent> event = ArgumentCaptor.forClass(RealtimeEvent.class);
+        verify(sseBroadcaster).dispatch(eq(1L), event.capture());
+        assertThat(event.getValue().id()).isEqualTo(42L);
+        assertThat(event.getValue().name()).isEqualTo("notification");
+    }
+
+    @Test
+    @DisplayName("재연결 - 마지막 seq 이후 기록을 전달하고 겹쳐 도착한 알림은 다시 전달하지 않음")
+    void catchUp_replaysMissedEventsOnce() {
+        // given
+        postgresRealtimeBus.handleNotification("5:" + message(42L));
+        when(jdbcTemplate.query(eq(PostgresRealtimeBus.CATCH_UP_SQL), any(RowMapper.class),
+                eq(5L), eq(PostgresRealtimeBus.CATCH_UP_BATCH_SIZE)))
+                .thenReturn(List.of(new PostgresRealtimeBus.LoggedEvent(6L, message(43L)),
+                        new PostgresRealtimeBus.LoggedEvent(7L, message(44L))));
+
+        // when
+        postgresRealtimeBus.catchUp();
+        postgresRealtimeBus.handleNotification("6:" + message(43L));
+        postgresRealtimeBus.handleNotification("5:" + message(42L));
+
+        // then
+        ArgumentCaptor<RealtimeEvent> events = ArgumentCaptor.forClass(RealtimeEvent.class);
+        verify(sseBroadcaster, times(3)).dispatch(eq(1L), events.capture());
+        assertThat(events.getAllValues()).extracting(RealtimeEvent::id).containsExactly(42L, 43L, 44L);
+    }
+
+    @Test
+    @DisplayName("노드 메시지 - 주제의 핸들러로 전달하고 SSE 연결로는 보내지 않음")
+    void handle_routesTopicMessageToSubscriber() {
+        // given
+        List<Map> received = new ArrayList<>();
+        postgresRealtimeBus.subscribe("unread-count", Map.class, received::add);
+
+        // when
+        postgresRealtimeBus.handleNotification("8:{\"topic\":\"unread-count\",\"id\":0,\"data\":{\"delta\":1}}");
+
+        // then
+        assertThat(received).containsExactly(Map.of("delta", 1));
+        verifyNoInteractions(sseBroadcaster);
+    }
+
+    private String message(long id) {
+        return "{\"userId\":1,\"id\":" + id + ",\"name\":\"notification\",\"data\":{\"notificationId\":7}}";
+    }
+}
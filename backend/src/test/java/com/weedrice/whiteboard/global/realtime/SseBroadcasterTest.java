@@ -0,0 +1,73 @@
+package com.weedrice.whiteboard.global.realtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseBroadcaster sseBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sseBroadcaster = new SseBroadcaster(meterRegistry);
+        ReflectionTestUtils.setField(sseBroadcaster, "maxConnectionsPerUser", 2);
+        sseBroadcaster.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseBroadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("사용자당 여러 탭 연결 유지, 최대 연결 수 초과 시 가장 오래된 연결 종료")
+    void connect_keepsMultipleTabsUpToLimit() {
+        // when
+        sseBroadcaster.connect(1L, null);
+        sseBroadcaster.connect(1L, null);
+        sseBroadcaster.connect(1L, null);
+        sseBroadcaster.connect(2L, null);
+
+        // then
+        assertThat(sseBroadcaster.connectionCount(1L)).isEqualTo(2);
+        assertThat(meterRegistry.get("realtime.sse.connections").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("realtime.sse.users").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 찬 느린 연결은 새 이벤트를 거부")
+    void offer_rejectsWhenQueueFull() {
+        // given - 전송 스레드를 시작하지 않아 큐가 비워지지 않는 연결
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 1, c -> { });
+
+        // when & then
+        assertThat(connection.offer(new RealtimeEvent(1L, "notification", "a"))).isTrue();
+        assertThat(connection.offer(new RealtimeEvent(2L, "notification", "b"))).isFalse();
+        connection.close();
+        assertThat(connection.offer(new RealtimeEvent(3L, "notification", "c"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재전송 버퍼 - Last-Event-ID 이후 이벤트만 오래된 순으로 반환하고 용량을 넘으면 밀려남")
+    void replayBuffer_returnsEventsAfterLastId() {
+        // given
+        ReplayBuffer buffer = new ReplayBuffer(3);
+        for (long id = 1; id <= 5; id++) {
+            buffer.append(new RealtimeEvent(id, "notification", id));
+        }
+
+        // when & then
+        assertThat(buffer.after(3L)).extracting(RealtimeEvent::id).containsExactly(4L, 5L);
+        assertThat(buffer.after(0L)).extracting(RealtimeEvent::id).containsExactly(3L, 4L, 5L);
+        assertThat(buffer.after(5L)).isEmpty();
+    }
+}
@@ -0,0 +1,180 @@
+package com.weedrice.whiteboard.global.storage;
+
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlobDownloadServiceTest {
+
+    private static final BlobDownload DOWNLOAD = new BlobDownload("abc.png", 100, Instant.parse("2025-01-01T00:00:00Z"),
+            "image/png", "cat.png", true);
+
+    @Mock
+    private BlobStore blobStore;
+
+    @InjectMocks
+    private BlobDownloadService blobDownloadService;
+
+    @Test
+    @DisplayName("전체 응답에 강한 ETag, 수정 시각, immutable 캐시 헤더를 붙임")
+    void serve_fullResponseHeaders() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        blobDownloadService.serve(DOWNLOAD, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc.png\"");
+        assertThat(response.getDateHeader("Last-Modified")).isEqualTo(DOWNLOAD.lastModified().toEpochMilli());
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        verify(blobStore).transferTo(eq("abc.png"), eq(0L), eq(100L), any(WritableByteChannel.class));
+    }
+
+    @Test
+    @DisplayName("나중에 다른 객체를 가리킬 수 있는 응답은 장기 캐시 대신 재검증")
+    void serve_mutableResponseRevalidates() throws Exception {
+        // given
+        BlobDownload fallback = new BlobDownload("abc.png", 100, null, "image/png", "cat.png", false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        blobDownloadService.serve(fallback, request, response);
+
+        // then
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, no-cache");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc.png\"");
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 수정 시각 이후면 304")
+    void serve_ifModifiedSinceReturnsNotModified() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        request.addHeader("If-Modified-Since", DOWNLOAD.lastModified().plusSeconds(60).toEpochMilli());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        blobDownloadService.serve(DOWNLOAD, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range는 416")
+    void serve_unsatisfiableRange() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        request.addHeader("Range", "bytes=200-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        blobDownloadService.serve(DOWNLOAD, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */100");
+        verify(blobStore, never()).transferTo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 전송")
+    void serve_ifRangeMismatchSendsFullContent() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        request.addHeader("Range", "bytes=0-9");
+        request.addHeader("If-Range", "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        blobDownloadService.serve(DOWNLOAD, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        verify(blobStore).transferTo(eq("abc.png"), eq(0L), eq(100L), any(WritableByteChannel.class));
+    }
+
+    @Test
+    @DisplayName("로컬 파일이고 Tomcat sendfile을 지원하면 본문을 쓰지 않고 sendfile 속성으로 위임")
+    void serve_localFileUsesSendfile() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        request.addHeader("Range", "bytes=10-");
+        request.setAttribute(BlobDownloadService.SENDFILE_SUPPORT_ATTR, Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(blobStore.localPath("abc.png")).thenReturn(Path.of("/data/ab/cd/abc.png"));
+
+        // when
+        blobDownloadService.serve(DOWNLOAD, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 10-99/100");
+        assertThat(request.getAttribute(BlobDownloadService.SENDFILE_FILENAME_ATTR)).isEqualTo(Path.of("/data/ab/cd/abc.png").toString());
+        assertThat(request.getAttribute(BlobDownloadService.SENDFILE_START_ATTR)).isEqualTo(10L);
+        assertThat(request.getAttribute(BlobDownloadService.SENDFILE_END_ATTR)).isEqualTo(100L);
+        verify(blobStore, never()).transferTo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("리다이렉트 설정 시 presigned URL로 302")
+    void serve_redirectsToPresignedUrl() throws Exception {
+        // given
+        ReflectionTestUtils.setField(blobDownloadService, "redirect", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(blobStore.presignGet(eq("abc.png"), eq(Duration.ofSeconds(600)), eq("image/png"), any()))
+                .thenReturn("https://bucket.s3.amazonaws.com/abc.png?X-Amz-Signature=sig");
+
+        // when
+        blobDownloadService.serve(DOWNLOAD, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(302);
+        assertThat(response.getHeader("Location")).isEqualTo("https://bucket.s3.amazonaws.com/abc.png?X-Amz-Signature=sig");
+        assertThat(response.getHeader("ETag")).isNull();
+        verify(blobStore, never()).transferTo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("저장소에 객체가 없으면 NOT_FOUND")
+    void serve_missingObject() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/files/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(blobStore.transferTo(eq("abc.png"), anyLong(), anyLong(), any())).thenThrow(new NoSuchFileException("abc.png"));
+
+        // when & then
+        assertThatThrownBy(() -> blobDownloadService.serve(DOWNLOAD, request, response))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+    }
+}
@@ -0,0 +1,259 @@
+package com.weedrice.whiteboard.global.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBlobStoreTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Mock
+    private S3BlobStore origin;
+
+    private MeterRegistry meterRegistry;
+    private CachingBlobStore cachingBlobStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingBlobStore = newStore();
+    }
+
+    @Test
+    @DisplayName("첫 조회는 S3에서 받아 캐시하고 이후 조회는 디스크에서 전송")
+    void transferTo_missThenHit() throws IOException {
+        // given
+        when(origin.open("a.png")).thenReturn(new ByteArrayInputStream("image-bytes".getBytes()));
+
+        // when
+        String first = read("a.png", 0, 11);
+        String second = read("a.png", 6, 5);
+
+        // then
+        assertThat(first).isEqualTo("image-bytes");
+        assertThat(second).isEqualTo("bytes");
+        verify(origin, times(1)).open("a.png");
+        assertThat(meterRegistry.get("storage.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("storage.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("storage.cache.bytes.saved").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("storage.cache.bytes.fetched").counter().count()).isEqualTo(11);
+        assertThat(meterRegistry.get("storage.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 S3에서 한 번만 받음")
+    void transferTo_singleFlight() throws Exception {
+        // given
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(origin.open("hot.png")).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ByteArrayInputStream("hot".getBytes());
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> read("hot.png", 0, 3)));
+            }
+            assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hot");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(origin, times(1)).open("hot.png");
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 안 쓴 항목부터 축출")
+    void admit_evictsLeastRecentlyUsed() throws IOException {
+        // given
+        ReflectionTestUtils.setField(cachingBlobStore, "maxBytes", 10L);
+        when(origin.open("a.png")).thenAnswer(invocation -> new ByteArrayInputStream("aaaa".getBytes()));
+        when(origin.open("b.png")).thenAnswer(invocation -> new ByteArrayInputStream("bbbb".getBytes()));
+        when(origin.open("c.png")).thenAnswer(invocation -> new ByteArrayInputStream("cccc".getBytes()));
+        read("a.png", 0, 4);
+        read("b.png", 0, 4);
+        read("a.png", 0, 4); // a가 최근 사용
+
+        // when
+        read("c.png", 0, 4);
+
+        // then
+        assertThat(cachingBlobStore.sizeBytes()).isEqualTo(8);
+        read("a.png", 0, 4);
+        read("b.png", 0, 4);
+        verify(origin, times(1)).open("a.png");
+        verify(origin, times(2)).open("b.png");
+    }
+
+    @Test
+    @DisplayName("캐시 용량보다 큰 객체는 적재하지 않고 S3에서 바로 읽어 다른 항목을 밀어내지 않음")
+    void transferTo_oversizedObjectBypassesCache() throws IOException {
+        // given
+        ReflectionTestUtils.setField(cachingBlobStore, "maxBytes", 10L);
+        when(origin.open("a.png")).thenAnswer(invocation -> new ByteArrayInputStream("aaaa".getBytes()));
+        when(origin.open("big.png")).thenAnswer(invocation -> new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength(20L).build(),
+                AbortableInputStream.create(new ByteArrayInputStream("b".repeat(20).getBytes()))));
+        when(origin.transferTo(eq("big.png"), anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            WritableByteChannel target = invocation.getArgument(3);
+            return (long) target.write(ByteBuffer.wrap("bbbbb".getBytes()));
+        });
+        read("a.png", 0, 4);
+
+        // when
+        String first = read("big.png", 0, 5);
+        String second = read("big.png", 0, 5);
+
+        // then
+        assertThat(first).isEqualTo("bbbbb");
+        assertThat(second).isEqualTo("bbbbb");
+        verify(origin, times(1)).open("big.png");
+        verify(origin, times(2)).transferTo(eq("big.png"), eq(0L), eq(5L), any());
+        assertThat(meterRegistry.get("storage.cache.requests").tag("result", "bypass").counter().count()).isEqualTo(1);
+        assertThat(cachingBlobStore.entries()).isEqualTo(1);
+        assertThat(cachingBlobStore.sizeBytes()).isEqualTo(4);
+        read("a.png", 0, 4);
+        verify(origin, times(1)).open("a.png");
+    }
+
+    @Test
+    @DisplayName("재시작 후 손상된 캐시 파일은 체크섬 검증에 실패해 다시 받음")
+    void restart_corruptedFileIsRefetched() throws IOException {
+        // given
+        when(origin.open("a.png")).thenAnswer(invocation -> new ByteArrayInputStream("image".getBytes()));
+        read("a.png", 0, 5);
+        try (var files = Files.list(cacheDir)) {
+            Path cached = files.filter(Files::isRegularFile).findFirst().orElseThrow();
+            Files.writeString(cached, "imagX");
+        }
+
+        // when
+        cachingBlobStore = newStore();
+        String content = read("a.png", 0, 5);
+
+        // then
+        assertThat(content).isEqualTo("image");
+        verify(origin, times(2)).open("a.png");
+    }
+
+    @Test
+    @DisplayName("재시작 후 온전한 캐시 파일은 그대로 사용")
+    void restart_reusesIntactFile() throws IOException {
+        // given
+        when(origin.open("a.png")).thenAnswer(invocation -> new ByteArrayInputStream("image".getBytes()));
+        read("a.png", 0, 5);
+
+        // when
+        cachingBlobStore = newStore();
+        String content = read("a.png", 0, 5);
+
+        // then
+        assertThat(content).isEqualTo("image");
+        assertThat(cachingBlobStore.entries()).isEqualTo(1);
+        verify(origin, times(1)).open("a.png");
+    }
+
+    @Test
+    @DisplayName("삭제 시 캐시 항목과 S3 객체를 함께 삭제")
+    void delete_invalidatesCache() throws IOException {
+        // given
+        when(origin.open("a.png")).thenAnswer(invocation -> new ByteArrayInputStream("image".getBytes()));
+        read("a.png", 0, 5);
+
+        // when
+        cachingBlobStore.delete("a.png");
+
+        // then
+        verify(origin).delete("a.png");
+        assertThat(cachingBlobStore.entries()).isZero();
+        assertThat(cachingBlobStore.sizeBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 객체 삭제 시 캐시를 비우고 원본 저장소에 한 번에 위임")
+    void deleteAll_invalidatesCache() throws IOException {
+        // given
+        when(origin.open("a.png")).thenAnswer(invocation -> new ByteArrayInputStream("image".getBytes()));
+        read("a.png", 0, 5);
+
+        // when
+        cachingBlobStore.deleteAll(List.of("a.png", "b.png"));
+
+        // then
+        verify(origin).deleteAll(List.of("a.png", "b.png"));
+        verify(origin, never()).delete(any());
+        assertThat(cachingBlobStore.entries()).isZero();
+    }
+
+    @Test
+    @DisplayName("앞부분 읽기는 캐시에 적재하지 않고 원본 저장소의 부분 조회로 위임")
+    void readHead_bypassesCache() throws IOException {
+        // given
+        when(origin.readHead("a.png", 8)).thenReturn("image-by".getBytes());
+
+        // when
+        byte[] head = cachingBlobStore.readHead("a.png", 8);
+
+        // then
+        assertThat(head).isEqualTo("image-by".getBytes());
+        verify(origin, never()).open(any());
+        assertThat(cachingBlobStore.entries()).isZero();
+    }
+
+    private CachingBlobStore newStore() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        CachingBlobStore store = new CachingBlobStore(origin, meterRegistry);
+        ReflectionTestUtils.setField(store, "cacheDir", cacheDir.toString());
+        store.init();
+        return store;
+    }
+
+    private String read(String key, long offset, long length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cachingBlobStore.transferTo(key, offset, length, Channels.newChannel(out));
+        return out.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package com.weedrice.whiteboard.global.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBlobStore localBlobStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        localBlobStore = new LocalBlobStore();
+        ReflectionTestUtils.setField(localBlobStore, "uploadDir", root.toString());
+        localBlobStore.init();
+    }
+
+    @Test
+    @DisplayName("샤딩된 경로에 저장하고 임시 파일은 남기지 않음")
+    void put_writesShardedFileAtomically() throws IOException {
+        // when
+        localBlobStore.put("abc.png", new ByteArrayInputStream("image".getBytes()), 5, "image/png");
+
+        // then
+        Path stored = localBlobStore.resolve("abc.png");
+        assertThat(stored).exists().hasContent("image");
+        assertThat(root.relativize(stored).getNameCount()).isEqualTo(3);
+        try (var temps = Files.list(root.resolve(LocalBlobStore.TEMP_DIR))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("크기가 맞지 않는 업로드는 공개하지 않음")
+    void put_sizeMismatchLeavesNoFile() {
+        // when & then
+        assertThatThrownBy(() -> localBlobStore.put("abc.png", new ByteArrayInputStream("ima".getBytes()), 5, "image/png"))
+                .isInstanceOf(IOException.class);
+        assertThat(localBlobStore.resolve("abc.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("스트림과 채널 전송으로 같은 내용을 읽음")
+    void openAndTransferTo_readStoredContent() throws IOException {
+        // given
+        localBlobStore.put("abc.png", new ByteArrayInputStream("image".getBytes()), 5, "image/png");
+
+        // when
+        byte[] streamed;
+        try (InputStream in = localBlobStore.open("abc.png")) {
+            streamed = in.readAllBytes();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long transferred = localBlobStore.transferTo("abc.png", 0, 5, Channels.newChannel(out));
+
+        // then
+        assertThat(streamed).isEqualTo("image".getBytes());
+        assertThat(transferred).isEqualTo(5);
+        assertThat(out.toByteArray()).isEqualTo("image".getBytes());
+        assertThat(localBlobStore.localPath("abc.png")).isEqualTo(localBlobStore.resolve("abc.png"));
+    }
+
+    @Test
+    @DisplayName("구간 전송은 파일 끝을 넘지 않음")
+    void transferTo_rangeClampedToFileEnd() throws IOException {
+        // given
+        localBlobStore.put("abc.png", new ByteArrayInputStream("image".getBytes()), 5, "image/png");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long transferred = localBlobStore.transferTo("abc.png", 2, 10, Channels.newChannel(out));
+
+        // then
+        assertThat(transferred).isEqualTo(3);
+        assertThat(out.toString()).isEqualTo("age");
+    }
+
+    @Test
+    @DisplayName("없는 키 조회는 예외, 삭제는 무시")
+    void missingKey() throws IOException {
+        // when & then
+        assertThatThrownBy(() -> localBlobStore.open("missing.png")).isInstanceOf(NoSuchFileException.class);
+        assertThat(localBlobStore.localPath("missing.png")).isNull();
+        localBlobStore.delete("missing.png");
+    }
+
+    @Test
+    @DisplayName("크기 조회와 앞부분 읽기, 없는 키의 조회는 null")
+    void statAndReadHead() throws IOException {
+        // given
+        localBlobStore.put("abc.png", new ByteArrayInputStream("image".getBytes()), 5, "image/png");
+
+        // when & then
+        assertThat(localBlobStore.stat("abc.png")).isEqualTo(new BlobMetadata(5, null));
+        assertThat(localBlobStore.stat("missing.png")).isNull();
+        assertThat(localBlobStore.readHead("abc.png", 3)).isEqualTo("ima".getBytes());
+    }
+
+    @Test
+    @DisplayName("다른 키로 복사하면 원본을 바꿔도 사본은 그대로이고 크기가 다르면 공개하지 않음")
+    void copy_writesIndependentCopy() throws IOException {
+        // given
+        localBlobStore.put("abc.png", new ByteArrayInputStream("image".getBytes()), 5, "image/png");
+
+        // when
+        localBlobStore.copy("abc.png", "def.png", 5, "image/png");
+        localBlobStore.put("abc.png", new ByteArrayInputStream("other".getBytes()), 5, "image/png");
+
+        // then
+        assertThat(localBlobStore.resolve("def.png")).hasContent("image");
+        assertThatThrownBy(() -> localBlobStore.copy("abc.png", "ghi.png", 4, "image/png"))
+                .isInstanceOf(IOException.class);
+        assertThat(localBlobStore.resolve("ghi.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("직접 업로드 토큰은 서명한 키, 콘텐츠 타입, 크기를 돌려주고 변조되면 거부")
+    void presignPut_tokenRoundTrip() {
+        // given
+        PresignedUpload upload = localBlobStore.presignPut("abc.png", "image/png", 5, Duration.ofMinutes(15));
+        String token = upload.url().substring(LocalBlobStore.UPLOAD_PATH.length());
+
+        // when & then
+        assertThat(upload.url()).startsWith(LocalBlobStore.UPLOAD_PATH);
+        assertThat(upload.headers()).containsEntry("Content-Type", "image/png");
+        assertThat(localBlobStore.verifyUpload(token))
+                .isEqualTo(new LocalBlobStore.UploadGrant("abc.png", "image/png", 5));
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("abc.png\nimage/png\n999999\n9999999999".getBytes(StandardCharsets.UTF_8))
+                + token.substring(token.indexOf('.'));
+        assertThat(localBlobStore.verifyUpload(forged)).isNull();
+        assertThat(localBlobStore.verifyUpload("not-a-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 직접 업로드 토큰 거부")
+    void presignPut_expiredToken() {
+        // given
+        PresignedUpload upload = localBlobStore.presignPut("abc.png", "image/png", 5, Duration.ofSeconds(-1));
+
+        // when & then
+        assertThat(localBlobStore.verifyUpload(upload.url().substring(LocalBlobStore.UPLOAD_PATH.length()))).isNull();
+    }
+
+    @Test
+    @DisplayName("저장소 밖을 가리키는 키 거부")
+    void resolve_rejectsTraversal() {
+        assertThatThrownBy(() -> localBlobStore.resolve("../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> localBlobStore.resolve("..")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> localBlobStore.resolve("a\\b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("시작 시 이전 프로세스가 남긴 임시 파일 정리")
+    void init_removesLeftoverTempFiles() throws IOException {
+        // given
+        Path leftover = Files.createFile(root.resolve(LocalBlobStore.TEMP_DIR).resolve("blob-1.part"));
+
+        // when
+        localBlobStore.init();
+
+        // then
+        assertThat(leftover).doesNotExist();
+    }
+}
@@ -0,0 +1,97 @@
+package com.weedrice.whiteboard.global.storage;
+
+import com.weedrice.whiteboard.domain.file.service.FileService;
+import com.weedrice.whiteboard.global.exception.BusinessException;
+import com.weedrice.whiteboard.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalUploadControllerTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBlobStore localBlobStore;
+    private FileService fileService;
+    private LocalUploadController localUploadController;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        localBlobStore = new LocalBlobStore();
+        ReflectionTestUtils.setField(localBlobStore, "uploadDir", root.toString());
+        localBlobStore.init();
+        fileService = mock(FileService.class);
+        localUploadController = new LocalUploadController(localBlobStore, fileService);
+    }
+
+    @Test
+    @DisplayName("서명한 콘텐츠 타입과 크기로 올리면 키에 저장")
+    void upload_storesBody() throws IOException {
+        // given
+        String token = token(localBlobStore.presignPut("abc.png", "image/png", 5, Duration.ofMinutes(15)));
+        when(fileService.isDirectUploadPending("abc.png")).thenReturn(true);
+
+        // when
+        localUploadController.upload(token, request("image/png", "image"));
+
+        // then
+        assertThat(localBlobStore.resolve("abc.png")).hasContent("image");
+    }
+
+    @Test
+    @DisplayName("서명과 다른 크기나 콘텐츠 타입은 본문을 읽지 않고 거절")
+    void upload_rejectsMismatch() {
+        // given
+        String token = token(localBlobStore.presignPut("abc.png", "image/png", 5, Duration.ofMinutes(15)));
+
+        // when & then
+        assertThatThrownBy(() -> localUploadController.upload(token, request("image/png", "image-larger")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        assertThatThrownBy(() -> localUploadController.upload(token, request("text/html", "image")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        assertThatThrownBy(() -> localUploadController.upload(token + "x", request("image/png", "image")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        assertThat(localBlobStore.resolve("abc.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("완료했거나 거부돼 대기 업로드가 없는 키는 토큰이 유효해도 거절")
+    void upload_rejectsWithoutPendingUpload() {
+        // given
+        String token = token(localBlobStore.presignPut("abc.png", "image/png", 5, Duration.ofMinutes(15)));
+        when(fileService.isDirectUploadPending("abc.png")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> localUploadController.upload(token, request("image/png", "image")))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        assertThat(localBlobStore.resolve("abc.png")).doesNotExist();
+    }
+
+    private static String token(PresignedUpload upload) {
+        return upload.url().substring(LocalBlobStore.UPLOAD_PATH.length());
+    }
+
+    private static MockHttpServletRequest request(String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/storage/uploads/token");
+        request.setContentType(contentType);
+        request.setContent(body.getBytes());
+        return request;
+    }
+}
@@ -0,0 +1,327 @@
+package com.weedrice.whiteboard.global.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3BlobStoreTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @InjectMocks
+    private S3BlobStore s3BlobStore;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3BlobStore, "bucket", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("버킷과 키, 콘텐츠 타입으로 객체 업로드")
+    void put_uploadsObject() throws Exception {
+        // when
+        s3BlobStore.put("a.txt", new ByteArrayInputStream("content".getBytes()), 7, "text/plain");
+
+        // then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().bucket()).isEqualTo("test-bucket");
+        assertThat(request.getValue().key()).isEqualTo("a.txt");
+        assertThat(request.getValue().contentType()).isEqualTo("text/plain");
+    }
+
+    @Test
+    @DisplayName("길이를 모르는 큰 스트림은 파트 단위 멀티파트 업로드로 전송")
+    void put_unknownSizeUsesMultipart() throws Exception {
+        // given
+        s3BlobStore.init();
+        ReflectionTestUtils.setField(s3BlobStore, "partSize", 4);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest part = invocation.getArgument(0);
+            return UploadPartResponse.builder().eTag("etag-" + part.partNumber()).build();
+        });
+
+        try {
+            // when
+            s3BlobStore.put("big.jpg", new ByteArrayInputStream("0123456789".getBytes()), -1, "image/jpeg");
+
+            // then
+            ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+            verify(s3Client, times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+            assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength)
+                    .containsExactlyInAnyOrder(4L, 4L, 2L);
+            ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                    ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+            verify(s3Client).completeMultipartUpload(complete.capture());
+            assertThat(complete.getValue().uploadId()).isEqualTo("upload-1");
+            assertThat(complete.getValue().multipartUpload().parts()).extracting(CompletedPart::eTag)
+                    .containsExactly("etag-1", "etag-2", "etag-3");
+            verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        } finally {
+            s3BlobStore.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 중 스트림 오류가 나면 업로드를 취소")
+    void put_abortsMultipartOnFailure() throws Exception {
+        // given
+        s3BlobStore.init();
+        ReflectionTestUtils.setField(s3BlobStore, "partSize", 4);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        lenient().when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        InputStream failing = new SequenceInputStream(new ByteArrayInputStream("01234567".getBytes()), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> s3BlobStore.put("big.jpg", failing, -1, "image/jpeg"))
+                    .isInstanceOf(IOException.class);
+            verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+            verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        } finally {
+            s3BlobStore.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("길이를 모르는 작은 스트림은 한 번의 PUT으로 저장")
+    void put_unknownSizeSmallUsesSinglePut() throws Exception {
+        // given
+        ReflectionTestUtils.setField(s3BlobStore, "partSize", 16);
+
+        // when
+        s3BlobStore.put("small.png", new ByteArrayInputStream("tiny".getBytes()), -1, "image/png");
+
+        // then
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("객체 조회 스트림 반환")
+    @SuppressWarnings("unchecked")
+    void open_returnsObjectStream() {
+        // given
+        ResponseInputStream<GetObjectResponse> stream = mock(ResponseInputStream.class);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(stream);
+
+        // when
+        InputStream result = s3BlobStore.open("a.txt");
+
+        // then
+        assertThat(result).isSameAs(stream);
+    }
+
+    @Test
+    @DisplayName("구간 전송은 Range GET으로 필요한 바이트만 요청")
+    void transferTo_requestsByteRange() throws Exception {
+        // given
+        ResponseInputStream<GetObjectResponse> stream = new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream("content".getBytes())));
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(stream);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long transferred = s3BlobStore.transferTo("a.txt", 5, 7, Channels.newChannel(out));
+
+        // then
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(request.capture());
+        assertThat(request.getValue().range()).isEqualTo("bytes=5-11");
+        assertThat(transferred).isEqualTo(7);
+        assertThat(out.toString()).isEqualTo("content");
+    }
+
+    @Test
+    @DisplayName("다운로드용 presigned GET URL 생성")
+    void presignGet_returnsSignedUrl() throws Exception {
+        // given
+        PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+        when(presigned.url()).thenReturn(URI.create("https://test-bucket.s3.amazonaws.com/a.txt?X-Amz-Signature=sig").toURL());
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presigned);
+
+        // when
+        String url = s3BlobStore.presignGet("a.txt", Duration.ofMinutes(10), "text/plain", "attachment");
+
+        // then
+        ArgumentCaptor<GetObjectPresignRequest> request = ArgumentCaptor.forClass(GetObjectPresignRequest.class);
+        verify(s3Presigner).presignGetObject(request.capture());
+        assertThat(request.getValue().signatureDuration()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(request.getValue().getObjectRequest().responseContentType()).isEqualTo("text/plain");
+        assertThat(url).endsWith("X-Amz-Signature=sig");
+    }
+
+    @Test
+    @DisplayName("직접 업로드용 presigned PUT URL은 콘텐츠 타입과 크기를 서명")
+    void presignPut_signsContentTypeAndLength() throws Exception {
+        // given
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        when(presigned.url()).thenReturn(URI.create("https://test-bucket.s3.amazonaws.com/a.png?X-Amz-Signature=sig").toURL());
+        when(presigned.signedHeaders()).thenReturn(Map.of(
+                "host", List.of("test-bucket.s3.amazonaws.com"),
+                "content-length", List.of("100"),
+                "content-type", List.of("image/png")));
+        when(presigned.expiration()).thenReturn(Instant.parse("2026-01-01T00:15:00Z"));
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+
+        // when
+        PresignedUpload upload = s3BlobStore.presignPut("a.png", "image/png", 100, Duration.ofMinutes(15));
+
+        // then
+        ArgumentCaptor<PutObjectPresignRequest> request = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+        verify(s3Presigner).presignPutObject(request.capture());
+        assertThat(request.getValue().signatureDuration()).isEqualTo(Duration.ofMinutes(15));
+        assertThat(request.getValue().putObjectRequest().contentType()).isEqualTo("image/png");
+        assertThat(request.getValue().putObjectRequest().contentLength()).isEqualTo(100L);
+        assertThat(upload.method()).isEqualTo("PUT");
+        assertThat(upload.headers()).containsExactly(Map.entry("content-type", "image/png"));
+        assertThat(upload.url()).endsWith("X-Amz-Signature=sig");
+    }
+
+    @Test
+    @DisplayName("HEAD로 크기와 콘텐츠 타입을 조회하고 없는 키는 null")
+    void stat_usesHeadObject() {
+        // given
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(42L).contentType("image/png").build())
+                .thenThrow(NoSuchKeyException.builder().build());
+
+        // when & then
+        assertThat(s3BlobStore.stat("a.png")).isEqualTo(new BlobMetadata(42, "image/png"));
+        assertThat(s3BlobStore.stat("missing.png")).isNull();
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("다른 키로의 복사는 CopyObject로 버킷 안에서 하고 콘텐츠 타입을 지정한 값으로 바꿈")
+    void copy_usesCopyObject() throws Exception {
+        // when
+        s3BlobStore.copy("a.png", "b.png", 42, "image/png");
+
+        // then
+        ArgumentCaptor<CopyObjectRequest> request = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(s3Client).copyObject(request.capture());
+        assertThat(request.getValue().sourceKey()).isEqualTo("a.png");
+        assertThat(request.getValue().destinationKey()).isEqualTo("b.png");
+        assertThat(request.getValue().metadataDirective()).isEqualTo(MetadataDirective.REPLACE);
+        assertThat(request.getValue().contentType()).isEqualTo("image/png");
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("객체 삭제")
+    void delete_removesObject() {
+        // when
+        s3BlobStore.delete("a.txt");
+
+        // then
+        ArgumentCaptor<DeleteObjectRequest> request = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client).deleteObject(request.capture());
+        assertThat(request.getValue().key()).isEqualTo("a.txt");
+    }
+
+    @Test
+    @DisplayName("여러 객체는 1000개씩 DeleteObjects로 삭제")
+    void deleteAll_chunksKeys() throws Exception {
+        // given
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "k" + i + ".png").toList();
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        // when
+        s3BlobStore.deleteAll(keys);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> request = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(3)).deleteObjects(request.capture());
+        assertThat(request.getAllValues()).extracting(r -> r.delete().objects().size())
+                .containsExactly(1000, 1000, 500);
+        assertThat(request.getAllValues().get(0).delete().quiet()).isTrue();
+        assertThat(request.getAllValues().get(2).delete().objects().get(0).key()).isEqualTo("k2000.png");
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("일부 키라도 삭제에 실패하면 나머지 묶음까지 요청한 뒤 예외로 알림")
+    void deleteAll_partialFailureThrows() {
+        // given
+        List<String> keys = IntStream.range(0, 1500).mapToObj(i -> "k" + i + ".png").toList();
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("k1.png").code("AccessDenied").message("denied").build())
+                        .build())
+                .thenReturn(DeleteObjectsResponse.builder().build());
+
+        // when & then
+        assertThatThrownBy(() -> s3BlobStore.deleteAll(keys))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("k1.png")
+                .hasMessageContaining("AccessDenied");
+        verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+}